@@ -0,0 +1,95 @@
+package com.dazednconfused.catalauncher.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Builds synthetic file trees for benchmarks to work on, shaped like the ones the launcher handles (ie: a save folder holding
+ * a few worlds, each one holding many small JSON-like map chunks).
+ * <br><br>
+ * Contents are generated from a fixed seed, so that every run (and every commit) benchmarks the very same bytes.
+ * */
+public final class SyntheticFiles {
+
+    private static final long SEED = 42L;
+    private static final int FILES_PER_DIRECTORY = 50;
+    private static final String[] WORDS = {
+        "\"id\"", "\"type\"", "\"terrain\"", "\"t_grass\"", "\"t_dirt\"", "\"f_null\"", "\"items\"", "\"monsters\"",
+        "\"radiation\"", "\"fields\"", "[", "]", "{", "}", ",", ":", "0", "1", "12", "144", "true", "false", "null"
+    };
+
+    /**
+     * Constructor.
+     * */
+    private SyntheticFiles() {
+    }
+
+    /**
+     * Creates a save-like tree of {@code fileCount} files of roughly {@code bytesPerFile} bytes each under the given
+     * {@code root}, spread across {@code worldCount} worlds.
+     * */
+    public static Path createSaveTree(Path root, int worldCount, int fileCount, int bytesPerFile) throws IOException {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < fileCount; i++) {
+            Path directory = root
+                .resolve("World_" + (i % worldCount))
+                .resolve("maps")
+                .resolve(String.valueOf(i / FILES_PER_DIRECTORY));
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(i + ".map"), jsonLike(random, bytesPerFile));
+        }
+
+        return root;
+    }
+
+    /**
+     * Creates a mod-like directory named {@code name} under the given {@code root}: a {@code modinfo.json} plus {@code fileCount}
+     * JSON-like files of roughly {@code bytesPerFile} bytes each.
+     * */
+    public static Path createMod(Path root, String name, int fileCount, int bytesPerFile) throws IOException {
+        Random random = new Random(SEED);
+
+        Path mod = Files.createDirectories(root.resolve(name));
+        Files.writeString(mod.resolve("modinfo.json"), "[ { \"type\": \"MOD_INFO\", \"id\": \"" + name + "\", \"name\": \"" + name + "\" } ]");
+
+        for (int i = 0; i < fileCount; i++) {
+            Path directory = Files.createDirectories(mod.resolve("items").resolve(String.valueOf(i / FILES_PER_DIRECTORY)));
+            Files.write(directory.resolve(i + ".json"), jsonLike(random, bytesPerFile));
+        }
+
+        return mod;
+    }
+
+    /**
+     * Creates a single file of exactly {@code bytes} random (ie: incompressible) bytes.
+     * */
+    public static Path createRandomFile(Path file, int bytes) throws IOException {
+        byte[] contents = new byte[bytes];
+        new Random(SEED).nextBytes(contents);
+        return Files.write(file, contents);
+    }
+
+    /**
+     * Deletes the given {@code path} and everything under it, if it exists at all.
+     * */
+    public static void delete(Path path) {
+        FileUtils.deleteQuietly(path.toFile());
+    }
+
+    /**
+     * Generates roughly {@code bytes} bytes of JSON-looking (ie: as compressible as real save files) text.
+     * */
+    private static byte[] jsonLike(Random random, int bytes) {
+        StringBuilder sb = new StringBuilder(bytes + 16);
+        while (sb.length() < bytes) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
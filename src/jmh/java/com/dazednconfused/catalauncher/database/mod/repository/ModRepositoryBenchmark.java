@@ -0,0 +1,145 @@
+package com.dazednconfused.catalauncher.database.mod.repository;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
+import com.dazednconfused.catalauncher.database.h2.H2Database;
+import com.dazednconfused.catalauncher.database.h2.H2DatabaseMode;
+import com.dazednconfused.catalauncher.database.mod.dao.ModH2DAOImpl;
+import com.dazednconfused.catalauncher.database.mod.dao.ModfileH2DAOImpl;
+import com.dazednconfused.catalauncher.database.mod.entity.ModEntity;
+import com.dazednconfused.catalauncher.database.mod.entity.ModfileEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ModRepository}'s operations (and, through it, the underlying mod & modfile DAOs) against a throwaway H2
+ * database, once per {@link H2DatabaseMode}.
+ * <br><br>
+ * Since the {@link H2DatabaseMode} is read once per JVM, every {@code mode} must be run in a fork of its own; which JMH
+ * already does for every combination of {@link Param}s.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModRepositoryBenchmark {
+
+    private static final int MODFILES_PER_MOD = 20;
+
+    @Param({"EMBEDDED", "AUTO_SERVER", "IN_MEMORY"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int modCount;
+
+    private final String uuid = UUID.randomUUID().toString().replace("-", "");
+
+    private ModRepository repository;
+    private List<ModEntity> mods;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty(H2Database.DATABASE_MODE_OVERRIDE_PROPERTY, H2DatabaseMode.valueOf(this.mode).name());
+
+        this.repository = new ModH2RepositoryImpl(
+            new ModH2DAOImpl() {
+                @Override
+                public String getDatabaseName() {
+                    return super.getDatabaseName() + "_" + uuid;
+                }
+            },
+            new ModfileH2DAOImpl() {
+                @Override
+                public String getDatabaseName() {
+                    return super.getDatabaseName() + "_" + uuid;
+                }
+            }
+        ) {
+            @Override
+            public String getDatabaseName() {
+                return super.getDatabaseName() + "_" + uuid;
+            }
+        };
+    }
+
+    @Setup(Level.Iteration)
+    public void populate() throws DAOException {
+        // start every iteration from the same rows, no matter how many the previous one inserted -
+        ((DisposableDatabase) this.repository).reset();
+
+        List<ModEntity> toBeInserted = IntStream.range(0, this.modCount).mapToObj(ModRepositoryBenchmark::modNumbered).collect(Collectors.toList());
+        this.mods = new ArrayList<>(this.repository.insertAll(toBeInserted));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        ((DisposableDatabase) this.repository).destroy();
+    }
+
+    @Benchmark
+    public ModEntity insert() throws DAOException {
+        return this.repository.insert(modNumbered(ThreadLocalRandom.current().nextInt()));
+    }
+
+    @Benchmark
+    public ModEntity update() throws DAOException {
+        ModEntity mod = this.randomMod();
+        mod.setModinfo(UUID.randomUUID().toString());
+        return this.repository.update(mod);
+    }
+
+    @Benchmark
+    public Optional<ModEntity> findById() throws DAOException {
+        return this.repository.findById(this.randomMod().getId());
+    }
+
+    @Benchmark
+    public List<ModEntity> findAll() throws DAOException {
+        return this.repository.findAll();
+    }
+
+    /**
+     * Picks any of the mods inserted for this iteration.
+     * */
+    private ModEntity randomMod() {
+        return this.mods.get(ThreadLocalRandom.current().nextInt(this.mods.size()));
+    }
+
+    /**
+     * Builds a (not yet inserted) mod, with {@link #MODFILES_PER_MOD} modfiles.
+     * */
+    private static ModEntity modNumbered(int number) {
+        return ModEntity.builder()
+            .name("mod_" + number)
+            .modinfo("[ { \"type\": \"MOD_INFO\", \"id\": \"mod_" + number + "\" } ]")
+            .modfiles(IntStream.range(0, MODFILES_PER_MOD).mapToObj(i -> ModfileEntity.builder()
+                .path("mod_" + number + "/items/" + i + ".json")
+                .hash(UUID.randomUUID().toString().replace("-", ""))
+                .build()
+            ).collect(Collectors.toList()))
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.dazednconfused.catalauncher.helper;
+
+import com.dazednconfused.catalauncher.benchmark.SyntheticFiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Zipper} against synthetic save trees, the way {@code SaveManager} backs saves up and restores them.
+ * <br><br>
+ * {@code callbackCheckMs} is a parameter of its own since {@link Zipper} polls zip4j's progress every so often; the
+ * launcher itself polls every {@code 100} ms.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ZipperBenchmark {
+
+    @Param({"200", "2000"})
+    public int fileCount;
+
+    @Param({"1", "100"})
+    public int callbackCheckMs;
+
+    private Path workDirectory;
+    private Path saveTree;
+    private Path backup;
+    private Path compressed;
+    private Path decompressed;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.workDirectory = Files.createTempDirectory("zipper-benchmark");
+        this.saveTree = SyntheticFiles.createSaveTree(this.workDirectory.resolve("save"), 4, this.fileCount, 16 * 1024);
+
+        this.backup = this.workDirectory.resolve("backup.zip");
+        Zipper.compressAndCallback(this.saveTree.toFile(), this.backup, null, this.callbackCheckMs);
+
+        this.compressed = this.workDirectory.resolve("compressed.zip");
+        this.decompressed = this.workDirectory.resolve("decompressed");
+    }
+
+    @Setup(Level.Invocation)
+    public void clean() {
+        // zip4j appends to an already existing zip instead of replacing it -
+        SyntheticFiles.delete(this.compressed);
+        SyntheticFiles.delete(this.decompressed);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        SyntheticFiles.delete(this.workDirectory);
+    }
+
+    @Benchmark
+    public void compressAndCallback() {
+        Zipper.compressAndCallback(this.saveTree.toFile(), this.compressed, null, this.callbackCheckMs);
+    }
+
+    @Benchmark
+    public void decompressAndCallback() {
+        Zipper.decompressAndCallback(this.backup.toFile(), this.decompressed, null, this.callbackCheckMs);
+    }
+}
@@ -0,0 +1,66 @@
+package com.dazednconfused.catalauncher.mod;
+
+import com.dazednconfused.catalauncher.benchmark.SyntheticFiles;
+import com.dazednconfused.catalauncher.database.h2.H2Database;
+import com.dazednconfused.catalauncher.database.h2.H2DatabaseMode;
+import com.dazednconfused.catalauncher.mod.dto.ModDTO;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ModManager#parse(File)} (ie: walking and checksumming every file of a mod being installed) against
+ * synthetic mods.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModManagerBenchmark {
+
+    @Param({"50", "1000"})
+    public int fileCount;
+
+    private Path workDirectory;
+    private File mod;
+    private ModManager modManager;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        // parsing never touches the database, but getting hold of the manager opens it all the same -
+        System.setProperty(H2Database.DATABASE_MODE_OVERRIDE_PROPERTY, H2DatabaseMode.IN_MEMORY.name());
+
+        this.workDirectory = Files.createTempDirectory("modmanager-benchmark");
+        this.mod = SyntheticFiles.createMod(this.workDirectory, "synthetic_mod", this.fileCount, 2 * 1024).toFile();
+        this.modManager = ModManager.getInstance();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        SyntheticFiles.delete(this.workDirectory);
+    }
+
+    @Benchmark
+    public ModDTO parse() {
+        return this.modManager.parse(this.mod);
+    }
+}
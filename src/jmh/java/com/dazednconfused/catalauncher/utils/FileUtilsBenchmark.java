@@ -0,0 +1,96 @@
+package com.dazednconfused.catalauncher.utils;
+
+import com.dazednconfused.catalauncher.benchmark.SyntheticFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link FileUtils}' checksumming (done once per file of every mod installed) and directory walking.
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUtilsBenchmark {
+
+    @Benchmark
+    public String getFileChecksum(ChecksumState state) {
+        return FileUtils.getFileChecksum(state.file);
+    }
+
+    @Benchmark
+    public List<File> collectAllFilesFromInto(CollectState state) {
+        List<File> result = new ArrayList<>();
+        FileUtils.collectAllFilesFromInto(state.tree, result);
+        return result;
+    }
+
+    /**
+     * A single file of random bytes to be checksummed.
+     * */
+    @State(Scope.Benchmark)
+    public static class ChecksumState {
+
+        @Param({"4096", "1048576", "67108864"})
+        public int bytes;
+
+        private Path workDirectory;
+        private File file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            this.workDirectory = Files.createTempDirectory("fileutils-benchmark");
+            this.file = SyntheticFiles.createRandomFile(this.workDirectory.resolve("checksummed.bin"), this.bytes).toFile();
+        }
+
+        @TearDown(Level.Trial)
+        public void teardown() {
+            SyntheticFiles.delete(this.workDirectory);
+        }
+    }
+
+    /**
+     * A save-like tree of small files to be collected.
+     * */
+    @State(Scope.Benchmark)
+    public static class CollectState {
+
+        @Param({"200", "5000"})
+        public int fileCount;
+
+        private Path workDirectory;
+        private File tree;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            this.workDirectory = Files.createTempDirectory("fileutils-benchmark");
+            this.tree = SyntheticFiles.createSaveTree(this.workDirectory.resolve("collected"), 4, this.fileCount, 64).toFile();
+        }
+
+        @TearDown(Level.Trial)
+        public void teardown() {
+            SyntheticFiles.delete(this.workDirectory);
+        }
+    }
+}
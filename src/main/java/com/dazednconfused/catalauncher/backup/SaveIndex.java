@@ -0,0 +1,178 @@
+package com.dazednconfused.catalauncher.backup;
+
+import com.dazednconfused.catalauncher.backup.dto.WorldDTO;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
+import com.dazednconfused.catalauncher.helper.watch.FileSystemMonitor;
+import com.dazednconfused.catalauncher.helper.watch.WatchDepth;
+import com.dazednconfused.catalauncher.helper.watch.WatchedDirectory;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of every valid world (ie: a directory with at least one {@code .sav} file in it) found in a saves directory,
+ * kept up to date by the {@link FileSystemMonitor}.
+ * <br><br>
+ * Each change to a world only ever re-reads that world, and the latest one is tracked as changes come; so that looking it
+ * up needs no disk access at all.
+ * */
+public class SaveIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaveIndex.class);
+
+    private static final String SAVE_FILE_EXTENSION = ".sav";
+    private static final String IGNORED_FILE_NAME = ".DS_Store";
+
+    private static final Map<Path, SaveIndex> INDEXES = new HashMap<>();
+
+    private final WatchedDirectory savesDirectory;
+    private final Map<File, WorldDTO> worlds = new ConcurrentHashMap<>();
+    private final ChangeEventPublisher<WorldDTO> events = new ChangeEventPublisher<>();
+
+    private volatile WorldDTO latest;
+
+    /**
+     * Returns the {@link SaveIndex} of the given {@code savesRoot}, building it on first request.
+     *
+     * @implNote Only the saves root and each world's own directory are watched; since a world is only ever read from its
+     *           top-level {@code .sav} files. Building the index reads every world, so do not first request it from the Event
+     *           Dispatch Thread (EDT).
+     * */
+    public static synchronized SaveIndex of(Path savesRoot) {
+        return INDEXES.computeIfAbsent(
+            savesRoot.toAbsolutePath().normalize(),
+            root -> new SaveIndex(FileSystemMonitor.getInstance().watch(root, WatchDepth.CHILDREN))
+        );
+    }
+
+    /**
+     * Constructor.
+     * */
+    protected SaveIndex(WatchedDirectory savesDirectory) {
+        this.savesDirectory = savesDirectory;
+
+        // subscribe before the initial indexing, so that no change can slip in between -
+        savesDirectory.getEvents().subscribe(new ChangeEventListener<>() {
+            @Override
+            public void onChanged(File changed) {
+                reindex(changed);
+            }
+        });
+        savesDirectory.getChildren().forEach(this::reindex);
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every world added to, updated in or removed from this index is
+     * announced; only after the index itself has been updated.
+     * */
+    public ChangeEventPublisher<WorldDTO> getEvents() {
+        return this.events;
+    }
+
+    /**
+     * Returns the world whose {@code .sav} files were written last, if any.
+     *
+     * @apiNote No disk access is performed.
+     * */
+    public Optional<WorldDTO> getLatest() {
+        return Optional.ofNullable(this.latest);
+    }
+
+    /**
+     * Returns up to {@code limit} worlds, most recently saved first.
+     *
+     * @apiNote No disk access is performed.
+     * */
+    public List<WorldDTO> getRecentWorlds(int limit) {
+        return this.worlds.values().stream()
+            .sorted(Comparator.comparingLong(WorldDTO::getLastSavedMillis).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the on-disk size of the given {@code world}, in bytes.
+     *
+     * @apiNote Computed lazily (and only again once the world changes) through the saves directory's
+     *          {@link com.dazednconfused.catalauncher.helper.watch.DirectorySizeIndex}. Do not call from the Event Dispatch
+     *          Thread (EDT).
+     * */
+    public long sizeOf(WorldDTO world) {
+        return this.savesDirectory.getSizeIndex().sizeOf(world.getDirectory());
+    }
+
+    /**
+     * Re-reads the given immediate child of the saves directory from disk, and updates the index accordingly.
+     * */
+    protected synchronized void reindex(File child) {
+        Optional<WorldDTO> world = readWorld(child);
+
+        if (world.isEmpty()) {
+            WorldDTO removed = this.worlds.remove(child);
+            if (removed != null) {
+                LOGGER.trace("World [{}] no longer valid. Removed from index", removed.getName());
+                if (this.latest != null && this.latest.getDirectory().equals(child)) {
+                    this.recomputeLatest();
+                }
+                this.events.publishRemoved(removed);
+            }
+            return;
+        }
+
+        WorldDTO indexed = world.get();
+        WorldDTO previous = this.worlds.put(child, indexed);
+        LOGGER.trace("Indexed world [{}]", indexed);
+
+        if (this.latest == null || indexed.getLastSavedMillis() >= this.latest.getLastSavedMillis()) {
+            this.latest = indexed;
+        } else if (this.latest.getDirectory().equals(child)) {
+            this.recomputeLatest(); // the latest one went back in time (ie: restored from an older backup)
+        }
+
+        if (previous == null) {
+            this.events.publishAdded(indexed);
+        } else {
+            this.events.publishUpdated(indexed);
+        }
+    }
+
+    /**
+     * Looks for the latest world among every indexed one. Only needed when the current latest one gets removed or goes back
+     * in time.
+     * */
+    private void recomputeLatest() {
+        this.latest = this.worlds.values().stream().max(Comparator.comparingLong(WorldDTO::getLastSavedMillis)).orElse(null);
+    }
+
+    /**
+     * Reads the world in the given {@code directory}; or {@link Optional#empty()} if it's not a valid world.
+     * */
+    private static Optional<WorldDTO> readWorld(File directory) {
+        if (!directory.isDirectory() || directory.getName().equals(IGNORED_FILE_NAME)) {
+            return Optional.empty();
+        }
+
+        File[] saveFiles = directory.listFiles((dir, name) -> name.endsWith(SAVE_FILE_EXTENSION));
+        if (saveFiles == null || saveFiles.length == 0) {
+            return Optional.empty();
+        }
+
+        long lastSavedMillis = 0;
+        for (File saveFile : saveFiles) {
+            lastSavedMillis = Math.max(lastSavedMillis, saveFile.lastModified());
+        }
+
+        return Optional.of(WorldDTO.builder().name(directory.getName()).directory(directory).lastSavedMillis(lastSavedMillis).build());
+    }
+}
@@ -1,7 +1,9 @@
 package com.dazednconfused.catalauncher.backup;
 
+import com.dazednconfused.catalauncher.backup.dto.WorldDTO;
 import com.dazednconfused.catalauncher.helper.Paths;
 import com.dazednconfused.catalauncher.helper.Zipper;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
 import com.dazednconfused.catalauncher.helper.result.Result;
 
 import io.vavr.control.Try;
@@ -11,13 +13,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,11 +27,21 @@ public class SaveManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SaveManager.class);
 
+    private static final ChangeEventPublisher<File> BACKUP_EVENTS = new ChangeEventPublisher<>();
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every save backup added, renamed or deleted by this manager
+     * is announced.
+     * */
+    public static ChangeEventPublisher<File> getBackupEvents() {
+        return BACKUP_EVENTS;
+    }
+
     /**
-     * Returns the current {@link Paths#getCustomSavePath()} compression job, wrapped inside a {@link Thread} and ready to
-     * be executed.
+     * Returns the current {@link Paths#getCustomSavePath()} compression job, wrapped inside a {@link Runnable} and ready to
+     * be executed on the calling thread.
      * */
-    public static Optional<Thread> backupCurrentSaves(Consumer<Integer> onPercentDoneCallback) {
+    public static Optional<Runnable> backupCurrentSaves(Consumer<Integer> onPercentDoneCallback) {
         LOGGER.info("Backup-ing all saves...");
 
         if (!saveFilesExist()) {
@@ -46,11 +58,57 @@ public class SaveManager {
     }
 
     /**
-     * Returns the current backup restoration job, wrapped inside a {@link Thread} and ready to be executed.
+     * Returns the current backup restoration job, wrapped inside a {@link Runnable} and ready to be executed on the calling
+     * thread.
+     *
+     * @implNote The backup is first decompressed into a staging folder next to {@link Paths#getCustomSavePath()}. Only once
+     *           that's done are the current saves moved to the trash folder and replaced by the staged ones; so interrupting
+     *           the job (ie: cancelling its task) midway leaves the current saves untouched.
      * */
-    public static Optional<Thread> restoreBackup(File backup2beRestored, Consumer<Integer> onPercentDoneCallback) {
+    public static Optional<Runnable> restoreBackup(File backup2beRestored, Consumer<Integer> onPercentDoneCallback) {
         LOGGER.info("Restoring backup [{}]...", backup2beRestored);
 
+        return Optional.of(() -> {
+            Path savesPath = Paths.getCustomSavePath();
+            Path stagingPath = savesPath.getParent().resolve(".restoring_" + generateNameBasedOnCurrentTimestamp());
+
+            try {
+                // backups hold a top-level saves/ folder, which ends up as <staging>/saves/<actual world saves> -
+                Zipper.decompressAndCallback(backup2beRestored, stagingPath, onPercentDoneCallback, 100);
+
+                Path restoredSaves = stagingPath.resolve(savesPath.getFileName());
+                if (Thread.currentThread().isInterrupted()) {
+                    LOGGER.info("Restoration of backup [{}] interrupted. Current saves were left untouched", backup2beRestored);
+                    return;
+                }
+                if (!Files.isDirectory(restoredSaves)) {
+                    LOGGER.error("Backup [{}] didn't contain a [{}] folder. Current saves were left untouched", backup2beRestored, savesPath.getFileName());
+                    return;
+                }
+
+                trashCurrentSaves();
+                if (saveFilesExist()) {
+                    LOGGER.error("Current saves could not be moved to trash folder. Backup [{}] was not restored", backup2beRestored);
+                    return;
+                }
+
+                Try.run(() -> {
+                    FileUtils.deleteDirectory(savesPath.toFile()); // whatever's left of an empty saves' folder
+                    Files.move(restoredSaves, savesPath);
+                }).onFailure(t -> LOGGER.error("There was an error while moving restored saves [{}] into [{}]", restoredSaves, savesPath, t));
+            } finally {
+                Try.run(() -> FileUtils.deleteDirectory(stagingPath.toFile())).onFailure(
+                    t -> LOGGER.error("There was an error while deleting restoration staging folder [{}]", stagingPath, t)
+                );
+            }
+        });
+    }
+
+    /**
+     * Moves the current {@link Paths#getCustomSavePath()} into a timestamped folder inside {@link Paths#getCustomTrashedSavePath()},
+     * if there's anything in it.
+     * */
+    private static void trashCurrentSaves() {
         File trashedSaves = Paths.getCustomTrashedSavePath().toFile();
 
         if (!trashedSaves.exists()) {
@@ -71,12 +129,6 @@ public class SaveManager {
                     trashedSavePath.toPath()
             )).onFailure(t -> LOGGER.error("There was an error while moving current save to trash folder [{}]", trashedSavePath, t));
         }
-
-        return Optional.of(decompressFolderAsJob(
-                backup2beRestored,
-                Paths.getCustomSavePath().getParent().toString(), // we don't decompress into CUSTOM_SAVE_PATH because we end up with ./saves/saves/<actual world saves>
-                onPercentDoneCallback
-        ));
     }
 
     /**
@@ -84,7 +136,12 @@ public class SaveManager {
      * */
     public static boolean deleteBackup(File toBeDeleted) {
         LOGGER.info("Deleting backup [{}]...", toBeDeleted);
-        return toBeDeleted.delete();
+
+        boolean deleted = toBeDeleted.delete();
+        if (deleted) {
+            BACKUP_EVENTS.publishRemoved(toBeDeleted);
+        }
+        return deleted;
     }
 
     /**
@@ -99,7 +156,10 @@ public class SaveManager {
         File newFile = new File(toBeRenamed.getParentFile().getPath() + "/" + newName + ".zip");
         return Try.of(() -> Files.move(toBeRenamed.toPath(), newFile.toPath())).map(Path::toFile).onFailure(
             t -> LOGGER.error("There was an error while renaming save [{}] into [{}]", toBeRenamed, newFile, t)
-        ).map(Result::success).recover(Result::failure).get();
+        ).andThen(renamed -> {
+            BACKUP_EVENTS.publishRemoved(toBeRenamed);
+            BACKUP_EVENTS.publishAdded(renamed);
+        }).map(Result::success).recover(Result::failure).get();
     }
 
     /**
@@ -112,29 +172,6 @@ public class SaveManager {
                 .collect(Collectors.toList());
     }
 
-    /**
-     * If save files exist in {@link Paths#getCustomSavePath()}, returns the last modified valid save file. Save file is valid
-     * if it has a {@code .sav} file in it.
-     * */
-    private static Optional<File> getLastModifiedValidSave() {
-        File savesFolder = Paths.getCustomSavePath().toFile();
-        if (!saveFilesExist()) {
-            return Optional.empty();
-        }
-        File[] saveDirs = savesFolder.listFiles(file -> file.isDirectory() && !file.getName().equals(".DS_Store"));
-        Arrays.sort(saveDirs, Comparator.comparingLong(File::lastModified).reversed());
-
-        for (File directory : saveDirs) {
-            File[] savFiles = directory.listFiles((dir, name) -> name.endsWith(".sav"));
-            if (savFiles != null && savFiles.length > 0) {
-                return Optional.of(directory);
-            }
-        }
-
-        return Optional.empty(); // No directory with .sav file found
-
-    }
-
     /**
      * Determines whether save files exist in {@link Paths#getCustomSavePath()}.
      * */
@@ -146,14 +183,22 @@ public class SaveManager {
     /**
      * Gets the latest save {@link File} from {@link Paths#getCustomSavePath()}, wrapped inside an {@link Optional}. {@link Optional#empty()}
      * if given path doesn't exist or doesn't have any folders that could be assumed to be individual save files.
+     *
+     * @implNote Looked up through the {@link SaveIndex}, so that only the first lookup ever scans the saves' folder.
      * */
     public static Optional<File> getLatestSave() {
-
-        if (!saveFilesExist() || (getLastModifiedValidSave().orElse(null) == null)) {
+        Optional<File> latestSave = SaveIndex.of(Paths.getCustomSavePath()).getLatest().map(WorldDTO::getDirectory);
+        if (latestSave.isEmpty()) {
             LOGGER.debug("No saves found. No latest save can be retrieved.");
-            return Optional.empty();
         }
-        return getLastModifiedValidSave();
+        return latestSave;
+    }
+
+    /**
+     * Returns up to {@code limit} worlds from {@link Paths#getCustomSavePath()}, most recently saved first.
+     * */
+    public static List<WorldDTO> getRecentWorlds(int limit) {
+        return SaveIndex.of(Paths.getCustomSavePath()).getRecentWorlds(limit);
     }
 
     /**
@@ -170,17 +215,19 @@ public class SaveManager {
     }
 
     /**
-     * Returns the requested compression job wrapped inside a {@link Thread} and ready to be executed.
+     * Returns the requested compression job wrapped inside a {@link Runnable} and ready to be executed.
+     *
+     * @implNote The resulting backup is announced through {@link #getBackupEvents()} once the job is done.
      * */
-    private static Thread compressFolderAsJob(File sourceDir, String outputFile, Consumer<Integer> onPercentDoneCallback) {
-        return new Thread(() -> Zipper.compressAndCallback(sourceDir, Path.of(outputFile), onPercentDoneCallback, 100));
-    }
+    private static Runnable compressFolderAsJob(File sourceDir, String outputFile, Consumer<Integer> onPercentDoneCallback) {
+        return () -> {
+            Zipper.compressAndCallback(sourceDir, Path.of(outputFile), onPercentDoneCallback, 100);
 
-    /**
-     * Returns the requested decompression job wrapped inside a {@link Thread} and ready to be executed.
-     * */
-    private static Thread decompressFolderAsJob(File sourceFile, String destinationPath, Consumer<Integer> onPercentDoneCallback) {
-        return new Thread(() -> Zipper.decompressAndCallback(sourceFile, Path.of(destinationPath), onPercentDoneCallback, 100));
+            File backup = new File(outputFile);
+            if (backup.exists()) {
+                BACKUP_EVENTS.publishAdded(backup);
+            }
+        };
     }
 
     /**
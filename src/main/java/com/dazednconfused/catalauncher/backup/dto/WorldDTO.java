@@ -0,0 +1,20 @@
+package com.dazednconfused.catalauncher.backup.dto;
+
+import java.io.File;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class WorldDTO {
+
+    private String name;
+    private File directory;
+
+    /**
+     * Last modification time of the world's most recently written {@code .sav} file, in milliseconds since the epoch.
+     * */
+    private long lastSavedMillis;
+
+}
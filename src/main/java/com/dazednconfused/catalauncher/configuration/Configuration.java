@@ -1,19 +1,48 @@
 package com.dazednconfused.catalauncher.configuration;
 
+import com.dazednconfused.catalauncher.database.h2.H2DatabaseMode;
+import com.dazednconfused.catalauncher.helper.log.LogOverflowPolicy;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.vavr.control.Try;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class Configuration {
 
     private String cddaPath;
     private boolean backupOnExit;
     private boolean debug;
     private boolean shouldLookForUpdates;
+    private H2DatabaseMode databaseMode = H2DatabaseMode.EMBEDDED;
+    private int databaseCacheSizeKb = 8192;
+    private int databaseWriteDelayMs = 500;
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.BLOCK;
+    private Map<String, String> logLevels = new HashMap<>();
+    private int trashMaxSizeMb = 0;
+    private int trashMaxAgeDays = 0;
 
     public Configuration() {
     }
 
+    /**
+     * Copy constructor.
+     * */
+    public Configuration(Configuration other) {
+        this.cddaPath = other.cddaPath;
+        this.backupOnExit = other.backupOnExit;
+        this.debug = other.debug;
+        this.shouldLookForUpdates = other.shouldLookForUpdates;
+        this.databaseMode = other.databaseMode;
+        this.databaseCacheSizeKb = other.databaseCacheSizeKb;
+        this.databaseWriteDelayMs = other.databaseWriteDelayMs;
+        this.logOverflowPolicy = other.logOverflowPolicy;
+        this.logLevels = other.logLevels == null ? new HashMap<>() : new HashMap<>(other.logLevels);
+        this.trashMaxSizeMb = other.trashMaxSizeMb;
+        this.trashMaxAgeDays = other.trashMaxAgeDays;
+    }
+
     public String getCddaPath() {
         return cddaPath;
     }
@@ -46,6 +75,62 @@ public class Configuration {
         this.shouldLookForUpdates = shouldLookForUpdates;
     }
 
+    public H2DatabaseMode getDatabaseMode() {
+        return databaseMode;
+    }
+
+    public void setDatabaseMode(H2DatabaseMode databaseMode) {
+        this.databaseMode = databaseMode;
+    }
+
+    public int getDatabaseCacheSizeKb() {
+        return databaseCacheSizeKb;
+    }
+
+    public void setDatabaseCacheSizeKb(int databaseCacheSizeKb) {
+        this.databaseCacheSizeKb = databaseCacheSizeKb;
+    }
+
+    public int getDatabaseWriteDelayMs() {
+        return databaseWriteDelayMs;
+    }
+
+    public void setDatabaseWriteDelayMs(int databaseWriteDelayMs) {
+        this.databaseWriteDelayMs = databaseWriteDelayMs;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    public Map<String, String> getLogLevels() {
+        return logLevels;
+    }
+
+    public void setLogLevels(Map<String, String> logLevels) {
+        this.logLevels = logLevels == null ? new HashMap<>() : logLevels; // ie: "logLevels": null
+    }
+
+    public int getTrashMaxSizeMb() {
+        return trashMaxSizeMb;
+    }
+
+    public void setTrashMaxSizeMb(int trashMaxSizeMb) {
+        this.trashMaxSizeMb = trashMaxSizeMb;
+    }
+
+    public int getTrashMaxAgeDays() {
+        return trashMaxAgeDays;
+    }
+
+    public void setTrashMaxAgeDays(int trashMaxAgeDays) {
+        this.trashMaxAgeDays = trashMaxAgeDays;
+    }
+
     @Override
     public String toString() {
         return Try.of(() -> new ObjectMapper().writeValueAsString(this)).getOrElse(super::toString);
@@ -1,17 +1,15 @@
 package com.dazednconfused.catalauncher.configuration;
 
+import com.dazednconfused.catalauncher.database.h2.H2DatabaseMode;
 import com.dazednconfused.catalauncher.helper.Paths;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.dazednconfused.catalauncher.helper.log.LogOverflowPolicy;
 
-import io.vavr.control.Try;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,11 +19,17 @@ public class ConfigurationManager {
 
     private static final String CONFIG_FILEPATH = Paths.getLauncherFiles() + "/configuration.json";
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final long WRITE_DEBOUNCE_MILLIS = 250;
 
     private static ConfigurationManager instance;
 
-    private final Configuration configuration;
+    private final ConfigurationStore store;
+
+    /**
+     * The current {@link Configuration}. Published snapshots are never modified; every change publishes a new copy instead,
+     * so reads never need to lock.
+     * */
+    private volatile Configuration configuration;
 
     /**
      * Singleton.
@@ -41,16 +45,22 @@ public class ConfigurationManager {
      * Constructor.
      * */
     private ConfigurationManager() {
+        this.store = new ConfigurationStore(Path.of(CONFIG_FILEPATH), WRITE_DEBOUNCE_MILLIS);
+
         LOGGER.info("Loading global configuration...");
-        Optional<Configuration> loadedConfiguration = load();
+        Optional<Configuration> loadedConfiguration = this.store.load();
 
         if (loadedConfiguration.isPresent()) {
             this.configuration = loadedConfiguration.get();
             LOGGER.info("Configuration file loaded: [{}]", configuration);
         } else {
-            this.configuration = save(new Configuration());
+            this.configuration = new Configuration();
+            this.store.write(this.configuration);
             LOGGER.info("Configuration file not present. Setting up defaults: [{}]", configuration);
         }
+
+        // make sure debounced changes still make it to disk if the application exits right after them -
+        Runtime.getRuntime().addShutdownHook(new Thread(this.store::flush, "configuration-flush"));
     }
 
     public String getCddaPath() {
@@ -58,8 +68,7 @@ public class ConfigurationManager {
     }
 
     public void setCddaPath(String cddaPath) {
-        this.configuration.setCddaPath(cddaPath);
-        save(this.configuration);
+        this.update(c -> c.setCddaPath(cddaPath));
     }
 
     public boolean isBackupOnExit() {
@@ -67,8 +76,7 @@ public class ConfigurationManager {
     }
 
     public void setBackupOnExit(boolean backupOnExit) {
-        this.configuration.setBackupOnExit(backupOnExit);
-        save(this.configuration);
+        this.update(c -> c.setBackupOnExit(backupOnExit));
     }
 
     public boolean isDebug() {
@@ -76,8 +84,7 @@ public class ConfigurationManager {
     }
 
     public void setDebug(boolean debug) {
-        this.configuration.setDebug(debug);
-        save(this.configuration);
+        this.update(c -> c.setDebug(debug));
     }
 
     public boolean isShouldLookForUpdates() {
@@ -85,56 +92,106 @@ public class ConfigurationManager {
     }
 
     public void setShouldLookForUpdates(boolean shouldLookForUpdates) {
-        this.configuration.setShouldLookForUpdates(shouldLookForUpdates);
-        save(this.configuration);
+        this.update(c -> c.setShouldLookForUpdates(shouldLookForUpdates));
     }
 
     /**
-     * Saves the given {@link Configuration} to disk.
+     * The {@link H2DatabaseMode} all launcher databases should be opened in.
+     *
+     * @apiNote Only read once, the first time a database is accessed. Changes will take effect after a restart.
      * */
-    private static Configuration save(Configuration configuration) {
-        File file = new File(CONFIG_FILEPATH);
-
-        if (!file.getParentFile().exists()) {
-            LOGGER.debug("[{}] doesn't exist. Creating folder structure...", file.getParentFile());
-            Try.of(() -> file.getParentFile().mkdirs()).onFailure(throwable ->
-                    LOGGER.error("There was an error creating configuration folder structure [{}]", file.getParentFile(), throwable)
-            );
-        }
-        if (!file.exists()) {
-            LOGGER.debug("[{}] doesn't exist. Creating file...", file.getName());
-            Try.of(file::createNewFile).onFailure(throwable ->
-                    LOGGER.error("There was an error creating configuration file [{}]", file.getName(), throwable)
-            );
-        }
+    public H2DatabaseMode getDatabaseMode() {
+        return this.configuration.getDatabaseMode();
+    }
 
-        try (FileWriter fw = new FileWriter(file)) {
-            LOGGER.debug("Writing configuration [{}] into [{}]...", configuration, file);
-            IOUtils.write(OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(configuration), fw);
-            return configuration;
-        } catch (IOException e) {
-            LOGGER.error("There was an error saving configuration to [{}]", file, e);
-            LOGGER.debug("Configuration: [{}]", configuration);
-            throw new RuntimeException(e);
-        }
+    public void setDatabaseMode(H2DatabaseMode databaseMode) {
+        this.update(c -> c.setDatabaseMode(databaseMode));
+    }
+
+    public int getDatabaseCacheSizeKb() {
+        return this.configuration.getDatabaseCacheSizeKb();
+    }
+
+    public void setDatabaseCacheSizeKb(int databaseCacheSizeKb) {
+        this.update(c -> c.setDatabaseCacheSizeKb(databaseCacheSizeKb));
+    }
+
+    public int getDatabaseWriteDelayMs() {
+        return this.configuration.getDatabaseWriteDelayMs();
+    }
+
+    public void setDatabaseWriteDelayMs(int databaseWriteDelayMs) {
+        this.update(c -> c.setDatabaseWriteDelayMs(databaseWriteDelayMs));
     }
 
     /**
-     * Loads the currently saved {@link Configuration}; or {@link Optional#empty()} if no {@link Configuration} exists.
+     * What to do with log events when logging falls behind.
+     *
+     * @apiNote Only read once, on startup. Changes will take effect after a restart.
      * */
-    private static Optional<Configuration> load() {
-        File file = new File(CONFIG_FILEPATH);
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return this.configuration.getLogOverflowPolicy();
+    }
 
-        if (!file.exists()) {
-            LOGGER.debug("No configuration file exists in [{}]", file);
-            return Optional.empty();
-        }
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        this.update(c -> c.setLogOverflowPolicy(logOverflowPolicy));
+    }
 
-        try (FileReader fr = new FileReader(file)) {
-            return Optional.of(OBJECT_MAPPER.readValue(fr, Configuration.class));
-        } catch (IOException e) {
-            LOGGER.error("There was an error reading configuration from [{}]", CONFIG_FILEPATH, e);
-            throw new RuntimeException(e);
-        }
+    /**
+     * Per-logger (usually per-package) level overrides, as a map of logger names to level names.
+     *
+     * @apiNote Only read once, on startup. Changes will take effect after a restart.
+     * */
+    public Map<String, String> getLogLevels() {
+        return new HashMap<>(this.configuration.getLogLevels());
+    }
+
+    public void setLogLevels(Map<String, String> logLevels) {
+        this.update(c -> c.setLogLevels(new HashMap<>(logLevels)));
+    }
+
+    /**
+     * How big (in megabytes) the trash folder may grow before its oldest entries start getting purged. {@code 0} means no limit.
+     *
+     * @apiNote Only read once, on startup. Changes will take effect after a restart.
+     * */
+    public int getTrashMaxSizeMb() {
+        return this.configuration.getTrashMaxSizeMb();
+    }
+
+    public void setTrashMaxSizeMb(int trashMaxSizeMb) {
+        this.update(c -> c.setTrashMaxSizeMb(trashMaxSizeMb));
+    }
+
+    /**
+     * How old (in days) a trash folder entry may get before being purged. {@code 0} means no limit.
+     *
+     * @apiNote Only read once, on startup. Changes will take effect after a restart.
+     * */
+    public int getTrashMaxAgeDays() {
+        return this.configuration.getTrashMaxAgeDays();
+    }
+
+    public void setTrashMaxAgeDays(int trashMaxAgeDays) {
+        this.update(c -> c.setTrashMaxAgeDays(trashMaxAgeDays));
+    }
+
+    /**
+     * Immediately writes any pending configuration change to disk.
+     * */
+    public void flush() {
+        this.store.flush();
+    }
+
+    /**
+     * Applies the given {@code change} over a copy of the current {@link Configuration}, publishes it as the new current
+     * {@link Configuration}, and schedules it to be saved to disk in the background.
+     * */
+    private synchronized void update(Consumer<Configuration> change) {
+        Configuration updated = new Configuration(this.configuration);
+        change.accept(updated);
+
+        this.configuration = updated;
+        this.store.scheduleSave(updated);
     }
 }
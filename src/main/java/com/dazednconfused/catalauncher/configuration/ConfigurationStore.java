@@ -0,0 +1,173 @@
+package com.dazednconfused.catalauncher.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists {@link Configuration}s to disk. Writes are debounced onto a background writer thread (so that bursts of changes
+ * get coalesced into a single write) and are atomic: the file is written to a temporary sibling first, and then moved over
+ * the original. A crash mid-write can therefore never leave a truncated configuration file behind.
+ * */
+public class ConfigurationStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationStore.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final long debounceMillis;
+
+    private final ScheduledExecutorService writer;
+    private final AtomicLong writeCount = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    private Configuration pending;
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * Constructor.
+     *
+     * @param file The file to persist {@link Configuration}s into.
+     * @param debounceMillis For how long to wait for further changes before actually writing to disk.
+     * */
+    public ConfigurationStore(Path file, long debounceMillis) {
+        this.file = file;
+        this.debounceMillis = debounceMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "configuration-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the currently saved {@link Configuration}; or {@link Optional#empty()} if no {@link Configuration} exists.
+     * */
+    public Optional<Configuration> load() {
+        if (!Files.exists(file)) {
+            LOGGER.debug("No configuration file exists in [{}]", file);
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(OBJECT_MAPPER.readValue(file.toFile(), Configuration.class));
+        } catch (IOException e) {
+            LOGGER.error("There was an error reading configuration from [{}]", file, e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Schedules the given {@link Configuration} to be saved to disk once no further saves have been requested for the
+     * configured debounce period. Only the latest requested {@link Configuration} gets written.
+     *
+     * @apiNote The given {@link Configuration} must not be modified after being handed over.
+     * */
+    public synchronized void scheduleSave(Configuration configuration) {
+        this.pending = configuration;
+
+        if (this.scheduledWrite != null) {
+            this.scheduledWrite.cancel(false);
+        }
+
+        this.scheduledWrite = this.writer.schedule(this::flush, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Immediately writes any pending {@link Configuration} to disk, on the calling thread. Does nothing if there's nothing
+     * pending.
+     * */
+    public void flush() {
+        // taking the pending configuration while holding the write lock guarantees writes never land out of order -
+        synchronized (this.writeLock) {
+            Configuration toBeWritten;
+
+            synchronized (this) {
+                toBeWritten = this.pending;
+                this.pending = null;
+
+                if (this.scheduledWrite != null) {
+                    this.scheduledWrite.cancel(false);
+                    this.scheduledWrite = null;
+                }
+            }
+
+            if (toBeWritten != null) {
+                this.write(toBeWritten);
+            }
+        }
+    }
+
+    /**
+     * Atomically writes the given {@link Configuration} to disk, on the calling thread.
+     * */
+    public void write(Configuration configuration) {
+        synchronized (this.writeLock) {
+            this.doWrite(configuration);
+        }
+    }
+
+    /**
+     * Writes the given {@link Configuration} into a temporary file, and then moves it over {@link #file}.
+     * */
+    private void doWrite(Configuration configuration) {
+        File parent = file.toFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOGGER.debug("[{}] doesn't exist. Creating folder structure...", parent);
+            if (!parent.mkdirs()) {
+                LOGGER.error("There was an error creating configuration folder structure [{}]", parent);
+            }
+        }
+
+        Path tempFile = null;
+
+        try {
+            LOGGER.debug("Writing configuration [{}] into [{}]...", configuration, file);
+
+            // a unique temporary file per write, so that concurrent writers (ie: several launcher processes) never clash -
+            tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), TEMP_FILE_SUFFIX);
+            Files.write(tempFile, OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(configuration));
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                LOGGER.debug("Atomic move not supported in [{}]. Falling back to regular replace...", file.getParent());
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            this.writeCount.incrementAndGet();
+        } catch (IOException e) {
+            if (tempFile != null) {
+                tempFile.toFile().delete();
+            }
+
+            LOGGER.error("There was an error saving configuration to [{}]", file, e);
+            LOGGER.debug("Configuration: [{}]", configuration);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The amount of times a {@link Configuration} has actually been written to disk.
+     * */
+    protected long getWriteCount() {
+        return this.writeCount.get();
+    }
+}
@@ -0,0 +1,104 @@
+package com.dazednconfused.catalauncher.database.base;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking facade over any {@link BaseDAO}. Every operation is delegated as-is, but executed on a dedicated
+ * {@link Executor} and returned as a {@link CompletableFuture}.
+ *
+ * @apiNote Any {@link DAOException} thrown by the underlying {@link BaseDAO} completes the returned future exceptionally.
+ * */
+public class AsyncDAO<T extends BaseEntity> {
+
+    private final BaseDAO<T> delegate;
+    private final Executor executor;
+
+    /**
+     * Constructor. Operations will run on the shared {@link DatabaseExecutor}.
+     * */
+    public AsyncDAO(BaseDAO<T> delegate) {
+        this(delegate, DatabaseExecutor.getInstance());
+    }
+
+    /**
+     * Constructor.
+     * */
+    public AsyncDAO(BaseDAO<T> delegate, Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#insert(BaseEntity)}.
+     * */
+    public CompletableFuture<T> insert(T t) {
+        return CompletableFuture.supplyAsync(() -> delegate.insert(t), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#insertAll(Collection)}.
+     * */
+    public CompletableFuture<List<T>> insertAll(Collection<T> entities) {
+        return CompletableFuture.supplyAsync(() -> delegate.insertAll(entities), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#update(BaseEntity)}.
+     * */
+    public CompletableFuture<T> update(T t) {
+        return CompletableFuture.supplyAsync(() -> delegate.update(t), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#updateAll(Collection)}.
+     * */
+    public CompletableFuture<List<T>> updateAll(Collection<T> entities) {
+        return CompletableFuture.supplyAsync(() -> delegate.updateAll(entities), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#delete(BaseEntity)}.
+     * */
+    public CompletableFuture<Void> delete(T t) {
+        return CompletableFuture.runAsync(() -> delegate.delete(t), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#deleteAll(long...)}.
+     * */
+    public CompletableFuture<Integer> deleteAll(long... ids) {
+        return CompletableFuture.supplyAsync(() -> delegate.deleteAll(ids), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#findById(long)}.
+     * */
+    public CompletableFuture<Optional<T>> findById(long id) {
+        return CompletableFuture.supplyAsync(() -> delegate.findById(id), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#findById(long...)}.
+     * */
+    public CompletableFuture<List<T>> findById(long... ids) {
+        return CompletableFuture.supplyAsync(() -> delegate.findById(ids), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#findAll()}.
+     * */
+    public CompletableFuture<List<T>> findAll() {
+        return CompletableFuture.supplyAsync(delegate::findAll, executor);
+    }
+
+    /**
+     * Asynchronous version of {@link BaseDAO#countAll()}.
+     * */
+    public CompletableFuture<Long> countAll() {
+        return CompletableFuture.supplyAsync(delegate::countAll, executor);
+    }
+}
@@ -6,11 +6,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,107 +37,288 @@ public interface BaseDAO<T extends BaseEntity> {
     T update(T t) throws DAOException;
 
     /**
-     * Deletes the given {@link BaseEntity}. It must have an ID set.
+     * Inserts all the given {@link BaseEntity}(ies) into the table, in a single batch and transaction. Either all of them
+     * get inserted, or none do.
+     *
+     * @return The inserted {@link BaseEntity}(ies), as persisted, in the same order they were provided.
      * */
-    default void delete(T t) throws DAOException {
-        Optional<T> originalEntity = this.findById(t.getId());
+    default List<T> insertAll(Collection<T> entities) throws DAOException {
+        return this.timed("insertAll", () -> this.inTransaction(conn -> this.insertAll(conn, entities)));
+    }
 
-        if (originalEntity.isEmpty()) {
-            throw new DAOException("No entity with id [" + t.getId() + "] found");
+    /**
+     * Inserts all the given {@link BaseEntity}(ies) into the table through the given {@code conn}, in a single batch, as
+     * part of whatever transaction {@code conn} is in.
+     *
+     * @return The inserted {@link BaseEntity}(ies), as persisted, in the same order they were provided.
+     * */
+    default List<T> insertAll(Connection conn, Collection<T> entities) throws DAOException {
+        if (entities.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        LOGGER.debug("Deleting Entity [{}]...", originalEntity.get());
+        LOGGER.debug("Inserting [{}] Entities into [{}]...", entities.size(), getTableName());
 
-        String sql = "DELETE FROM " + getTableName() + " WHERE id = ? ";
+        List<Long> insertedIds = new ArrayList<>();
 
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, t.getId());
+        try (PreparedStatement pstmt = conn.prepareStatement(this.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+            for (T entity : entities) {
+                this.bindInsertParameters(pstmt, entity);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
 
-            pstmt.executeUpdate();
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                while (rs.next()) {
+                    insertedIds.add(rs.getLong(1));
+                }
+            }
         } catch (SQLException e) {
-            LOGGER.error("An error occurred while deleting entity [{}]", t, e);
+            LOGGER.error("An error occurred while inserting [{}] entities into [{}]", entities.size(), getTableName(), e);
             throw new DAOException(e);
         }
+
+        return this.findById(conn, insertedIds.stream().mapToLong(Long::longValue).toArray());
     }
 
     /**
-     * Finds the given {@link BaseEntity} by ID.
+     * Updates all the given {@link BaseEntity}(ies), in a single batch and transaction. They all must have an ID set. Either
+     * all of them get updated, or none do.
+     *
+     * @return The updated {@link BaseEntity}(ies), as persisted, in the same order they were provided.
      * */
-    default Optional<T> findById(long id) throws DAOException {
-        LOGGER.debug("Finding Entity with ID [{}]...", id);
+    default List<T> updateAll(Collection<T> entities) throws DAOException {
+        return this.timed("updateAll", () -> this.inTransaction(conn -> this.updateAll(conn, entities)));
+    }
 
-        String sql = "SELECT * FROM " + getTableName() + " WHERE id = ?";
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setLong(1, id);
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(this.buildFromResultSet(rs));
+    /**
+     * Updates all the given {@link BaseEntity}(ies) through the given {@code conn}, in a single batch, as part of whatever
+     * transaction {@code conn} is in. They all must have an ID set.
+     *
+     * @return The updated {@link BaseEntity}(ies), as persisted, in the same order they were provided.
+     * @throws DAOException If any of them doesn't exist; in which case {@code conn}'s transaction must be rolled back.
+     * */
+    default List<T> updateAll(Connection conn, Collection<T> entities) throws DAOException {
+        if (entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        LOGGER.debug("Updating [{}] Entities in [{}]...", entities.size(), getTableName());
+
+        try (PreparedStatement pstmt = conn.prepareStatement(this.getUpdateSql())) {
+            for (T entity : entities) {
+                this.bindUpdateParameters(pstmt, entity);
+                pstmt.addBatch();
+            }
+
+            int[] updateCounts = pstmt.executeBatch();
+
+            List<T> entityList = new ArrayList<>(entities);
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0) {
+                    throw new DAOException("No entity with id [" + entityList.get(i).getId() + "] found");
+                }
             }
         } catch (SQLException e) {
-            LOGGER.error("An error occurred while retrieving entity with ID [{}]", id, e);
+            LOGGER.error("An error occurred while updating [{}] entities in [{}]", entities.size(), getTableName(), e);
             throw new DAOException(e);
         }
 
-        return Optional.empty();
+        return this.findById(conn, entities.stream().mapToLong(BaseEntity::getId).toArray());
     }
 
     /**
-     * Retrieves all the {@link BaseEntity}(ies) with the supplied IDs.
+     * Deletes all the {@link BaseEntity}(ies) with the supplied IDs, in a single statement. IDs with no matching entity
+     * are ignored.
      *
-     * @apiNote This operation may not be performant at all with large datasets. Consider overriding it according to the
-     *          use-case.
+     * @return The amount of deleted {@link BaseEntity}(ies).
+     * */
+    default int deleteAll(long... ids) throws DAOException {
+        return this.timed("deleteAll", () -> {
+            try (Connection conn = this.getConnection()) {
+                return this.deleteAll(conn, ids);
+            } catch (SQLException e) {
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    /**
+     * Deletes all the {@link BaseEntity}(ies) with the supplied IDs through the given {@code conn}, in a single statement,
+     * as part of whatever transaction {@code conn} is in. IDs with no matching entity are ignored.
+     *
+     * @return The amount of deleted {@link BaseEntity}(ies).
+     * */
+    default int deleteAll(Connection conn, long... ids) throws DAOException {
+        if (ids.length == 0) {
+            return 0;
+        }
+
+        LOGGER.debug("Deleting Entities with IDs [{}] from [{}]...", ids, getTableName());
+
+        String sql = "DELETE FROM " + getTableName() + " WHERE id = ANY(?)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setObject(1, LongStream.of(ids).boxed().toArray(Long[]::new));
+
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while deleting entities with IDs [{}] from [{}]", ids, getTableName(), e);
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Deletes the given {@link BaseEntity}. It must have an ID set.
+     * */
+    default void delete(T t) throws DAOException {
+        this.timed("delete", () -> {
+            Optional<T> originalEntity = this.findById(t.getId());
+
+            if (originalEntity.isEmpty()) {
+                throw new DAOException("No entity with id [" + t.getId() + "] found");
+            }
+
+            LOGGER.debug("Deleting Entity [{}]...", originalEntity.get());
+
+            String sql = "DELETE FROM " + getTableName() + " WHERE id = ? ";
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setLong(1, t.getId());
+
+                pstmt.executeUpdate();
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while deleting entity [{}]", t, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    /**
+     * Finds the given {@link BaseEntity} by ID.
+     * */
+    default Optional<T> findById(long id) throws DAOException {
+        return this.timed("findById", () -> {
+            LOGGER.debug("Finding Entity with ID [{}]...", id);
+
+            String sql = "SELECT * FROM " + getTableName() + " WHERE id = ?";
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setLong(1, id);
+                ResultSet rs = pstmt.executeQuery();
+                if (rs.next()) {
+                    return Optional.of(this.buildFromResultSet(rs));
+                }
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while retrieving entity with ID [{}]", id, e);
+                throw new DAOException(e);
+            }
+
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Retrieves all the {@link BaseEntity}(ies) with the supplied IDs, in a single query.
+     *
+     * @return The found {@link BaseEntity}(ies), in the same order their IDs were provided. IDs with no matching entity are
+     *         skipped.
      * */
     default List<T> findById(long... ids) throws DAOException {
-        LOGGER.debug("Finding Entities with IDs [{}]...", ids);
+        return this.timed("findByIds", () -> {
+            if (ids.length == 0) {
+                return new ArrayList<>();
+            }
 
-        return Arrays.stream(ids).mapToObj(this::findById)
-            .map(opt -> opt.orElse(null))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+            try (Connection conn = this.getConnection()) {
+                return this.findById(conn, ids);
+            } catch (SQLException e) {
+                throw new DAOException(e);
+            }
+        });
     }
 
     /**
-     * Retrieves all the {@link BaseEntity}(ies) managed by this DAO.
+     * Retrieves all the {@link BaseEntity}(ies) with the supplied IDs through the given {@code conn}, in a single query; so
+     * that entities written within {@code conn}'s transaction, but not yet committed, are found too.
      *
-     * @apiNote This operation may not be performant at all with large datasets.
+     * @return The found {@link BaseEntity}(ies), in the same order their IDs were provided. IDs with no matching entity are
+     *         skipped.
      * */
-    default List<T> findAll() throws DAOException {
-        LOGGER.debug("Finding all Entities for [{}]...", getTableName());
+    default List<T> findById(Connection conn, long... ids) throws DAOException {
+        LOGGER.debug("Finding Entities with IDs [{}]...", ids);
+
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
 
-        String sql = "SELECT * FROM " + getTableName();
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            ResultSet rs = pstmt.executeQuery();
-            List<T> result = new ArrayList<>();
+        String sql = "SELECT * FROM " + getTableName() + " WHERE id = ANY(?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setObject(1, LongStream.of(ids).boxed().toArray(Long[]::new));
 
-            while (rs.next()) {
-                result.add(this.buildFromResultSet(rs));
+            Map<Long, T> found;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                List<T> entities = new ArrayList<>();
+                while (rs.next()) {
+                    entities.add(this.buildFromResultSet(rs));
+                }
+                found = entities.stream().collect(Collectors.toMap(BaseEntity::getId, Function.identity()));
             }
 
-            return result;
+            return LongStream.of(ids).mapToObj(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
         } catch (SQLException e) {
-            LOGGER.error("An error occurred while retrieving entities for [{}]", getTableName(), e);
+            LOGGER.error("An error occurred while retrieving entities with IDs [{}]", ids, e);
             throw new DAOException(e);
         }
     }
 
+    /**
+     * Retrieves all the {@link BaseEntity}(ies) managed by this DAO.
+     *
+     * @apiNote This operation may not be performant at all with large datasets.
+     * */
+    default List<T> findAll() throws DAOException {
+        return this.timed("findAll", () -> {
+            LOGGER.debug("Finding all Entities for [{}]...", getTableName());
+
+            String sql = "SELECT * FROM " + getTableName();
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                ResultSet rs = pstmt.executeQuery();
+                List<T> result = new ArrayList<>();
+
+                while (rs.next()) {
+                    result.add(this.buildFromResultSet(rs));
+                }
+
+                return result;
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while retrieving entities for [{}]", getTableName(), e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
     /**
      * Retrieves a {@code COUNT(*)} of all {@link BaseEntity}(ies) managed by this DAO.
      * */
     default long countAll() throws DAOException {
-        LOGGER.debug("Counting all Entities for [{}]...", getTableName());
+        return this.timed("countAll", () -> {
+            LOGGER.debug("Counting all Entities for [{}]...", getTableName());
 
-        String sql = "SELECT COUNT(*) FROM " + getTableName();
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return rs.getLong(1);
+            String sql = "SELECT COUNT(*) FROM " + getTableName();
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                ResultSet rs = pstmt.executeQuery();
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while counting entities for [{}]", getTableName(), e);
+                throw new DAOException(e);
             }
-        } catch (SQLException e) {
-            LOGGER.error("An error occurred while counting entities for [{}]", getTableName(), e);
-            throw new DAOException(e);
-        }
 
-        return 0;
+            return 0L;
+        });
     }
 
     /**
@@ -141,6 +326,32 @@ public interface BaseDAO<T extends BaseEntity> {
      * */
     T buildFromResultSet(ResultSet rs) throws DAOException;
 
+    /**
+     * The parameterized SQL statement used to insert a single {@link BaseEntity} {@code T}.
+     *
+     * @apiNote Shared by {@link #insert(BaseEntity)} and {@link #insertAll(Collection)}.
+     * */
+    String getInsertSql();
+
+    /**
+     * Binds the given {@link BaseEntity} {@code T} into the parameters of a {@link PreparedStatement} built from
+     * {@link #getInsertSql()}.
+     * */
+    void bindInsertParameters(PreparedStatement pstmt, T t) throws SQLException;
+
+    /**
+     * The parameterized SQL statement used to update a single {@link BaseEntity} {@code T} by its ID.
+     *
+     * @apiNote Shared by {@link #update(BaseEntity)} and {@link #updateAll(Collection)}.
+     * */
+    String getUpdateSql();
+
+    /**
+     * Binds the given {@link BaseEntity} {@code T}, including its ID, into the parameters of a {@link PreparedStatement}
+     * built from {@link #getUpdateSql()}.
+     * */
+    void bindUpdateParameters(PreparedStatement pstmt, T t) throws SQLException;
+
     /**
      * Returns the ID of the latest inserted {@link BaseEntity} from the supplied {@link PreparedStatement}.
      *
@@ -167,6 +378,55 @@ public interface BaseDAO<T extends BaseEntity> {
      * */
     String getTableName();
 
+    /**
+     * The {@link DAOTimers} recording the latency (and count) of this DAO's operations.
+     * */
+    DAOTimers getTimers();
+
+    /**
+     * Runs the given {@code body} as this DAO's {@code operation}, recording how long it took into {@link #getTimers()}.
+     *
+     * @return Whatever {@code body} returned.
+     * */
+    default <R> R timed(String operation, Supplier<R> body) {
+        return this.getTimers().time(this.getTableName(), operation, body);
+    }
+
+    /**
+     * Runs the given {@code body} as this DAO's {@code operation}, recording how long it took into {@link #getTimers()}.
+     * */
+    default void timed(String operation, Runnable body) {
+        this.timed(operation, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the given {@code body} within a single transaction on a new connection to this DAO's database, committing it if
+     * {@code body} succeeds and rolling it back otherwise.
+     *
+     * @apiNote Meant for writes spanning several tables (or DAOs) of the same database, which must either all happen or none.
+     * @return Whatever {@code body} returned.
+     * */
+    default <R> R inTransaction(Function<Connection, R> body) throws DAOException {
+        try (Connection conn = this.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                R result = body.apply(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while running a transaction on [{}]", getTableName(), e);
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Opens a connection to this DAO's database.
      *
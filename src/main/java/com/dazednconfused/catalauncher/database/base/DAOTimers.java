@@ -0,0 +1,57 @@
+package com.dazednconfused.catalauncher.database.base;
+
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+import com.dazednconfused.catalauncher.helper.metrics.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Records the latency (and count) of every operation performed by a single {@link BaseDAO}, each into its own
+ * {@link MetricsRegistry} {@link Timer} named {@code dao.<table>.<operation>}.
+ * <br><br>
+ * Only the outermost operation is recorded. Operations a DAO performs as part of another one on the same thread (ie: the
+ * {@code findById} every {@code insert} ends with) are left out, as their time is already accounted for by the caller's.
+ * */
+public class DAOTimers {
+
+    private static final String TIMER_NAME_TEMPLATE = "dao.%s.%s";
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> timing = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Runs the given {@code body} as the given {@code operation} on the given {@code tableName}, recording how long it took
+     * (whether it succeeded or not) unless it's nested within another operation being recorded.
+     *
+     * @return Whatever {@code body} returned.
+     * */
+    public <R> R time(String tableName, String operation, Supplier<R> body) {
+        if (this.timing.get()) {
+            return body.get();
+        }
+
+        this.timing.set(true);
+        try {
+            return this.timerFor(tableName, operation).time(body);
+        } finally {
+            this.timing.remove();
+        }
+    }
+
+    /**
+     * The {@link Timer} for the given {@code operation} on the given {@code tableName}; looked up from the
+     * {@link MetricsRegistry} only the first time.
+     * */
+    private Timer timerFor(String tableName, String operation) {
+        Timer timer = this.timers.get(operation);
+        if (timer == null) {
+            timer = this.timers.computeIfAbsent(
+                operation,
+                unused -> MetricsRegistry.getInstance().timer(String.format(TIMER_NAME_TEMPLATE, tableName, operation))
+            );
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,48 @@
+package com.dazednconfused.catalauncher.database.base;
+
+import com.dazednconfused.catalauncher.helper.ExecutorFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The dedicated {@link ExecutorService} all asynchronous database operations run on, so that database latency never blocks
+ * the calling thread (ie: Swing's Event Dispatch Thread).
+ * */
+public class DatabaseExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseExecutor.class);
+
+    private static final String THREAD_NAME_PREFIX = "database-worker-";
+
+    private static ExecutorService instance;
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized ExecutorService getInstance() {
+        if (instance == null) {
+            instance = create();
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a virtual-thread-per-task {@link ExecutorService} if the running JDK supports it; or a fixed pool of daemon
+     * platform threads otherwise.
+     * */
+    private static ExecutorService create() {
+        return ExecutorFactory.newVirtualThreadPerTaskExecutor().map(virtualThreadExecutor -> {
+            LOGGER.debug("Running database operations on virtual threads");
+            return virtualThreadExecutor;
+        }).orElseGet(() -> {
+            int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+            LOGGER.debug("Virtual threads unavailable. Running database operations on [{}] platform threads", poolSize);
+            return Executors.newFixedThreadPool(poolSize, ExecutorFactory.daemonThreadFactory(THREAD_NAME_PREFIX));
+        });
+    }
+}
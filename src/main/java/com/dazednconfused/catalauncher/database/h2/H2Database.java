@@ -1,9 +1,15 @@
 package com.dazednconfused.catalauncher.database.h2;
 
+import com.dazednconfused.catalauncher.configuration.Configuration;
+import com.dazednconfused.catalauncher.configuration.ConfigurationManager;
 import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.base.DAOTimers;
 import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
 import com.dazednconfused.catalauncher.database.h2.migration.MigrateableH2Database;
 import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.metrics.Counter;
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+import com.dazednconfused.catalauncher.helper.metrics.Timer;
 import com.dazednconfused.catalauncher.helper.result.Result;
 
 import io.vavr.control.Try;
@@ -15,6 +21,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -25,12 +34,35 @@ public abstract class H2Database implements DisposableDatabase {
     private static final Logger LOGGER = LoggerFactory.getLogger(H2Database.class);
 
     private static final String DATABASE_DIRECTORY = Paths.getDatabaseDirectory().toString();
-    private static final String JDBC_URL_TEMPLATE = "jdbc:h2:" + DATABASE_DIRECTORY + "/%s;AUTO_SERVER=TRUE;DB_CLOSE_ON_EXIT=TRUE";
+    private static final String PERSISTENT_JDBC_URL_PREFIX = "jdbc:h2:" + DATABASE_DIRECTORY + "/";
+    private static final String IN_MEMORY_JDBC_URL_PREFIX = "jdbc:h2:mem:";
+    private static final String JDBC_URL_TEMPLATE = "%s%s%s;CACHE_SIZE=%d;WRITE_DELAY=%d";
+
+    /**
+     * Builds all the statements needed to truncate every table (with identity restart) but the migration table, and to
+     * restart every sequence, in the current schema.
+     * */
+    private static final String RESET_STATEMENTS_QUERY =
+        "SELECT 'TRUNCATE TABLE \"' || TABLE_NAME || '\" RESTART IDENTITY' FROM INFORMATION_SCHEMA.TABLES " +
+        "WHERE TABLE_SCHEMA = SCHEMA() AND LOWER(TABLE_NAME) <> '" + MigrateableH2Database.MIGRATION_TABLE_NAME.toLowerCase() + "' " +
+        "UNION ALL " +
+        "SELECT 'ALTER SEQUENCE \"' || SEQUENCE_NAME || '\" RESTART WITH 1' FROM INFORMATION_SCHEMA.SEQUENCES " +
+        "WHERE SEQUENCE_SCHEMA = SCHEMA()";
+
+    /**
+     * System property that, when set to any {@link H2DatabaseMode}, takes precedence over the configured database mode.
+     * */
+    public static final String DATABASE_MODE_OVERRIDE_PROPERTY = "macatalauncher.database.mode";
+
+    private static final Timer CONNECTION_OPEN_TIMER = MetricsRegistry.getInstance().timer("h2.connection.open");
+    private static final Counter CONNECTION_FAILURE_COUNTER = MetricsRegistry.getInstance().counter("h2.connection.failures");
 
     private static final String USER = null;
     private static final String PASSWORD = null;
     public static final String DATABASE_NAME_BLANK_ERROR = "Database name cannot be blank! Aborting operation";
 
+    private final DAOTimers timers = new DAOTimers();
+
     /**
      * Opens a connection to {@link #getDatabaseName()}.
      *
@@ -44,6 +76,13 @@ public abstract class H2Database implements DisposableDatabase {
             .orElseThrow(() -> new RuntimeException("Expected database connection to [" + getDatabaseName() + "], but object was empty! Aborting operation"));
     }
 
+    /**
+     * The {@link DAOTimers} recording the latency (and count) of every DAO operation performed through this instance.
+     * */
+    public DAOTimers getTimers() {
+        return this.timers;
+    }
+
     /**
      * Returns whether the given {@code tableName} exists within the {@link #getDatabaseName()}.
      * */
@@ -86,6 +125,32 @@ public abstract class H2Database implements DisposableDatabase {
         return false;
     }
 
+    /**
+     * Builds the JDBC URL for the given {@code database}, according to the {@link H2DatabaseMode} and tuning settings
+     * configured in {@link ConfigurationManager}.
+     * */
+    protected static String buildJdbcUrl(String database) {
+        return ConfiguredJdbcUrl.build(database);
+    }
+
+    /**
+     * Builds the JDBC URL for the given {@code database}, opened in the given {@code mode}.
+     *
+     * @param cacheSizeKb The size of the in-process MVStore page cache, in KB.
+     * @param writeDelayMs The maximum delay between a commit and flushing the log, in milliseconds.
+     * */
+    protected static String buildJdbcUrl(String database, H2DatabaseMode mode, int cacheSizeKb, int writeDelayMs) {
+        String prefix = mode.isPersistent() ? PERSISTENT_JDBC_URL_PREFIX : IN_MEMORY_JDBC_URL_PREFIX;
+        return String.format(JDBC_URL_TEMPLATE, prefix, database, mode.getJdbcUrlSettings(), cacheSizeKb, writeDelayMs);
+    }
+
+    /**
+     * The {@link H2DatabaseMode} all databases are being opened in.
+     * */
+    protected static H2DatabaseMode getDatabaseMode() {
+        return ConfiguredJdbcUrl.MODE;
+    }
+
     /**
      * Establishes a connection to the provided {@code database}.
      * */
@@ -95,13 +160,17 @@ public abstract class H2Database implements DisposableDatabase {
         }
 
         LOGGER.trace("Opening connection for database [{}]...", database);
+        long startedAt = System.nanoTime();
 
         return Try.of(() -> DriverManager.getConnection(
-            String.format(JDBC_URL_TEMPLATE, database),
+            buildJdbcUrl(database),
             USER, PASSWORD
-        )).onFailure(
-            t -> LOGGER.error("There was an error while opening database file [{}]", database, t)
-        ).map(Result::success).recover(Result::failure).get();
+        )).andFinally(
+            () -> CONNECTION_OPEN_TIMER.recordSince(startedAt)
+        ).onFailure(t -> {
+            CONNECTION_FAILURE_COUNTER.increment();
+            LOGGER.error("There was an error while opening database file [{}]", database, t);
+        }).map(Result::success).recover(Result::failure).get();
     }
 
 
@@ -129,7 +198,7 @@ public abstract class H2Database implements DisposableDatabase {
         LOGGER.trace("Wiping database [{}]...", database);
 
         return Try.of(() -> DriverManager.getConnection(
-            String.format(JDBC_URL_TEMPLATE, database),
+            buildJdbcUrl(database),
             USER, PASSWORD
         )).onFailure(
             t -> LOGGER.error("There was an error while wiping database file [{}]", database, t)
@@ -166,57 +235,38 @@ public abstract class H2Database implements DisposableDatabase {
         LOGGER.trace("Resetting database [{}]...", database);
 
         return Try.of(() -> DriverManager.getConnection(
-            String.format(JDBC_URL_TEMPLATE, database),
+            buildJdbcUrl(database),
             USER, PASSWORD
         )).onFailure(
             t -> LOGGER.error("There was an error while cleaning database file [{}]", database, t)
         ).andThenTry(connection -> {
-            Statement stmt = connection.createStatement();
-
-            // first, disable constraint checks for the duration of the operation ---
-            stmt.execute("SET REFERENTIAL_INTEGRITY FALSE");
-
-            // truncate all tables, restarting their auto-increment IDs ---
-            String getTablesQuery = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA()";
-
-            ResultSet getTablesQueryRs = stmt.executeQuery(getTablesQuery);
-            while (getTablesQueryRs.next()) {
-                String tableName = getTablesQueryRs.getString("TABLE_NAME");
-
-                if (tableName.equalsIgnoreCase(MigrateableH2Database.MIGRATION_TABLE_NAME)) {
-                    LOGGER.trace("Skipping migration table [{}] from reset process...", tableName);
-                    continue;
+            try (Connection conn = connection; Statement stmt = conn.createStatement()) {
+                // let the database itself build every truncate & sequence restart statement in a single query ---
+                List<String> resetStatements = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery(RESET_STATEMENTS_QUERY)) {
+                    while (rs.next()) {
+                        resetStatements.add(rs.getString(1));
+                    }
                 }
 
-                Statement truncateStmt = connection.createStatement();
-                truncateStmt.executeUpdate("TRUNCATE TABLE \"" + tableName + "\" RESTART IDENTITY");
-                truncateStmt.close();
-                LOGGER.trace("Truncated table with identity restart [{}]", tableName);
-            }
-
-            // restart all sequences ---
-            String sequenceRestartQuery = "SELECT SEQUENCE_NAME FROM INFORMATION_SCHEMA.SEQUENCES";
+                if (resetStatements.isEmpty()) {
+                    LOGGER.trace("Database [{}] has nothing to reset.", database);
+                    return;
+                }
 
-            ResultSet sequenceRestartQueryRs = stmt.executeQuery(sequenceRestartQuery);
-            while (sequenceRestartQueryRs.next()) {
-                String sequenceName = sequenceRestartQueryRs.getString(1);
+                // then send them all in a single batch, with constraint checks disabled for the duration of the operation ---
+                stmt.execute("SET REFERENTIAL_INTEGRITY FALSE");
+                try {
+                    for (String resetStatement : resetStatements) {
+                        stmt.addBatch(resetStatement);
+                    }
+                    stmt.executeBatch();
+                } finally {
+                    stmt.execute("SET REFERENTIAL_INTEGRITY TRUE");
+                }
 
-                Statement alterSequenceStmt = connection.createStatement();
-                alterSequenceStmt.executeUpdate("ALTER SEQUENCE " + sequenceName + " RESTART WITH 1");
-                alterSequenceStmt.close();
-                LOGGER.trace("Restarted sequence [{}]", sequenceName);
+                LOGGER.trace("Database [{}] has been reset with [{}] statements.", database, resetStatements.size());
             }
-
-            // re-enable constraint checks now that database has been properly reset ---
-            stmt.execute("SET REFERENTIAL_INTEGRITY TRUE ");
-
-            // resources cleanup ---
-            getTablesQueryRs.close();
-            sequenceRestartQueryRs.close();
-            stmt.close();
-            connection.close();
-
-            LOGGER.trace("Database [{}] has been reset.", database);
         }).map(connection -> Result.success()).recover(Result::failure).get();
     }
 
@@ -244,7 +294,7 @@ public abstract class H2Database implements DisposableDatabase {
         LOGGER.trace("Shutting down database [{}]...", database);
 
         return Try.of(() -> DriverManager.getConnection(
-            String.format(JDBC_URL_TEMPLATE, database),
+            buildJdbcUrl(database),
             USER, PASSWORD
         )).onFailure(
             t -> LOGGER.error("There was an error while shutting down database [{}]", database, t)
@@ -281,6 +331,14 @@ public abstract class H2Database implements DisposableDatabase {
 
         LOGGER.trace("Destroying database [{}]...", database);
 
+        // in embedded mode, the database outlives its last connection. Make sure it's closed before deleting its files ---
+        closeIfOpen(database);
+
+        if (!getDatabaseMode().isPersistent()) {
+            LOGGER.trace("In-memory database [{}] has no files to delete. Nothing else to do.", database);
+            return Result.success();
+        }
+
         return Try.of(() -> {
             String dbLockFilePath = DATABASE_DIRECTORY + "/" + database + ".lock.db";
             File dbLockFile = new File(dbLockFilePath);
@@ -311,6 +369,56 @@ public abstract class H2Database implements DisposableDatabase {
         ).recover(Result::failure).get();
     }
 
+    /**
+     * Shuts down the given {@code database} if, and only if, it's currently open. Does nothing otherwise.
+     * */
+    private static void closeIfOpen(String database) {
+        Try.run(() -> {
+            try (Connection connection = DriverManager.getConnection(buildJdbcUrl(database) + ";IFEXISTS=TRUE", USER, PASSWORD);
+                 Statement stmt = connection.createStatement()) {
+                stmt.executeUpdate("SHUTDOWN");
+            }
+        }).onFailure(t -> LOGGER.trace("Database [{}] wasn't open. Nothing to shut down.", database));
+    }
+
+    /**
+     * Lazily resolves the configured JDBC URL settings the first time a database is accessed, and keeps them for the rest
+     * of the application's lifetime, since H2 cannot switch modes on a database that's already open.
+     * */
+    private static final class ConfiguredJdbcUrl {
+
+        private static final H2DatabaseMode MODE;
+        private static final int CACHE_SIZE_KB;
+        private static final int WRITE_DELAY_MS;
+
+        static {
+            Configuration configuration = Try.of(ConfigurationManager::getInstance).map(manager -> {
+                Configuration c = new Configuration();
+                c.setDatabaseMode(manager.getDatabaseMode());
+                c.setDatabaseCacheSizeKb(manager.getDatabaseCacheSizeKb());
+                c.setDatabaseWriteDelayMs(manager.getDatabaseWriteDelayMs());
+                return c;
+            }).onFailure(
+                t -> LOGGER.warn("Could not read database settings from configuration. Falling back to defaults...", t)
+            ).getOrElse(Configuration::new);
+
+            MODE = Optional.ofNullable(System.getProperty(DATABASE_MODE_OVERRIDE_PROPERTY)).flatMap(
+                override -> Try.of(() -> H2DatabaseMode.valueOf(override)).onFailure(t -> LOGGER.warn(
+                    "Unknown database mode [{}] in system property [{}]. Falling back to [{}]...",
+                    override, DATABASE_MODE_OVERRIDE_PROPERTY, configuration.getDatabaseMode()
+                )).toJavaOptional()
+            ).orElse(configuration.getDatabaseMode());
+            CACHE_SIZE_KB = configuration.getDatabaseCacheSizeKb();
+            WRITE_DELAY_MS = configuration.getDatabaseWriteDelayMs();
+
+            LOGGER.debug("Opening databases in [{}] mode, with cache size [{}KB] and write delay [{}ms]", MODE, CACHE_SIZE_KB, WRITE_DELAY_MS);
+        }
+
+        private static String build(String database) {
+            return buildJdbcUrl(database, MODE, CACHE_SIZE_KB, WRITE_DELAY_MS);
+        }
+    }
+
     /**
      * The underlying database's name.
      * */
@@ -0,0 +1,58 @@
+package com.dazednconfused.catalauncher.database.h2;
+
+/**
+ * The different modes an {@link H2Database} can be opened in.
+ * */
+public enum H2DatabaseMode {
+
+    /**
+     * Pure embedded mode. The database is opened in-process and kept open for the lifetime of the application (instead of
+     * being re-opened on every new connection), which makes it the fastest option when only the launcher accesses the database.
+     *
+     * @apiNote Other processes (ie: external database tooling) will <b>not</b> be able to connect to the database while the
+     *          launcher is running.
+     * */
+    EMBEDDED(";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=TRUE", true),
+
+    /**
+     * Automatic mixed mode. The first process to open the database does so in embedded mode and starts a TCP server, so
+     * other processes may connect to it simultaneously.
+     *
+     * @apiNote Useful for inspecting the database with external tooling while the launcher is running, at the cost of going
+     *          through H2's server machinery and lock-file negotiation on every connection.
+     * */
+    AUTO_SERVER(";AUTO_SERVER=TRUE;DB_CLOSE_ON_EXIT=TRUE", true),
+
+    /**
+     * Private, in-memory mode. Nothing is ever written to disk, and the database is lost as soon as it's shut down or the
+     * application exits.
+     *
+     * @apiNote Meant for test suites, where creating, resetting and destroying databases on disk dominates setup time.
+     * */
+    IN_MEMORY(";DB_CLOSE_DELAY=-1", false);
+
+    private final String jdbcUrlSettings;
+    private final boolean persistent;
+
+    /**
+     * Constructor.
+     * */
+    H2DatabaseMode(String jdbcUrlSettings, boolean persistent) {
+        this.jdbcUrlSettings = jdbcUrlSettings;
+        this.persistent = persistent;
+    }
+
+    /**
+     * The JDBC URL settings that enable this {@link H2DatabaseMode}.
+     * */
+    public String getJdbcUrlSettings() {
+        return jdbcUrlSettings;
+    }
+
+    /**
+     * Whether databases opened in this {@link H2DatabaseMode} are backed by a file on disk.
+     * */
+    public boolean isPersistent() {
+        return persistent;
+    }
+}
@@ -1,8 +1,15 @@
 package com.dazednconfused.catalauncher.database.mod.dao;
 
 import com.dazednconfused.catalauncher.database.base.BaseDAO;
+import com.dazednconfused.catalauncher.database.base.DAOException;
 import com.dazednconfused.catalauncher.database.mod.entity.ModEntity;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
 public interface ModDAO extends BaseDAO<ModEntity> {
 
     String TABLE_NAME = "mod";
@@ -12,4 +19,29 @@ public interface ModDAO extends BaseDAO<ModEntity> {
     default String getTableName() {
         return TABLE_NAME;
     }
+
+    /**
+     * Finds the {@link ModEntity} with the given {@code name}, if any.
+     * */
+    default Optional<ModEntity> findByName(String name) throws DAOException {
+        return this.timed("findByName", () -> {
+            LOGGER.debug("Finding ModEntity with name [{}]...", name);
+
+            String sql = "SELECT * FROM " + getTableName() + " WHERE name = ? ORDER BY id LIMIT 1";
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, name);
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(this.buildFromResultSet(rs));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while retrieving ModEntity with name [{}]", name, e);
+                throw new DAOException(e);
+            }
+
+            return Optional.empty();
+        });
+    }
 }
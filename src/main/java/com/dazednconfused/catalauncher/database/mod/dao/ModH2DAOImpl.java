@@ -41,54 +41,74 @@ public class ModH2DAOImpl extends MigrateableH2Database implements ModDAO {
 
     @Override
     public ModEntity insert(ModEntity entity) throws DAOException {
-        LOGGER.debug("Inserting ModEntity [{}]...", entity);
+        return this.timed("insert", () -> {
+            LOGGER.debug("Inserting ModEntity [{}]...", entity);
 
-        String sql = "INSERT INTO " + MODS_TABLE_NAME + "" +
-            "(name, modinfo, created_date, updated_date) " +
-            "VALUES " +
-            "(?, ?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
-
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, entity.getName());
-            pstmt.setString(2, entity.getModinfo());
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+                this.bindInsertParameters(pstmt, entity);
 
-            pstmt.executeUpdate();
+                pstmt.executeUpdate();
 
-            return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
-        } catch (SQLException e) {
-            LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
-            throw new DAOException(e);
-        }
+                return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
     }
 
     @Override
     public ModEntity update(ModEntity entity) throws DAOException {
-        Optional<ModEntity> originalEntity = this.findById(entity.getId());
+        return this.timed("update", () -> {
+            Optional<ModEntity> originalEntity = this.findById(entity.getId());
 
-        if (originalEntity.isEmpty()) {
-            throw new DAOException("No entity with id [" + entity.getId() + "] found");
-        }
+            if (originalEntity.isEmpty()) {
+                throw new DAOException("No entity with id [" + entity.getId() + "] found");
+            }
 
-        LOGGER.debug("Updating ModEntity from [{}] to [{}]...", originalEntity.get(), entity);
+            LOGGER.debug("Updating ModEntity from [{}] to [{}]...", originalEntity.get(), entity);
 
-        String sql = "UPDATE " + MODS_TABLE_NAME + " SET " +
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getUpdateSql())) {
+                this.bindUpdateParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.findById(entity.getId()).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while updating entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public String getInsertSql() {
+        return "INSERT INTO " + MODS_TABLE_NAME + "" +
+            "(name, modinfo, created_date, updated_date) " +
+            "VALUES " +
+            "(?, ?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
+    }
+
+    @Override
+    public void bindInsertParameters(PreparedStatement pstmt, ModEntity entity) throws SQLException {
+        pstmt.setString(1, entity.getName());
+        pstmt.setString(2, entity.getModinfo());
+    }
+
+    @Override
+    public String getUpdateSql() {
+        return "UPDATE " + MODS_TABLE_NAME + " SET " +
             "name = ?, " +
             "modinfo = ?, " +
             "updated_date = CURRENT_TIMESTAMP() " +
             "WHERE id = ?";
+    }
 
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, entity.getName());
-            pstmt.setString(2, entity.getModinfo());
-            pstmt.setLong(3, entity.getId());
-
-            pstmt.executeUpdate();
-
-            return this.findById(entity.getId()).orElseThrow(DAOException::new);
-        } catch (SQLException e) {
-            LOGGER.error("An error occurred while updating entity [{}]", entity, e);
-            throw new DAOException(e);
-        }
+    @Override
+    public void bindUpdateParameters(PreparedStatement pstmt, ModEntity entity) throws SQLException {
+        pstmt.setString(1, entity.getName());
+        pstmt.setString(2, entity.getModinfo());
+        pstmt.setLong(3, entity.getId());
     }
 
     @Override
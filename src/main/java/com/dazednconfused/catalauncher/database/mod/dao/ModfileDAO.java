@@ -11,6 +11,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.LongStream;
 
 public interface ModfileDAO extends BaseDAO<ModfileEntity> {
 
@@ -62,4 +63,27 @@ public interface ModfileDAO extends BaseDAO<ModfileEntity> {
             throw new DAOException(e);
         }
     }
+
+    /**
+     * Deletes all the {@link ModfileEntity}(ies) associated with any of the given {@code modIds} through the given
+     * {@code conn}, in a single statement, as part of whatever transaction {@code conn} is in.
+     * */
+    default int deleteAllByModIds(Connection conn, long... modIds) throws DAOException {
+        if (modIds.length == 0) {
+            return 0;
+        }
+
+        LOGGER.debug("Deleting ModfileEntity(s) associated to modIds [{}]...", modIds);
+
+        String sql = "DELETE FROM " + getTableName() + " WHERE mod_id = ANY(?)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setObject(1, LongStream.of(modIds).boxed().toArray(Long[]::new));
+
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while deleting ModfileEntity(s) associated to modIds [{}]", modIds, e);
+            throw new DAOException(e);
+        }
+    }
 }
@@ -39,55 +39,75 @@ public class ModfileH2DAOImpl extends MigrateableH2Database implements ModfileDA
 
     @Override
     public ModfileEntity insert(ModfileEntity entity) throws DAOException {
-        LOGGER.debug("Inserting ModfileEntity [{}]...", entity);
+        return this.timed("insert", () -> {
+            LOGGER.debug("Inserting ModfileEntity [{}]...", entity);
 
-        String sql = "INSERT INTO " + TABLE_NAME + "" +
-            "(mod_id, path, hash, created_date, updated_date) " +
-            "VALUES " +
-            "(?, ?, ?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
-
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setLong(1, entity.getModId());
-            pstmt.setString(2, entity.getPath());
-            pstmt.setString(3, entity.getHash());
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+                this.bindInsertParameters(pstmt, entity);
 
-            pstmt.executeUpdate();
+                pstmt.executeUpdate();
 
-            return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
-        } catch (SQLException e) {
-            LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
-            throw new DAOException(e);
-        }
+                return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
     }
 
     @Override
     public ModfileEntity update(ModfileEntity entity) throws DAOException {
-        Optional<ModfileEntity> originalEntity = this.findById(entity.getId());
+        return this.timed("update", () -> {
+            Optional<ModfileEntity> originalEntity = this.findById(entity.getId());
 
-        if (originalEntity.isEmpty()) {
-            throw new DAOException("No entity with id [" + entity.getId() + "] found");
-        }
+            if (originalEntity.isEmpty()) {
+                throw new DAOException("No entity with id [" + entity.getId() + "] found");
+            }
 
-        LOGGER.debug("Updating ModfileEntity from [{}] to [{}]...", originalEntity.get(), entity);
+            LOGGER.debug("Updating ModfileEntity from [{}] to [{}]...", originalEntity.get(), entity);
 
-        String sql = "UPDATE " + TABLE_NAME + " SET " +
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getUpdateSql())) {
+                this.bindUpdateParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.findById(entity.getId()).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while updating entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public String getInsertSql() {
+        return "INSERT INTO " + TABLE_NAME + "" +
+            "(mod_id, path, hash, created_date, updated_date) " +
+            "VALUES " +
+            "(?, ?, ?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
+    }
+
+    @Override
+    public void bindInsertParameters(PreparedStatement pstmt, ModfileEntity entity) throws SQLException {
+        pstmt.setLong(1, entity.getModId());
+        pstmt.setString(2, entity.getPath());
+        pstmt.setString(3, entity.getHash());
+    }
+
+    @Override
+    public String getUpdateSql() {
+        return "UPDATE " + TABLE_NAME + " SET " +
             "path = ?, " +
             "hash = ?, " +
             "updated_date = CURRENT_TIMESTAMP() " +
             "WHERE id = ?";
+    }
 
-        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, entity.getPath());
-            pstmt.setString(2, entity.getHash());
-            pstmt.setLong(3, entity.getId());
-
-            pstmt.executeUpdate();
-
-            return this.findById(entity.getId()).orElseThrow(DAOException::new);
-        } catch (SQLException e) {
-            LOGGER.error("An error occurred while updating entity [{}]", entity, e);
-            throw new DAOException(e);
-        }
+    @Override
+    public void bindUpdateParameters(PreparedStatement pstmt, ModfileEntity entity) throws SQLException {
+        pstmt.setString(1, entity.getPath());
+        pstmt.setString(2, entity.getHash());
+        pstmt.setLong(3, entity.getId());
     }
 
     @Override
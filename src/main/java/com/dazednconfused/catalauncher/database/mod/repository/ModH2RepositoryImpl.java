@@ -7,9 +7,12 @@ import com.dazednconfused.catalauncher.database.mod.dao.ModfileDAO;
 import com.dazednconfused.catalauncher.database.mod.entity.ModEntity;
 import com.dazednconfused.catalauncher.database.mod.entity.ModfileEntity;
 
-import java.util.Arrays;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -50,35 +53,59 @@ public class ModH2RepositoryImpl extends MigrateableH2Database implements ModRep
     @Override
     public ModEntity insert(ModEntity entity) throws DAOException {
         LOGGER.debug("Inserting ModEntity: [{}]", entity);
+        return this.insertAll(Collections.singletonList(entity)).get(0);
+    }
 
-        ModEntity result = this.modDAO.insert(entity);
+    @Override
+    public ModEntity update(ModEntity entity) throws DAOException {
+        LOGGER.debug("Updating ModEntity: [{}]", entity);
+        return this.updateAll(Collections.singletonList(entity)).get(0);
+    }
 
-        result.setModfiles(
-            this.insertChildEntities(result.getId(), entity.getModfiles())
-        );
+    @Override
+    public List<ModEntity> insertAll(Collection<ModEntity> entities) throws DAOException {
+        LOGGER.debug("Inserting [{}] ModEntity(ies)...", entities.size());
 
-        return result;
+        List<ModEntity> originals = new ArrayList<>(entities);
+
+        return this.timed("insertAll", () -> this.inTransaction(conn -> {
+            List<ModEntity> result = this.modDAO.insertAll(conn, originals);
+            this.insertChildEntitiesFor(conn, originals, result);
+            return result;
+        }));
     }
 
     @Override
-    public ModEntity update(ModEntity entity) throws DAOException {
-        LOGGER.debug("Updating ModEntity: [{}]", entity);
-        ModEntity result = this.modDAO.update(entity);
+    public List<ModEntity> updateAll(Collection<ModEntity> entities) throws DAOException {
+        LOGGER.debug("Updating [{}] ModEntity(ies)...", entities.size());
 
-        this.deleteChildEntitiesFor(entity.getId());
-        result.setModfiles(
-            this.insertChildEntities(result.getId(), entity.getModfiles())
-        );
+        List<ModEntity> originals = new ArrayList<>(entities);
 
-        return result;
+        return this.timed("updateAll", () -> this.inTransaction(conn -> {
+            List<ModEntity> result = this.modDAO.updateAll(conn, originals);
+            this.deleteChildEntitiesFor(conn, originals.stream().mapToLong(ModEntity::getId).toArray());
+            this.insertChildEntitiesFor(conn, originals, result);
+            return result;
+        }));
     }
 
     @Override
-    public void delete(ModEntity entity) throws DAOException {
-        this.deleteChildEntitiesFor(entity.getId());
+    public int deleteAll(long... ids) throws DAOException {
+        LOGGER.debug("Deleting ModEntity(ies) with IDs [{}]...", ids);
+
+        return this.timed("deleteAll", () -> this.inTransaction(conn -> {
+            this.deleteChildEntitiesFor(conn, ids);
+            return this.modDAO.deleteAll(conn, ids);
+        }));
+    }
 
+    @Override
+    public void delete(ModEntity entity) throws DAOException {
         LOGGER.debug("Deleting ModEntity with ID [{}]...", entity.getId());
-        this.modDAO.delete(entity);
+
+        if (this.deleteAll(entity.getId()) == 0) {
+            throw new DAOException("No entity with id [" + entity.getId() + "] found");
+        }
     }
 
     @Override
@@ -99,10 +126,10 @@ public class ModH2RepositoryImpl extends MigrateableH2Database implements ModRep
     public List<ModEntity> findById(long... ids) throws DAOException {
         LOGGER.debug("Finding ModEntity(ies) with IDs [{}]...", ids);
 
-        return Arrays.stream(ids).mapToObj(this::findById)
-            .map(opt -> opt.orElse(null))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+        List<ModEntity> result = this.modDAO.findById(ids);
+        result.forEach(entity -> entity.setModfiles(this.modfileDAO.findAllByModId(entity.getId())));
+
+        return result;
     }
 
     @Override
@@ -115,31 +142,46 @@ public class ModH2RepositoryImpl extends MigrateableH2Database implements ModRep
         return result;
     }
 
+    @Override
+    public Optional<ModEntity> findByName(String name) throws DAOException {
+        LOGGER.debug("Finding ModEntity with name [{}]...", name);
+
+        Optional<ModEntity> result = this.modDAO.findByName(name);
+        result.ifPresent(entity -> entity.setModfiles(this.modfileDAO.findAllByModId(entity.getId())));
+
+        return result;
+    }
+
     /**
-     * Inserts all given {@link ModfileEntity}(ies) associated to the provided {@code modId}.
+     * Inserts the {@link ModfileEntity}(ies) of every one of the {@code originals} through the given {@code conn}, in a single
+     * batch, and sets them into their corresponding (same index) {@code persisted} {@link ModEntity}.
      * */
-    private List<ModfileEntity> insertChildEntities(long modId, List<ModfileEntity> entities) throws DAOException {
-        LOGGER.debug("Inserting [{}] ModfileEntity(s) associated to modId [{}]", entities.size(), modId);
+    private void insertChildEntitiesFor(Connection conn, List<ModEntity> originals, List<ModEntity> persisted) throws DAOException {
+        List<ModfileEntity> children = new ArrayList<>();
+        for (int i = 0; i < originals.size(); i++) {
+            long modId = persisted.get(i).getId();
+            originals.get(i).getModfiles().forEach(e -> e.setModId(modId)); // set/overwrite with entity ID
+            children.addAll(originals.get(i).getModfiles());
+        }
 
-        List<ModfileEntity> result = entities.stream()
-            .peek(e -> e.setModId(modId)) // set/overwrite with entity ID
-            .map(modfileDAO::insert)
-            .collect(Collectors.toList());
+        LOGGER.debug("Inserting [{}] ModfileEntity(s) associated to [{}] ModEntity(ies)", children.size(), persisted.size());
 
-        LOGGER.debug("Inserted [{}] ModfileEntity(s) associated to modId [{}]", result.size(), modId);
+        Map<Long, List<ModfileEntity>> insertedChildren = this.modfileDAO.insertAll(conn, children).stream()
+            .collect(Collectors.groupingBy(ModfileEntity::getModId));
 
-        return result;
+        persisted.forEach(entity -> entity.setModfiles(insertedChildren.getOrDefault(entity.getId(), new ArrayList<>())));
     }
 
     /**
-     * Deletes all {@link ModfileEntity}(ies) associated to the given {@code modId}.
+     * Deletes all {@link ModfileEntity}(ies) associated to any of the given {@code modIds} through the given {@code conn}, in a
+     * single statement.
      * */
-    private void deleteChildEntitiesFor(long modId) {
-        LOGGER.debug("Deleting ModfileEntity(s) associated to modID [{}]...",modId);
+    private void deleteChildEntitiesFor(Connection conn, long... modIds) {
+        LOGGER.debug("Deleting ModfileEntity(s) associated to modIDs [{}]...", modIds);
 
-        int deletedChildEntities = this.modfileDAO.deleteAllByModId(modId);
+        int deletedChildEntities = this.modfileDAO.deleteAllByModIds(conn, modIds);
 
-        LOGGER.debug("Deleted [{}] ModfileEntity(s) associated to modId [{}]", deletedChildEntities, modId);
+        LOGGER.debug("Deleted [{}] ModfileEntity(s) associated to modIds [{}]", deletedChildEntities, modIds);
     }
 
     @Override
@@ -5,6 +5,7 @@ import com.dazednconfused.catalauncher.database.base.NotImplementedException;
 import com.dazednconfused.catalauncher.database.mod.dao.ModDAO;
 import com.dazednconfused.catalauncher.database.mod.entity.ModEntity;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 
 import org.slf4j.Logger;
@@ -18,4 +19,24 @@ public interface ModRepository extends ModDAO {
     default ModEntity buildFromResultSet(ResultSet rs) throws DAOException {
         throw new NotImplementedException("Method not implemented at Repository level");
     }
+
+    @Override
+    default String getInsertSql() {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+
+    @Override
+    default void bindInsertParameters(PreparedStatement pstmt, ModEntity entity) {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+
+    @Override
+    default String getUpdateSql() {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+
+    @Override
+    default void bindUpdateParameters(PreparedStatement pstmt, ModEntity entity) {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
 }
@@ -0,0 +1,15 @@
+package com.dazednconfused.catalauncher.database.session.dao;
+
+import com.dazednconfused.catalauncher.database.base.BaseDAO;
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionEntity;
+
+public interface GameSessionDAO extends BaseDAO<GameSessionEntity> {
+
+    String TABLE_NAME = "game_session";
+    String DATABASE_FILE = "sessions";
+
+    @Override
+    default String getTableName() {
+        return TABLE_NAME;
+    }
+}
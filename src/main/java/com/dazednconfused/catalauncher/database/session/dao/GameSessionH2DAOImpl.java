@@ -0,0 +1,143 @@
+package com.dazednconfused.catalauncher.database.session.dao;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.h2.migration.MigrateableH2Database;
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class GameSessionH2DAOImpl extends MigrateableH2Database implements GameSessionDAO {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameSessionH2DAOImpl.class);
+
+    /**
+     * Constructor.
+     */
+    public GameSessionH2DAOImpl() {
+        super(false);
+    }
+
+    /**
+     * Constructor.
+     */
+    public GameSessionH2DAOImpl(boolean applyMigrations) {
+        super(applyMigrations);
+    }
+
+    @Override
+    public String getDatabaseName() {
+        return DATABASE_FILE;
+    }
+
+    @Override
+    public GameSessionEntity insert(GameSessionEntity entity) throws DAOException {
+        return this.timed("insert", () -> {
+            LOGGER.debug("Inserting GameSessionEntity [{}]...", entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+                this.bindInsertParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public GameSessionEntity update(GameSessionEntity entity) throws DAOException {
+        return this.timed("update", () -> {
+            Optional<GameSessionEntity> originalEntity = this.findById(entity.getId());
+
+            if (originalEntity.isEmpty()) {
+                throw new DAOException("No entity with id [" + entity.getId() + "] found");
+            }
+
+            LOGGER.debug("Updating GameSessionEntity from [{}] to [{}]...", originalEntity.get(), entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getUpdateSql())) {
+                this.bindUpdateParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.findById(entity.getId()).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while updating entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public String getInsertSql() {
+        return "INSERT INTO " + TABLE_NAME + "" +
+            "(pid, started_date, ended_date, exit_code, installed_mods, created_date, updated_date) " +
+            "VALUES " +
+            "(?, ?, ?, ?, ?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
+    }
+
+    @Override
+    public void bindInsertParameters(PreparedStatement pstmt, GameSessionEntity entity) throws SQLException {
+        pstmt.setLong(1, entity.getPid());
+        pstmt.setTimestamp(2, entity.getStartedDate());
+        pstmt.setTimestamp(3, entity.getEndedDate());
+        pstmt.setObject(4, entity.getExitCode(), Types.INTEGER);
+        pstmt.setString(5, entity.getInstalledMods());
+    }
+
+    @Override
+    public String getUpdateSql() {
+        return "UPDATE " + TABLE_NAME + " SET " +
+            "pid = ?, " +
+            "started_date = ?, " +
+            "ended_date = ?, " +
+            "exit_code = ?, " +
+            "installed_mods = ?, " +
+            "updated_date = CURRENT_TIMESTAMP() " +
+            "WHERE id = ?";
+    }
+
+    @Override
+    public void bindUpdateParameters(PreparedStatement pstmt, GameSessionEntity entity) throws SQLException {
+        this.bindInsertParameters(pstmt, entity);
+        pstmt.setLong(6, entity.getId());
+    }
+
+    @Override
+    public GameSessionEntity buildFromResultSet(ResultSet rs) throws DAOException {
+        LOGGER.trace("Building GameSessionEntity from ResultSet [{}]...", rs);
+
+        try {
+            return GameSessionEntity.builder()
+                .id(rs.getLong("id"))
+                .pid(rs.getLong("pid"))
+                .startedDate(rs.getTimestamp("started_date"))
+                .endedDate(rs.getTimestamp("ended_date"))
+                .exitCode(rs.getObject("exit_code", Integer.class))
+                .installedMods(rs.getString("installed_mods"))
+                .createdDate(rs.getTimestamp("created_date"))
+                .updatedDate(rs.getTimestamp("updated_date"))
+                .build();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while building entity from ResultSet [{}]", rs, e);
+            throw new DAOException(e);
+        }
+    }
+
+    @Override
+    public String getDatabaseMigrationsResourcePath() {
+        return DATABASE_MIGRATIONS_DEFAULT_RESOURCE_ROOT_PATH + "session/";
+    }
+}
@@ -0,0 +1,46 @@
+package com.dazednconfused.catalauncher.database.session.dao;
+
+import com.dazednconfused.catalauncher.database.base.BaseDAO;
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionSampleEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public interface GameSessionSampleDAO extends BaseDAO<GameSessionSampleEntity> {
+
+    String TABLE_NAME = "game_session_sample";
+    String DATABASE_FILE = "sessions";
+
+    @Override
+    default String getTableName() {
+        return TABLE_NAME;
+    }
+
+    /**
+     * Finds all the {@link GameSessionSampleEntity}(ies) associated with the given {@code sessionId}, oldest first.
+     * */
+    default List<GameSessionSampleEntity> findAllBySessionId(long sessionId) throws DAOException {
+        LOGGER.debug("Finding GameSessionSampleEntity(s) associated to sessionId [{}]...", sessionId);
+
+        String sql = "SELECT * FROM " + getTableName() + " WHERE session_id = ? ORDER BY sampled_date, id";
+        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, sessionId);
+            ResultSet rs = pstmt.executeQuery();
+
+            List<GameSessionSampleEntity> result = new ArrayList<>();
+            while (rs.next()) {
+                result.add(this.buildFromResultSet(rs));
+            }
+
+            return result;
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while retrieving GameSessionSampleEntity(ies) associated to sessionId [{}]", sessionId, e);
+            throw new DAOException(e);
+        }
+    }
+}
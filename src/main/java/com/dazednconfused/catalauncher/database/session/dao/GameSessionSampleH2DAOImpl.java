@@ -0,0 +1,144 @@
+package com.dazednconfused.catalauncher.database.session.dao;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.h2.migration.MigrateableH2Database;
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionSampleEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class GameSessionSampleH2DAOImpl extends MigrateableH2Database implements GameSessionSampleDAO {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameSessionSampleH2DAOImpl.class);
+
+    /**
+     * Constructor.
+     */
+    public GameSessionSampleH2DAOImpl() {
+        super(false);
+    }
+
+    /**
+     * Constructor.
+     */
+    public GameSessionSampleH2DAOImpl(boolean applyMigrations) {
+        super(applyMigrations);
+    }
+
+    @Override
+    public String getDatabaseName() {
+        return DATABASE_FILE;
+    }
+
+    @Override
+    public GameSessionSampleEntity insert(GameSessionSampleEntity entity) throws DAOException {
+        return this.timed("insert", () -> {
+            LOGGER.debug("Inserting GameSessionSampleEntity [{}]...", entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+                this.bindInsertParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public GameSessionSampleEntity update(GameSessionSampleEntity entity) throws DAOException {
+        return this.timed("update", () -> {
+            Optional<GameSessionSampleEntity> originalEntity = this.findById(entity.getId());
+
+            if (originalEntity.isEmpty()) {
+                throw new DAOException("No entity with id [" + entity.getId() + "] found");
+            }
+
+            LOGGER.debug("Updating GameSessionSampleEntity from [{}] to [{}]...", originalEntity.get(), entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getUpdateSql())) {
+                this.bindUpdateParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.findById(entity.getId()).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while updating entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public String getInsertSql() {
+        return "INSERT INTO " + TABLE_NAME + "" +
+            "(session_id, sampled_date, cpu_millis, rss_bytes, process_count, created_date, updated_date) " +
+            "VALUES " +
+            "(?, ?, ?, ?, ?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
+    }
+
+    @Override
+    public void bindInsertParameters(PreparedStatement pstmt, GameSessionSampleEntity entity) throws SQLException {
+        pstmt.setLong(1, entity.getSessionId());
+        pstmt.setTimestamp(2, entity.getSampledDate());
+        pstmt.setLong(3, entity.getCpuMillis());
+        pstmt.setLong(4, entity.getRssBytes());
+        pstmt.setInt(5, entity.getProcessCount());
+    }
+
+    @Override
+    public String getUpdateSql() {
+        return "UPDATE " + TABLE_NAME + " SET " +
+            "sampled_date = ?, " +
+            "cpu_millis = ?, " +
+            "rss_bytes = ?, " +
+            "process_count = ?, " +
+            "updated_date = CURRENT_TIMESTAMP() " +
+            "WHERE id = ?";
+    }
+
+    @Override
+    public void bindUpdateParameters(PreparedStatement pstmt, GameSessionSampleEntity entity) throws SQLException {
+        pstmt.setTimestamp(1, entity.getSampledDate());
+        pstmt.setLong(2, entity.getCpuMillis());
+        pstmt.setLong(3, entity.getRssBytes());
+        pstmt.setInt(4, entity.getProcessCount());
+        pstmt.setLong(5, entity.getId());
+    }
+
+    @Override
+    public GameSessionSampleEntity buildFromResultSet(ResultSet rs) throws DAOException {
+        LOGGER.trace("Building GameSessionSampleEntity from ResultSet [{}]...", rs);
+
+        try {
+            return GameSessionSampleEntity.builder()
+                .id(rs.getLong("id"))
+                .sessionId(rs.getLong("session_id"))
+                .sampledDate(rs.getTimestamp("sampled_date"))
+                .cpuMillis(rs.getLong("cpu_millis"))
+                .rssBytes(rs.getLong("rss_bytes"))
+                .processCount(rs.getInt("process_count"))
+                .createdDate(rs.getTimestamp("created_date"))
+                .updatedDate(rs.getTimestamp("updated_date"))
+                .build();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while building entity from ResultSet [{}]", rs, e);
+            throw new DAOException(e);
+        }
+    }
+
+    @Override
+    public String getDatabaseMigrationsResourcePath() {
+        return DATABASE_MIGRATIONS_DEFAULT_RESOURCE_ROOT_PATH + "session/";
+    }
+}
@@ -0,0 +1,22 @@
+package com.dazednconfused.catalauncher.database.session.entity;
+
+import com.dazednconfused.catalauncher.database.base.BaseEntity;
+
+import java.sql.Timestamp;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+public class GameSessionEntity extends BaseEntity {
+
+    private Long pid;
+    private Timestamp startedDate;
+    private Timestamp endedDate;
+    private Integer exitCode;
+    private String installedMods;
+
+}
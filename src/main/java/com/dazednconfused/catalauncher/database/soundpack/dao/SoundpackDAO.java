@@ -0,0 +1,47 @@
+package com.dazednconfused.catalauncher.database.soundpack.dao;
+
+import com.dazednconfused.catalauncher.database.base.BaseDAO;
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+public interface SoundpackDAO extends BaseDAO<SoundpackEntity> {
+
+    String TABLE_NAME = "soundpack";
+    String DATABASE_FILE = "soundpacks";
+
+    @Override
+    default String getTableName() {
+        return TABLE_NAME;
+    }
+
+    /**
+     * Finds the {@link SoundpackEntity} with the given {@code name}, if any.
+     * */
+    default Optional<SoundpackEntity> findByName(String name) throws DAOException {
+        return this.timed("findByName", () -> {
+            LOGGER.debug("Finding SoundpackEntity with name [{}]...", name);
+
+            String sql = "SELECT * FROM " + getTableName() + " WHERE name = ? ORDER BY id LIMIT 1";
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, name);
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(this.buildFromResultSet(rs));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while retrieving SoundpackEntity with name [{}]", name, e);
+                throw new DAOException(e);
+            }
+
+            return Optional.empty();
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.dazednconfused.catalauncher.database.soundpack.dao;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.h2.migration.MigrateableH2Database;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SoundpackH2DAOImpl extends MigrateableH2Database implements SoundpackDAO {
+
+    public static final String SOUNDPACKS_TABLE_NAME = "soundpack";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SoundpackH2DAOImpl.class);
+
+    /**
+     * Constructor.
+     */
+    public SoundpackH2DAOImpl() {
+        super(false);
+    }
+
+    /**
+     * Constructor.
+     */
+    public SoundpackH2DAOImpl(boolean applyMigrations) {
+        super(applyMigrations);
+    }
+
+    @Override
+    public String getDatabaseName() {
+        return DATABASE_FILE;
+    }
+
+    @Override
+    public SoundpackEntity insert(SoundpackEntity entity) throws DAOException {
+        return this.timed("insert", () -> {
+            LOGGER.debug("Inserting SoundpackEntity [{}]...", entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+                this.bindInsertParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public SoundpackEntity update(SoundpackEntity entity) throws DAOException {
+        return this.timed("update", () -> {
+            Optional<SoundpackEntity> originalEntity = this.findById(entity.getId());
+
+            if (originalEntity.isEmpty()) {
+                throw new DAOException("No entity with id [" + entity.getId() + "] found");
+            }
+
+            LOGGER.debug("Updating SoundpackEntity from [{}] to [{}]...", originalEntity.get(), entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getUpdateSql())) {
+                this.bindUpdateParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.findById(entity.getId()).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while updating entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public String getInsertSql() {
+        return "INSERT INTO " + SOUNDPACKS_TABLE_NAME + "" +
+            "(name, created_date, updated_date) " +
+            "VALUES " +
+            "(?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
+    }
+
+    @Override
+    public void bindInsertParameters(PreparedStatement pstmt, SoundpackEntity entity) throws SQLException {
+        pstmt.setString(1, entity.getName());
+    }
+
+    @Override
+    public String getUpdateSql() {
+        return "UPDATE " + SOUNDPACKS_TABLE_NAME + " SET " +
+            "name = ?, " +
+            "updated_date = CURRENT_TIMESTAMP() " +
+            "WHERE id = ?";
+    }
+
+    @Override
+    public void bindUpdateParameters(PreparedStatement pstmt, SoundpackEntity entity) throws SQLException {
+        pstmt.setString(1, entity.getName());
+        pstmt.setLong(2, entity.getId());
+    }
+
+    @Override
+    public SoundpackEntity buildFromResultSet(ResultSet rs) throws DAOException {
+        LOGGER.trace("Building SoundpackEntity from ResultSet [{}]...", rs);
+
+        try {
+            return SoundpackEntity.builder()
+                .id(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .createdDate(rs.getTimestamp("created_date"))
+                .updatedDate(rs.getTimestamp("updated_date"))
+                .build();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while building entity from ResultSet [{}]", rs, e);
+            throw new DAOException(e);
+        }
+    }
+
+    @Override
+    public String getDatabaseMigrationsResourcePath() {
+        return DATABASE_MIGRATIONS_DEFAULT_RESOURCE_ROOT_PATH + "soundpack/";
+    }
+}
\ No newline at end of file
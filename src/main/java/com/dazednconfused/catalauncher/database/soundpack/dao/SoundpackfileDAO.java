@@ -0,0 +1,112 @@
+package com.dazednconfused.catalauncher.database.soundpack.dao;
+
+import com.dazednconfused.catalauncher.database.base.BaseDAO;
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackfileEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+public interface SoundpackfileDAO extends BaseDAO<SoundpackfileEntity> {
+
+    String TABLE_NAME = "soundpackfile";
+    String DATABASE_FILE = "soundpacks";
+
+    @Override
+    default String getTableName() {
+        return TABLE_NAME;
+    }
+
+    /**
+     * Finds all the {@link SoundpackfileEntity}(ies) associated with the given {@code soundpackId}.
+     * */
+    default List<SoundpackfileEntity> findAllBySoundpackId(long soundpackId) throws DAOException {
+        LOGGER.debug("Finding SoundpackfileEntity(s) associated to soundpackId [{}]...", soundpackId);
+
+        String sql = "SELECT * FROM " + getTableName() + " WHERE soundpack_id = ?";
+        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, soundpackId);
+            ResultSet rs = pstmt.executeQuery();
+
+            List<SoundpackfileEntity> result = new ArrayList<>();
+            while (rs.next()) {
+                result.add(this.buildFromResultSet(rs));
+            }
+
+            return result;
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while retrieving SoundpackfileEntity(ies) associated to soundpackID [{}]", soundpackId, e);
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Deletes all the {@link SoundpackfileEntity}(ies) associated with the given {@code soundpackId}.
+     * */
+    default int deleteAllBySoundpackId(long soundpackId) throws DAOException {
+        LOGGER.debug("Deleting SoundpackfileEntity(s) associated to soundpackId [{}]...", soundpackId);
+
+        String sql = "DELETE FROM " + getTableName() + " WHERE soundpack_id = ? ";
+
+        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, soundpackId);
+
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while deleting SoundpackfileEntity(s) associated to soundpackId [{}]", soundpackId, e);
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Deletes all the {@link SoundpackfileEntity}(ies) associated with any of the given {@code soundpackIds} through the given
+     * {@code conn}, in a single statement, as part of whatever transaction {@code conn} is in.
+     * */
+    default int deleteAllBySoundpackIds(Connection conn, long... soundpackIds) throws DAOException {
+        if (soundpackIds.length == 0) {
+            return 0;
+        }
+
+        LOGGER.debug("Deleting SoundpackfileEntity(s) associated to soundpackIds [{}]...", soundpackIds);
+
+        String sql = "DELETE FROM " + getTableName() + " WHERE soundpack_id = ANY(?)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setObject(1, LongStream.of(soundpackIds).boxed().toArray(Long[]::new));
+
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while deleting SoundpackfileEntity(s) associated to soundpackIds [{}]", soundpackIds, e);
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Finds every distinct hash referenced by at least one {@link SoundpackfileEntity}.
+     * */
+    default Set<String> findAllReferencedHashes() throws DAOException {
+        LOGGER.debug("Finding all hashes referenced by SoundpackfileEntity(ies)...");
+
+        String sql = "SELECT DISTINCT hash FROM " + getTableName();
+        try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            ResultSet rs = pstmt.executeQuery();
+
+            Set<String> result = new HashSet<>();
+            while (rs.next()) {
+                result.add(rs.getString("hash"));
+            }
+
+            return result;
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while retrieving all hashes referenced by SoundpackfileEntity(ies)", e);
+            throw new DAOException(e);
+        }
+    }
+}
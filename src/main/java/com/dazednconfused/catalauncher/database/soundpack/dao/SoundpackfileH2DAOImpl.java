@@ -0,0 +1,140 @@
+package com.dazednconfused.catalauncher.database.soundpack.dao;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.h2.migration.MigrateableH2Database;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackfileEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SoundpackfileH2DAOImpl extends MigrateableH2Database implements SoundpackfileDAO {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SoundpackfileH2DAOImpl.class);
+
+    /**
+     * Constructor.
+     */
+    public SoundpackfileH2DAOImpl() {
+        super(false);
+    }
+
+    /**
+     * Constructor.
+     */
+    public SoundpackfileH2DAOImpl(boolean applyMigrations) {
+        super(applyMigrations);
+    }
+
+    @Override
+    public String getDatabaseName() {
+        return DATABASE_FILE;
+    }
+
+    @Override
+    public SoundpackfileEntity insert(SoundpackfileEntity entity) throws DAOException {
+        return this.timed("insert", () -> {
+            LOGGER.debug("Inserting SoundpackfileEntity [{}]...", entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+                this.bindInsertParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.getLatestGeneratedId(pstmt).map(this::findById).orElseThrow(DAOException::new).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while inserting entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public SoundpackfileEntity update(SoundpackfileEntity entity) throws DAOException {
+        return this.timed("update", () -> {
+            Optional<SoundpackfileEntity> originalEntity = this.findById(entity.getId());
+
+            if (originalEntity.isEmpty()) {
+                throw new DAOException("No entity with id [" + entity.getId() + "] found");
+            }
+
+            LOGGER.debug("Updating SoundpackfileEntity from [{}] to [{}]...", originalEntity.get(), entity);
+
+            try (Connection conn = this.getConnection(); PreparedStatement pstmt = conn.prepareStatement(this.getUpdateSql())) {
+                this.bindUpdateParameters(pstmt, entity);
+
+                pstmt.executeUpdate();
+
+                return this.findById(entity.getId()).orElseThrow(DAOException::new);
+            } catch (SQLException e) {
+                LOGGER.error("An error occurred while updating entity [{}]", entity, e);
+                throw new DAOException(e);
+            }
+        });
+    }
+
+    @Override
+    public String getInsertSql() {
+        return "INSERT INTO " + TABLE_NAME + "" +
+            "(soundpack_id, path, hash, size, created_date, updated_date) " +
+            "VALUES " +
+            "(?, ?, ?, ?, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP())";
+    }
+
+    @Override
+    public void bindInsertParameters(PreparedStatement pstmt, SoundpackfileEntity entity) throws SQLException {
+        pstmt.setLong(1, entity.getSoundpackId());
+        pstmt.setString(2, entity.getPath());
+        pstmt.setString(3, entity.getHash());
+        pstmt.setLong(4, entity.getSize());
+    }
+
+    @Override
+    public String getUpdateSql() {
+        return "UPDATE " + TABLE_NAME + " SET " +
+            "path = ?, " +
+            "hash = ?, " +
+            "size = ?, " +
+            "updated_date = CURRENT_TIMESTAMP() " +
+            "WHERE id = ?";
+    }
+
+    @Override
+    public void bindUpdateParameters(PreparedStatement pstmt, SoundpackfileEntity entity) throws SQLException {
+        pstmt.setString(1, entity.getPath());
+        pstmt.setString(2, entity.getHash());
+        pstmt.setLong(3, entity.getSize());
+        pstmt.setLong(4, entity.getId());
+    }
+
+    @Override
+    public SoundpackfileEntity buildFromResultSet(ResultSet rs) throws DAOException {
+        LOGGER.trace("Building SoundpackfileEntity from ResultSet [{}]...", rs);
+
+        try {
+            return SoundpackfileEntity.builder()
+                .id(rs.getLong("id"))
+                .soundpackId(rs.getLong("soundpack_id"))
+                .path(rs.getString("path"))
+                .hash(rs.getString("hash"))
+                .size(rs.getLong("size"))
+                .createdDate(rs.getTimestamp("created_date"))
+                .updatedDate(rs.getTimestamp("updated_date"))
+                .build();
+        } catch (SQLException e) {
+            LOGGER.error("An error occurred while building entity from ResultSet [{}]", rs, e);
+            throw new DAOException(e);
+        }
+    }
+
+    @Override
+    public String getDatabaseMigrationsResourcePath() {
+        return DATABASE_MIGRATIONS_DEFAULT_RESOURCE_ROOT_PATH + "soundpack/";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.dazednconfused.catalauncher.database.soundpack.entity;
+
+import com.dazednconfused.catalauncher.database.base.BaseEntity;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+public class SoundpackEntity extends BaseEntity {
+
+    private String name;
+
+    private List<SoundpackfileEntity> soundpackfiles;
+
+}
@@ -0,0 +1,19 @@
+package com.dazednconfused.catalauncher.database.soundpack.entity;
+
+import com.dazednconfused.catalauncher.database.base.BaseEntity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+public class SoundpackfileEntity extends BaseEntity {
+
+    private Long soundpackId;
+    private String path;
+    private String hash;
+    private Long size;
+
+}
@@ -0,0 +1,197 @@
+package com.dazednconfused.catalauncher.database.soundpack.repository;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.h2.migration.MigrateableH2Database;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackDAO;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackfileDAO;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackEntity;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackfileEntity;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SoundpackH2RepositoryImpl extends MigrateableH2Database implements SoundpackRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SoundpackH2RepositoryImpl.class);
+
+    private static final String DATABASE_FILE = "soundpacks";
+
+    private final SoundpackDAO soundpackDAO;
+    private final SoundpackfileDAO soundpackfileDAO;
+
+    /**
+     * Constructor.
+     * */
+    public SoundpackH2RepositoryImpl(SoundpackDAO soundpackDAO, SoundpackfileDAO soundpackfileDAO) {
+        this(soundpackDAO, soundpackfileDAO, true);
+    }
+
+    /**
+     * Constructor.
+     * */
+    public SoundpackH2RepositoryImpl(SoundpackDAO soundpackDAO, SoundpackfileDAO soundpackfileDAO, boolean applyMigrations) {
+        super(applyMigrations);
+
+        this.soundpackDAO = soundpackDAO;
+        this.soundpackfileDAO = soundpackfileDAO;
+    }
+
+    @Override
+    public String getDatabaseName() {
+        return DATABASE_FILE;
+    }
+
+    @Override
+    public SoundpackEntity insert(SoundpackEntity entity) throws DAOException {
+        LOGGER.debug("Inserting SoundpackEntity: [{}]", entity);
+        return this.insertAll(Collections.singletonList(entity)).get(0);
+    }
+
+    @Override
+    public SoundpackEntity update(SoundpackEntity entity) throws DAOException {
+        LOGGER.debug("Updating SoundpackEntity: [{}]", entity);
+        return this.updateAll(Collections.singletonList(entity)).get(0);
+    }
+
+    @Override
+    public List<SoundpackEntity> insertAll(Collection<SoundpackEntity> entities) throws DAOException {
+        LOGGER.debug("Inserting [{}] SoundpackEntity(ies)...", entities.size());
+
+        List<SoundpackEntity> originals = new ArrayList<>(entities);
+
+        return this.timed("insertAll", () -> this.inTransaction(conn -> {
+            List<SoundpackEntity> result = this.soundpackDAO.insertAll(conn, originals);
+            this.insertChildEntitiesFor(conn, originals, result);
+            return result;
+        }));
+    }
+
+    @Override
+    public List<SoundpackEntity> updateAll(Collection<SoundpackEntity> entities) throws DAOException {
+        LOGGER.debug("Updating [{}] SoundpackEntity(ies)...", entities.size());
+
+        List<SoundpackEntity> originals = new ArrayList<>(entities);
+
+        return this.timed("updateAll", () -> this.inTransaction(conn -> {
+            List<SoundpackEntity> result = this.soundpackDAO.updateAll(conn, originals);
+            this.deleteChildEntitiesFor(conn, originals.stream().mapToLong(SoundpackEntity::getId).toArray());
+            this.insertChildEntitiesFor(conn, originals, result);
+            return result;
+        }));
+    }
+
+    @Override
+    public int deleteAll(long... ids) throws DAOException {
+        LOGGER.debug("Deleting SoundpackEntity(ies) with IDs [{}]...", ids);
+
+        return this.timed("deleteAll", () -> this.inTransaction(conn -> {
+            this.deleteChildEntitiesFor(conn, ids);
+            return this.soundpackDAO.deleteAll(conn, ids);
+        }));
+    }
+
+    @Override
+    public void delete(SoundpackEntity entity) throws DAOException {
+        LOGGER.debug("Deleting SoundpackEntity with ID [{}]...", entity.getId());
+
+        if (this.deleteAll(entity.getId()) == 0) {
+            throw new DAOException("No entity with id [" + entity.getId() + "] found");
+        }
+    }
+
+    @Override
+    public Optional<SoundpackEntity> findById(long id) throws DAOException {
+        LOGGER.debug("Finding SoundpackEntity with ID [{}]...", id);
+
+        Optional<SoundpackEntity> result = soundpackDAO.findById(id);
+
+        result.ifPresent(entity -> {
+            LOGGER.debug("Finding child SoundpackfileEntity(s) associated to soundpackID [{}]...", entity.getId());
+            entity.setSoundpackfiles(this.soundpackfileDAO.findAllBySoundpackId(id));
+        });
+
+        return result;
+    }
+
+    @Override
+    public List<SoundpackEntity> findById(long... ids) throws DAOException {
+        LOGGER.debug("Finding SoundpackEntity(ies) with IDs [{}]...", ids);
+
+        List<SoundpackEntity> result = this.soundpackDAO.findById(ids);
+        result.forEach(entity -> entity.setSoundpackfiles(this.soundpackfileDAO.findAllBySoundpackId(entity.getId())));
+
+        return result;
+    }
+
+    @Override
+    public List<SoundpackEntity> findAll() throws DAOException {
+        LOGGER.debug("Finding all SoundpackEntity(ies) for [{}]...", getTableName());
+
+        List<SoundpackEntity> result = this.soundpackDAO.findAll();
+        result.forEach(entity -> entity.setSoundpackfiles(this.soundpackfileDAO.findAllBySoundpackId(entity.getId())));
+
+        return result;
+    }
+
+    @Override
+    public Optional<SoundpackEntity> findByName(String name) throws DAOException {
+        LOGGER.debug("Finding SoundpackEntity with name [{}]...", name);
+
+        Optional<SoundpackEntity> result = this.soundpackDAO.findByName(name);
+        result.ifPresent(entity -> entity.setSoundpackfiles(this.soundpackfileDAO.findAllBySoundpackId(entity.getId())));
+
+        return result;
+    }
+
+    @Override
+    public Set<String> findAllReferencedHashes() throws DAOException {
+        return this.soundpackfileDAO.findAllReferencedHashes();
+    }
+
+    /**
+     * Inserts the {@link SoundpackfileEntity}(ies) of every one of the {@code originals} through the given {@code conn}, in a
+     * single batch, and sets them into their corresponding (same index) {@code persisted} {@link SoundpackEntity}.
+     * */
+    private void insertChildEntitiesFor(Connection conn, List<SoundpackEntity> originals, List<SoundpackEntity> persisted) throws DAOException {
+        List<SoundpackfileEntity> children = new ArrayList<>();
+        for (int i = 0; i < originals.size(); i++) {
+            long soundpackId = persisted.get(i).getId();
+            originals.get(i).getSoundpackfiles().forEach(e -> e.setSoundpackId(soundpackId)); // set/overwrite with entity ID
+            children.addAll(originals.get(i).getSoundpackfiles());
+        }
+
+        LOGGER.debug("Inserting [{}] SoundpackfileEntity(s) associated to [{}] SoundpackEntity(ies)", children.size(), persisted.size());
+
+        Map<Long, List<SoundpackfileEntity>> insertedChildren = this.soundpackfileDAO.insertAll(conn, children).stream()
+            .collect(Collectors.groupingBy(SoundpackfileEntity::getSoundpackId));
+
+        persisted.forEach(entity -> entity.setSoundpackfiles(insertedChildren.getOrDefault(entity.getId(), new ArrayList<>())));
+    }
+
+    /**
+     * Deletes all {@link SoundpackfileEntity}(ies) associated to any of the given {@code soundpackIds} through the given
+     * {@code conn}, in a single statement.
+     * */
+    private void deleteChildEntitiesFor(Connection conn, long... soundpackIds) {
+        LOGGER.debug("Deleting SoundpackfileEntity(s) associated to soundpackIDs [{}]...", soundpackIds);
+
+        int deletedChildEntities = this.soundpackfileDAO.deleteAllBySoundpackIds(conn, soundpackIds);
+
+        LOGGER.debug("Deleted [{}] SoundpackfileEntity(s) associated to soundpackIds [{}]", deletedChildEntities, soundpackIds);
+    }
+
+    @Override
+    public String getDatabaseMigrationsResourcePath() {
+        return DATABASE_MIGRATIONS_DEFAULT_RESOURCE_ROOT_PATH + "soundpack/";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.dazednconfused.catalauncher.database.soundpack.repository;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.base.NotImplementedException;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackDAO;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackEntity;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public interface SoundpackRepository extends SoundpackDAO {
+
+    Logger LOGGER = LoggerFactory.getLogger(SoundpackRepository.class);
+
+    /**
+     * Finds every distinct hash referenced by at least one file of any soundpack.
+     * */
+    Set<String> findAllReferencedHashes() throws DAOException;
+
+    @Override
+    default SoundpackEntity buildFromResultSet(ResultSet rs) throws DAOException {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+
+    @Override
+    default String getInsertSql() {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+
+    @Override
+    default void bindInsertParameters(PreparedStatement pstmt, SoundpackEntity entity) {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+
+    @Override
+    default String getUpdateSql() {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+
+    @Override
+    default void bindUpdateParameters(PreparedStatement pstmt, SoundpackEntity entity) {
+        throw new NotImplementedException("Method not implemented at Repository level");
+    }
+}
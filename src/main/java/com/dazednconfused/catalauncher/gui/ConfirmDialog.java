@@ -1,9 +1,8 @@
 package com.dazednconfused.catalauncher.gui;
 
-import static com.dazednconfused.catalauncher.gui.helper.GuiResource.extractIconFrom;
+import static com.dazednconfused.catalauncher.gui.helper.GuiResource.iconFrom;
 import static com.dazednconfused.catalauncher.helper.Paths.RESOURCE_ICONS_PATH;
 
-import java.awt.Color;
 import java.awt.Component;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
@@ -17,21 +16,21 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.KeyStroke;
 
-import org.apache.batik.swing.JSVGCanvas;
-
 public class ConfirmDialog extends JDialog {
 
     public static final Consumer<Boolean> DO_NOTHING_ACTION = bool -> { }; // does nothing - represents an empty action
 
-    private static final String ERROR_ICON = extractIconFrom(RESOURCE_ICONS_PATH + "/" + "errorDialog.svg");
-    private static final String INFO_ICON = extractIconFrom(RESOURCE_ICONS_PATH + "/" + "informationDialog.svg");
-    private static final String WARN_ICON = extractIconFrom(RESOURCE_ICONS_PATH + "/" + "warningDialog.svg");
+    private static final int ICON_SIZE = 50;
+
+    private static final String ERROR_ICON = RESOURCE_ICONS_PATH + "/" + "errorDialog.svg";
+    private static final String INFO_ICON = RESOURCE_ICONS_PATH + "/" + "informationDialog.svg";
+    private static final String WARN_ICON = RESOURCE_ICONS_PATH + "/" + "warningDialog.svg";
 
     private JPanel contentPane;
     private JButton buttonOK;
     private JButton buttonCancel;
     private JLabel dialogMessage;
-    private JSVGCanvas iconSvg;
+    private JLabel iconLabel;
 
     /**
      * Same as {@link #ConfirmDialog(String, ConfirmDialogType, Consumer)}, with the following defaults:
@@ -76,18 +75,17 @@ public class ConfirmDialog extends JDialog {
         getRootPane().setDefaultButton(buttonCancel);
 
         // set icon ---
-        iconSvg.setBackground(new Color(0, 0, 0, 0)); // make transparent
         switch (dialogType) {
             case WARNING:
-                iconSvg.setURI(WARN_ICON);
+                iconLabel.setIcon(iconFrom(WARN_ICON, ICON_SIZE));
                 break;
             case ERROR:
-                iconSvg.setURI(ERROR_ICON);
+                iconLabel.setIcon(iconFrom(ERROR_ICON, ICON_SIZE));
                 break;
             case NONE:
             case INFO:
             default:
-                iconSvg.setURI(INFO_ICON);
+                iconLabel.setIcon(iconFrom(INFO_ICON, ICON_SIZE));
                 break;
         }
 
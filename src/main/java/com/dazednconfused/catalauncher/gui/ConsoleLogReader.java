@@ -1,56 +1,144 @@
 package com.dazednconfused.catalauncher.gui;
 
+import com.dazednconfused.catalauncher.gui.log.LogLineListModel;
 import com.dazednconfused.catalauncher.helper.Paths;
-
-import io.vavr.control.Try;
+import com.dazednconfused.catalauncher.helper.log.LogLine;
+import com.dazednconfused.catalauncher.helper.log.LogTailer;
 
 import java.awt.BorderLayout;
 import java.awt.Component;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
 import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
 import javax.swing.JScrollPane;
-import javax.swing.JTextArea;
-import javax.swing.Timer;
+import javax.swing.JTextField;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.slf4j.event.Level;
 
 public class ConsoleLogReader {
 
-    private Timer timer;
-    private JTextArea textArea;
-    private JFrame frame;
+    /**
+     * How much of the existing log to show on open. The rest of it is left for the user to open in an actual editor.
+     * */
+    private static final long INITIAL_TAIL_BYTES = 1024 * 1024;
+
+    private final JFrame frame;
+    private final JList<LogLine> logList;
+    private final JComboBox<Level> levelComboBox;
+    private final JTextField filterTextField;
+    private final JCheckBox followCheckBox;
+    private final LogLineListModel logListModel = new LogLineListModel(LogLineListModel.DEFAULT_CAPACITY);
+    private final LogTailer logTailer;
+
+    private Level lastLevel = Level.INFO; // only ever accessed from the tailer's thread
 
     /**
-     * Constructor.
+     * Constructor. Reads the launcher's own log.
      * */
-    public ConsoleLogReader() throws IOException {
-        this.frame = new JFrame("Log");
-
-        this.textArea = new JTextArea(25, 60);
-        this.textArea.setEditable(false);
-
-        // populate current console with existing logs ---
-        File file = Paths.getLogFilePath().toFile();
-        BufferedReader reader = new BufferedReader(new FileReader(file));
-        String line;
-        while ((line = reader.readLine()) != null) {
-            this.textArea.append(line + "\n");
-        }
+    public ConsoleLogReader() {
+        this("Log", Paths.getLogFilePath());
+    }
+
+    /**
+     * Constructor. Reads the given {@code logFile}.
+     * */
+    public ConsoleLogReader(String title, Path logFile) {
+        this.frame = new JFrame(title);
+
+        // setup log list ---
+        this.logList = new JList<>(this.logListModel);
+        this.logList.setFont(new Font(Font.MONOSPACED, Font.PLAIN, this.logList.getFont().getSize()));
+        this.logList.setVisibleRowCount(25);
+
+        // a prototype value spares the list from measuring every single line, so that only the visible ones ever get rendered -
+        this.logList.setPrototypeCellValue(new LogLine("X".repeat(120), Level.INFO));
+
+        this.logListModel.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                if (followCheckBox.isSelected()) {
+                    logList.ensureIndexIsVisible(e.getIndex1());
+                }
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                // nothing to do here
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                // nothing to do here
+            }
+        });
+
+        // setup filters ---
+        this.levelComboBox = new JComboBox<>(new Level[]{Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG, Level.TRACE});
+        this.levelComboBox.setSelectedItem(Level.TRACE);
+        this.levelComboBox.addActionListener(e -> this.onFilterChanged());
 
-        // setup reader timer, so it keeps reading logs as they come ---
-        this.timer = new Timer(100, e ->
-                Try.of(reader::readLine).andThen(s -> {
-                    if (s != null) {
-                        textArea.append(s + "\n");
-                    }
-                })
-        );
-        this.timer.start();
+        this.filterTextField = new JTextField(20);
+        this.filterTextField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                onFilterChanged();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                onFilterChanged();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                onFilterChanged();
+            }
+        });
+
+        this.followCheckBox = new JCheckBox("Follow", true);
+
+        JButton clearButton = new JButton("Clear");
+        clearButton.addActionListener(e -> this.logListModel.clear());
+
+        JPanel filtersPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filtersPanel.add(new JLabel("Level:"));
+        filtersPanel.add(this.levelComboBox);
+        filtersPanel.add(new JLabel("Filter:"));
+        filtersPanel.add(this.filterTextField);
+        filtersPanel.add(this.followCheckBox);
+        filtersPanel.add(clearButton);
+
+        // setup log tailer, so it keeps reading logs as they come ---
+        this.logTailer = new LogTailer(logFile, INITIAL_TAIL_BYTES, this::onLinesRead);
+        this.logTailer.start(LogTailer.DEFAULT_POLL_MILLIS);
+
+        this.frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                logTailer.close();
+            }
+        });
+        this.frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
 
         // finish setting up log window ---
-        this.frame.add(new JScrollPane(textArea), BorderLayout.CENTER);
+        this.frame.add(filtersPanel, BorderLayout.NORTH);
+        this.frame.add(new JScrollPane(this.logList), BorderLayout.CENTER);
     }
 
     /**
@@ -62,4 +150,24 @@ public class ConsoleLogReader {
         this.frame.setLocationRelativeTo(parent);
         this.frame.setVisible(true);
     }
-}
\ No newline at end of file
+
+    /**
+     * The action to be performed on every batch of lines read by {@link #logTailer}.
+     * */
+    private void onLinesRead(List<String> lines) {
+        List<LogLine> logLines = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            LogLine logLine = LogLine.parse(line, this.lastLevel);
+            this.lastLevel = logLine.getLevel();
+            logLines.add(logLine);
+        }
+        this.logListModel.append(logLines);
+    }
+
+    /**
+     * The action to be performed on any change to {@link #levelComboBox} or {@link #filterTextField}.
+     * */
+    private void onFilterChanged() {
+        this.logListModel.setFilter((Level) this.levelComboBox.getSelectedItem(), this.filterTextField.getText());
+    }
+}
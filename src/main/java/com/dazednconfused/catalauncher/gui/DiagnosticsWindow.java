@@ -0,0 +1,168 @@
+package com.dazednconfused.catalauncher.gui;
+
+import com.dazednconfused.catalauncher.gui.table.IncrementalTableModel;
+import com.dazednconfused.catalauncher.helper.FileExplorerManager;
+import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+import com.dazednconfused.catalauncher.helper.metrics.dto.HistogramSnapshotDTO;
+import com.dazednconfused.catalauncher.helper.metrics.dto.MetricsSnapshotDTO;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Panel listing every metric known to the {@link MetricsRegistry} (counters, gauges, timers and histograms), refreshed every
+ * {@link #REFRESH_INTERVAL_MS} while open, allowing the user to dump them into a JSON file along with this system's
+ * information.
+ * */
+public class DiagnosticsWindow {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticsWindow.class);
+
+    private static final int REFRESH_INTERVAL_MS = 1000;
+
+    private static final String[] METRICS_TABLE_COLUMNS = new String[]{"Metric", "Type", "Count", "Value", "Mean", "p50", "p90", "p99", "Max"};
+    private static final Comparator<Object[]> BY_NAME = Comparator.comparing((Object[] row) -> (String) row[0]);
+    private static final String EMPTY = "-";
+
+    private final JFrame frame;
+    private final JPanel mainPanel;
+    private final JTable metricsTable;
+    private final JButton dumpButton;
+    private final IncrementalTableModel<String> metricsTableModel = new IncrementalTableModel<>(METRICS_TABLE_COLUMNS, BY_NAME);
+    private final Timer refreshTimer;
+
+    /**
+     * Constructor.
+     * */
+    public DiagnosticsWindow() {
+        this.frame = new JFrame("Diagnostics");
+
+        // setup metrics table ---
+        this.metricsTable = new JTable(this.metricsTableModel);
+        this.metricsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        this.metricsTable.getColumnModel().getColumn(0).setPreferredWidth(250);
+        this.refresh();
+
+        // keep the table up to date only while the window is open -
+        this.refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> this.refresh());
+        this.refreshTimer.start();
+        this.frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                refreshTimer.stop();
+            }
+        });
+        this.frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        // setup dump button ---
+        this.dumpButton = new JButton("Dump to JSON");
+        this.dumpButton.addActionListener(e -> this.onDumpButtonClicked());
+
+        JPanel buttonsPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonsPanel.add(this.dumpButton);
+
+        // finish setting up diagnostics window ---
+        this.mainPanel = new JPanel(new BorderLayout());
+        this.mainPanel.add(new JScrollPane(this.metricsTable), BorderLayout.CENTER);
+        this.mainPanel.add(buttonsPanel, BorderLayout.SOUTH);
+        this.frame.setContentPane(this.mainPanel);
+    }
+
+    /**
+     * Packs ({@link JFrame#pack()}), centers ({@link JFrame#setLocationRelativeTo(Component)}) and sets the current window as
+     * visible ({@link JFrame#setVisible(boolean)}).
+     * */
+    public void packCenterAndShow(Component parent) {
+        this.frame.pack();
+        this.frame.setLocationRelativeTo(parent);
+        this.frame.setVisible(true);
+    }
+
+    /**
+     * Replaces the {@link #metricsTable}'s rows with a fresh snapshot of every metric.
+     * */
+    private void refresh() {
+        MetricsSnapshotDTO snapshot = MetricsRegistry.getInstance().snapshot();
+
+        Map<String, Object[]> rows = new LinkedHashMap<>();
+        snapshot.getCounters().forEach((name, count) -> rows.put(name, new Object[]{
+            name, "counter", count, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY
+        }));
+        snapshot.getGauges().forEach((name, value) -> rows.put(name, new Object[]{
+            name, "gauge", EMPTY, value, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY
+        }));
+        snapshot.getTimers().forEach((name, times) -> rows.put(name, buildDistributionRow(name, "timer (ms)", times)));
+        snapshot.getHistograms().forEach((name, values) -> rows.put(name, buildDistributionRow(name, "histogram", values)));
+
+        this.metricsTableModel.applySnapshot(rows);
+    }
+
+    /**
+     * The action to be performed on {@link #dumpButton}'s click.
+     * */
+    private void onDumpButtonClicked() {
+        LOGGER.trace("Dump diagnostics button clicked");
+
+        TaskManager.getInstance().submit("Dump diagnostics", TaskCategory.DISK, task -> {
+            MetricsRegistry.getInstance().dump(Paths.getDiagnosticsDirectory()).toEither().fold(
+                failure -> {
+                    SwingUtilities.invokeLater(() -> ErrorDialog.showErrorDialog(
+                        "There was a problem while dumping diagnostics",
+                        failure.getError()
+                    ).packCenterAndShow(this.mainPanel));
+                    return null;
+                },
+                success -> {
+                    success.getResult().ifPresent(file -> FileExplorerManager.openFileInFileExplorer(file.toFile(), true));
+                    return null;
+                }
+            );
+            return null;
+        });
+    }
+
+    /**
+     * Builds the {@link #metricsTable}'s row for the given timer's or histogram's {@code values}.
+     * */
+    private static Object[] buildDistributionRow(String name, String type, HistogramSnapshotDTO values) {
+        return new Object[]{
+            name,
+            type,
+            values.getCount(),
+            EMPTY,
+            format(values.getMean()),
+            format(values.getP50()),
+            format(values.getP90()),
+            format(values.getP99()),
+            format(values.getMax())
+        };
+    }
+
+    /**
+     * Formats the given {@code value} with two decimals.
+     * */
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -1,9 +1,8 @@
 package com.dazednconfused.catalauncher.gui;
 
-import static com.dazednconfused.catalauncher.gui.helper.GuiResource.extractIconFrom;
+import static com.dazednconfused.catalauncher.gui.helper.GuiResource.iconFrom;
 import static com.dazednconfused.catalauncher.helper.Paths.RESOURCE_ICONS_PATH;
 
-import java.awt.Color;
 import java.awt.Component;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
@@ -17,17 +16,18 @@ import javax.swing.JPanel;
 import javax.swing.JTextArea;
 import javax.swing.KeyStroke;
 
-import org.apache.batik.swing.JSVGCanvas;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 public class ErrorDialog extends JDialog {
 
-    private static final String ERROR_ICON = extractIconFrom(RESOURCE_ICONS_PATH + "/" + "errorDialog.svg");
+    private static final int ICON_SIZE = 50;
+
+    private static final String ERROR_ICON = RESOURCE_ICONS_PATH + "/" + "errorDialog.svg";
 
     private JPanel contentPane;
     private JButton buttonOK;
     private JLabel dialogMessage;
-    private JSVGCanvas iconSvg;
+    private JLabel iconLabel;
     private JTextArea errorMessage;
 
     /**
@@ -43,8 +43,7 @@ public class ErrorDialog extends JDialog {
         getRootPane().setDefaultButton(buttonOK);
 
         // set icon ---
-        iconSvg.setBackground(new Color(0, 0, 0, 0)); // make transparent
-        iconSvg.setURI(ERROR_ICON);
+        iconLabel.setIcon(iconFrom(ERROR_ICON, ICON_SIZE));
 
         // set dialog message ---
         dialogMessage.setText(message);
@@ -2,6 +2,7 @@ package com.dazednconfused.catalauncher.gui;
 
 import com.dazednconfused.catalauncher.configuration.ConfigurationManager;
 import com.dazednconfused.catalauncher.helper.LogLevelManager;
+import com.dazednconfused.catalauncher.helper.Paths;
 
 import io.vavr.control.Try;
 
@@ -35,7 +36,12 @@ public class LauncherMenuBar {
     private final JMenu helpMenu;
     private final JMenu developerToolsMenu;
 
+    private final JMenuItem showBackgroundTasksMenuItem;
+    private final JMenuItem showGameSessionsMenuItem;
+    private final JMenuItem showTrashMenuItem;
     private final JMenuItem showConsoleLogMenuItem;
+    private final JMenuItem showGameOutputMenuItem;
+    private final JMenuItem showDiagnosticsMenuItem;
     private final JCheckBoxMenuItem debugModeCheckBoxMenuItem;
     private final JMenuItem aboutMenuItem;
 
@@ -54,6 +60,24 @@ public class LauncherMenuBar {
         this.helpMenu.setMnemonic(KeyEvent.VK_H);
         this.menuBar.add(helpMenu);
 
+        // show background tasks button --
+        this.showBackgroundTasksMenuItem = new JMenuItem("Show background tasks");
+        this.showBackgroundTasksMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_T, InputEvent.ALT_DOWN_MASK));
+        this.showBackgroundTasksMenuItem.addActionListener(LauncherMenuBar.onShowBackgroundTasksButtonClicked(parent));
+        this.helpMenu.add(this.showBackgroundTasksMenuItem);
+
+        // show game sessions button --
+        this.showGameSessionsMenuItem = new JMenuItem("Show game sessions");
+        this.showGameSessionsMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_G, InputEvent.ALT_DOWN_MASK));
+        this.showGameSessionsMenuItem.addActionListener(LauncherMenuBar.onShowGameSessionsButtonClicked(parent));
+        this.helpMenu.add(this.showGameSessionsMenuItem);
+
+        // show trash folder button --
+        this.showTrashMenuItem = new JMenuItem("Show trash folder");
+        this.showTrashMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_R, InputEvent.ALT_DOWN_MASK));
+        this.showTrashMenuItem.addActionListener(LauncherMenuBar.onShowTrashButtonClicked(parent));
+        this.helpMenu.add(this.showTrashMenuItem);
+
         // developer tools submenu --
         this.developerToolsMenu = new JMenu("Developer Tools");
         this.helpMenu.add(developerToolsMenu);
@@ -64,6 +88,18 @@ public class LauncherMenuBar {
         this.showConsoleLogMenuItem.addActionListener(LauncherMenuBar.onShowConsoleButtonClicked(parent));
         this.developerToolsMenu.add(this.showConsoleLogMenuItem);
 
+        // show game output button -
+        this.showGameOutputMenuItem = new JMenuItem("Show game output");
+        this.showGameOutputMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_O, InputEvent.ALT_DOWN_MASK));
+        this.showGameOutputMenuItem.addActionListener(LauncherMenuBar.onShowGameOutputButtonClicked(parent));
+        this.developerToolsMenu.add(this.showGameOutputMenuItem);
+
+        // show diagnostics button -
+        this.showDiagnosticsMenuItem = new JMenuItem("Show diagnostics");
+        this.showDiagnosticsMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_M, InputEvent.ALT_DOWN_MASK));
+        this.showDiagnosticsMenuItem.addActionListener(LauncherMenuBar.onShowDiagnosticsButtonClicked(parent));
+        this.developerToolsMenu.add(this.showDiagnosticsMenuItem);
+
         // debug mode checkbox -
         this.debugModeCheckBoxMenuItem = new JCheckBoxMenuItem("Debug mode");
         this.debugModeCheckBoxMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_D, InputEvent.ALT_DOWN_MASK));
@@ -81,6 +117,36 @@ public class LauncherMenuBar {
         this.helpMenu.add(this.aboutMenuItem);
     }
 
+    /**
+     * The action to be performed on {@link #showBackgroundTasksMenuItem}'s click.
+     * */
+    private static ActionListener onShowBackgroundTasksButtonClicked(Component parent) {
+        return e -> {
+            LOGGER.trace("Show background tasks button clicked");
+            new TasksWindow().packCenterAndShow(parent);
+        };
+    }
+
+    /**
+     * The action to be performed on {@link #showGameSessionsMenuItem}'s click.
+     * */
+    private static ActionListener onShowGameSessionsButtonClicked(Component parent) {
+        return e -> {
+            LOGGER.trace("Show game sessions button clicked");
+            new SessionsWindow().packCenterAndShow(parent);
+        };
+    }
+
+    /**
+     * The action to be performed on {@link #showTrashMenuItem}'s click.
+     * */
+    private static ActionListener onShowTrashButtonClicked(Component parent) {
+        return e -> {
+            LOGGER.trace("Show trash folder button clicked");
+            new TrashWindow().packCenterAndShow(parent);
+        };
+    }
+
     /**
      * The action to be performed on {@link #showConsoleLogMenuItem}'s click.
      * */
@@ -93,6 +159,28 @@ public class LauncherMenuBar {
         };
     }
 
+    /**
+     * The action to be performed on {@link #showGameOutputMenuItem}'s click.
+     * */
+    private static ActionListener onShowGameOutputButtonClicked(Component parent) {
+        return e -> {
+            LOGGER.trace("Show game output button clicked");
+            Try.of(() -> new ConsoleLogReader("Game output", Paths.getGameOutputLogPath()))
+                .andThen(consoleLogReader -> consoleLogReader.packCenterAndShow(parent))
+                .onFailure(throwable -> LOGGER.error("There was an error while opening game output window: [{}]", throwable.getMessage()));
+        };
+    }
+
+    /**
+     * The action to be performed on {@link #showDiagnosticsMenuItem}'s click.
+     * */
+    private static ActionListener onShowDiagnosticsButtonClicked(Component parent) {
+        return e -> {
+            LOGGER.trace("Show diagnostics button clicked");
+            new DiagnosticsWindow().packCenterAndShow(parent);
+        };
+    }
+
     /**
      * The action to be performed on {@link #debugModeCheckBoxMenuItem}'s click.
      * */
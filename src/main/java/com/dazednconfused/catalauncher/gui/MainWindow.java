@@ -3,21 +3,35 @@ package com.dazednconfused.catalauncher.gui;
 import static com.dazednconfused.catalauncher.helper.Constants.APP_NAME;
 
 import com.dazednconfused.catalauncher.configuration.ConfigurationManager;
+import com.dazednconfused.catalauncher.gui.helper.LazyTabs;
 import com.dazednconfused.catalauncher.gui.listener.ExecutableLauncherActions;
 import com.dazednconfused.catalauncher.gui.listener.ModActions;
 import com.dazednconfused.catalauncher.gui.listener.SaveBackupActions;
 import com.dazednconfused.catalauncher.gui.listener.SoundpackActions;
 import com.dazednconfused.catalauncher.helper.GitInfoManager;
 import com.dazednconfused.catalauncher.helper.LogLevelManager;
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+import com.dazednconfused.catalauncher.helper.metrics.Timer;
 import com.dazednconfused.catalauncher.helper.sysinfo.SystemInfoManager;
+import com.dazednconfused.catalauncher.mod.ModManager;
+import com.dazednconfused.catalauncher.soundpack.SoundpackManager;
+import com.dazednconfused.catalauncher.startup.StartupOrchestrator;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
+import com.dazednconfused.catalauncher.trash.TrashManager;
 import com.formdev.flatlaf.FlatDarkLaf;
 import com.formdev.flatlaf.FlatLaf;
 
+import io.vavr.control.Try;
+
 import java.awt.event.ActionEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.reflect.InvocationTargetException;
 
 import javax.swing.AbstractAction;
 import javax.swing.JButton;
@@ -31,6 +45,7 @@ import javax.swing.JPopupMenu;
 import javax.swing.JProgressBar;
 import javax.swing.JTabbedPane;
 import javax.swing.JTable;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 
@@ -42,10 +57,18 @@ public class MainWindow {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MainWindow.class);
 
+    // startup steps others depend on -
+    private static final String STARTUP_CONFIGURATION = "Configuration";
+    private static final String STARTUP_LOGGING = "Logging";
+    private static final String STARTUP_LOOK_AND_FEEL = "Look & Feel";
+    private static final String STARTUP_MAIN_WINDOW = "Main window";
+
+    private static final Timer GUI_REFRESH_TIMER = MetricsRegistry.getInstance().timer("gui.refresh");
+
     /**
-     * The array of all {@link Runnable}s to be executed on invocation of {@link #refreshAllGuiElements()}.
+     * Every tab but the launcher one, each set up (and its data loaded) on its first selection.
      * */
-    private final Runnable[] guiRefreshingRunnables;
+    private final LazyTabs lazyTabs;
 
     private JPanel mainPanel;
     private JProgressBar globalProgressBar; // global between all tabs
@@ -71,48 +94,100 @@ public class MainWindow {
     private JButton backupDeleteButton;
     private JButton backupRestoreButton;
     private JCheckBox backupOnExitCheckBox;
-    private final SaveBackupActions saveBackupActions = new SaveBackupActions(
-        mainPanel,
-        globalProgressBar,
-        saveBackupsTable,
-        backupNowButton,
-        backupDeleteButton,
-        backupRestoreButton,
-        backupOnExitCheckBox
-    );
+    private SaveBackupActions saveBackupActions; // set up lazily
 
     // SOUNDPACKS TAB ---
     private JTable soundpacksTable;
     private JButton installSoundpackButton;
     private JButton uninstallSoundpackButton;
-    private final SoundpackActions soundpackActions = new SoundpackActions(
-        mainPanel,
-        globalProgressBar,
-        soundpacksTable,
-        installSoundpackButton,
-        uninstallSoundpackButton
-    );
+    private SoundpackActions soundpackActions; // set up lazily
 
     // MODS TAB ---
     private JTable modsTable;
     private JButton installModButton;
     private JButton uninstallModButton;
-    private final ModActions modActions = new ModActions(
-        mainPanel,
-        globalProgressBar,
-        modsTable,
-        installModButton,
-        uninstallModButton
-    );
+    private ModActions modActions; // set up lazily
 
     /**
      * {@link MainWindow}'s main entrypoint.
+     *
+     * @implNote Initialization runs through a {@link StartupOrchestrator}, so that steps not depending on each other (ie: opening
+     *           the databases and setting up the Look &amp; Feel) run concurrently, and the main window gets shown as soon as
+     *           logging and the Look &amp; Feel are ready. Tabs populate themselves in the background from there on.
      * */
     public static void main(String[] args) {
+        StartupOrchestrator startup = new StartupOrchestrator()
+            .step(STARTUP_CONFIGURATION, ConfigurationManager::getInstance)
+            .step(STARTUP_LOGGING, MainWindow::initializeLogging, STARTUP_CONFIGURATION)
+            .step("System information", () -> SystemInfoManager.logSystemInformation(Level.DEBUG), STARTUP_LOGGING)
+            .step("Build information", MainWindow::logBuildInformation, STARTUP_LOGGING)
+            .step(STARTUP_LOOK_AND_FEEL, MainWindow::initializeLookAndFeel)
+            .step("Mods database", ModManager::getInstance, STARTUP_LOGGING)
+            .step("Soundpacks database", SoundpackManager::getInstance, STARTUP_LOGGING)
+            .step(STARTUP_MAIN_WINDOW, MainWindow::showMainWindow, STARTUP_LOGGING, STARTUP_LOOK_AND_FEEL);
+
+        startup.start();
+        startup.await(STARTUP_MAIN_WINDOW).join(); // the application can't go on without it
+    }
+
+    /**
+     * Builds and shows the main window, on the Event Dispatch Thread (EDT).
+     * */
+    private static void showMainWindow() {
+        LOGGER.debug("Initializing main window [{}]...", APP_NAME);
+
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                JFrame frame = new JFrame(APP_NAME);
+
+                frame.setJMenuBar(new LauncherMenuBar(frame).getMenuBar());
+
+                MainWindow mainWindow = new MainWindow();
+                frame.setContentPane(mainWindow.mainPanel);
+                frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+
+                // get every other tab ready once the window is showing -
+                frame.addWindowListener(new WindowAdapter() {
+                    @Override
+                    public void windowOpened(WindowEvent e) {
+                        mainWindow.lazyTabs.prefetch();
+                    }
+                });
+
+                frame.pack();
+                frame.setVisible(true);
+
+                frame.setLocationRelativeTo(null); // center window
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while initializing main window", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("There was an error initializing main window", e.getCause());
+        }
+    }
+
+    /**
+     * Applies the {@link ConfigurationManager}'s logging settings.
+     *
+     * @implNote Per-logger overrides and asynchronous logging are optional. Failing to apply either is logged, but never fails
+     *           this step; since the main window (along with every other step depending on logging) would then never show up.
+     * */
+    private static void initializeLogging() {
         LogLevelManager.changeGlobalLogLevelTo(ConfigurationManager.getInstance().isDebug() ? Level.TRACE : Level.INFO);
 
-        SystemInfoManager.logSystemInformation(Level.DEBUG);
+        Try.run(() -> LogLevelManager.applyLogLevelOverrides(ConfigurationManager.getInstance().getLogLevels())).onFailure(
+            t -> LOGGER.warn("Could not apply per-logger log level overrides. Carrying on without them", t)
+        );
+        Try.run(() -> LogLevelManager.enableAsyncLogging(ConfigurationManager.getInstance().getLogOverflowPolicy())).onFailure(
+            t -> LOGGER.warn("Could not enable asynchronous logging. Carrying on with synchronous logging", t)
+        );
+    }
 
+    /**
+     * Logs this launcher's version and build.
+     * */
+    private static void logBuildInformation() {
         LOGGER.info(
                 "{} - Version {} - Build {} {}",
                 APP_NAME,
@@ -120,21 +195,6 @@ public class MainWindow {
                 GitInfoManager.getInstance().getCommitIdFull(),
                 GitInfoManager.getInstance().getBuildTime()
         );
-
-        LOGGER.debug("Initializing main window [{}]...", APP_NAME);
-
-        initializeLookAndFeel();
-
-        JFrame frame = new JFrame(APP_NAME);
-
-        frame.setJMenuBar(new LauncherMenuBar(frame).getMenuBar());
-
-        frame.setContentPane(new MainWindow().mainPanel);
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.pack();
-        frame.setVisible(true);
-
-        frame.setLocationRelativeTo(null); // center window
     }
 
     /**
@@ -142,20 +202,24 @@ public class MainWindow {
      * */
     public MainWindow() {
 
-        // INITIALIZE ALL GUI ELEMENTS ---
-        this.guiRefreshingRunnables = new Runnable[] {
-                this.setupTabbedPane(),
-                this.setupMainExecutableGui(),
-                this.setupSaveBackupGui(),
-                this.setupSoundpacksGui(),
-                this.setupModsGui()
-        };
+        // INITIALIZE AND DRAW/REFRESH LAUNCHER TAB (the one shown first) ---
+        this.refreshInBackground(this.setupTabbedPane());
+        this.refreshInBackground(this.setupMainExecutableGui());
 
-        // DRAW/REFRESH ALL GUI ELEMENTS ---
-        this.refreshAllGuiElements();
+        // INITIALIZE AND DRAW/REFRESH EVERY OTHER TAB ON ITS FIRST SELECTION ---
+        this.lazyTabs = new LazyTabs(this.tabbedPane, this::refreshInBackground);
+        this.lazyTabs.register(this.saveBackupsTable, this::setupSaveBackupGui);
+        this.lazyTabs.register(this.soundpacksTable, this::setupSoundpacksGui);
+        this.lazyTabs.register(this.modsTable, this::setupModsGui);
 
         // CHECK FOR SOFTWARE UPDATES ---
-        new Thread(this::checkForUpdates).start(); // check for updates on a background thread, to not slow down application's startup
+        TaskManager.getInstance().submit("Check for updates", TaskCategory.BACKGROUND, task -> { // check for updates in the background, to not slow down application's startup
+            this.checkForUpdates();
+            return null;
+        });
+
+        // KEEP TRASH FOLDER BOUNDED ---
+        TaskManager.getInstance().submit("Index trash folder", TaskCategory.BACKGROUND, task -> TrashManager.getInstance());
     }
 
     /**
@@ -192,6 +256,7 @@ public class MainWindow {
 
         // GLOBAL PROGRESS BAR LISTENER ---
         this.globalProgressBar.addChangeListener(this.executableLauncherActions.onGlobalProgressBarChangeListener());
+        TaskManager.getInstance().getTaskEvents().subscribe(this.executableLauncherActions.onBackgroundTaskChanged());
 
         // RUN BUTTON LISTENER ---
         this.runButton.addActionListener(this.executableLauncherActions.onRunButtonClicked());
@@ -202,8 +267,11 @@ public class MainWindow {
         // OPEN EXECUTABLE FINDER BUTTON LISTENER ---
         this.openExecutableFinderButton.addActionListener(this.executableLauncherActions.onOpenExecutableFinderButtonClicked());
 
-        // GUI COMPONENT'S REFRESH ACTION ---
-        return this.executableLauncherActions::refreshExecutableLauncherGui;
+        // GUI COMPONENT'S REFRESH ACTION (which also indexes saves, hence subscribing to them there rather than here) ---
+        return () -> {
+            this.executableLauncherActions.subscribeToSaveChanges();
+            this.executableLauncherActions.refreshExecutableLauncherGui();
+        };
     }
 
     /**
@@ -212,6 +280,14 @@ public class MainWindow {
      * @return The {@link Runnable} in charge or refreshing all GUI elements related to this setup on-demand.
      * */
     private Runnable setupSaveBackupGui() {
+        this.saveBackupActions = new SaveBackupActions(
+            mainPanel,
+            saveBackupsTable,
+            backupNowButton,
+            backupDeleteButton,
+            backupRestoreButton,
+            backupOnExitCheckBox
+        );
 
         // BACKUP NOW BUTTON LISTENER ---
         this.backupNowButton.addActionListener(this.saveBackupActions.onSaveBackupButtonClicked());
@@ -247,9 +323,32 @@ public class MainWindow {
      * @return The {@link Runnable} in charge or refreshing all GUI elements related to this setup on-demand.
      * */
     private Runnable setupSoundpacksGui() {
+        this.soundpackActions = new SoundpackActions(
+            mainPanel,
+            soundpacksTable,
+            installSoundpackButton,
+            uninstallSoundpackButton
+        );
 
         // SOUNDPACK INSTALL BUTTON LISTENER ---
-        this.installSoundpackButton.addActionListener(this.soundpackActions.onInstallSoundpackButtonClicked());
+        final JPopupMenu installSoundpackButtonPopupMenu = new JPopupMenu();
+        installSoundpackButtonPopupMenu.add(new JMenuItem(new AbstractAction("...from .ZIP file") {
+            public void actionPerformed(ActionEvent e) {
+                soundpackActions.onInstallSoundpackButtonClickedFor(JFileChooser.FILES_ONLY);
+            }
+        }));
+        installSoundpackButtonPopupMenu.add(new JMenuItem(new AbstractAction("...from directory") {
+            public void actionPerformed(ActionEvent e) {
+                soundpackActions.onInstallSoundpackButtonClickedFor(JFileChooser.DIRECTORIES_ONLY);
+            }
+        }));
+
+        this.installSoundpackButton.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                installSoundpackButtonPopupMenu.show(e.getComponent(), e.getX(), e.getY());
+            }
+        });
 
         // SOUNDPACK DELETE BUTTON LISTENER ---
         this.uninstallSoundpackButton.addActionListener(this.soundpackActions.onUninstallSoundpackButtonClicked());
@@ -277,6 +376,12 @@ public class MainWindow {
      * @return The {@link Runnable} in charge or refreshing all GUI elements related to this setup on-demand.
      * */
     private Runnable setupModsGui() {
+        this.modActions = new ModActions(
+            mainPanel,
+            modsTable,
+            installModButton,
+            uninstallModButton
+        );
 
         // MOD INSTALL BUTTON LISTENER ---
         final JPopupMenu installModButtonPopupMenu = new JPopupMenu();
@@ -336,15 +441,14 @@ public class MainWindow {
     }
 
     /**
-     * Refreshes all GUI elements.
-     *
-     * @apiNote This is an expensive operation. Use with discretion.
-     * @implNote Refresh is done in the background by means of individual {@link Thread}s.
+     * Runs the given GUI-refreshing {@link Runnable} in the background, by means of a {@link TaskManager} task. Said
+     * {@link Runnable}s only gather data, handing every GUI change over to the Event Dispatch Thread (EDT).
      */
-    private void refreshAllGuiElements() {
-        for (Runnable guiRefreshRunnable : this.guiRefreshingRunnables) {
-            new Thread(guiRefreshRunnable).start();
-        }
+    private void refreshInBackground(Runnable guiRefreshRunnable) {
+        TaskManager.getInstance().submit("Refresh GUI elements", TaskCategory.BACKGROUND, task -> {
+            GUI_REFRESH_TIMER.time(guiRefreshRunnable);
+            return null;
+        });
     }
 
     /**
@@ -0,0 +1,202 @@
+package com.dazednconfused.catalauncher.gui;
+
+import com.dazednconfused.catalauncher.gui.table.IncrementalTableModel;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.session.GameSessionManager;
+import com.dazednconfused.catalauncher.session.dto.GameSessionDTO;
+import com.dazednconfused.catalauncher.session.dto.GameSessionSampleDTO;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JFrame;
+import javax.swing.JScrollPane;
+import javax.swing.JSplitPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Panel listing every game session recorded by the {@link GameSessionManager} (along with the mods installed at the time),
+ * and the resource usage sampled throughout the selected one.
+ * */
+public class SessionsWindow {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionsWindow.class);
+
+    private static final String[] SESSIONS_TABLE_COLUMNS = new String[]{"#", "Started", "Duration", "Exit code", "Mods"};
+    private static final String[] SAMPLES_TABLE_COLUMNS = new String[]{"Elapsed", "CPU time", "Memory", "Processes"};
+
+    private static final Comparator<Object[]> NEWEST_FIRST = Comparator.comparing((Object[] row) -> (Long) row[0]).reversed();
+    private static final Comparator<Object[]> OLDEST_FIRST = Comparator.comparing((Object[] row) -> (String) row[0]); // zero-padded
+    private static final DateTimeFormatter STARTED_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JFrame frame;
+    private final JTable sessionsTable;
+    private final JTable samplesTable;
+    private final IncrementalTableModel<Long> sessionsTableModel = new IncrementalTableModel<>(SESSIONS_TABLE_COLUMNS, NEWEST_FIRST);
+    private final IncrementalTableModel<LocalDateTime> samplesTableModel = new IncrementalTableModel<>(SAMPLES_TABLE_COLUMNS, OLDEST_FIRST);
+
+    private volatile GameSessionDTO selectedSession;
+
+    private final ChangeEventListener<GameSessionDTO> sessionsTableUpdater = new ChangeEventListener<>() {
+        @Override
+        public void onAdded(GameSessionDTO added) {
+            sessionsTableModel.upsert(added.getId(), buildSessionsTableRow(added));
+        }
+
+        @Override
+        public void onUpdated(GameSessionDTO updated) {
+            sessionsTableModel.upsert(updated.getId(), buildSessionsTableRow(updated));
+        }
+
+        @Override
+        public void onRemoved(GameSessionDTO removed) {
+            sessionsTableModel.remove(removed.getId());
+        }
+    };
+
+    private final ChangeEventListener<GameSessionSampleDTO> samplesTableUpdater = new ChangeEventListener<>() {
+        @Override
+        public void onAdded(GameSessionSampleDTO added) {
+            GameSessionDTO session = selectedSession;
+            if (session != null && session.getId().equals(added.getSessionId())) {
+                samplesTableModel.upsert(added.getSampledDate(), buildSamplesTableRow(session, added));
+            }
+        }
+    };
+
+    /**
+     * Constructor.
+     * */
+    public SessionsWindow() {
+        this.frame = new JFrame("Game sessions");
+
+        // setup sessions table ---
+        this.sessionsTable = new JTable(this.sessionsTableModel);
+        this.sessionsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        this.sessionsTable.getColumnModel().getColumn(0).setMaxWidth(50);
+        this.sessionsTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                this.onSessionSelected();
+            }
+        });
+
+        // setup samples table ---
+        this.samplesTable = new JTable(this.samplesTableModel);
+        this.samplesTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+
+        // load sessions without blocking the EDT -
+        TaskManager.getInstance().submit("Load game sessions", TaskCategory.BACKGROUND, task -> {
+            Map<Long, Object[]> rows = new LinkedHashMap<>();
+            GameSessionManager.getInstance().listAllSessions().forEach(session -> rows.put(session.getId(), buildSessionsTableRow(session)));
+            this.sessionsTableModel.applySnapshot(rows);
+            return rows.size();
+        });
+
+        // keep the tables up to date only while the window is open -
+        GameSessionManager.getInstance().getSessionEvents().subscribe(this.sessionsTableUpdater);
+        GameSessionManager.getInstance().getSampleEvents().subscribe(this.samplesTableUpdater);
+        this.frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                GameSessionManager.getInstance().getSessionEvents().unsubscribe(sessionsTableUpdater);
+                GameSessionManager.getInstance().getSampleEvents().unsubscribe(samplesTableUpdater);
+            }
+        });
+        this.frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        // finish setting up sessions window ---
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(this.sessionsTable), new JScrollPane(this.samplesTable));
+        splitPane.setResizeWeight(0.5);
+        this.frame.add(splitPane, BorderLayout.CENTER);
+    }
+
+    /**
+     * Packs ({@link JFrame#pack()}), centers ({@link JFrame#setLocationRelativeTo(Component)}) and sets the current window as
+     * visible ({@link JFrame#setVisible(boolean)}).
+     * */
+    public void packCenterAndShow(Component parent) {
+        this.frame.pack();
+        this.frame.setLocationRelativeTo(parent);
+        this.frame.setVisible(true);
+    }
+
+    /**
+     * The action to be performed whenever a row of {@link #sessionsTable} gets selected.
+     * */
+    private void onSessionSelected() {
+        int selectedRow = this.sessionsTable.getSelectedRow();
+        if (selectedRow < 0) {
+            this.selectedSession = null;
+            this.samplesTableModel.applySnapshot(Map.of());
+            return;
+        }
+
+        long sessionId = this.sessionsTableModel.getKeyAt(selectedRow);
+        LOGGER.trace("Session [{}] selected", sessionId);
+
+        TaskManager.getInstance().submit("Load game session samples", TaskCategory.BACKGROUND, task -> {
+            GameSessionDTO session = GameSessionManager.getInstance().findById(sessionId).orElse(null);
+
+            this.selectedSession = session;
+            if (session == null) {
+                return 0;
+            }
+
+            List<GameSessionSampleDTO> samples = GameSessionManager.getInstance().listSamplesFor(sessionId);
+
+            Map<LocalDateTime, Object[]> rows = new LinkedHashMap<>();
+            samples.forEach(sample -> rows.put(sample.getSampledDate(), buildSamplesTableRow(session, sample)));
+            this.samplesTableModel.applySnapshot(rows);
+            return rows.size();
+        });
+    }
+
+    /**
+     * Builds the {@link #sessionsTable}'s row for the given {@code session}.
+     * */
+    private static Object[] buildSessionsTableRow(GameSessionDTO session) {
+        return new Object[]{
+            session.getId(),
+            STARTED_DATE_FORMAT.format(session.getStartedDate()),
+            session.getEndedDate() == null ? "Running" : formatDuration(session.getDuration()),
+            session.getExitCode() == null ? "-" : session.getExitCode(),
+            String.join(", ", session.getInstalledMods())
+        };
+    }
+
+    /**
+     * Builds the {@link #samplesTable}'s row for the given {@code sample}, taken throughout the given {@code session}.
+     * */
+    private static Object[] buildSamplesTableRow(GameSessionDTO session, GameSessionSampleDTO sample) {
+        return new Object[]{
+            formatDuration(Duration.between(session.getStartedDate(), sample.getSampledDate())),
+            formatDuration(Duration.ofMillis(sample.getCpuMillis())),
+            FileUtils.byteCountToDisplaySize(sample.getRssBytes()),
+            sample.getProcessCount()
+        };
+    }
+
+    /**
+     * Formats the given {@code duration} as a zero-padded {@code HH:mm:ss}.
+     * */
+    private static String formatDuration(Duration duration) {
+        long seconds = Math.max(0, duration.getSeconds());
+        return String.format("%02d:%02d:%02d", seconds / 3600, (seconds % 3600) / 60, seconds % 60);
+    }
+}
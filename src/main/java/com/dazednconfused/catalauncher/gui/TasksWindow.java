@@ -0,0 +1,137 @@
+package com.dazednconfused.catalauncher.gui;
+
+import com.dazednconfused.catalauncher.gui.table.IncrementalTableModel;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.task.ManagedTask;
+import com.dazednconfused.catalauncher.task.TaskManager;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Panel listing every background task known to the {@link TaskManager} (running, queued and recently finished), allowing
+ * the user to cancel them.
+ * */
+public class TasksWindow {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TasksWindow.class);
+
+    private static final String[] TASKS_TABLE_COLUMNS = new String[]{"#", "Task", "Type", "State", "Progress"};
+    private static final Comparator<Object[]> NEWEST_FIRST = Comparator.comparing((Object[] row) -> (Long) row[0]).reversed();
+
+    private final JFrame frame;
+    private final JTable tasksTable;
+    private final JButton cancelTaskButton;
+    private final IncrementalTableModel<Long> tasksTableModel = new IncrementalTableModel<>(TASKS_TABLE_COLUMNS, NEWEST_FIRST);
+
+    private final ChangeEventListener<ManagedTask<?>> tasksTableUpdater = new ChangeEventListener<>() {
+        @Override
+        public void onAdded(ManagedTask<?> added) {
+            tasksTableModel.upsert(added.getId(), buildTasksTableRow(added));
+        }
+
+        @Override
+        public void onUpdated(ManagedTask<?> updated) {
+            tasksTableModel.upsert(updated.getId(), buildTasksTableRow(updated));
+        }
+
+        @Override
+        public void onRemoved(ManagedTask<?> removed) {
+            tasksTableModel.remove(removed.getId());
+        }
+    };
+
+    /**
+     * Constructor.
+     * */
+    public TasksWindow() {
+        this.frame = new JFrame("Background tasks");
+
+        // setup tasks table ---
+        this.tasksTable = new JTable(this.tasksTableModel);
+        this.tasksTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        this.tasksTable.getColumnModel().getColumn(0).setMaxWidth(50);
+
+        Map<Long, Object[]> rows = new LinkedHashMap<>();
+        TaskManager.getInstance().getTasks().forEach(task -> rows.put(task.getId(), buildTasksTableRow(task)));
+        this.tasksTableModel.applySnapshot(rows);
+
+        // keep the table up to date only while the window is open -
+        TaskManager.getInstance().getTaskEvents().subscribe(this.tasksTableUpdater);
+        this.frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                TaskManager.getInstance().getTaskEvents().unsubscribe(tasksTableUpdater);
+            }
+        });
+        this.frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        // setup cancel button ---
+        this.cancelTaskButton = new JButton("Cancel task");
+        this.cancelTaskButton.addActionListener(e -> this.onCancelTaskButtonClicked());
+
+        JPanel buttonsPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonsPanel.add(this.cancelTaskButton);
+
+        // finish setting up tasks window ---
+        this.frame.add(new JScrollPane(this.tasksTable), BorderLayout.CENTER);
+        this.frame.add(buttonsPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Packs ({@link JFrame#pack()}), centers ({@link JFrame#setLocationRelativeTo(Component)}) and sets the current window as
+     * visible ({@link JFrame#setVisible(boolean)}).
+     * */
+    public void packCenterAndShow(Component parent) {
+        this.frame.pack();
+        this.frame.setLocationRelativeTo(parent);
+        this.frame.setVisible(true);
+    }
+
+    /**
+     * The action to be performed on {@link #cancelTaskButton}'s click.
+     * */
+    private void onCancelTaskButtonClicked() {
+        int selectedRow = this.tasksTable.getSelectedRow();
+        if (selectedRow < 0) {
+            return;
+        }
+
+        long taskId = this.tasksTableModel.getKeyAt(selectedRow);
+        LOGGER.trace("Cancel task button clicked for task [{}]", taskId);
+
+        TaskManager.getInstance().getTasks().stream()
+            .filter(task -> task.getId() == taskId)
+            .findFirst()
+            .ifPresent(ManagedTask::cancel);
+    }
+
+    /**
+     * Builds the {@link #tasksTable}'s row for the given {@code task}.
+     * */
+    private static Object[] buildTasksTableRow(ManagedTask<?> task) {
+        return new Object[]{
+            task.getId(),
+            task.getName(),
+            task.getCategory(),
+            task.isCancelled() && !task.getState().isFinished() ? "CANCELLING" : task.getState(),
+            task.getProgress() >= 0 ? task.getProgress() + "%" : "-"
+        };
+    }
+}
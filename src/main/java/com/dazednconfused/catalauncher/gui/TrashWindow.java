@@ -0,0 +1,264 @@
+package com.dazednconfused.catalauncher.gui;
+
+import com.dazednconfused.catalauncher.gui.table.IncrementalTableModel;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.helper.result.Result;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
+import com.dazednconfused.catalauncher.trash.TrashCategory;
+import com.dazednconfused.catalauncher.trash.TrashManager;
+import com.dazednconfused.catalauncher.trash.dto.TrashEntryDTO;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Panel listing every entry in the {@link TrashManager}'s trash folder, from which they can be either restored or
+ * permanently deleted.
+ * */
+public class TrashWindow {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrashWindow.class);
+
+    private static final String[] TRASH_TABLE_COLUMNS = new String[]{"Trashed", "Type", "Name", "Size"};
+
+    private static final Comparator<Object[]> NEWEST_FIRST = Comparator.comparing((Object[] row) -> (String) row[0]).reversed();
+    private static final DateTimeFormatter TRASHED_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JFrame frame;
+    private final JPanel mainPanel;
+    private final JLabel limitsLabel;
+    private final JTable trashTable;
+    private final JButton restoreButton;
+    private final JButton purgeButton;
+    private final IncrementalTableModel<File> trashTableModel = new IncrementalTableModel<>(TRASH_TABLE_COLUMNS, NEWEST_FIRST);
+
+    private final Map<File, TrashEntryDTO> entries = new ConcurrentHashMap<>();
+
+    private final ChangeEventListener<TrashEntryDTO> trashTableUpdater = new ChangeEventListener<>() {
+        @Override
+        public void onAdded(TrashEntryDTO added) {
+            entries.put(added.getDirectory(), added);
+            trashTableModel.upsert(added.getDirectory(), buildTrashTableRow(added, "-"));
+
+            // measure it without blocking whoever announced it -
+            TaskManager.getInstance().submit("Measure trash folder entry", TaskCategory.BACKGROUND, task -> {
+                long size = TrashManager.getInstance().sizeOf(added);
+                if (entries.containsKey(added.getDirectory())) {
+                    trashTableModel.upsert(added.getDirectory(), buildTrashTableRow(added, FileUtils.byteCountToDisplaySize(size)));
+                }
+                return size;
+            });
+        }
+
+        @Override
+        public void onRemoved(TrashEntryDTO removed) {
+            entries.remove(removed.getDirectory());
+            trashTableModel.remove(removed.getDirectory());
+        }
+    };
+
+    /**
+     * Constructor.
+     * */
+    public TrashWindow() {
+        this.frame = new JFrame("Trash folder");
+
+        // setup limits label ---
+        this.limitsLabel = new JLabel("Automatic purging: ...");
+
+        // setup trash table ---
+        this.trashTable = new JTable(this.trashTableModel);
+        this.trashTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        this.trashTable.getColumnModel().getColumn(2).setPreferredWidth(250);
+
+        // load entries without blocking the EDT (the trash folder might still be getting indexed) -
+        TaskManager.getInstance().submit("Load trash folder", TaskCategory.BACKGROUND, task -> {
+            TrashManager trashManager = TrashManager.getInstance();
+            String limits = describeLimits(trashManager);
+            SwingUtilities.invokeLater(() -> this.limitsLabel.setText(limits));
+
+            trashManager.getEvents().subscribe(this.trashTableUpdater);
+
+            Map<File, Object[]> rows = new LinkedHashMap<>();
+            trashManager.listEntries().forEach(entry -> {
+                this.entries.put(entry.getDirectory(), entry);
+                rows.put(entry.getDirectory(), buildTrashTableRow(entry, FileUtils.byteCountToDisplaySize(trashManager.sizeOf(entry))));
+            });
+            this.trashTableModel.applySnapshot(rows);
+            return rows.size();
+        });
+
+        // keep the table up to date only while the window is open -
+        this.frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                TaskManager.getInstance().submit("Close trash folder", TaskCategory.BACKGROUND, task -> {
+                    TrashManager.getInstance().getEvents().unsubscribe(trashTableUpdater);
+                    return null;
+                });
+            }
+        });
+        this.frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        // setup buttons ---
+        this.restoreButton = new JButton("Restore");
+        this.restoreButton.addActionListener(e -> this.onRestoreButtonClicked());
+
+        this.purgeButton = new JButton("Delete permanently");
+        this.purgeButton.addActionListener(e -> this.onPurgeButtonClicked());
+
+        JPanel buttonsPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonsPanel.add(this.restoreButton);
+        buttonsPanel.add(this.purgeButton);
+
+        // finish setting up trash window ---
+        this.mainPanel = new JPanel(new BorderLayout());
+        this.mainPanel.add(this.limitsLabel, BorderLayout.NORTH);
+        this.mainPanel.add(new JScrollPane(this.trashTable), BorderLayout.CENTER);
+        this.mainPanel.add(buttonsPanel, BorderLayout.SOUTH);
+        this.frame.setContentPane(this.mainPanel);
+    }
+
+    /**
+     * Packs ({@link JFrame#pack()}), centers ({@link JFrame#setLocationRelativeTo(Component)}) and sets the current window as
+     * visible ({@link JFrame#setVisible(boolean)}).
+     * */
+    public void packCenterAndShow(Component parent) {
+        this.frame.pack();
+        this.frame.setLocationRelativeTo(parent);
+        this.frame.setVisible(true);
+    }
+
+    /**
+     * The action to be performed on {@link #restoreButton}'s click.
+     * */
+    private void onRestoreButtonClicked() {
+        TrashEntryDTO entry = this.getSelectedEntry();
+        if (entry == null) {
+            return;
+        }
+
+        String message = "Restore the mod [" + entry.getDirectory().getName() + "]?";
+        if (entry.getCategory() == TrashCategory.SAVES) {
+            message = "Restore the saves trashed on " + formatTrashedDate(entry) + "? Your current saves will be moved to the trash folder.";
+        }
+
+        this.confirmAndRun(message, "Restore trash folder entry", TrashManager::restore, "Could not restore trash folder entry", entry);
+    }
+
+    /**
+     * The action to be performed on {@link #purgeButton}'s click.
+     * */
+    private void onPurgeButtonClicked() {
+        TrashEntryDTO entry = this.getSelectedEntry();
+        if (entry == null) {
+            return;
+        }
+
+        String message = "Permanently delete [" + entry.getDirectory().getName() + "]? This cannot be undone.";
+
+        this.confirmAndRun(message, "Purge trash folder entry", TrashManager::purge, "Could not delete trash folder entry", entry);
+    }
+
+    /**
+     * Asks for confirmation with the given {@code message} and, if given, submits the given {@code operation} on the given
+     * {@code entry} as a {@link TaskCategory#DISK} task named {@code taskName}; showing an {@link ErrorDialog} with the given
+     * {@code errorMessage} should it fail.
+     * */
+    private void confirmAndRun(String message, String taskName, Operation operation, String errorMessage, TrashEntryDTO entry) {
+        ConfirmDialog confirmDialog = new ConfirmDialog(message, ConfirmDialog.ConfirmDialogType.WARNING, confirmed -> {
+            if (!confirmed) {
+                return;
+            }
+
+            LOGGER.trace("[{}] confirmed for [{}]", taskName, entry);
+            TaskManager.getInstance().submit(taskName, TaskCategory.DISK, task ->
+                operation.apply(TrashManager.getInstance(), entry).toEither().fold(
+                    failure -> {
+                        SwingUtilities.invokeLater(() -> ErrorDialog.showErrorDialog(errorMessage, failure.getError()).packCenterAndShow(this.mainPanel));
+                        return null;
+                    },
+                    success -> entry
+                )
+            );
+        });
+        confirmDialog.packCenterAndShow(this.mainPanel);
+    }
+
+    /**
+     * Returns the {@link TrashEntryDTO} behind {@link #trashTable}'s selected row, if any.
+     * */
+    private TrashEntryDTO getSelectedEntry() {
+        int selectedRow = this.trashTable.getSelectedRow();
+        if (selectedRow < 0) {
+            return null;
+        }
+        return this.entries.get(this.trashTableModel.getKeyAt(selectedRow));
+    }
+
+    /**
+     * Builds the {@link #trashTable}'s row for the given {@code entry}, with the given (already formatted) {@code size}.
+     * */
+    private static Object[] buildTrashTableRow(TrashEntryDTO entry, String size) {
+        return new Object[]{
+            formatTrashedDate(entry),
+            entry.getCategory() == TrashCategory.SAVES ? "Saves" : "Mod",
+            entry.getDirectory().getName(),
+            size
+        };
+    }
+
+    /**
+     * Formats when the given {@code entry} was trashed as a {@code yyyy-MM-dd HH:mm:ss}.
+     * */
+    private static String formatTrashedDate(TrashEntryDTO entry) {
+        return TRASHED_DATE_FORMAT.format(Instant.ofEpochMilli(entry.getTrashedAtMillis()).atZone(ZoneId.systemDefault()));
+    }
+
+    /**
+     * Describes the automatic purging limits the given {@code trashManager} enforces, as configured on startup.
+     * */
+    private static String describeLimits(TrashManager trashManager) {
+        if (trashManager.getMaxSizeBytes() <= 0 && trashManager.getMaxAgeMillis() <= 0) {
+            return "Automatic purging: disabled";
+        }
+
+        String size = trashManager.getMaxSizeBytes() <= 0 ? "no size limit" : "over " + FileUtils.byteCountToDisplaySize(trashManager.getMaxSizeBytes());
+        String age = trashManager.getMaxAgeMillis() <= 0 ? "no age limit" : "older than " + TimeUnit.MILLISECONDS.toDays(trashManager.getMaxAgeMillis()) + " days";
+        return "Automatic purging: " + size + ", " + age;
+    }
+
+    /**
+     * An operation {@link TrashManager} performs on a single {@link TrashEntryDTO}.
+     * */
+    @FunctionalInterface
+    private interface Operation {
+        Result<Throwable, TrashEntryDTO> apply(TrashManager trashManager, TrashEntryDTO entry);
+    }
+}
@@ -1,28 +1,32 @@
 package com.dazednconfused.catalauncher.gui.helper;
 
-import com.dazednconfused.catalauncher.gui.ErrorDialog;
+import java.io.UncheckedIOException;
 
-import io.vavr.control.Try;
+import javax.swing.ImageIcon;
 
-import java.io.FileOutputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Objects;
-
-import org.apache.batik.swing.JSVGCanvas;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GuiResource {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(GuiResource.class);
+
     /**
-     * Extracts the SVG in the provided {@code path} into a temporary {@link java.io.File} that {@link JSVGCanvas} can read
-     * and load from.
+     * Returns the SVG in the provided {@code path}, rendered as an {@link ImageIcon} {@code size} pixels wide and high.
+     *
+     * @return {@code null} if the SVG could be neither found nor rendered; so that whatever shows it (ie: an error dialog)
+     *         still shows up, just without an icon.
+     * @implNote Rendered only once per size, through the {@link SvgIconCache}.
      * */
-    public static String extractIconFrom(String path) {
-        return Try.of(() -> {
-            Path tmpFilePath = Files.createTempFile(null, null);
-            Objects.requireNonNull(ErrorDialog.class.getClassLoader().getResourceAsStream(path)).transferTo(new FileOutputStream(tmpFilePath.toFile()));
-            return tmpFilePath.toFile().getPath();
-        }).getOrNull();
+    @Nullable
+    public static ImageIcon iconFrom(String path, int size) {
+        try {
+            return SvgIconCache.getInstance().getIcon(path, size);
+        } catch (UncheckedIOException e) {
+            LOGGER.warn("Could not render icon [{}]. Showing none instead", path, e);
+            return null;
+        }
     }
 
 }
@@ -0,0 +1,115 @@
+package com.dazednconfused.catalauncher.gui.helper;
+
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+import com.dazednconfused.catalauncher.helper.metrics.Timer;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.swing.JTabbedPane;
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Defers setting up each of a {@link JTabbedPane}'s tabs (and loading its data) until it's first selected; so that showing
+ * the window only ever costs as much as the tab shown first.
+ * <br><br>
+ * Tabs never selected can still be {@link #prefetch()}ed once the window is showing, so that they're ready by the time the
+ * user gets to them.
+ *
+ * @apiNote Not thread-safe. Every method must be called from the Event Dispatch Thread (EDT).
+ * */
+public class LazyTabs {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LazyTabs.class);
+
+    private static final Timer SETUP_TIMER = MetricsRegistry.getInstance().timer("gui.tab.setup");
+
+    private final JTabbedPane tabbedPane;
+    private final Consumer<Runnable> dataLoader;
+    private final Map<Component, Supplier<Runnable>> pendingSetups = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param dataLoader What to do with the data-loading {@link Runnable} each tab's setup returns (ie: run it in the background).
+     * */
+    public LazyTabs(JTabbedPane tabbedPane, Consumer<Runnable> dataLoader) {
+        this.tabbedPane = tabbedPane;
+        this.dataLoader = dataLoader;
+
+        this.tabbedPane.addChangeListener(e -> this.initialize(this.tabbedPane.getSelectedComponent()));
+    }
+
+    /**
+     * Registers the {@code setup} of the tab holding the given {@code content}, to be run on the tab's first selection (or
+     * right away, if it's already selected).
+     *
+     * @param setup Sets the tab up, and returns the {@link Runnable} in charge of loading its data.
+     * @throws IllegalArgumentException If the given {@code content} isn't inside any tab.
+     * */
+    public void register(Component content, Supplier<Runnable> setup) {
+        Component tab = this.tabOf(content);
+        this.pendingSetups.put(tab, setup);
+
+        if (this.tabbedPane.getSelectedComponent() == tab) {
+            this.initialize(tab);
+        }
+    }
+
+    /**
+     * Whether the tab holding the given {@code content} has already been set up.
+     * */
+    public boolean isInitialized(Component content) {
+        return !this.pendingSetups.containsKey(this.tabOf(content));
+    }
+
+    /**
+     * Sets up every tab not set up yet, one per Event Dispatch Thread (EDT) turn; so that the GUI stays responsive meanwhile.
+     * */
+    public void prefetch() {
+        for (Component tab : new ArrayList<>(this.pendingSetups.keySet())) {
+            SwingUtilities.invokeLater(() -> this.initialize(tab));
+        }
+    }
+
+    /**
+     * Sets up the given {@code tab} (unless already set up), and hands its data-loading {@link Runnable} over to the
+     * {@link #dataLoader}.
+     * */
+    private void initialize(Component tab) {
+        Supplier<Runnable> setup = this.pendingSetups.remove(tab);
+        if (setup == null) {
+            return; // already set up (or not lazy at all)
+        }
+
+        String title = this.tabbedPane.getTitleAt(this.tabbedPane.indexOfComponent(tab));
+        long startedAt = System.nanoTime();
+
+        Runnable dataLoading = setup.get();
+        SETUP_TIMER.recordSince(startedAt);
+
+        LOGGER.debug("Tab [{}] set up in [{}] ms", title, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        this.dataLoader.accept(dataLoading);
+    }
+
+    /**
+     * Finds the tab holding the given {@code content}.
+     * */
+    private Component tabOf(Component content) {
+        for (int i = 0; i < this.tabbedPane.getTabCount(); i++) {
+            Component tab = this.tabbedPane.getComponentAt(i);
+            if (tab == content || SwingUtilities.isDescendingFrom(content, tab)) {
+                return tab;
+            }
+        }
+        throw new IllegalArgumentException("[" + content + "] is not inside any tab");
+    }
+}
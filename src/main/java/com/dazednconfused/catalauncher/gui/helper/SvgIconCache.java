@@ -0,0 +1,227 @@
+package com.dazednconfused.catalauncher.gui.helper;
+
+import com.dazednconfused.catalauncher.helper.GitInfoManager;
+import com.dazednconfused.catalauncher.helper.Paths;
+
+import io.vavr.control.Try;
+
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+import org.apache.batik.transcoder.SVGAbstractTranscoder;
+import org.apache.batik.transcoder.TranscoderException;
+import org.apache.batik.transcoder.TranscoderInput;
+import org.apache.batik.transcoder.TranscoderOutput;
+import org.apache.batik.transcoder.image.ImageTranscoder;
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Renders classpath SVG icons into {@link BufferedImage}s once per pixel size, and keeps them in memory from then on; so that
+ * showing an icon (ie: every time a dialog is opened) involves no parsing nor rendering at all.
+ * <br><br>
+ * Rendered icons are also persisted into a disk cache, one directory per launcher build (version and commit), so that not
+ * even the first icon shown in a session needs rendering. Directories left behind by other builds get dropped on the first
+ * write.
+ * */
+public class SvgIconCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SvgIconCache.class);
+
+    private static final String IMAGE_FORMAT = "png";
+
+    private static SvgIconCache instance;
+
+    private final ClassLoader classLoader;
+    private final Path diskCacheDirectory;
+    private final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+    private final AtomicBoolean otherVersionsDropped = new AtomicBoolean();
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized SvgIconCache getInstance() {
+        if (instance == null) {
+            String build = buildKeyOf(GitInfoManager.getInstance().getBuildVersion(), GitInfoManager.getInstance().getCommitIdFull());
+            instance = new SvgIconCache(
+                SvgIconCache.class.getClassLoader(),
+                build == null ? null : Paths.getIconCacheDirectory().resolve(build)
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param diskCacheDirectory Where to persist rendered icons into. Its parent holds one such directory per build. If
+     *                           {@code null}, icons are only cached in memory (ie: no build version to key them by).
+     * */
+    protected SvgIconCache(ClassLoader classLoader, @Nullable Path diskCacheDirectory) {
+        this.classLoader = classLoader;
+        this.diskCacheDirectory = diskCacheDirectory;
+    }
+
+    /**
+     * Returns an {@link ImageIcon} of the classpath SVG with the given {@code resourceName}, {@code size} pixels wide and high,
+     * rendered for the default screen's scale (ie: twice as many pixels on a HiDPI screen).
+     *
+     * @throws UncheckedIOException If the SVG could be neither found nor rendered.
+     * */
+    public ImageIcon getIcon(String resourceName, int size) {
+        double scale = screenScale();
+        if (scale <= 1.0) {
+            return new ImageIcon(this.getImage(resourceName, size));
+        }
+
+        int scaledSize = (int) Math.ceil(size * scale);
+        return new ImageIcon(new BaseMultiResolutionImage(this.getImage(resourceName, size), this.getImage(resourceName, scaledSize)));
+    }
+
+    /**
+     * Returns the classpath SVG with the given {@code resourceName}, rendered {@code pixels} wide and high.
+     *
+     * @throws UncheckedIOException If the SVG could be neither found nor rendered.
+     * */
+    public BufferedImage getImage(String resourceName, int pixels) {
+        return this.images.computeIfAbsent(resourceName + "@" + pixels, key -> this.loadOrRender(resourceName, pixels));
+    }
+
+    /**
+     * Reads the given icon from the disk cache; or renders it (and writes it into the disk cache) if not there.
+     * */
+    private BufferedImage loadOrRender(String resourceName, int pixels) {
+        Path cached = this.diskCacheDirectory == null ? null : this.diskCacheDirectory.resolve(cacheFileNameOf(resourceName, pixels));
+
+        if (cached != null && Files.isRegularFile(cached)) {
+            BufferedImage image = Try.of(() -> ImageIO.read(cached.toFile()))
+                .onFailure(t -> LOGGER.debug("Could not read cached icon [{}]. Rendering it again", cached, t))
+                .getOrNull();
+            if (image != null) {
+                LOGGER.trace("Icon [{}] at [{}] px read from [{}]", resourceName, pixels, cached);
+                return image;
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        BufferedImage image = this.render(resourceName, pixels);
+        LOGGER.debug("Icon [{}] rendered at [{}] px in [{}] ms", resourceName, pixels, (System.nanoTime() - startedAt) / 1_000_000);
+
+        if (cached != null) {
+            this.dropOtherVersions();
+            Try.run(() -> {
+                Files.createDirectories(cached.getParent());
+                ImageIO.write(image, IMAGE_FORMAT, cached.toFile());
+            }).onFailure(t -> LOGGER.debug("Could not write icon [{}] into disk cache [{}]", resourceName, cached, t));
+        }
+
+        return image;
+    }
+
+    /**
+     * Renders the classpath SVG with the given {@code resourceName}, {@code pixels} wide and high.
+     * */
+    private BufferedImage render(String resourceName, int pixels) {
+        BufferedImage[] rendered = new BufferedImage[1];
+
+        ImageTranscoder transcoder = new ImageTranscoder() {
+            @Override
+            public BufferedImage createImage(int width, int height) {
+                return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            }
+
+            @Override
+            public void writeImage(BufferedImage image, TranscoderOutput output) {
+                rendered[0] = image;
+            }
+        };
+        transcoder.addTranscodingHint(SVGAbstractTranscoder.KEY_WIDTH, (float) pixels);
+        transcoder.addTranscodingHint(SVGAbstractTranscoder.KEY_HEIGHT, (float) pixels);
+
+        try (InputStream svg = this.classLoader.getResourceAsStream(resourceName)) {
+            if (svg == null) {
+                throw new IOException("Resource [" + resourceName + "] not found");
+            }
+            transcoder.transcode(new TranscoderInput(new ByteArrayInputStream(svg.readAllBytes())), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (TranscoderException e) {
+            throw new UncheckedIOException(new IOException("Could not render [" + resourceName + "]", e));
+        }
+
+        return rendered[0];
+    }
+
+    /**
+     * Deletes every sibling of {@link #diskCacheDirectory} (ie: icons cached by other builds). Only done once.
+     * */
+    private void dropOtherVersions() {
+        Path parent = this.diskCacheDirectory.getParent();
+        if (!this.otherVersionsDropped.compareAndSet(false, true) || parent == null || !Files.isDirectory(parent)) {
+            return;
+        }
+
+        try (Stream<Path> versions = Files.list(parent)) {
+            versions.filter(version -> !version.equals(this.diskCacheDirectory)).forEach(version -> {
+                LOGGER.debug("Dropping icons cached by another build [{}]...", version);
+                FileUtils.deleteQuietly(version.toFile());
+            });
+        } catch (IOException e) {
+            LOGGER.debug("Could not list icon cache directory [{}]", parent, e);
+        }
+    }
+
+    /**
+     * Builds the name of the disk cache directory for the given build; so that icons changed between two builds sharing the
+     * same {@code buildVersion} (ie: snapshots) are never read from a stale cache.
+     *
+     * @return {@code null} if there's no {@code buildVersion} to key the disk cache by.
+     * */
+    @Nullable
+    protected static String buildKeyOf(@Nullable String buildVersion, @Nullable String commitId) {
+        if (buildVersion == null || buildVersion.isBlank()) {
+            return null;
+        }
+        if (commitId == null || commitId.isBlank()) {
+            return buildVersion;
+        }
+        return buildVersion + "-" + commitId;
+    }
+
+    /**
+     * Builds the name under which the given icon is cached on disk.
+     * */
+    private static String cacheFileNameOf(String resourceName, int pixels) {
+        return resourceName.replaceAll("[^A-Za-z0-9.-]", "_") + "-" + pixels + "." + IMAGE_FORMAT;
+    }
+
+    /**
+     * Returns the default screen's scale (ie: {@code 2.0} on a HiDPI screen), or {@code 1.0} if there's no screen at all.
+     * */
+    private static double screenScale() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return 1.0;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDefaultConfiguration()
+            .getDefaultTransform()
+            .getScaleX();
+    }
+}
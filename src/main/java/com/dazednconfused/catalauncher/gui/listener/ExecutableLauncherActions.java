@@ -1,17 +1,26 @@
 package com.dazednconfused.catalauncher.gui.listener;
 
+import com.dazednconfused.catalauncher.backup.SaveIndex;
 import com.dazednconfused.catalauncher.backup.SaveManager;
+import com.dazednconfused.catalauncher.backup.dto.WorldDTO;
 import com.dazednconfused.catalauncher.configuration.ConfigurationManager;
 import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
 import com.dazednconfused.catalauncher.launcher.CDDALauncherManager;
+import com.dazednconfused.catalauncher.task.ManagedTask;
+import com.dazednconfused.catalauncher.task.TaskManager;
 
 import java.awt.event.ActionListener;
+import java.io.File;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.JButton;
 import javax.swing.JFileChooser;
 import javax.swing.JFormattedTextField;
 import javax.swing.JPanel;
 import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
 import javax.swing.event.ChangeListener;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
@@ -40,6 +49,14 @@ public class ExecutableLauncherActions {
     private final JButton runButton;
     private final JButton runLatestWorldButton;
 
+    /**
+     * The {@code --world} arguments pointing to the latest save, as resolved by the last {@link #refreshExecutableLauncherGui()}.
+     * Spares {@link #runLatestWorldButton}'s click from having to look saves up itself.
+     * */
+    private volatile String[] latestWorldArgs;
+
+    private final AtomicBoolean subscribedToSaveChanges = new AtomicBoolean();
+
     /**
      * Public constructor.
      * */
@@ -59,6 +76,26 @@ public class ExecutableLauncherActions {
         this.runLatestWorldButton = runLatestWorldButton;
     }
 
+    /**
+     * Keeps {@link #runLatestWorldButton} up to date with saves being written (ie: by the game itself). Does nothing if
+     * already subscribed.
+     *
+     * @implNote The first call builds the saves' {@link SaveIndex}, which lists and reads every world. Do not call from the
+     *           Event Dispatch Thread (EDT).
+     * */
+    public void subscribeToSaveChanges() {
+        if (!this.subscribedToSaveChanges.compareAndSet(false, true)) {
+            return;
+        }
+
+        SaveIndex.of(Paths.getCustomSavePath()).getEvents().subscribe(new ChangeEventListener<>() {
+            @Override
+            public void onChanged(WorldDTO changed) {
+                refreshExecutableLauncherGui();
+            }
+        });
+    }
+
     /**
      * The action to be performed on {@link #globalProgressBar}'s percent change.
      * */
@@ -75,6 +112,28 @@ public class ExecutableLauncherActions {
         };
     }
 
+    /**
+     * The action to be performed on any {@link TaskManager} task's change, so that {@link #globalProgressBar} reflects the
+     * overall progress of every running task.
+     * */
+    public ChangeEventListener<ManagedTask<?>> onBackgroundTaskChanged() {
+        return new ChangeEventListener<>() {
+            @Override
+            public void onChanged(ManagedTask<?> changed) {
+                int overallProgress = TaskManager.getInstance().getOverallProgress();
+
+                SwingUtilities.invokeLater(() -> {
+                    if (overallProgress >= 0) {
+                        globalProgressBar.setEnabled(true);
+                        globalProgressBar.setValue(overallProgress);
+                    } else if (globalProgressBar.isEnabled()) {
+                        globalProgressBar.setValue(100); // nothing left running. This will reset the progressbar upon hitting 100%
+                    }
+                });
+            }
+        };
+    }
+
     /**
      * The action to be performed on {@link #runButton}'s click.
      * */
@@ -100,7 +159,7 @@ public class ExecutableLauncherActions {
             LOGGER.trace("Run Latest World clicked");
             this.runLatestWorldButton.setEnabled(false);
 
-            String[] lastWorldArgs = SaveManager.getLatestSave().map(latestSave -> new String[]{"--world", latestSave.getName()}).orElse(new String[]{});
+            String[] lastWorldArgs = this.latestWorldArgs != null ? this.latestWorldArgs : resolveLatestWorldArgs();
             String[] launcherArgs = ArrayUtils.addAll(
                 ArrayUtils.addAll(CUSTOM_SAVE_DIR_ARGS, CUSTOM_USER_DIR_ARGS), lastWorldArgs
             );
@@ -141,30 +200,52 @@ public class ExecutableLauncherActions {
 
     /**
      * Refreshes all GUI components corresponding to Launcher Management.
+     *
+     * @implNote Save files are looked up (and launch gets prepared) on the calling thread. GUI components are then updated
+     *           on the Event Dispatch Thread (EDT).
      * */
     public void refreshExecutableLauncherGui() {
         LOGGER.trace("Refreshing executable-management GUI elements...");
 
         String cddaPath = ConfigurationManager.getInstance().getCddaPath();
 
-        boolean saveFilesExist = SaveManager.saveFilesExist();
         boolean pathPointsToValidGameExecutable = cddaPath != null && !cddaPath.isBlank();
+        Optional<File> latestSave = pathPointsToValidGameExecutable ? SaveManager.getLatestSave() : Optional.empty();
+        boolean latestSaveExists = latestSave.isPresent();
 
-        // SET EXECUTABLE TEXT FIELD WITH CDDA PATH FROM CONFIG ---
-        // DETERMINE IF RUN BUTTON SHOULD BE ENABLED ---
+        // PRE-WARM LAUNCH, SO THAT RUN BUTTONS CAN SPAWN THE GAME RIGHT AWAY ---
+        this.latestWorldArgs = latestSave.map(ExecutableLauncherActions::buildWorldArgs).orElse(null);
         if (pathPointsToValidGameExecutable) {
-            this.cddaExecutableFTextField.setText(cddaPath);
-            this.runButton.setEnabled(true);
-        } else {
-            this.cddaExecutableFTextField.setText(null);
-            this.runButton.setEnabled(false);
+            CDDALauncherManager.prepareLaunch();
         }
 
-        // DETERMINE IF RUN LATEST WORLD BUTTON SHOULD BE ENABLED ---
-        if (pathPointsToValidGameExecutable && saveFilesExist && SaveManager.getLatestSave().isPresent()) {
-            this.runLatestWorldButton.setEnabled(true);
-        } else {
-            this.runLatestWorldButton.setEnabled(false);
-        }
+        SwingUtilities.invokeLater(() -> {
+            // SET EXECUTABLE TEXT FIELD WITH CDDA PATH FROM CONFIG ---
+            // DETERMINE IF RUN BUTTON SHOULD BE ENABLED ---
+            if (pathPointsToValidGameExecutable) {
+                this.cddaExecutableFTextField.setText(cddaPath);
+                this.runButton.setEnabled(true);
+            } else {
+                this.cddaExecutableFTextField.setText(null);
+                this.runButton.setEnabled(false);
+            }
+
+            // DETERMINE IF RUN LATEST WORLD BUTTON SHOULD BE ENABLED ---
+            this.runLatestWorldButton.setEnabled(latestSaveExists);
+        });
+    }
+
+    /**
+     * Resolves the {@code --world} arguments pointing to the latest save; or no arguments at all if there's none.
+     * */
+    private static String[] resolveLatestWorldArgs() {
+        return SaveManager.getLatestSave().map(ExecutableLauncherActions::buildWorldArgs).orElse(new String[]{});
+    }
+
+    /**
+     * Builds the {@code --world} arguments pointing to the given {@code save}.
+     * */
+    private static String[] buildWorldArgs(File save) {
+        return new String[]{"--world", save.getName()};
     }
 }
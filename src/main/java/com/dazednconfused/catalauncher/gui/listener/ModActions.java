@@ -1,40 +1,47 @@
 package com.dazednconfused.catalauncher.gui.listener;
 
+import com.dazednconfused.catalauncher.database.base.DatabaseExecutor;
 import com.dazednconfused.catalauncher.gui.ConfirmDialog;
 import com.dazednconfused.catalauncher.gui.ErrorDialog;
+import com.dazednconfused.catalauncher.gui.table.IncrementalTableModel;
 import com.dazednconfused.catalauncher.helper.FileExplorerManager;
 import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.helper.watch.FileSystemMonitor;
+import com.dazednconfused.catalauncher.helper.watch.WatchDepth;
+import com.dazednconfused.catalauncher.helper.watch.WatchedDirectory;
 import com.dazednconfused.catalauncher.mod.ModManager;
 import com.dazednconfused.catalauncher.mod.dto.ModDTO;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
 
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.io.File;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import javax.swing.JButton;
 import javax.swing.JFileChooser;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
-import javax.swing.JProgressBar;
 import javax.swing.JTable;
 import javax.swing.SwingUtilities;
-import javax.swing.SwingWorker;
 import javax.swing.Timer;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.filechooser.FileFilter;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableModel;
 
 import li.flor.nativejfilechooser.NativeJFileChooser;
 
 import lombok.NonNull;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,8 +52,15 @@ public class ModActions {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ModActions.class);
 
+    private static final String[] MODS_TABLE_COLUMNS = new String[]{"Name", "Path", "Size", "Install date", "Last updated"};
+    private static final Comparator<Object[]> OLDEST_FIRST = Comparator
+        .comparing((Object[] row) -> (LocalDateTime) row[3], Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(row -> (String) row[0], Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final IncrementalTableModel<Long> modsTableModel = new IncrementalTableModel<>(MODS_TABLE_COLUMNS, OLDEST_FIRST);
+    private final WatchedDirectory modsDirectory = FileSystemMonitor.getInstance().watch(Paths.getCustomModsDir(), WatchDepth.CHILDREN);
+
     private final JPanel mainPanel;
-    private final JProgressBar globalProgressBar;
     private final JTable modsTable;
     private final JButton installModButton;
     private final JButton uninstallModButton;
@@ -56,16 +70,51 @@ public class ModActions {
      * */
     public ModActions(
         @NonNull JPanel mainPanel,
-        @NonNull JProgressBar globalProgressBar,
         @NonNull JTable modsTable,
         @NonNull JButton installModButton,
         @NonNull JButton uninstallModButton
     ) {
         this.mainPanel = mainPanel;
-        this.globalProgressBar = globalProgressBar;
         this.modsTable = modsTable;
         this.installModButton = installModButton;
         this.uninstallModButton = uninstallModButton;
+
+        this.modsTable.setModel(this.modsTableModel);
+
+        // KEEP MODS TABLE UP TO DATE WITH MODMANAGER'S CHANGES ---
+        // (subscribed from the background, so that building the GUI never waits for the mods' database to be opened)
+        CompletableFuture.runAsync(() -> ModManager.getInstance().getModEvents().subscribe(new ChangeEventListener<>() {
+            @Override
+            public void onAdded(ModDTO added) {
+                modsTableModel.upsert(added.getId(), buildModsTableRow(added));
+            }
+
+            @Override
+            public void onUpdated(ModDTO updated) {
+                modsTableModel.upsert(updated.getId(), buildModsTableRow(updated));
+            }
+
+            @Override
+            public void onRemoved(ModDTO removed) {
+                modsTableModel.remove(removed.getId());
+            }
+        }), DatabaseExecutor.getInstance());
+
+        // KEEP REGISTERED MODS' ROWS (ie: their sizes) UP TO DATE WITH CHANGES TO THEIR FILES ---
+        // (mods are only ever registered/unregistered through the database, so removals don't matter here)
+        this.modsDirectory.getEvents().subscribe(new ChangeEventListener<>() {
+            @Override
+            public void onAdded(File added) {
+                this.onUpdated(added);
+            }
+
+            @Override
+            public void onUpdated(File updated) {
+                ModManager.getInstance().getModForAsync(updated).thenAccept(mod -> mod.ifPresent(
+                    registered -> modsTableModel.upsert(registered.getId(), buildModsTableRow(registered))
+                ));
+            }
+        });
     }
 
     /**
@@ -110,56 +159,43 @@ public class ModActions {
         int result = fileChooser.showOpenDialog(mainPanel);
 
         if (result == JFileChooser.APPROVE_OPTION && fileChooser.getSelectedFile() != null) {
+            File selectedMod = fileChooser.getSelectedFile();
+
+            // execute the installation in the background, outside the Event Dispatch Thread (EDT) -
+            TaskManager.getInstance().submit(String.format("Install mod [%s]", selectedMod.getName()), TaskCategory.DISK, task -> {
+                // setup dummy timer to give user visual feedback that his operation is in progress...
+                Timer dummyTimer = new Timer(10, e1 -> {
+                    if (task.getProgress() < 99) { // it's important to keep this from hitting 100% while it is in its dummy-loop...
+                        task.setProgress(task.getProgress() + 1);
+                    }
+                });
 
-            // enable global progressbar
-            this.globalProgressBar.setEnabled(true);
-
-            // setup dummy timer to give user visual feedback that his operation is in progress...
-            Timer dummyTimer = new Timer(10, e1 -> {
-                if (this.globalProgressBar.getValue() < 99) { // it's important to keep this from hitting 100% while it is in its dummy-loop...
-                    this.globalProgressBar.setValue(this.globalProgressBar.getValue() + 1);
-                }
-            });
-
-            // start timer before triggering installation
-            dummyTimer.start();
+                // start timer before triggering installation
+                dummyTimer.start();
 
-            // execute the installation in a background thread, outside the Event Dispatch Thread (EDT)
-            SwingWorker<Void, Void> worker = new SwingWorker<>() {
-                @Override
-                protected Void doInBackground() {
-                    ModManager.getInstance().installMod(fileChooser.getSelectedFile(), p -> dummyTimer.stop()).toEither().fold(
+                try {
+                    ModManager.getInstance().installMod(selectedMod, p -> dummyTimer.stop()).toEither().fold(
                         failure -> {
-                            LOGGER.error("There was a problem while installing mod [{}]", fileChooser.getSelectedFile(), failure.getError());
+                            LOGGER.error("There was a problem while installing mod [{}]", selectedMod, failure.getError());
 
                             // show error dialog on the EDT
-                            SwingUtilities.invokeLater(() -> {
-                                dummyTimer.stop(); // stop dummyTimer on error
-                                ErrorDialog.showErrorDialog(
-                                    String.format("There was a problem while installing mod [%s]", fileChooser.getSelectedFile().getName()),
-                                    failure.getError()
-                                ).packCenterAndShow(mainPanel);
-                            });
+                            SwingUtilities.invokeLater(() -> ErrorDialog.showErrorDialog(
+                                String.format("There was a problem while installing mod [%s]", selectedMod.getName()),
+                                failure.getError()
+                            ).packCenterAndShow(mainPanel));
                             return null;
                         },
                         success -> {
-                            LOGGER.info("Mod [{}] has been successfully installed!", fileChooser.getSelectedFile());
+                            LOGGER.info("Mod [{}] has been successfully installed!", selectedMod);
                             return null;
                         }
                     );
-                    return null;
-                }
-
-                @Override
-                protected void done() {
+                } finally {
                     dummyTimer.stop(); // ensure the timer is stopped when the task is complete
-                    globalProgressBar.setValue(100); // this will refresh the GUI upon hitting 100%
-                    refreshModGui();
+                    task.setProgress(100);
                 }
-            };
-
-            // start the worker thread
-            worker.execute();
+                return null;
+            }).getResult().whenComplete((unused, throwable) -> this.refreshModButtons());
         } else {
             LOGGER.trace("Exiting mod finder dialog with no selection...");
         }
@@ -185,14 +221,25 @@ public class ModActions {
                 confirmed -> {
                     LOGGER.trace("Confirmation dialog result: [{}]", confirmed);
 
-                    if (confirmed) {
-                        ModManager.getInstance().uninstallMod(
-                            ModManager.getInstance().getModFor(selectedMod).orElseThrow(),
-                            ModManager.DO_NOTHING_ACTION
-                        );
+                    if (!confirmed) {
+                        this.refreshModButtons();
+                        return;
                     }
 
-                    this.refreshModGui();
+                    // uninstall outside the Event Dispatch Thread (EDT), then refresh the GUI once done -
+                    ModManager.getInstance().getModForAsync(selectedMod)
+                        .thenCompose(mod -> ModManager.getInstance().uninstallModAsync(mod.orElseThrow(), ModManager.DO_NOTHING_ACTION))
+                        .whenComplete((result, throwable) -> {
+                            if (throwable != null) {
+                                LOGGER.error("There was a problem while uninstalling mod [{}]", selectedMod, throwable);
+                                SwingUtilities.invokeLater(() -> ErrorDialog.showErrorDialog(
+                                    String.format("There was a problem while uninstalling mod [%s]", selectedMod.getName()),
+                                    throwable
+                                ).packCenterAndShow(this.mainPanel));
+                            }
+
+                            this.refreshModButtons();
+                        });
                 }
             );
 
@@ -253,47 +300,77 @@ public class ModActions {
 
     /**
      * Refreshes all GUI components corresponding to Mod Management.
+     *
+     * @implNote Registered mods (and their sizes) are fetched in the background; the resulting rows are then diffed into
+     *           {@link #modsTable} on the Event Dispatch Thread (EDT). Individual changes performed through {@link ModManager}
+     *           don't need this full refresh, as they already reach the table through {@link ModManager#getModEvents()}.
      * */
     public void refreshModGui() {
         LOGGER.trace("Refreshing mod-management GUI elements...");
 
-        // SET MODS TABLE ---
-        this.refreshModsTable();
+        ModManager.getInstance().listAllRegisteredModsAsync()
+            .thenApply(this::buildModsTableRows)
+            .whenComplete((rows, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.error("There was a problem while refreshing mod-management GUI elements", throwable);
+                    return;
+                }
 
-        // DETERMINE IF MOD DELETE BUTTON SHOULD BE DISABLED ---
-        // (ie: if last mod was just deleted)
-        if (ModManager.getInstance().listAllRegisteredMods().isEmpty() || this.modsTable.getSelectedRow() == -1) {
-            this.uninstallModButton.setEnabled(false);
-        }
+                // SET MODS TABLE ---
+                LOGGER.trace("Refreshing mods table...");
+                this.modsTableModel.applySnapshot(rows);
+
+                this.refreshModButtons();
+            });
     }
 
     /**
-     * Refreshes current {@link #modsTable} with latest info coming from {@link ModManager}.
-     */
-    private void refreshModsTable() {
-        LOGGER.trace("Refreshing mods table...");
-
-        String[] columns = new String[]{"Name", "Path", "Size", "Install date", "Last updated"};
-
-        List<Object[]> values = new ArrayList<>();
-        ModManager.getInstance().listAllRegisteredMods().stream().sorted(Comparator.comparing(ModDTO::getId)).forEach(mod -> {
-            Path modPath = ModManager.getInstance().getPathFor(mod);
-            File modFile = new File(modPath.toString());
-            values.add(new Object[]{
-                mod.getName(),
-                modFile,
-                FileUtils.sizeOfDirectory(modFile) / (1024) + " KB",
-                mod.getCreatedDate(),
-                mod.getUpdatedDate()
-            });
+     * Refreshes the enabled state of all Mod Management buttons.
+     * */
+    private void refreshModButtons() {
+        SwingUtilities.invokeLater(() -> {
+            // DETERMINE IF MOD DELETE BUTTON SHOULD BE DISABLED ---
+            // (ie: if last mod was just deleted)
+            if (this.modsTableModel.getRowCount() == 0 || this.modsTable.getSelectedRow() == -1) {
+                this.uninstallModButton.setEnabled(false);
+            }
         });
+    }
 
-        TableModel tableModel = new DefaultTableModel(values.toArray(new Object[][]{}), columns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
+    /**
+     * Builds the {@link #modsTable}'s rows from the given {@code mods}, keyed by their ID.
+     * */
+    private Map<Long, Object[]> buildModsTableRows(List<ModDTO> mods) {
+        // index any missing size in parallel, before building rows -
+        this.modsDirectory.getSizeIndex().sizesOf(mods.stream().map(this::getModFileFor).collect(Collectors.toList()));
+
+        Map<Long, Object[]> rows = new LinkedHashMap<>();
+        mods.forEach(mod -> rows.put(mod.getId(), this.buildModsTableRow(mod)));
+        return rows;
+    }
+
+    /**
+     * Builds the {@link #modsTable}'s row for the given {@code mod}.
+     *
+     * @implNote The mod's size comes from {@link #modsDirectory}'s size index, so it's only ever computed again if the
+     *           mod's files changed.
+     * */
+    private Object[] buildModsTableRow(ModDTO mod) {
+        File modFile = this.getModFileFor(mod);
+        return new Object[]{
+            mod.getName(),
+            modFile,
+            this.modsDirectory.getSizeIndex().sizeOf(modFile) / (1024) + " KB",
+            mod.getCreatedDate(),
+            mod.getUpdatedDate()
         };
-        this.modsTable.setModel(tableModel);
+    }
+
+    /**
+     * Returns the directory the given {@code mod} is installed into, as a {@link File}.
+     * */
+    private File getModFileFor(ModDTO mod) {
+        Path modPath = ModManager.getInstance().getPathFor(mod);
+        return new File(modPath.toString());
     }
 }
@@ -4,27 +4,32 @@ import com.dazednconfused.catalauncher.backup.SaveManager;
 import com.dazednconfused.catalauncher.gui.ConfirmDialog;
 import com.dazednconfused.catalauncher.gui.ErrorDialog;
 import com.dazednconfused.catalauncher.gui.StringInputDialog;
+import com.dazednconfused.catalauncher.gui.table.IncrementalTableModel;
 import com.dazednconfused.catalauncher.helper.FileExplorerManager;
 import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.helper.watch.FileSystemMonitor;
+import com.dazednconfused.catalauncher.helper.watch.WatchDepth;
+import com.dazednconfused.catalauncher.helper.watch.WatchedDirectory;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
 
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
-import javax.swing.JProgressBar;
 import javax.swing.JTable;
+import javax.swing.SwingUtilities;
 import javax.swing.event.ListSelectionListener;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableModel;
 
 import lombok.NonNull;
 
@@ -38,8 +43,14 @@ public class SaveBackupActions {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SaveBackupActions.class);
 
+    private static final String[] SAVE_BACKUPS_TABLE_COLUMNS = new String[]{"Name", "Path", "Size", "Date"};
+    private static final Comparator<Object[]> NEWEST_FIRST = Comparator.comparing((Object[] row) -> (Date) row[3]).reversed();
+
+    private final IncrementalTableModel<File> saveBackupsTableModel = new IncrementalTableModel<>(SAVE_BACKUPS_TABLE_COLUMNS, NEWEST_FIRST);
+    private final WatchedDirectory savesDirectory = FileSystemMonitor.getInstance().watch(Paths.getCustomSavePath(), WatchDepth.CHILDREN);
+    private final WatchedDirectory backupsDirectory = FileSystemMonitor.getInstance().watch(Paths.getSaveBackupPath(), WatchDepth.ROOT);
+
     private final JPanel mainPanel;
-    private final JProgressBar globalProgressBar;
     private final JTable saveBackupsTable;
     private final JButton backupNowButton;
     private final JButton backupDeleteButton;
@@ -51,7 +62,6 @@ public class SaveBackupActions {
      * */
     public SaveBackupActions(
         @NonNull JPanel mainPanel,
-        @NonNull JProgressBar globalProgressBar,
         @NonNull JTable saveBackupsTable,
         @NonNull JButton backupNowButton,
         @NonNull JButton backupDeleteButton,
@@ -64,7 +74,37 @@ public class SaveBackupActions {
         this.backupDeleteButton = backupDeleteButton;
         this.backupRestoreButton = backupRestoreButton;
         this.backupOnExitCheckBox = backupOnExitCheckBox;
-        this.globalProgressBar = globalProgressBar;
+
+        this.saveBackupsTable.setModel(this.saveBackupsTableModel);
+
+        ChangeEventListener<File> saveBackupsTableUpdater = new ChangeEventListener<>() {
+            @Override
+            public void onAdded(File added) {
+                saveBackupsTableModel.upsert(added, buildSaveBackupsTableRow(added));
+            }
+
+            @Override
+            public void onUpdated(File updated) {
+                saveBackupsTableModel.upsert(updated, buildSaveBackupsTableRow(updated));
+            }
+
+            @Override
+            public void onRemoved(File removed) {
+                saveBackupsTableModel.remove(removed);
+            }
+        };
+
+        // KEEP SAVE BACKUPS TABLE UP TO DATE WITH SAVEMANAGER'S (AND ANY OTHER) CHANGES ---
+        SaveManager.getBackupEvents().subscribe(saveBackupsTableUpdater);
+        this.backupsDirectory.getEvents().subscribe(saveBackupsTableUpdater);
+
+        // KEEP BUTTONS UP TO DATE WITH SAVES BEING WRITTEN (ie: by the game itself) ---
+        this.savesDirectory.getEvents().subscribe(new ChangeEventListener<>() {
+            @Override
+            public void onChanged(File changed) {
+                refreshSaveBackupButtons();
+            }
+        });
     }
 
     /**
@@ -74,25 +114,14 @@ public class SaveBackupActions {
         return e -> {
             LOGGER.trace("Save backup button clicked");
 
-            // enable backup progressbar
-            this.globalProgressBar.setEnabled(true);
-
             // disable backup buttons (don't want to do multiple operations simultaneously)
             this.disableSaveBackupButtons();
 
-            SaveManager.backupCurrentSaves(this.globalProgressBar::setValue).ifPresent(saveBackupThread -> new Thread(() -> {
-                try {
-                    saveBackupThread.start();
-                    saveBackupThread.join();
-                } catch (InterruptedException ex) {
-                    LOGGER.error("An error has occurred while waiting for the save-backup-ing thread to terminate. GUI elements may not refresh properly as a result.", ex);
-                    Thread.currentThread().interrupt();
-                } finally {
-                    this.refreshSaveBackupGui();
-                }
-            }).start());
-
-            this.refreshSaveBackupGui();
+            // backup in the background. Progress is reported into the global progressbar through the TaskManager -
+            TaskManager.getInstance().submit("Backup saves", TaskCategory.DISK, task -> {
+                SaveManager.backupCurrentSaves(task::setProgress).ifPresent(Runnable::run);
+                return null;
+            }).getResult().whenComplete((result, throwable) -> this.refreshSaveBackupButtons());
         };
     }
 
@@ -113,26 +142,14 @@ public class SaveBackupActions {
                     LOGGER.trace("Confirmation dialog result: [{}]", confirmed);
 
                     if (confirmed) {
-                        // enable backup progressbar
-                        this.globalProgressBar.setEnabled(true);
-
                         // disable backup buttons (don't want to do multiple operations simultaneously)
                         this.disableSaveBackupButtons();
 
-                        SaveManager.restoreBackup(
-                            selectedBackup,
-                            this.globalProgressBar::setValue
-                        ).ifPresent(restoreBackupThread -> new Thread(() -> {
-                            try {
-                                restoreBackupThread.start();
-                                restoreBackupThread.join();
-                            } catch (InterruptedException ex) {
-                                LOGGER.error("An error has occurred while waiting for the save-backup-restoring thread to terminate. GUI elements may not refresh properly as a result.", ex);
-                                Thread.currentThread().interrupt();
-                            } finally {
-                                this.refreshSaveBackupGui();
-                            }
-                        }).start());
+                        // restore in the background. Progress is reported into the global progressbar through the TaskManager -
+                        TaskManager.getInstance().submit(String.format("Restore backup [%s]", selectedBackup.getName()), TaskCategory.DISK, task -> {
+                            SaveManager.restoreBackup(selectedBackup, task::setProgress).ifPresent(Runnable::run);
+                            return null;
+                        }).getResult().whenComplete((result, throwable) -> this.refreshSaveBackupButtons());
                     }
                 }
             );
@@ -161,7 +178,7 @@ public class SaveBackupActions {
                         SaveManager.deleteBackup(selectedBackup);
                     }
 
-                    this.refreshSaveBackupGui();
+                    this.refreshSaveBackupButtons();
                 }
             );
 
@@ -227,7 +244,7 @@ public class SaveBackupActions {
                             )
                         );
 
-                        this.refreshSaveBackupGui();
+                        this.refreshSaveBackupButtons();
                     }
                 );
 
@@ -249,56 +266,62 @@ public class SaveBackupActions {
 
     /**
      * Refreshes all GUI components corresponding to Save Backup Management.
+     *
+     * @implNote Backups are listed on the calling thread; the resulting rows are then diffed into {@link #saveBackupsTable}
+     *           on the Event Dispatch Thread (EDT). Individual changes performed through {@link SaveManager} don't need
+     *           this full refresh, as they already reach the table through {@link SaveManager#getBackupEvents()}.
      * */
     public void refreshSaveBackupGui() {
         LOGGER.trace("Refreshing save-backup-management GUI elements...");
 
-        boolean saveFilesExist = SaveManager.saveFilesExist();
-
-        // DETERMINE IF BACKUP NOW BUTTON SHOULD BE ENABLED ---
-        if (saveFilesExist) {
-            this.backupNowButton.setEnabled(true);
-        } else {
-            this.backupNowButton.setEnabled(false);
-        }
-
         // SET SAVE BACKUPS TABLE ---
         this.refreshSaveBackupsTable();
 
-        // DETERMINE IF BACKUP RESTORE BUTTON SHOULD BE DISABLED  ---
-        // DETERMINE IF BACKUP DELETE BUTTON SHOULD BE DISABLED ---
-        // (ie: if last backup was just deleted)
-        if (SaveManager.listAllBackups().isEmpty() || this.saveBackupsTable.getSelectedRow() == -1) {
-            this.backupDeleteButton.setEnabled(false);
-            this.backupRestoreButton.setEnabled(false);
-        }
+        this.refreshSaveBackupButtons();
     }
 
     /**
-     * Refreshes current {@link #saveBackupsTable} with latest info coming from {@link SaveManager}.
+     * Refreshes current {@link #saveBackupsTable} with the backups currently known to the {@link FileSystemMonitor}.
      */
     private void refreshSaveBackupsTable() {
         LOGGER.trace("Refreshing save backups table...");
 
-        String[] columns = new String[]{"Name", "Path", "Size", "Date"};
+        Map<File, Object[]> rows = new LinkedHashMap<>();
+        this.backupsDirectory.getChildren().forEach(backup -> rows.put(backup, buildSaveBackupsTableRow(backup)));
 
-        List<Object[]> values = new ArrayList<>();
-        SaveManager.listAllBackups().stream().sorted(Comparator.comparing(File::lastModified).reversed()).forEach(backup ->
-            values.add(new Object[]{
-                backup.getName(),
-                backup,
-                backup.length() / (1024 * 1024) + " MB",
-                new Date(backup.lastModified())
-            })
-        );
+        this.saveBackupsTableModel.applySnapshot(rows);
+    }
 
-        TableModel tableModel = new DefaultTableModel(values.toArray(new Object[][]{}), columns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
+    /**
+     * Refreshes the enabled state of all Save Backup Management buttons.
+     * */
+    private void refreshSaveBackupButtons() {
+        boolean saveFilesExist = this.savesDirectory.hasChildren();
+
+        SwingUtilities.invokeLater(() -> {
+            // DETERMINE IF BACKUP NOW BUTTON SHOULD BE ENABLED ---
+            this.backupNowButton.setEnabled(saveFilesExist);
+
+            // DETERMINE IF BACKUP RESTORE BUTTON SHOULD BE DISABLED  ---
+            // DETERMINE IF BACKUP DELETE BUTTON SHOULD BE DISABLED ---
+            // (ie: if last backup was just deleted)
+            if (this.saveBackupsTableModel.getRowCount() == 0 || this.saveBackupsTable.getSelectedRow() == -1) {
+                this.backupDeleteButton.setEnabled(false);
+                this.backupRestoreButton.setEnabled(false);
             }
+        });
+    }
+
+    /**
+     * Builds the {@link #saveBackupsTable}'s row for the given {@code backup}.
+     * */
+    private static Object[] buildSaveBackupsTableRow(File backup) {
+        return new Object[]{
+            backup.getName(),
+            backup,
+            backup.length() / (1024 * 1024) + " MB",
+            new Date(backup.lastModified())
         };
-        this.saveBackupsTable.setModel(tableModel);
     }
 
     /**
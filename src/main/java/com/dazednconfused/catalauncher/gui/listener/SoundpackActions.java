@@ -1,35 +1,43 @@
 package com.dazednconfused.catalauncher.gui.listener;
 
+import com.dazednconfused.catalauncher.database.base.DatabaseExecutor;
 import com.dazednconfused.catalauncher.gui.ConfirmDialog;
+import com.dazednconfused.catalauncher.gui.ErrorDialog;
+import com.dazednconfused.catalauncher.gui.table.IncrementalTableModel;
 import com.dazednconfused.catalauncher.helper.FileExplorerManager;
+import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.helper.watch.FileSystemMonitor;
+import com.dazednconfused.catalauncher.helper.watch.WatchDepth;
+import com.dazednconfused.catalauncher.helper.watch.WatchedDirectory;
 import com.dazednconfused.catalauncher.soundpack.SoundpackManager;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
 
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.JButton;
 import javax.swing.JFileChooser;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
-import javax.swing.JProgressBar;
 import javax.swing.JTable;
-import javax.swing.SwingWorker;
-import javax.swing.Timer;
+import javax.swing.SwingUtilities;
 import javax.swing.event.ListSelectionListener;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableModel;
+import javax.swing.filechooser.FileFilter;
 
 import li.flor.nativejfilechooser.NativeJFileChooser;
 
 import lombok.NonNull;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,8 +48,13 @@ public class SoundpackActions {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SoundpackActions.class);
 
+    private static final String[] SOUNDPACKS_TABLE_COLUMNS = new String[]{"Name", "Path", "Size", "Date"};
+    private static final Comparator<Object[]> NEWEST_FIRST = Comparator.comparing((Object[] row) -> (Date) row[3]).reversed();
+
+    private final IncrementalTableModel<File> soundpacksTableModel = new IncrementalTableModel<>(SOUNDPACKS_TABLE_COLUMNS, NEWEST_FIRST);
+    private final WatchedDirectory soundpacksDirectory = FileSystemMonitor.getInstance().watch(Paths.getCustomSoundpacksDir(), WatchDepth.CHILDREN);
+
     private final JPanel mainPanel;
-    private final JProgressBar globalProgressBar;
     private final JTable soundpacksTable;
     private final JButton installSoundpackButton;
     private final JButton uninstallSoundpackButton;
@@ -51,67 +64,90 @@ public class SoundpackActions {
      * */
     public SoundpackActions(
         @NonNull JPanel mainPanel,
-        @NonNull JProgressBar globalProgressBar,
         @NonNull JTable soundpacksTable,
         @NonNull JButton installSoundpackButton,
         @NonNull JButton uninstallSoundpackButton
     ) {
         this.mainPanel = mainPanel;
-        this.globalProgressBar = globalProgressBar;
         this.soundpacksTable = soundpacksTable;
         this.installSoundpackButton = installSoundpackButton;
         this.uninstallSoundpackButton = uninstallSoundpackButton;
-    }
-
-    /**
-     * The action to be performed on {@link #installSoundpackButton}'s click.
-     * */
-    public ActionListener onInstallSoundpackButtonClicked() {
-        return e -> {
-            LOGGER.trace("Install soundpack button clicked");
-
-            JFileChooser fileChooser = new NativeJFileChooser();
-            fileChooser.setDialogTitle("Select soundpack folder to install");
-            fileChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
-            int result = fileChooser.showOpenDialog(mainPanel);
 
-            if (result == JFileChooser.APPROVE_OPTION && fileChooser.getSelectedFile() != null) {
+        this.soundpacksTable.setModel(this.soundpacksTableModel);
 
-                // enable global progressbar
-                this.globalProgressBar.setEnabled(true);
+        ChangeEventListener<File> soundpacksTableUpdater = new ChangeEventListener<>() {
+            @Override
+            public void onAdded(File added) {
+                soundpacksTableModel.upsert(added, buildSoundpacksTableRow(added));
+            }
 
-                // setup dummy timer to give user visual feedback that his operation is in progress...
-                Timer dummyTimer = new Timer(10, e1 -> {
-                    if (this.globalProgressBar.getValue() < 99) { // it's important to keep this from hitting 100% while it is in its dummy-loop...
-                        this.globalProgressBar.setValue(this.globalProgressBar.getValue() + 1);
-                    }
-                });
+            @Override
+            public void onUpdated(File updated) {
+                soundpacksTableModel.upsert(updated, buildSoundpacksTableRow(updated));
+            }
 
-                // start timer before triggering installation
-                dummyTimer.start();
+            @Override
+            public void onRemoved(File removed) {
+                soundpacksTableModel.remove(removed);
+            }
+        };
 
-                // execute the installation in a background thread, outside the Event Dispatch Thread (EDT)
-                SwingWorker<Void, Void> worker = new SwingWorker<>() {
-                    @Override
-                    protected Void doInBackground() {
-                        SoundpackManager.installSoundpack(fileChooser.getSelectedFile(), p -> dummyTimer.stop());
-                        return null;
-                    }
+        // KEEP SOUNDPACKS TABLE UP TO DATE WITH SOUNDPACKMANAGER'S (AND ANY OTHER) CHANGES ---
+        // (subscribed to SoundpackManager from the background, so that building the GUI never waits for its database to be opened)
+        CompletableFuture.runAsync(() -> SoundpackManager.getInstance().getSoundpackEvents().subscribe(soundpacksTableUpdater), DatabaseExecutor.getInstance());
+        this.soundpacksDirectory.getEvents().subscribe(soundpacksTableUpdater);
+    }
 
-                    @Override
-                    protected void done() {
-                        dummyTimer.stop(); // ensure the timer is stopped when the task is complete
-                        globalProgressBar.setValue(100); // this will refresh the GUI upon hitting 100%
-                        refreshSoundpackGui();
-                    }
-                };
+    /**
+     * The action to be performed on {@link #installSoundpackButton}'s click, for the given {@code jFileChooserType} (ie: either
+     * {@link JFileChooser#FILES_ONLY} for {@code .zip} archives or {@link JFileChooser#DIRECTORIES_ONLY} for directories).
+     * */
+    public void onInstallSoundpackButtonClickedFor(int jFileChooserType) {
+        LOGGER.trace("Install soundpack button clicked");
+
+        JFileChooser fileChooser = new NativeJFileChooser();
+        fileChooser.setDialogTitle("Select soundpack folder/zip to install");
+        fileChooser.setFileSelectionMode(jFileChooserType);
+        fileChooser.setFileFilter(new FileFilter() {
+            // set a custom file filter to allow only ZIP files or directories
+            @Override
+            public boolean accept(File file) {
+                return file.isDirectory() || file.getName().toLowerCase().endsWith(".zip");
+            }
 
-                // start the worker thread
-                worker.execute();
-            } else {
-                LOGGER.trace("Exiting soundpack finder dialog with no selection...");
+            @Override
+            public String getDescription() {
+                return "ZIP files and directories";
             }
-        };
+        });
+
+        int result = fileChooser.showOpenDialog(mainPanel);
+
+        if (result == JFileChooser.APPROVE_OPTION && fileChooser.getSelectedFile() != null) {
+            File selectedSoundpack = fileChooser.getSelectedFile();
+
+            // execute the installation in the background, outside the Event Dispatch Thread (EDT) -
+            TaskManager.getInstance().submit(String.format("Install soundpack [%s]", selectedSoundpack.getName()), TaskCategory.DISK, task -> {
+                try {
+                    SoundpackManager.getInstance().installSoundpack(selectedSoundpack, task::setProgress, p -> { }).toEither().fold(
+                        failure -> {
+                            // show error dialog on the EDT
+                            SwingUtilities.invokeLater(() -> ErrorDialog.showErrorDialog(
+                                String.format("There was a problem while installing soundpack [%s]", selectedSoundpack.getName()),
+                                failure.getError()
+                            ).packCenterAndShow(mainPanel));
+                            return null;
+                        },
+                        success -> null
+                    );
+                } finally {
+                    task.setProgress(100);
+                }
+                return null;
+            }).getResult().whenComplete((unused, throwable) -> this.refreshSoundpackButtons());
+        } else {
+            LOGGER.trace("Exiting soundpack finder dialog with no selection...");
+        }
     }
 
     /**
@@ -131,10 +167,13 @@ public class SoundpackActions {
                     LOGGER.trace("Confirmation dialog result: [{}]", confirmed);
 
                     if (confirmed) {
-                        SoundpackManager.deleteSoundpack(selectedSoundpack);
+                        // execute the deletion in the background, outside the Event Dispatch Thread (EDT) -
+                        TaskManager.getInstance().submit(String.format("Delete soundpack [%s]", selectedSoundpack.getName()), TaskCategory.DISK, task ->
+                            SoundpackManager.getInstance().deleteSoundpack(selectedSoundpack)
+                        ).getResult().whenComplete((unused, throwable) -> this.refreshSoundpackButtons());
+                    } else {
+                        this.refreshSoundpackButtons();
                     }
-
-                    this.refreshSoundpackGui();
                 }
             );
 
@@ -195,6 +234,11 @@ public class SoundpackActions {
 
     /**
      * Refreshes all GUI components corresponding to Soundpack Management.
+     *
+     * @implNote Soundpacks (and their sizes) are computed on the calling thread; the resulting rows are then diffed into
+     *           {@link #soundpacksTable} on the Event Dispatch Thread (EDT). Individual changes performed through
+     *           {@link SoundpackManager} don't need this full refresh, as they already reach the table through
+     *           {@link SoundpackManager#getSoundpackEvents()}.
      * */
     public void refreshSoundpackGui() {
         LOGGER.trace("Refreshing soundpack-management GUI elements...");
@@ -202,37 +246,49 @@ public class SoundpackActions {
         // SET SOUNDPACKS TABLE ---
         this.refreshSoundpacksTable();
 
-        // DETERMINE IF SOUNDPACK DELETE BUTTON SHOULD BE DISABLED ---
-        // (ie: if last backup was just deleted)
-        if (SoundpackManager.listAllSoundpacks().isEmpty() || this.soundpacksTable.getSelectedRow() == -1) {
-            this.uninstallSoundpackButton.setEnabled(false);
-        }
+        this.refreshSoundpackButtons();
     }
 
     /**
-     * Refreshes current {@link #soundpacksTable} with latest info coming from {@link SoundpackManager}.
+     * Refreshes current {@link #soundpacksTable} with the soundpacks currently known to the {@link FileSystemMonitor}.
      */
     private void refreshSoundpacksTable() {
         LOGGER.trace("Refreshing soundpacks table...");
 
-        String[] columns = new String[]{"Name", "Path", "Size", "Date"};
+        List<File> soundpacks = this.soundpacksDirectory.getChildren();
+        this.soundpacksDirectory.getSizeIndex().sizesOf(soundpacks); // index any missing size in parallel, before building rows
 
-        List<Object[]> values = new ArrayList<>();
-        SoundpackManager.listAllSoundpacks().stream().sorted(Comparator.comparing(File::lastModified).reversed()).forEach(soundpack ->
-            values.add(new Object[]{
-                soundpack.getName(),
-                soundpack,
-                FileUtils.sizeOfDirectory(soundpack) / (1024 * 1024) + " MB",
-                new Date(soundpack.lastModified())
-            })
-        );
+        Map<File, Object[]> rows = new LinkedHashMap<>();
+        soundpacks.forEach(soundpack -> rows.put(soundpack, this.buildSoundpacksTableRow(soundpack)));
 
-        TableModel tableModel = new DefaultTableModel(values.toArray(new Object[][]{}), columns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
+        this.soundpacksTableModel.applySnapshot(rows);
+    }
+
+    /**
+     * Refreshes the enabled state of all Soundpack Management buttons.
+     * */
+    private void refreshSoundpackButtons() {
+        SwingUtilities.invokeLater(() -> {
+            // DETERMINE IF SOUNDPACK DELETE BUTTON SHOULD BE DISABLED ---
+            // (ie: if last soundpack was just deleted)
+            if (this.soundpacksTableModel.getRowCount() == 0 || this.soundpacksTable.getSelectedRow() == -1) {
+                this.uninstallSoundpackButton.setEnabled(false);
             }
+        });
+    }
+
+    /**
+     * Builds the {@link #soundpacksTable}'s row for the given {@code soundpack}.
+     *
+     * @implNote The soundpack's size comes from {@link #soundpacksDirectory}'s size index, so it's only ever computed
+     *           again if the soundpack changed.
+     * */
+    private Object[] buildSoundpacksTableRow(File soundpack) {
+        return new Object[]{
+            soundpack.getName(),
+            soundpack,
+            this.soundpacksDirectory.getSizeIndex().sizeOf(soundpack) / (1024 * 1024) + " MB",
+            new Date(soundpack.lastModified())
         };
-        this.soundpacksTable.setModel(tableModel);
     }
 }
@@ -0,0 +1,211 @@
+package com.dazednconfused.catalauncher.gui.log;
+
+import com.dazednconfused.catalauncher.helper.log.LogLine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+
+import org.slf4j.event.Level;
+
+/**
+ * A {@link javax.swing.ListModel} holding the latest {@link LogLine}s, up to a fixed capacity, filtered by level and text.
+ * <br><br>
+ * Lines are kept in a ring, so that appending past capacity silently evicts the oldest ones instead of growing without
+ * bound; and each append only fires the rows that were actually evicted or added.
+ *
+ * @implNote Every mutation is applied on the Event Dispatch Thread (EDT), regardless of the thread it's requested from.
+ * */
+public class LogLineListModel extends AbstractListModel<LogLine> {
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Ring allLines;
+    private final Ring filteredLines;
+
+    private Level minimumLevel = Level.TRACE;
+    private String lowerCaseText = "";
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum amount of lines to keep.
+     * */
+    public LogLineListModel(int capacity) {
+        this.allLines = new Ring(capacity);
+        this.filteredLines = new Ring(capacity);
+    }
+
+    @Override
+    public int getSize() {
+        return this.filteredLines.size();
+    }
+
+    @Override
+    public LogLine getElementAt(int index) {
+        return this.filteredLines.get(index);
+    }
+
+    /**
+     * Appends the given {@code lines}, evicting the oldest ones past capacity.
+     * */
+    public void append(List<LogLine> lines) {
+        List<LogLine> copy = new ArrayList<>(lines);
+        onEventDispatchThread(() -> this.doAppend(copy));
+    }
+
+    /**
+     * Only shows lines logged at {@code minimumLevel} or above that contain the given {@code text} (ignoring case).
+     * */
+    public void setFilter(Level minimumLevel, String text) {
+        onEventDispatchThread(() -> this.doSetFilter(minimumLevel, text.toLowerCase()));
+    }
+
+    /**
+     * Removes every line.
+     * */
+    public void clear() {
+        onEventDispatchThread(() -> {
+            int previousSize = this.filteredLines.size();
+            this.allLines.clear();
+            this.filteredLines.clear();
+            if (previousSize > 0) {
+                this.fireIntervalRemoved(this, 0, previousSize - 1);
+            }
+        });
+    }
+
+    /**
+     * Applies {@link #append(List)} on the current thread.
+     * */
+    private void doAppend(List<LogLine> lines) {
+        int previousSize = this.filteredLines.size();
+        int evicted = 0;
+
+        for (LogLine line : lines) {
+            LogLine oldest = this.allLines.add(line);
+
+            // filtered lines are an ordered subset of all lines, so an evicted line that passed the filter must be its head -
+            if (oldest != null && oldest.matches(this.minimumLevel, this.lowerCaseText)) {
+                this.filteredLines.removeFirst();
+                evicted++;
+            }
+            if (line.matches(this.minimumLevel, this.lowerCaseText)) {
+                this.filteredLines.add(line);
+            }
+        }
+
+        int evictedPreviousLines = Math.min(evicted, previousSize);
+        int survivingPreviousLines = previousSize - evictedPreviousLines;
+
+        if (evictedPreviousLines > 0) {
+            this.fireIntervalRemoved(this, 0, evictedPreviousLines - 1);
+        }
+        if (this.filteredLines.size() > survivingPreviousLines) {
+            this.fireIntervalAdded(this, survivingPreviousLines, this.filteredLines.size() - 1);
+        }
+    }
+
+    /**
+     * Applies {@link #setFilter(Level, String)} on the current thread.
+     * */
+    private void doSetFilter(Level minimumLevel, String lowerCaseText) {
+        final int previousSize = this.filteredLines.size();
+
+        this.minimumLevel = minimumLevel;
+        this.lowerCaseText = lowerCaseText;
+
+        this.filteredLines.clear();
+        for (int i = 0; i < this.allLines.size(); i++) {
+            LogLine line = this.allLines.get(i);
+            if (line.matches(minimumLevel, lowerCaseText)) {
+                this.filteredLines.add(line);
+            }
+        }
+
+        if (previousSize > 0) {
+            this.fireIntervalRemoved(this, 0, previousSize - 1);
+        }
+        if (this.filteredLines.size() > 0) {
+            this.fireIntervalAdded(this, 0, this.filteredLines.size() - 1);
+        }
+    }
+
+    /**
+     * Runs the given {@code action} on the EDT; right away if already on it.
+     * */
+    private static void onEventDispatchThread(Runnable action) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+        } else {
+            SwingUtilities.invokeLater(action);
+        }
+    }
+
+    /**
+     * A fixed-capacity circular buffer of {@link LogLine}s, indexed from oldest to newest.
+     * */
+    private static final class Ring {
+
+        private final LogLine[] elements;
+        private int head;
+        private int size;
+
+        private Ring(int capacity) {
+            this.elements = new LogLine[capacity];
+        }
+
+        private int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns the line at {@code index}, counting from the oldest one.
+         * */
+        private LogLine get(int index) {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+            }
+            return this.elements[(this.head + index) % this.elements.length];
+        }
+
+        /**
+         * Adds the given {@code line} as the newest one.
+         *
+         * @return The oldest line, if it had to be evicted to make room; {@code null} otherwise.
+         * */
+        private LogLine add(LogLine line) {
+            LogLine evicted = null;
+            if (this.size == this.elements.length) {
+                evicted = this.removeFirst();
+            }
+
+            this.elements[(this.head + this.size) % this.elements.length] = line;
+            this.size++;
+            return evicted;
+        }
+
+        /**
+         * Removes the oldest line.
+         * */
+        private LogLine removeFirst() {
+            final LogLine first = this.elements[this.head];
+            this.elements[this.head] = null;
+            this.head = (this.head + 1) % this.elements.length;
+            this.size--;
+            return first;
+        }
+
+        /**
+         * Removes every line.
+         * */
+        private void clear() {
+            Arrays.fill(this.elements, null);
+            this.head = 0;
+            this.size = 0;
+        }
+    }
+}
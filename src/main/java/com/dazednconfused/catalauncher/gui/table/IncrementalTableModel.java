@@ -0,0 +1,214 @@
+package com.dazednconfused.catalauncher.gui.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read-only {@link javax.swing.table.TableModel} whose rows are identified by a key of type {@code K}, and kept sorted
+ * by a given row order.
+ * <br><br>
+ * Instead of being rebuilt from scratch, rows are added, updated or removed individually; so that each refresh only fires
+ * (and only repaints) the rows that actually changed, and the table's selection survives unrelated changes.
+ *
+ * @implNote Every mutation is applied on the Event Dispatch Thread (EDT), regardless of the thread it's requested from.
+ * */
+public class IncrementalTableModel<K> extends AbstractTableModel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalTableModel.class);
+
+    private final String[] columns;
+    private final Comparator<Object[]> rowOrder;
+
+    private final List<K> keys = new ArrayList<>();
+    private final List<Object[]> rows = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param columns  The names of the model's columns.
+     * @param rowOrder The order rows are to be kept in.
+     * */
+    public IncrementalTableModel(String[] columns, Comparator<Object[]> rowOrder) {
+        this.columns = columns.clone();
+        this.rowOrder = rowOrder;
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return this.columns[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        return this.rows.get(rowIndex)[columnIndex];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    /**
+     * Returns the key of the row currently at {@code rowIndex}.
+     * */
+    public K getKeyAt(int rowIndex) {
+        return this.keys.get(rowIndex);
+    }
+
+    /**
+     * Adds the given {@code row} under {@code key}; or updates it if said {@code key} was already present.
+     * */
+    public void upsert(K key, Object[] row) {
+        Object[] copy = row.clone();
+        onEventDispatchThread(() -> this.doUpsert(key, copy));
+    }
+
+    /**
+     * Removes the row under {@code key}, if present.
+     * */
+    public void remove(K key) {
+        onEventDispatchThread(() -> this.doRemove(key));
+    }
+
+    /**
+     * Makes this model's contents match the given {@code snapshot}, by removing every row whose key is not part of it and
+     * upserting the rest.
+     *
+     * @implNote Rows that didn't change fire no events at all.
+     * */
+    public void applySnapshot(Map<K, Object[]> snapshot) {
+        Map<K, Object[]> copy = new LinkedHashMap<>(snapshot);
+        onEventDispatchThread(() -> this.doApplySnapshot(copy));
+    }
+
+    /**
+     * {@link #applySnapshot(Map)}'s implementation. Must be executed on the EDT.
+     * */
+    private void doApplySnapshot(Map<K, Object[]> snapshot) {
+        LOGGER.trace("Applying snapshot of [{}] row(s) over [{}] current row(s)...", snapshot.size(), this.rows.size());
+
+        // REMOVE ROWS NO LONGER PRESENT ---
+        for (int i = this.keys.size() - 1; i >= 0; i--) { // high-to-low, so that pending indexes stay valid
+            if (!snapshot.containsKey(this.keys.get(i))) {
+                this.removeAt(i);
+            }
+        }
+
+        // ADD/UPDATE THE REST ---
+        Map<K, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < this.keys.size(); i++) {
+            indexes.put(this.keys.get(i), i);
+        }
+
+        snapshot.forEach((key, row) -> {
+            Integer index = indexes.get(key);
+            if (index != null && index < this.rows.size() && key.equals(this.keys.get(index)) && Arrays.equals(this.rows.get(index), row)) {
+                return; // unchanged - nothing to do
+            }
+            this.doUpsert(key, row);
+        });
+    }
+
+    /**
+     * {@link #upsert(Object, Object[])}'s implementation. Must be executed on the EDT.
+     * */
+    private void doUpsert(K key, Object[] row) {
+        int index = this.keys.indexOf(key);
+
+        if (index >= 0) {
+            if (Arrays.equals(this.rows.get(index), row)) {
+                return; // unchanged - nothing to do
+            }
+
+            if (this.isInOrderAt(index, row)) {
+                this.rows.set(index, row);
+                this.fireTableRowsUpdated(index, index);
+                return;
+            }
+
+            this.removeAt(index); // row has to move elsewhere -
+        }
+
+        int insertionPoint = this.insertionPointFor(row);
+        this.keys.add(insertionPoint, key);
+        this.rows.add(insertionPoint, row);
+        this.fireTableRowsInserted(insertionPoint, insertionPoint);
+    }
+
+    /**
+     * {@link #remove(Object)}'s implementation. Must be executed on the EDT.
+     * */
+    private void doRemove(K key) {
+        int index = this.keys.indexOf(key);
+        if (index >= 0) {
+            this.removeAt(index);
+        }
+    }
+
+    /**
+     * Removes the row at {@code index} and notifies listeners.
+     * */
+    private void removeAt(int index) {
+        this.keys.remove(index);
+        this.rows.remove(index);
+        this.fireTableRowsDeleted(index, index);
+    }
+
+    /**
+     * Whether placing {@code row} at {@code index} would keep the model sorted.
+     * */
+    private boolean isInOrderAt(int index, Object[] row) {
+        boolean afterPrevious = index == 0 || this.rowOrder.compare(this.rows.get(index - 1), row) <= 0;
+        boolean beforeNext = index == this.rows.size() - 1 || this.rowOrder.compare(row, this.rows.get(index + 1)) <= 0;
+        return afterPrevious && beforeNext;
+    }
+
+    /**
+     * Binary-searches the index {@code row} should be inserted at, after any rows that compare equal to it.
+     * */
+    private int insertionPointFor(Object[] row) {
+        int low = 0;
+        int high = this.rows.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.rowOrder.compare(this.rows.get(middle), row) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Runs the given {@code action} right away if already on the EDT; or schedules it on the EDT otherwise.
+     * */
+    private static void onEventDispatchThread(Runnable action) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+        } else {
+            SwingUtilities.invokeLater(action);
+        }
+    }
+}
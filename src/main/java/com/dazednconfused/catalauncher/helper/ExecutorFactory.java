@@ -0,0 +1,42 @@
+package com.dazednconfused.catalauncher.helper;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the {@link ExecutorService}s the launcher's background work runs on.
+ * */
+public class ExecutorFactory {
+
+    /**
+     * Creates a virtual-thread-per-task {@link ExecutorService}, if the running JDK supports it.
+     *
+     * @return {@link Optional#empty()} if virtual threads are unavailable; either because the method doesn't exist
+     *         (JDK < 19) or because it's still a disabled preview feature (JDK 19-20).
+     * @implNote Virtual threads are looked up reflectively, since this project targets a JDK that predates them.
+     * */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A {@link ThreadFactory} building daemon threads named {@code threadNamePrefix} followed by a running count, so that
+     * pending work never prevents the JVM from exiting.
+     * */
+    public static ThreadFactory daemonThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadCount = new AtomicInteger(1);
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,6 +1,17 @@
 package com.dazednconfused.catalauncher.helper;
 
+import com.dazednconfused.catalauncher.helper.log.AsyncBatchingAppender;
+import com.dazednconfused.catalauncher.helper.log.LogOverflowPolicy;
+
+import java.io.Flushable;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Appender;
 import org.apache.log4j.Level;
+import org.apache.log4j.WriterAppender;
 
 public class LogLevelManager {
 
@@ -11,4 +22,55 @@ public class LogLevelManager {
         org.apache.log4j.Logger logger4j = org.apache.log4j.Logger.getRootLogger();
         logger4j.setLevel(org.apache.log4j.Level.toLevel(level.toString()));
     }
+
+    /**
+     * Overrides the logging level of each given logger (usually a package name) with its mapped level's name. These take
+     * precedence over the global level set through {@link #changeGlobalLogLevelTo(Level)}.
+     * */
+    public static void applyLogLevelOverrides(Map<String, String> logLevels) {
+        logLevels.forEach((loggerName, levelName) -> {
+            org.apache.log4j.Level level = org.apache.log4j.Level.toLevel(levelName, null);
+            if (level == null) {
+                org.apache.log4j.Logger.getRootLogger().warn("Ignoring unknown log level [" + levelName + "] for [" + loggerName + "]");
+            } else {
+                org.apache.log4j.Logger.getLogger(loggerName).setLevel(level);
+            }
+        });
+    }
+
+    /**
+     * Moves every {@link Appender} currently attached to the root logger behind a single {@link AsyncBatchingAppender}, so
+     * that logging no longer waits on the console or the disk.
+     *
+     * @implNote Attached {@link WriterAppender}s have their {@code ImmediateFlush} disabled, as the
+     *           {@link AsyncBatchingAppender} already flushes them once per batch.
+     * */
+    public static synchronized void enableAsyncLogging(LogOverflowPolicy overflowPolicy) {
+        org.apache.log4j.Logger root = org.apache.log4j.Logger.getRootLogger();
+
+        List<Appender> appenders = new ArrayList<>();
+        for (Enumeration<?> e = root.getAllAppenders(); e.hasMoreElements(); ) {
+            Appender appender = (Appender) e.nextElement();
+            if (appender instanceof AsyncBatchingAppender) {
+                return; // already enabled
+            }
+            appenders.add(appender);
+        }
+
+        AsyncBatchingAppender asyncAppender = new AsyncBatchingAppender(AsyncBatchingAppender.DEFAULT_CAPACITY, overflowPolicy);
+        asyncAppender.setName("async");
+
+        for (Appender appender : appenders) {
+            if (appender instanceof WriterAppender && appender instanceof Flushable) {
+                ((WriterAppender) appender).setImmediateFlush(false);
+            }
+            asyncAppender.addAppender(appender);
+        }
+
+        root.addAppender(asyncAppender);
+        appenders.forEach(root::removeAppender); // unlike removeAllAppenders(), this doesn't close them
+
+        // make sure pending events still make it to disk if the application exits right after them -
+        Runtime.getRuntime().addShutdownHook(new Thread(asyncAppender::close, "log-flush"));
+    }
 }
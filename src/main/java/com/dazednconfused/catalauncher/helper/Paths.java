@@ -39,6 +39,17 @@ public class Paths {
         return getLauncherFiles().resolve("logs/main.log");
     }
 
+    /**
+     * Retrieves the logfile where the game's own output gets captured into.
+     *
+     * <pre> {@code
+     *  getLauncherRootFolder() + "/.macatalauncher/logs/game.log"
+     * }</pre>
+     * */
+    public static Path getGameOutputLogPath() {
+        return getLauncherFiles().resolve("logs/game.log");
+    }
+
     /**
      * Retrieves the {@link Application}'s custom savefile path.
      *
@@ -72,6 +83,17 @@ public class Paths {
         return getCustomTrashedPath().resolve("saves");
     }
 
+    /**
+     * Retrieves the {@link Application}'s custom path for files discarded and waiting to be deleted.
+     *
+     * <pre> {@code
+     *  getLauncherRootFolder() + "/trashed/.reaping"
+     * }</pre>
+     * */
+    public static Path getCustomReapingPath() {
+        return getCustomTrashedPath().resolve(".reaping");
+    }
+
     /**
      * Retrieves the {@link Application}'s custom path for backup-ed savefiles.
      *
@@ -138,6 +160,50 @@ public class Paths {
         return getLauncherFiles().resolve("db");
     }
 
+    /**
+     * Retrieves the {@link Application}'s content-addressed soundpack files' store.
+     *
+     * <pre> {@code
+     *  getLauncherRootFolder() + "/.macatalauncher/store/sound"
+     * }</pre>
+     * */
+    public static Path getSoundpackStoreDirectory() {
+        return getLauncherFiles().resolve("store/sound");
+    }
+
+    /**
+     * Retrieves the {@link Application}'s cached response to the last update check.
+     *
+     * <pre> {@code
+     *  getLauncherRootFolder() + "/.macatalauncher/cache/latest-release.json"
+     * }</pre>
+     * */
+    public static Path getLatestReleaseCachePath() {
+        return getLauncherFiles().resolve("cache/latest-release.json");
+    }
+
+    /**
+     * Retrieves the {@link Application}'s rendered icons' cache.
+     *
+     * <pre> {@code
+     *  getLauncherRootFolder() + "/.macatalauncher/cache/icons"
+     * }</pre>
+     * */
+    public static Path getIconCacheDirectory() {
+        return getLauncherFiles().resolve("cache/icons");
+    }
+
+    /**
+     * Retrieves the {@link Application}'s diagnostics dumps' folder.
+     *
+     * <pre> {@code
+     *  getLauncherRootFolder() + "/.macatalauncher/diagnostics"
+     * }</pre>
+     * */
+    public static Path getDiagnosticsDirectory() {
+        return getLauncherFiles().resolve("diagnostics");
+    }
+
     // java resources
     public static final String RESOURCE_ICONS_PATH = "icon/svg";
 }
@@ -1,8 +1,14 @@
 package com.dazednconfused.catalauncher.helper;
 
+import com.dazednconfused.catalauncher.helper.metrics.Counter;
+import com.dazednconfused.catalauncher.helper.metrics.Histogram;
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+import com.dazednconfused.catalauncher.helper.metrics.Timer;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import net.lingala.zip4j.ZipFile;
@@ -19,12 +25,16 @@ public class Zipper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Zipper.class);
 
+    private static final Operation COMPRESSION = new Operation("zipper.compress");
+    private static final Operation DECOMPRESSION = new Operation("zipper.decompress");
+
     /**
      * Compresses the given {@code sourceDir} {@link File} into the given {@code outputFileZip.zip}, calling the provided
      * {@link Consumer} callback every {@code callbackCheckMs} milliseconds.
      * */
     public static void compressAndCallback(File sourceDir, Path outputFileZip, @Nullable Consumer<Integer> onPercentDoneCallback, int callbackCheckMs) {
         LOGGER.debug("Compressing folder [{}] into [{}]...", sourceDir, outputFileZip);
+        long startedAt = System.nanoTime();
 
         ZipParameters zipParameters = new ZipParameters();
         zipParameters.setCompressionMethod(CompressionMethod.DEFLATE);
@@ -48,11 +58,12 @@ public class Zipper {
                     onPercentDoneCallback.accept(progressMonitor.getPercentDone());
                 }
 
-                Thread.sleep(callbackCheckMs);
+                sleepOrCancel(progressMonitor, callbackCheckMs);
             }
 
             if (progressMonitor.getResult().equals(ProgressMonitor.Result.SUCCESS)) {
                 LOGGER.debug("Successfully added folder [{}] to zip [{}]", sourceDir, outputFileZip);
+                COMPRESSION.record(progressMonitor.getTotalWork(), startedAt);
             } else if (progressMonitor.getResult().equals(ProgressMonitor.Result.ERROR)) {
                 LOGGER.error(
                         "There was an error while compressing folder [{}] into [{}]. Error message: [{}]",
@@ -66,7 +77,12 @@ public class Zipper {
                 onPercentDoneCallback.accept(100); // whatever the result, set operation as "100% completed"
             }
 
-        } catch (InterruptedException | IOException e) {
+        } catch (InterruptedException e) {
+            LOGGER.info("Compression of folder [{}] into [{}] interrupted. Discarding partial zip...", sourceDir, outputFileZip);
+            outputFileZip.toFile().delete();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (IOException e) {
             LOGGER.error("There was an error while compressing folder [{}] into [{}]", sourceDir, outputFileZip, e);
             throw new RuntimeException(e);
         }
@@ -78,6 +94,7 @@ public class Zipper {
      * */
     public static void decompressAndCallback(File sourceFileZip, Path destinationPath, @Nullable Consumer<Integer> onPercentDoneCallback, int callbackCheckMs) {
         LOGGER.debug("Decompressing file [{}] into [{}]...", sourceFileZip, destinationPath);
+        long startedAt = System.nanoTime();
 
         try (ZipFile zipFile = new ZipFile(sourceFileZip)) {
             ProgressMonitor progressMonitor = zipFile.getProgressMonitor();
@@ -97,11 +114,12 @@ public class Zipper {
                     onPercentDoneCallback.accept(progressMonitor.getPercentDone());
                 }
 
-                Thread.sleep(callbackCheckMs);
+                sleepOrCancel(progressMonitor, callbackCheckMs);
             }
 
             if (progressMonitor.getResult().equals(ProgressMonitor.Result.SUCCESS)) {
                 LOGGER.debug("Successfully extracted zip [{}] into [{}]", sourceFileZip, destinationPath);
+                DECOMPRESSION.record(progressMonitor.getTotalWork(), startedAt);
             } else if (progressMonitor.getResult().equals(ProgressMonitor.Result.ERROR)) {
                 LOGGER.error(
                         "There was an error while extracting zip [{}] into [{}]. Error message: [{}]",
@@ -115,9 +133,63 @@ public class Zipper {
                 onPercentDoneCallback.accept(100); // whatever the result, set operation as "100% completed"
             }
 
-        } catch (InterruptedException | IOException e) {
+        } catch (InterruptedException e) {
+            LOGGER.info("Decompression of zip [{}] into [{}] interrupted", sourceFileZip, destinationPath);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (IOException e) {
             LOGGER.error("There was an error while decompressing zip [{}] into [{}]", sourceFileZip, destinationPath, e);
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Sleeps for {@code millis} milliseconds while zip4j works on its own thread. If interrupted (ie: the owning task got
+     * cancelled), cancels zip4j's work as well and waits for it to stop before propagating the interruption.
+     * */
+    private static void sleepOrCancel(ProgressMonitor progressMonitor, int millis) throws InterruptedException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            progressMonitor.setCancelAllTasks(true);
+            while (!progressMonitor.getState().equals(ProgressMonitor.State.READY)) {
+                Thread.sleep(10); // interruption status was cleared when the exception was thrown, so it's safe to sleep again
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The metrics recorded for every successful compression (or decompression): how long it took, how many (uncompressed)
+     * bytes it went through, and at what throughput.
+     * */
+    private static class Operation {
+
+        private static final long BYTES_PER_KB = 1024;
+
+        private final Timer timer;
+        private final Counter bytes;
+        private final Histogram throughput;
+
+        /**
+         * Constructor.
+         * */
+        private Operation(String name) {
+            this.timer = MetricsRegistry.getInstance().timer(name);
+            this.bytes = MetricsRegistry.getInstance().counter(name + ".bytes");
+            this.throughput = MetricsRegistry.getInstance().histogram(name + ".throughput.kb.per.second");
+        }
+
+        /**
+         * Records an operation started at {@code startedAtNanos} (as returned by {@link System#nanoTime()}) and just
+         * finished, which went through the given amount of {@code totalBytes}.
+         * */
+        private void record(long totalBytes, long startedAtNanos) {
+            double elapsedSeconds = Math.max(1, System.nanoTime() - startedAtNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+
+            this.timer.recordSince(startedAtNanos);
+            this.bytes.add(totalBytes);
+            this.throughput.record((long) (totalBytes / (double) BYTES_PER_KB / elapsedSeconds));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.dazednconfused.catalauncher.helper.event;
+
+/**
+ * Receives the add/update/remove events published by a {@link ChangeEventPublisher}.
+ *
+ * @apiNote Events are delivered on whichever thread performed the change (ie: a background job), <b>never</b> guaranteed
+ *          to be the Event Dispatch Thread (EDT).
+ * */
+public interface ChangeEventListener<T> {
+
+    /**
+     * Called whenever {@code added} has been added.
+     *
+     * @implNote Delegates to {@link #onChanged(Object)} by default.
+     * */
+    default void onAdded(T added) {
+        this.onChanged(added);
+    }
+
+    /**
+     * Called whenever {@code updated} has been updated.
+     *
+     * @implNote Delegates to {@link #onChanged(Object)} by default.
+     * */
+    default void onUpdated(T updated) {
+        this.onChanged(updated);
+    }
+
+    /**
+     * Called whenever {@code removed} has been removed.
+     *
+     * @implNote Delegates to {@link #onChanged(Object)} by default.
+     * */
+    default void onRemoved(T removed) {
+        this.onChanged(removed);
+    }
+
+    /**
+     * Called whenever {@code changed} has been either added, updated or removed; unless the corresponding specific method
+     * has been overridden.
+     * */
+    default void onChanged(T changed) { }
+}
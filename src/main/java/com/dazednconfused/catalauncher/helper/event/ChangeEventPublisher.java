@@ -0,0 +1,71 @@
+package com.dazednconfused.catalauncher.helper.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes add/update/remove events over elements of type {@code T} to all of its subscribed {@link ChangeEventListener}s.
+ * */
+public class ChangeEventPublisher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventPublisher.class);
+
+    private final List<ChangeEventListener<T>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribes the given {@code listener} to all future events.
+     * */
+    public void subscribe(ChangeEventListener<T> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Unsubscribes the given {@code listener} from all future events.
+     * */
+    public void unsubscribe(ChangeEventListener<T> listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Notifies all subscribed listeners that {@code added} has been added.
+     * */
+    public void publishAdded(T added) {
+        LOGGER.trace("Publishing added event for [{}]", added);
+        this.publish(listener -> listener.onAdded(added));
+    }
+
+    /**
+     * Notifies all subscribed listeners that {@code updated} has been updated.
+     * */
+    public void publishUpdated(T updated) {
+        LOGGER.trace("Publishing updated event for [{}]", updated);
+        this.publish(listener -> listener.onUpdated(updated));
+    }
+
+    /**
+     * Notifies all subscribed listeners that {@code removed} has been removed.
+     * */
+    public void publishRemoved(T removed) {
+        LOGGER.trace("Publishing removed event for [{}]", removed);
+        this.publish(listener -> listener.onRemoved(removed));
+    }
+
+    /**
+     * Delivers the given {@code event} to every subscribed listener.
+     *
+     * @implNote A failing listener never prevents the remaining ones (nor the publisher) from going on.
+     * */
+    private void publish(Consumer<ChangeEventListener<T>> event) {
+        for (ChangeEventListener<T> listener : this.listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                LOGGER.error("There was an error while delivering change event to listener [{}]", listener, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Appender;
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.helpers.AppenderAttachableImpl;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.AppenderAttachable;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * An {@link Appender} that hands every event over to a background writer thread through a lock-free
+ * {@link MpscRingBuffer}, instead of writing it on the logging thread.
+ * <br><br>
+ * The writer drains events in batches, passes them on to the attached {@link Appender}s, and flushes those that are
+ * {@link Flushable} only once per batch; so that bursts of logging cost a single disk flush instead of one per line.
+ *
+ * @implNote Unlike {@link AppenderSkeleton#doAppend(LoggingEvent)}, this appender doesn't lock on itself, so logging threads
+ *           never wait on each other (nor on the disk) here. Filters are not supported.
+ * */
+public class AsyncBatchingAppender extends AppenderSkeleton implements AppenderAttachable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final MpscRingBuffer<LoggingEvent> buffer;
+    private final LogOverflowPolicy overflowPolicy;
+    private final AppenderAttachableImpl appenders = new AppenderAttachableImpl(); // guarded by itself
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final Thread writer;
+
+    private volatile boolean idle;
+    private volatile boolean stopped; // AppenderSkeleton's own flag isn't volatile, and the writer thread must see it
+
+    /**
+     * Constructor.
+     *
+     * @param capacity       How many events may be pending before {@code overflowPolicy} kicks in.
+     * @param overflowPolicy What to do with events arriving while the buffer is full.
+     * */
+    public AsyncBatchingAppender(int capacity, LogOverflowPolicy overflowPolicy) {
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+
+        this.writer = new Thread(this::drainLoop, "log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void doAppend(LoggingEvent event) {
+        if (this.stopped || !this.isAsSevereAsThreshold(event.getLevel())) {
+            return;
+        }
+        this.append(event);
+    }
+
+    @Override
+    protected void append(LoggingEvent event) {
+        // anything derived from the logging thread's state must be captured before handing the event over -
+        event.getThreadName();
+        event.getNDC();
+        event.getMDCCopy();
+        event.getLocationInformation();
+        event.getRenderedMessage();
+        event.getThrowableStrRep();
+
+        while (!this.buffer.offer(event)) {
+            if (this.stopped) {
+                return;
+            }
+
+            if (this.overflowPolicy == LogOverflowPolicy.DROP && !event.getLevel().isGreaterOrEqual(Level.WARN)) {
+                this.droppedEvents.incrementAndGet();
+                return;
+            }
+
+            LockSupport.unpark(this.writer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+
+        if (this.idle) {
+            LockSupport.unpark(this.writer);
+        }
+    }
+
+    /**
+     * Returns how many events have been discarded so far due to {@link LogOverflowPolicy#DROP}.
+     * */
+    public long getDroppedEvents() {
+        return this.droppedEvents.get();
+    }
+
+    /**
+     * Stops accepting events, waits for the pending ones to be written, and closes every attached {@link Appender}.
+     * */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (this.stopped) {
+                return;
+            }
+            this.stopped = true;
+            this.closed = true;
+        }
+
+        LockSupport.unpark(this.writer);
+        try {
+            this.writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this.appenders) {
+            this.appenders.removeAllAppenders(); // also closes them
+        }
+    }
+
+    @Override
+    public boolean requiresLayout() {
+        return false;
+    }
+
+    /**
+     * The writer thread's loop: drains pending events in batches until closed and empty.
+     * */
+    private void drainLoop() {
+        List<LoggingEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (true) {
+            if (this.buffer.drainTo(batch, MAX_BATCH_SIZE) == 0) {
+                if (this.stopped) {
+                    if (this.buffer.isEmpty()) {
+                        break;
+                    }
+                    continue; // events published between the drain and the stop still have to be written
+                }
+
+                this.idle = true;
+                if (this.buffer.isEmpty()) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                this.idle = false;
+                continue;
+            }
+
+            this.write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Passes the given {@code batch} on to every attached {@link Appender}, and then flushes them.
+     * */
+    private void write(List<LoggingEvent> batch) {
+        synchronized (this.appenders) {
+            long dropped = this.droppedEvents.getAndSet(0);
+            if (dropped > 0) {
+                this.appenders.appendLoopOnAppenders(new LoggingEvent(
+                    AsyncBatchingAppender.class.getName(),
+                    Logger.getLogger(AsyncBatchingAppender.class),
+                    Level.WARN,
+                    "Logging fell behind. Dropped [" + dropped + "] events",
+                    null
+                ));
+            }
+
+            for (LoggingEvent event : batch) {
+                this.appenders.appendLoopOnAppenders(event);
+            }
+
+            Enumeration<?> attached = this.appenders.getAllAppenders();
+            while (attached != null && attached.hasMoreElements()) {
+                Object appender = attached.nextElement();
+                if (appender instanceof Flushable) {
+                    try {
+                        ((Flushable) appender).flush();
+                    } catch (IOException e) {
+                        LogLog.error("Could not flush appender [" + ((Appender) appender).getName() + "]", e);
+                    }
+                }
+            }
+        }
+    }
+
+    // APPENDER ATTACHABLE ---
+
+    @Override
+    public void addAppender(Appender newAppender) {
+        synchronized (this.appenders) {
+            this.appenders.addAppender(newAppender);
+        }
+    }
+
+    @Override
+    public Enumeration getAllAppenders() {
+        synchronized (this.appenders) {
+            return this.appenders.getAllAppenders();
+        }
+    }
+
+    @Override
+    public Appender getAppender(String name) {
+        synchronized (this.appenders) {
+            return this.appenders.getAppender(name);
+        }
+    }
+
+    @Override
+    public boolean isAttached(Appender appender) {
+        synchronized (this.appenders) {
+            return this.appenders.isAttached(appender);
+        }
+    }
+
+    @Override
+    public void removeAllAppenders() {
+        synchronized (this.appenders) {
+            this.appenders.removeAllAppenders();
+        }
+    }
+
+    @Override
+    public void removeAppender(Appender appender) {
+        synchronized (this.appenders) {
+            this.appenders.removeAppender(appender);
+        }
+    }
+
+    @Override
+    public void removeAppender(String name) {
+        synchronized (this.appenders) {
+            this.appenders.removeAppender(name);
+        }
+    }
+}
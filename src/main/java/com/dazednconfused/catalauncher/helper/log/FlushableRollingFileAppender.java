@@ -0,0 +1,19 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import java.io.Flushable;
+
+import org.apache.log4j.RollingFileAppender;
+
+/**
+ * A {@link RollingFileAppender} that can be flushed on demand; so that, with {@code ImmediateFlush} disabled, a whole batch
+ * of events can be written before hitting the disk just once.
+ * */
+public class FlushableRollingFileAppender extends RollingFileAppender implements Flushable {
+
+    @Override
+    public synchronized void flush() {
+        if (this.qw != null) {
+            this.qw.flush();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.event.Level;
+
+/**
+ * A single line of the launcher's log, along with the {@link Level} it was logged at.
+ * */
+public class LogLine {
+
+    /**
+     * Matches the {@code [%-5p]} level marker of the file appender's pattern in {@code log4j.properties}.
+     * */
+    private static final Pattern LEVEL_MARKER = Pattern.compile("\\[(TRACE|DEBUG|INFO|WARN|ERROR|FATAL) *]");
+
+    private final String text;
+    private final Level level;
+
+    /**
+     * Constructor.
+     * */
+    public LogLine(String text, Level level) {
+        this.text = text;
+        this.level = level;
+    }
+
+    /**
+     * Parses the given log {@code text}'s {@link Level}.
+     *
+     * @param previous The {@link Level} of the line logged right before; inherited by lines without a level marker of their
+     *                 own (ie: stacktraces or multiline messages).
+     * */
+    public static LogLine parse(String text, Level previous) {
+        Matcher matcher = LEVEL_MARKER.matcher(text);
+        if (!matcher.find()) {
+            return new LogLine(text, previous);
+        }
+
+        String marker = matcher.group(1);
+        return new LogLine(text, "FATAL".equals(marker) ? Level.ERROR : Level.valueOf(marker));
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Whether this line was logged at {@code minimumLevel} or above, and contains the given {@code text} (ignoring case).
+     *
+     * @param lowerCaseText The text to look for, already lowercased; or an empty string to match any line.
+     * */
+    public boolean matches(Level minimumLevel, String lowerCaseText) {
+        return this.level.toInt() >= minimumLevel.toInt() && (lowerCaseText.isEmpty() || this.text.toLowerCase().contains(lowerCaseText));
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+/**
+ * What to do with a log event when the {@link AsyncBatchingAppender}'s buffer is full.
+ * */
+public enum LogOverflowPolicy {
+
+    /**
+     * Make the logging thread wait until there's room. Nothing is ever lost, at the cost of stalling under sustained bursts.
+     * */
+    BLOCK,
+
+    /**
+     * Discard the event and count it, so that logging never stalls. {@code WARN} and {@code ERROR} events are never discarded;
+     * they wait for room instead.
+     * */
+    DROP
+}
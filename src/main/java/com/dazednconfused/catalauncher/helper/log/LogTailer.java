@@ -0,0 +1,210 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows a (log) file as it grows, handing every newly completed line over to a consumer.
+ * <br><br>
+ * New content is read in bulk from the last known {@link FileChannel} position, so that bursts of logging are picked up in
+ * a single pass instead of one line at a time. Rotation (ie: the file being renamed away and recreated, as
+ * {@code log4j}'s {@code RollingFileAppender} does) and truncation are detected, and reading restarts from the beginning
+ * of the new file once whatever was left in the old one has been drained.
+ *
+ * @implNote Nothing is logged while tailing, other than errors; otherwise tailing the launcher's own log would feed itself.
+ * */
+public class LogTailer implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogTailer.class);
+
+    public static final long DEFAULT_POLL_MILLIS = 100;
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final long initialTailBytes;
+    private final Consumer<List<String>> onLines;
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+
+    private ScheduledExecutorService poller;
+    private FileChannel channel;
+    private Object fileKey;
+    private long position;
+    private boolean skippingFirstLine;
+
+    /**
+     * Constructor.
+     *
+     * @param file             The file to follow.
+     * @param initialTailBytes How much of the file's existing content to read on open, counting back from its end.
+     * @param onLines          Called with every batch of newly completed lines (without their line terminators).
+     * */
+    public LogTailer(Path file, long initialTailBytes, Consumer<List<String>> onLines) {
+        this.file = file;
+        this.initialTailBytes = initialTailBytes;
+        this.onLines = onLines;
+    }
+
+    /**
+     * Starts following the file on a background thread, checking it for new content every {@code pollMillis}.
+     * */
+    public synchronized void start(long pollMillis) {
+        if (this.poller != null) {
+            return;
+        }
+
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-tailer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller.scheduleWithFixedDelay(this::poll, 0, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.poller != null) {
+            this.poller.shutdownNow();
+            this.poller = null;
+        }
+        this.closeChannel();
+    }
+
+    /**
+     * Reads whatever new lines are available and hands them over to the consumer.
+     * */
+    protected void poll() {
+        try {
+            List<String> lines = this.readNewLines();
+            if (!lines.isEmpty()) {
+                this.onLines.accept(lines);
+            }
+        } catch (IOException e) {
+            LOGGER.error("There was an error while tailing [{}]", this.file, e);
+            this.closeChannel(); // start over on next poll
+        }
+    }
+
+    /**
+     * Reads every line completed since the last call, (re)opening the file if it was rotated or didn't exist yet.
+     * */
+    protected synchronized List<String> readNewLines() throws IOException {
+        if (!Files.exists(this.file)) {
+            return Collections.emptyList();
+        }
+
+        List<String> lines = new ArrayList<>();
+
+        if (this.channel == null) {
+            this.open(true);
+        } else if (this.wasRotated()) {
+            this.drainInto(lines); // the old channel still points to the rotated file, which may hold unread lines
+            this.flushPartialLineInto(lines);
+            this.closeChannel();
+            this.open(false);
+        }
+
+        this.drainInto(lines);
+        return lines;
+    }
+
+    /**
+     * Whether {@link #file} no longer is the file {@link #channel} was opened on, or has been truncated.
+     * */
+    private boolean wasRotated() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(this.file, BasicFileAttributes.class);
+        return !Objects.equals(attributes.fileKey(), this.fileKey) || attributes.size() < this.position;
+    }
+
+    /**
+     * Opens {@link #file}; either near its end (as per {@link #initialTailBytes}) or from its very beginning.
+     * */
+    private void open(boolean initial) throws IOException {
+        this.channel = FileChannel.open(this.file, StandardOpenOption.READ);
+        this.fileKey = Files.readAttributes(this.file, BasicFileAttributes.class).fileKey();
+        this.position = initial ? Math.max(0, this.channel.size() - this.initialTailBytes) : 0;
+        this.skippingFirstLine = this.position > 0; // we most likely landed mid-line
+        this.partialLine.reset();
+    }
+
+    /**
+     * Reads everything from {@link #position} up to the end of {@link #channel}, splitting it into lines.
+     *
+     * @implNote Lines are split at the byte level, which is safe for UTF-8 since {@code '\n'} never appears within a
+     *           multibyte sequence; and a line split across two reads is only decoded once complete.
+     * */
+    private void drainInto(List<String> lines) throws IOException {
+        int read;
+        while ((read = this.channel.read(this.buffer.clear(), this.position)) > 0) {
+            this.position += read;
+
+            byte[] bytes = this.buffer.array();
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == '\n') {
+                    this.partialLine.write(bytes, lineStart, i - lineStart);
+                    this.completeLineInto(lines);
+                    lineStart = i + 1;
+                }
+            }
+            this.partialLine.write(bytes, lineStart, read - lineStart);
+        }
+    }
+
+    /**
+     * Hands over whatever incomplete line is pending, as the file it belonged to won't grow anymore.
+     * */
+    private void flushPartialLineInto(List<String> lines) {
+        if (this.partialLine.size() > 0) {
+            this.completeLineInto(lines);
+        }
+    }
+
+    /**
+     * Decodes the pending {@link #partialLine} into {@code lines}, unless it's the leftover of a line we started reading
+     * halfway through.
+     * */
+    private void completeLineInto(List<String> lines) {
+        if (this.skippingFirstLine) {
+            this.skippingFirstLine = false;
+        } else {
+            String line = this.partialLine.toString(StandardCharsets.UTF_8);
+            lines.add(line.endsWith("\r") ? line.substring(0, line.length() - 1) : line);
+        }
+        this.partialLine.reset();
+    }
+
+    /**
+     * Closes {@link #channel}, if open.
+     * */
+    private synchronized void closeChannel() {
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                LOGGER.error("There was an error while closing [{}]", this.file, e);
+            }
+            this.channel = null;
+        }
+    }
+}
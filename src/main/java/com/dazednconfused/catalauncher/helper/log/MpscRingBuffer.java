@@ -0,0 +1,120 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, multiple-producer single-consumer queue backed by a ring of pre-allocated slots.
+ * <br><br>
+ * Producers claim a slot through a single compare-and-set on the tail, and then publish their element by stamping that
+ * slot's sequence number; so neither producers nor the consumer ever block each other. When full, {@link #offer(Object)}
+ * simply fails, leaving it up to the caller to decide whether to retry or give up.
+ *
+ * @implNote Based on Dmitry Vyukov's bounded MPMC queue, simplified for a single consumer.
+ * */
+public class MpscRingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // only ever written by the consumer
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The minimum amount of elements the buffer must be able to hold. Rounded up to the next power of two.
+     * */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity [" + capacity + "]");
+        }
+
+        int slots = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+
+        this.elements = new Object[slots];
+        this.sequences = new AtomicLongArray(slots);
+        this.mask = slots - 1;
+
+        for (int i = 0; i < slots; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the amount of elements the buffer can hold.
+     * */
+    public int capacity() {
+        return this.elements.length;
+    }
+
+    /**
+     * Adds the given {@code element}, if there's room for it. Safe to call from any thread.
+     *
+     * @return {@code false} if the buffer is full.
+     * */
+    public boolean offer(E element) {
+        long position = this.tail.get();
+
+        while (true) {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.elements[index] = element;
+                    this.sequences.lazySet(index, position + 1); // publishes the element to the consumer
+                    return true;
+                }
+                position = this.tail.get(); // lost the race for this slot to another producer
+            } else if (difference < 0) {
+                return false; // the consumer hasn't freed this slot yet
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the oldest element; or {@code null} if there's none. Must only be called from the consumer thread.
+     * */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = this.head;
+        int index = (int) (position & this.mask);
+
+        if (this.sequences.get(index) != position + 1) {
+            return null; // not yet published
+        }
+
+        final E element = (E) this.elements[index];
+        this.elements[index] = null;
+        this.sequences.lazySet(index, position + this.elements.length); // frees the slot for the next lap
+        this.head = position + 1;
+        return element;
+    }
+
+    /**
+     * Moves up to {@code maxElements} of the oldest elements into {@code target}. Must only be called from the consumer thread.
+     *
+     * @return The amount of elements moved.
+     * */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = this.poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Whether the buffer currently holds no elements. Only a snapshot while producers are active.
+     * */
+    public boolean isEmpty() {
+        return this.tail.get() == this.head;
+    }
+}
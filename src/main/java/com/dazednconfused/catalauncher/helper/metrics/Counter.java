@@ -0,0 +1,32 @@
+package com.dazednconfused.catalauncher.helper.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count of something (ie: connections opened, bytes compressed).
+ * */
+public class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Increments this counter by one.
+     * */
+    public void increment() {
+        this.count.increment();
+    }
+
+    /**
+     * Increments this counter by the given {@code amount}.
+     * */
+    public void add(long amount) {
+        this.count.add(amount);
+    }
+
+    /**
+     * The current count.
+     * */
+    public long getCount() {
+        return this.count.sum();
+    }
+}
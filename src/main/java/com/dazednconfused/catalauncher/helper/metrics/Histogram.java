@@ -0,0 +1,120 @@
+package com.dazednconfused.catalauncher.helper.metrics;
+
+import com.dazednconfused.catalauncher.helper.metrics.dto.HistogramSnapshotDTO;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, bucketed the way HdrHistogram does: linearly within every power
+ * of two, with {@link #SUB_BUCKETS} buckets each. This bounds the relative error of any reported percentile to about 3%,
+ * for values anywhere between {@code 0} and {@link Long#MAX_VALUE}, in a fixed and small amount of memory.
+ * <br><br>
+ * Recording a value costs a couple of atomic increments, so it's cheap enough to be done on every single call of whatever
+ * gets measured.
+ * */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Records the given {@code value}. Negative values are recorded as {@code 0}.
+     * */
+    public void record(long value) {
+        long v = Math.max(0, value);
+
+        this.buckets.incrementAndGet(indexOf(v));
+        this.count.increment();
+        this.total.add(v);
+        this.min.accumulateAndGet(v, Math::min);
+        this.max.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * The amount of values recorded so far.
+     * */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * The sum of every value recorded so far.
+     * */
+    public long getTotal() {
+        return this.total.sum();
+    }
+
+    /**
+     * Returns the value below which the given {@code percentile} (ie: {@code 99.0}) of all recorded values fall; or {@code 0}
+     * if nothing's been recorded yet.
+     * */
+    public long getValueAtPercentile(double percentile) {
+        long recorded = this.getCount();
+        if (recorded == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValueOf(i), this.max.get());
+            }
+        }
+        return this.max.get(); // not reached, since buckets get incremented before the count does
+    }
+
+    /**
+     * Takes a snapshot of this histogram's current state, with every value converted by dividing it by {@code unit} (ie:
+     * {@code 1_000_000} for reporting nanoseconds as milliseconds).
+     * */
+    public HistogramSnapshotDTO snapshot(double unit) {
+        long recorded = this.getCount();
+        return HistogramSnapshotDTO.builder()
+            .count(recorded)
+            .total(this.getTotal() / unit)
+            .mean(recorded == 0 ? 0 : this.getTotal() / unit / recorded)
+            .min(recorded == 0 ? 0 : this.min.get() / unit)
+            .p50(this.getValueAtPercentile(50.0) / unit)
+            .p90(this.getValueAtPercentile(90.0) / unit)
+            .p99(this.getValueAtPercentile(99.0) / unit)
+            .max(recorded == 0 ? 0 : this.max.get() / unit)
+            .build();
+    }
+
+    /**
+     * Returns the index of the bucket the given (non-negative) {@code value} falls into.
+     * */
+    protected static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value; // exact, since there are as many buckets as values
+        }
+
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift); // within [SUB_BUCKETS, 2 * SUB_BUCKETS)
+        return shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value that falls into the bucket with the given {@code index}.
+     * */
+    protected static long highestEquivalentValueOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index - (long) shift * SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1; // wraps around into Long.MAX_VALUE for the very last bucket
+    }
+}
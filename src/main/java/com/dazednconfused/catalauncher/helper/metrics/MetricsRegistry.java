@@ -0,0 +1,146 @@
+package com.dazednconfused.catalauncher.helper.metrics;
+
+import com.dazednconfused.catalauncher.helper.GitInfoManager;
+import com.dazednconfused.catalauncher.helper.metrics.dto.DiagnosticsDTO;
+import com.dazednconfused.catalauncher.helper.metrics.dto.MetricsSnapshotDTO;
+import com.dazednconfused.catalauncher.helper.result.Result;
+import com.dazednconfused.catalauncher.helper.sysinfo.SystemInfoManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vavr.control.Try;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps every {@link Counter}, {@link Timer}, {@link Histogram} and gauge the launcher measures itself with, under a
+ * dot-separated name (ie: {@code zipper.compress}); so that they can all be looked at (or dumped into a JSON file) at once.
+ * <br><br>
+ * Metrics are created on first use and live for the rest of the application's lifetime. Asking for the same name twice
+ * returns the same metric.
+ * */
+public class MetricsRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    private static final String DUMP_FILE_NAME_TEMPLATE = "diagnostics-%s.json";
+
+    private static MetricsRegistry instance;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+            instance.gauge("jvm.memory.heap.used.bytes", () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+            instance.gauge("jvm.threads.live", () -> ManagementFactory.getThreadMXBean().getThreadCount());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     * */
+    protected MetricsRegistry() {
+    }
+
+    /**
+     * Returns the {@link Counter} with the given {@code name}, creating it if it doesn't exist yet.
+     * */
+    public Counter counter(String name) {
+        return this.counters.computeIfAbsent(name, unused -> new Counter());
+    }
+
+    /**
+     * Returns the {@link Timer} with the given {@code name}, creating it if it doesn't exist yet.
+     * */
+    public Timer timer(String name) {
+        return this.timers.computeIfAbsent(name, unused -> new Timer());
+    }
+
+    /**
+     * Returns the {@link Histogram} with the given {@code name}, creating it if it doesn't exist yet.
+     * */
+    public Histogram histogram(String name) {
+        return this.histograms.computeIfAbsent(name, unused -> new Histogram());
+    }
+
+    /**
+     * Registers a gauge with the given {@code name}, whose value is read from the given {@code supplier} whenever a snapshot is
+     * taken. Replaces any gauge previously registered under the same name.
+     * */
+    public void gauge(String name, LongSupplier supplier) {
+        this.gauges.put(name, supplier);
+    }
+
+    /**
+     * Takes a snapshot of every metric's current value, sorted by name. Gauges failing to be read are left out.
+     * */
+    public MetricsSnapshotDTO snapshot() {
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        this.gauges.forEach((name, supplier) -> Try.of(supplier::getAsLong)
+            .onSuccess(value -> gaugeValues.put(name, value))
+            .onFailure(t -> LOGGER.debug("Could not read gauge [{}]", name, t))
+        );
+
+        return MetricsSnapshotDTO.builder()
+            .takenAtMillis(System.currentTimeMillis())
+            .counters(sorted(this.counters, Counter::getCount))
+            .gauges(gaugeValues)
+            .timers(sorted(this.timers, Timer::snapshot))
+            .histograms(sorted(this.histograms, histogram -> histogram.snapshot(1)))
+            .build();
+    }
+
+    /**
+     * Dumps a snapshot of every metric, along with this system's information (see {@link SystemInfoManager}), into a new
+     * JSON file inside the given {@code directory}.
+     *
+     * @return The file dumped into.
+     * */
+    public Result<Throwable, Path> dump(Path directory) {
+        DiagnosticsDTO diagnostics = DiagnosticsDTO.builder()
+            .buildVersion(GitInfoManager.getInstance().getBuildVersion())
+            .commitId(GitInfoManager.getInstance().getCommitIdFull())
+            .systemInformation(SystemInfoManager.getSystemInformation())
+            .metrics(this.snapshot())
+            .build();
+
+        Path file = directory.resolve(String.format(DUMP_FILE_NAME_TEMPLATE, new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date())));
+        LOGGER.debug("Dumping diagnostics into [{}]...", file);
+
+        return Try.of(() -> {
+            Files.createDirectories(directory);
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), diagnostics);
+            return file;
+        }).onFailure(
+            t -> LOGGER.error("There was an error while dumping diagnostics into [{}]", file, t)
+        ).map(Result::success).recover(Result::failure).get();
+    }
+
+    /**
+     * Maps every one of the given {@code metrics} through the given {@code reader}, sorted by name.
+     * */
+    private static <M, V> Map<String, V> sorted(Map<String, M> metrics, Function<M, V> reader) {
+        Map<String, V> result = new TreeMap<>();
+        metrics.forEach((name, metric) -> result.put(name, reader.apply(metric)));
+        return result;
+    }
+}
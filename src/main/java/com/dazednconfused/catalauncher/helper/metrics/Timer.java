@@ -0,0 +1,64 @@
+package com.dazednconfused.catalauncher.helper.metrics;
+
+import com.dazednconfused.catalauncher.helper.metrics.dto.HistogramSnapshotDTO;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records how long something takes (and, by extension, how many times it's been done) into a {@link Histogram} of
+ * nanoseconds.
+ * */
+public class Timer {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Histogram histogram = new Histogram();
+
+    /**
+     * Records the time elapsed since the given {@code startedAtNanos}, as returned by {@link System#nanoTime()}.
+     * */
+    public void recordSince(long startedAtNanos) {
+        this.histogram.record(System.nanoTime() - startedAtNanos);
+    }
+
+    /**
+     * Runs the given {@code body}, recording how long it took (whether it succeeded or not).
+     * */
+    public void time(Runnable body) {
+        long startedAt = System.nanoTime();
+        try {
+            body.run();
+        } finally {
+            this.recordSince(startedAt);
+        }
+    }
+
+    /**
+     * Runs the given {@code body}, recording how long it took (whether it succeeded or not).
+     *
+     * @return Whatever {@code body} returned.
+     * */
+    public <T> T time(Supplier<T> body) {
+        long startedAt = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            this.recordSince(startedAt);
+        }
+    }
+
+    /**
+     * The amount of times recorded so far.
+     * */
+    public long getCount() {
+        return this.histogram.getCount();
+    }
+
+    /**
+     * Takes a snapshot of every time recorded so far, in milliseconds.
+     * */
+    public HistogramSnapshotDTO snapshot() {
+        return this.histogram.snapshot(NANOS_PER_MILLI);
+    }
+}
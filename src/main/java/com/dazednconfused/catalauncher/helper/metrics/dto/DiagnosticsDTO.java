@@ -0,0 +1,17 @@
+package com.dazednconfused.catalauncher.helper.metrics.dto;
+
+import com.dazednconfused.catalauncher.helper.sysinfo.SystemInformation;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DiagnosticsDTO {
+
+    private String buildVersion;
+    private String commitId;
+    private SystemInformation systemInformation;
+    private MetricsSnapshotDTO metrics;
+
+}
@@ -0,0 +1,19 @@
+package com.dazednconfused.catalauncher.helper.metrics.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class HistogramSnapshotDTO {
+
+    private long count;
+    private double total;
+    private double mean;
+    private double min;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double max;
+
+}
@@ -0,0 +1,27 @@
+package com.dazednconfused.catalauncher.helper.metrics.dto;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MetricsSnapshotDTO {
+
+    /**
+     * When the snapshot was taken, in milliseconds since the epoch.
+     * */
+    private long takenAtMillis;
+
+    private Map<String, Long> counters;
+    private Map<String, Long> gauges;
+
+    /**
+     * Every timer's recorded times, in milliseconds.
+     * */
+    private Map<String, HistogramSnapshotDTO> timers;
+
+    private Map<String, HistogramSnapshotDTO> histograms;
+
+}
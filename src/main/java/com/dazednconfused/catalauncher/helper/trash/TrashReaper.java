@@ -0,0 +1,242 @@
+package com.dazednconfused.catalauncher.helper.trash;
+
+import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.result.Result;
+
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes files and directories without making anyone wait for it: each one is first renamed into a reaping directory
+ * (which is instant, and makes it disappear from wherever it was), and then physically deleted by a low-priority background
+ * thread, which pauses every few deletions so as not to hog the disk.
+ * <br><br>
+ * Anything left in the reaping directory by a previous session (ie: the launcher was closed mid-reaping) gets reaped as soon
+ * as the reaper starts.
+ * */
+public class TrashReaper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrashReaper.class);
+
+    /**
+     * How many files are deleted in a row, before pausing for {@link #DEFAULT_PAUSE_MILLIS}.
+     * */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final long DEFAULT_PAUSE_MILLIS = 10;
+
+    private static TrashReaper instance;
+
+    private final Path reapingDirectory;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    private final BlockingQueue<Path> queue = new LinkedBlockingQueue<>();
+    private final Object idleLock = new Object();
+    private int pending; // guarded by idleLock
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized TrashReaper getInstance() {
+        if (instance == null) {
+            instance = new TrashReaper(Paths.getCustomReapingPath(), DEFAULT_BATCH_SIZE, DEFAULT_PAUSE_MILLIS);
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor. Starts the reaper thread right away.
+     *
+     * @param reapingDirectory Where everything discarded gets renamed into, while waiting to be deleted. It should live in the
+     *                         same filesystem as whatever gets discarded, so that renaming into it is actually a rename.
+     * */
+    protected TrashReaper(Path reapingDirectory, int batchSize, long pauseMillis) {
+        this.reapingDirectory = reapingDirectory;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+
+        // pick up whatever a previous session left behind -
+        if (Files.isDirectory(reapingDirectory)) {
+            try (Stream<Path> leftovers = Files.list(reapingDirectory)) {
+                leftovers.forEach(this::enqueue);
+            } catch (IOException e) {
+                LOGGER.error("Could not list leftovers in [{}]", reapingDirectory, e);
+            }
+        }
+
+        Thread reaper = new Thread(this::reapForever, "trash-reaper");
+        reaper.setDaemon(true);
+        reaper.setPriority(Thread.MIN_PRIORITY);
+        reaper.start();
+    }
+
+    /**
+     * Returns the directory everything discarded gets renamed into, while waiting to be deleted.
+     * */
+    public Path getReapingDirectory() {
+        return this.reapingDirectory;
+    }
+
+    /**
+     * Makes the given {@code toBeDiscarded} file or directory disappear right away, and schedules it for deletion.
+     *
+     * @implNote If it can't be renamed into {@link #reapingDirectory} (ie: it lives in a different filesystem), it gets deleted
+     *           right away instead, on the calling thread; since it must be gone by the time this method returns either way.
+     *
+     * @return {@link Result#success(Object)} with the path it was renamed into (or the original path, if it was deleted right
+     *         away), or {@link Result#failure(Throwable)} if it could be neither renamed nor deleted.
+     * */
+    public Result<Throwable, Path> discard(Path toBeDiscarded) {
+        if (!Files.exists(toBeDiscarded)) {
+            LOGGER.trace("[{}] doesn't exist. Nothing to discard", toBeDiscarded);
+            return Result.success(toBeDiscarded);
+        }
+
+        return Try.of(() -> {
+            Files.createDirectories(this.reapingDirectory);
+            Path reapable = this.reapingDirectory.resolve(UUID.randomUUID() + "-" + toBeDiscarded.getFileName());
+
+            try {
+                Files.move(toBeDiscarded, reapable, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                LOGGER.debug("Could not rename [{}] into [{}]. Deleting it right away...", toBeDiscarded, this.reapingDirectory);
+                FileUtils.forceDelete(toBeDiscarded.toFile());
+                return toBeDiscarded;
+            }
+
+            LOGGER.debug("Discarded [{}] as [{}]", toBeDiscarded, reapable);
+            this.enqueue(reapable);
+            return reapable;
+        }).onFailure(
+            t -> LOGGER.error("There was an error discarding [{}]", toBeDiscarded, t)
+        ).map(Result::<Throwable, Path>success).recover(Result::failure).get();
+    }
+
+    /**
+     * Waits up to {@code timeout} for everything discarded so far to be deleted.
+     *
+     * @return {@code true} if nothing is left to delete.
+     * */
+    public boolean awaitReaped(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this.idleLock) {
+            while (this.pending > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                this.idleLock.wait(remainingMillis);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Schedules the given {@code reapable} path for deletion.
+     * */
+    private void enqueue(Path reapable) {
+        synchronized (this.idleLock) {
+            this.pending++;
+        }
+        this.queue.add(reapable);
+    }
+
+    /**
+     * The reaper thread's loop.
+     * */
+    private void reapForever() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Path reapable;
+            try {
+                reapable = this.queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                this.reap(reapable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                LOGGER.error("Could not reap [{}]. It will be retried on next launch", reapable, e);
+            } finally {
+                synchronized (this.idleLock) {
+                    this.pending--;
+                    this.idleLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the given {@code reapable} file or directory tree, pausing every {@link #batchSize} deletions.
+     * */
+    private void reap(Path reapable) throws IOException, InterruptedException {
+        LOGGER.trace("Reaping [{}]...", reapable);
+        long startedAt = System.nanoTime();
+
+        int[] deleted = {0};
+        try {
+            Files.walkFileTree(reapable, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    this.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    if (e != null) {
+                        throw e;
+                    }
+                    this.delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                /**
+                 * Deletes the given {@code path}, pausing if a whole batch has just been deleted.
+                 * */
+                private void delete(Path path) throws IOException {
+                    Files.deleteIfExists(path);
+                    if (++deleted[0] % batchSize == 0) {
+                        try {
+                            Thread.sleep(pauseMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException(e);
+                        }
+                    }
+                }
+            });
+        } catch (NoSuchFileException e) {
+            LOGGER.trace("[{}] already gone", reapable);
+        } catch (IOException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            throw e;
+        }
+
+        LOGGER.debug("Reaped [{}] ([{}] entries) in [{}] ms", reapable, deleted[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+}
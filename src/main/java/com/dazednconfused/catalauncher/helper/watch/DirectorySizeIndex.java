@@ -0,0 +1,71 @@
+package com.dazednconfused.catalauncher.helper.watch;
+
+import io.vavr.control.Try;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the on-disk size (in bytes) of every immediate child of a {@link WatchedDirectory}.
+ * <br><br>
+ * Sizes are computed lazily - and only once - per child. The owning {@link WatchedDirectory} invalidates a child's size
+ * right before announcing it as added or updated, so that a recursive tree walk only ever happens again for children
+ * that actually changed.
+ * */
+public class DirectorySizeIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectorySizeIndex.class);
+
+    private final Map<File, Long> sizes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the size of the given {@code child}, computing it if not already indexed.
+     *
+     * @apiNote Computing a directory's size is a recursive tree walk. Do not call from the Event Dispatch Thread (EDT).
+     * */
+    public long sizeOf(File child) {
+        Long cached = this.sizes.get(child);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (!child.exists()) {
+            return 0L; // nothing to index (yet)
+        }
+
+        return this.sizes.computeIfAbsent(child, DirectorySizeIndex::computeSizeOf);
+    }
+
+    /**
+     * Returns the sizes of all given {@code children}, computing the ones not already indexed in parallel.
+     * */
+    public Map<File, Long> sizesOf(Collection<File> children) {
+        return children.parallelStream().distinct().collect(Collectors.toConcurrentMap(Function.identity(), this::sizeOf));
+    }
+
+    /**
+     * Drops the indexed size of {@code child}, so that it's computed anew on its next query.
+     * */
+    protected void invalidate(File child) {
+        this.sizes.remove(child);
+    }
+
+    /**
+     * Computes the size of the given {@code file} straight from disk.
+     * */
+    private static long computeSizeOf(File file) {
+        LOGGER.trace("Computing size of [{}]...", file);
+
+        return Try.of(() -> file.isDirectory() ? FileUtils.sizeOfDirectory(file) : file.length())
+            .onFailure(t -> LOGGER.debug("Could not compute size of [{}]", file, t))
+            .getOrElse(0L);
+    }
+}
@@ -0,0 +1,390 @@
+package com.dazednconfused.catalauncher.helper.watch;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import com.dazednconfused.catalauncher.helper.ExecutorFactory;
+
+import io.vavr.control.Try;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Central {@link WatchService}-based monitor over the launcher's directories (saves, backups, soundpacks, mods...).
+ * <br><br>
+ * Every watched directory is kept as an in-memory {@link WatchedDirectory} model, updated from file system events rather
+ * than by re-listing it on demand. Bursts of events (ie: the game writing a save, or a soundpack being copied) are
+ * debounced into a single event per affected immediate child.
+ * <br><br>
+ * Only a watched directory's root (and its parent) get registered on the calling thread. Whatever lies below, within the
+ * requested {@link WatchDepth}, gets walked and registered from the background; so that watching a big tree never blocks
+ * the caller (ie: the Event Dispatch Thread, while building the GUI).
+ * */
+public class FileSystemMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemMonitor.class);
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+    /**
+     * How many debounce periods a continuous burst of events may hold back its pending events for.
+     * */
+    private static final int MAX_DEBOUNCE_PERIODS = 4;
+
+    private static final String IGNORED_FILE_NAME = ".DS_Store";
+
+    private static FileSystemMonitor instance;
+
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final ScheduledExecutorService debouncer;
+    private final ExecutorService registrar;
+
+    private final Map<Path, WatchedDirectory> watchedDirectories = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> watchKeys = new ConcurrentHashMap<>();
+
+    private final Map<WatchedDirectory, Set<Path>> pendingChanges = new HashMap<>();
+    private final Set<WatchedDirectory> pendingRescans = new HashSet<>();
+    private ScheduledFuture<?> pendingFlush;
+    private long firstPendingAt;
+
+    private Thread watcherThread;
+    private volatile boolean closed;
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized FileSystemMonitor getInstance() {
+        if (instance == null) {
+            instance = new FileSystemMonitor(DEFAULT_DEBOUNCE_MILLIS);
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param debounceMillis For how long a burst of file system events must settle before being published.
+     * */
+    protected FileSystemMonitor(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+        this.watchService = Try.of(() -> FileSystems.getDefault().newWatchService())
+            .getOrElseThrow(t -> new IllegalStateException("Could not create file system watch service", t));
+        this.debouncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "filesystem-monitor-debouncer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.registrar = Executors.newSingleThreadExecutor(ExecutorFactory.daemonThreadFactory("filesystem-monitor-registrar-"));
+    }
+
+    /**
+     * Starts watching the given {@code root} directory (if not being watched already) and returns its in-memory model.
+     *
+     * @param root  The directory to watch. It doesn't need to exist yet; its creation will be picked up as well.
+     * @param depth How far below {@code root} changes should be watched.
+     * @apiNote Creates {@code root}'s parent directory (along with any missing ancestors) if it doesn't exist, since that's
+     *          where {@code root}'s own creation gets noticed from. {@code root} itself is never created.
+     * */
+    public synchronized WatchedDirectory watch(Path root, WatchDepth depth) {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+
+        WatchedDirectory existing = this.watchedDirectories.get(normalizedRoot);
+        if (existing != null) {
+            return existing;
+        }
+
+        LOGGER.debug("Watching directory [{}] (depth: [{}])...", normalizedRoot, depth);
+
+        WatchedDirectory watchedDirectory = new WatchedDirectory(normalizedRoot, depth);
+        this.watchedDirectories.put(normalizedRoot, watchedDirectory);
+
+        this.registerParentOf(normalizedRoot);
+        this.registerTree(normalizedRoot, 0);
+        watchedDirectory.reconcileAll(listChildren(normalizedRoot));
+
+        // walk whatever lies below the root without blocking the caller -
+        if (depth.getLevels() > 0) {
+            this.registrar.execute(() -> {
+                this.registerChildrenOf(normalizedRoot, depth.getLevels());
+                watchedDirectory.whenRegistered().complete(null);
+            });
+        } else {
+            watchedDirectory.whenRegistered().complete(null);
+        }
+
+        this.startIfNeeded();
+        return watchedDirectory;
+    }
+
+    /**
+     * Stops watching every directory and releases all underlying resources.
+     * */
+    public synchronized void close() {
+        LOGGER.debug("Closing file system monitor...");
+
+        this.closed = true;
+        this.debouncer.shutdownNow();
+        this.registrar.shutdownNow();
+        Try.run(this.watchService::close).onFailure(t -> LOGGER.error("There was an error closing the file system watch service", t));
+    }
+
+    /**
+     * Starts the thread in charge of draining {@link #watchService}, if not already started.
+     * */
+    private void startIfNeeded() {
+        if (this.watcherThread == null) {
+            this.watcherThread = new Thread(this::processEvents, "filesystem-monitor");
+            this.watcherThread.setDaemon(true);
+            this.watcherThread.start();
+        }
+    }
+
+    /**
+     * Drains {@link #watchService} until this monitor is closed.
+     * */
+    private void processEvents() {
+        while (!this.closed) {
+            WatchKey key;
+            try {
+                key = this.watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = this.watchKeys.get(key);
+            if (directory != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    this.onEvent(directory, event);
+                }
+            }
+
+            if (!key.reset()) {
+                // directory is no longer accessible (ie: deleted). If it was a watched root, its contents are gone too -
+                this.watchKeys.remove(key);
+                if (directory != null && this.watchedDirectories.containsKey(directory)) {
+                    this.scheduleRescan(this.watchedDirectories.get(directory));
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps a single raw {@link WatchEvent} that happened inside {@code directory} into pending changes for every
+     * {@link WatchedDirectory} it affects.
+     * */
+    private void onEvent(Path directory, WatchEvent<?> event) {
+        if (event.kind() == OVERFLOW) {
+            LOGGER.debug("File system events overflowed for [{}]. Rescanning affected directories...", directory);
+            this.watchedDirectories.values().stream()
+                .filter(watched -> directory.startsWith(watched.getRoot()) || directory.equals(watched.getRoot().getParent()))
+                .forEach(this::scheduleRescan);
+            return;
+        }
+
+        Path changed = directory.resolve((Path) event.context());
+        if (IGNORED_FILE_NAME.equals(changed.getFileName().toString())) {
+            return;
+        }
+
+        for (WatchedDirectory watched : this.watchedDirectories.values()) {
+            if (changed.equals(watched.getRoot())) {
+                // the root itself was created, deleted or moved (ie: saves being trashed and restored from a backup) -
+                if (event.kind() == ENTRY_CREATE) {
+                    this.registerTree(changed, watched.getDepth().getLevels());
+                }
+                this.scheduleRescan(watched);
+                continue;
+            }
+
+            Path child = watched.immediateChildFor(changed);
+            if (child != null) {
+                int level = watched.getRoot().relativize(changed).getNameCount();
+                if (level <= watched.getDepth().getLevels() && event.kind() == ENTRY_CREATE && Files.isDirectory(changed)) {
+                    this.registerTree(changed, watched.getDepth().getLevels() - level);
+                }
+                this.scheduleChange(watched, child);
+            }
+        }
+    }
+
+    /**
+     * Queues a change to the given immediate {@code child} of {@code watched}, to be published once events settle.
+     * */
+    private synchronized void scheduleChange(WatchedDirectory watched, Path child) {
+        this.pendingChanges.computeIfAbsent(watched, k -> new HashSet<>()).add(child);
+        this.scheduleFlush();
+    }
+
+    /**
+     * Queues a full rescan of {@code watched}, to be performed once events settle.
+     * */
+    private synchronized void scheduleRescan(WatchedDirectory watched) {
+        this.pendingRescans.add(watched);
+        this.scheduleFlush();
+    }
+
+    /**
+     * (Re)schedules {@link #flush()}, so that it only runs once events have settled for {@link #debounceMillis}; but
+     * never holding back pending changes for longer than {@link #MAX_DEBOUNCE_PERIODS} periods.
+     * */
+    private synchronized void scheduleFlush() {
+        if (this.closed) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (this.pendingFlush == null) {
+            this.firstPendingAt = now;
+        } else if (now - this.firstPendingAt >= this.debounceMillis * MAX_DEBOUNCE_PERIODS) {
+            return; // let the already scheduled flush go through -
+        } else {
+            this.pendingFlush.cancel(false);
+        }
+
+        this.pendingFlush = this.debouncer.schedule(this::flush, this.debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes all pending changes and rescans.
+     * */
+    private void flush() {
+        Map<WatchedDirectory, Set<Path>> changes;
+        Set<WatchedDirectory> rescans;
+
+        synchronized (this) {
+            changes = new HashMap<>(this.pendingChanges);
+            rescans = new HashSet<>(this.pendingRescans);
+            this.pendingChanges.clear();
+            this.pendingRescans.clear();
+            this.pendingFlush = null;
+        }
+
+        rescans.forEach(watched -> watched.reconcileAll(listChildren(watched.getRoot())));
+        changes.forEach((watched, children) -> children.forEach(child -> watched.reconcile(child, Files.exists(child))));
+    }
+
+    /**
+     * Registers {@code root}'s parent directory, so that {@code root}'s own creation or deletion gets noticed. The parent
+     * gets created first if missing, since a directory that doesn't exist cannot be registered.
+     * */
+    private void registerParentOf(Path root) {
+        Path parent = root.getParent();
+        if (parent == null) {
+            return;
+        }
+
+        if (!parent.toFile().exists()) {
+            LOGGER.debug("Parent folder [{}] not found. Creating...", parent);
+            Try.of(parent.toFile()::mkdirs).onFailure(t -> LOGGER.error("Could not create folder [{}]", parent, t));
+        }
+
+        this.register(parent);
+    }
+
+    /**
+     * Registers {@code start}, along with every directory up to {@code levels} levels below it, into the {@link #watchService}.
+     * */
+    private void registerTree(Path start, int levels) {
+        if (!Files.isDirectory(start)) {
+            return;
+        }
+
+        this.register(start);
+        this.registerChildrenOf(start, levels);
+    }
+
+    /**
+     * Registers every directory from one up to {@code levels} levels below {@code start} into the {@link #watchService}.
+     * */
+    private void registerChildrenOf(Path start, int levels) {
+        if (levels <= 0 || !Files.isDirectory(start)) {
+            return;
+        }
+
+        Try.run(() -> Files.walkFileTree(start, EnumSet.noneOf(FileVisitOption.class), levels, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (!dir.equals(start)) {
+                    register(dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isDirectory()) {
+                    register(file); // directories right at the deepest level get visited as files
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                LOGGER.debug("Could not visit [{}] for watching", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        })).onFailure(t -> LOGGER.error("There was an error registering directory tree [{}] for watching", start, t));
+    }
+
+    /**
+     * Registers a single {@code directory} into the {@link #watchService}.
+     * */
+    private void register(Path directory) {
+        Try.of(() -> directory.register(this.watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY))
+            .onSuccess(key -> this.watchKeys.put(key, directory))
+            .onFailure(t -> LOGGER.error("There was an error registering directory [{}] for watching", directory, t));
+    }
+
+    /**
+     * Lists the immediate children of {@code root} straight from disk.
+     * */
+    private static Set<File> listChildren(Path root) {
+        if (!Files.isDirectory(root)) {
+            return Collections.emptySet();
+        }
+
+        return Try.of(() -> {
+            try (Stream<Path> children = Files.list(root)) {
+                return children
+                    .filter(child -> !IGNORED_FILE_NAME.equals(child.getFileName().toString()))
+                    .map(Path::toFile)
+                    .collect(Collectors.toSet());
+            }
+        }).onFailure(t -> LOGGER.error("There was an error listing directory [{}]", root, t)).getOrElse(Collections.emptySet());
+    }
+}
@@ -0,0 +1,42 @@
+package com.dazednconfused.catalauncher.helper.watch;
+
+/**
+ * How far below a {@link WatchedDirectory}'s root the {@link FileSystemMonitor} watches for changes.
+ * <br><br>
+ * Every directory within reach stays registered (and, on platforms without native file system events, polled) for as long
+ * as the launcher runs; so consumers should ask for the shallowest depth they actually need.
+ * */
+public enum WatchDepth {
+
+    /**
+     * Only the root's immediate children being added or removed.
+     * */
+    ROOT(0),
+
+    /**
+     * Same as {@link #ROOT}, plus changes right inside each immediate child directory (ie: a world's {@code .sav} files being
+     * written), announced as an update of said child. Anything deeper goes unnoticed.
+     * */
+    CHILDREN(1),
+
+    /**
+     * Same as {@link #CHILDREN}, but at any depth.
+     * */
+    TREE(Integer.MAX_VALUE);
+
+    private final int levels;
+
+    /**
+     * Constructor.
+     * */
+    WatchDepth(int levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * How many levels of directories below the root get watched.
+     * */
+    public int getLevels() {
+        return levels;
+    }
+}
@@ -0,0 +1,160 @@
+package com.dazednconfused.catalauncher.helper.watch;
+
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The in-memory model of a directory watched by the {@link FileSystemMonitor}: its current immediate children, and the
+ * {@link ChangeEventPublisher} through which changes to them are announced.
+ * <br><br>
+ * Changes below an immediate child (ie: a file written inside a save's world folder) are announced as an update of said
+ * child, as far down as the directory's {@link WatchDepth} reaches.
+ * */
+public class WatchedDirectory {
+
+    private final Path root;
+    private final WatchDepth depth;
+    private final CompletableFuture<Void> registered = new CompletableFuture<>();
+    private final Set<File> children = ConcurrentHashMap.newKeySet();
+    private final ChangeEventPublisher<File> events = new ChangeEventPublisher<>();
+    private final DirectorySizeIndex sizeIndex = new DirectorySizeIndex();
+
+    /**
+     * Constructor.
+     * */
+    protected WatchedDirectory(Path root, WatchDepth depth) {
+        this.root = root;
+        this.depth = depth;
+    }
+
+    /**
+     * The directory being watched.
+     * */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * How far below {@link #getRoot()} changes are being watched.
+     * */
+    public WatchDepth getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns a future completing once every directory below {@link #getRoot()} within {@link #getDepth()} has been
+     * registered for watching. Changes below the immediate children happening before that may go unnoticed.
+     *
+     * @apiNote Immediate children themselves are known (and their additions and removals watched) right away.
+     * */
+    public CompletableFuture<Void> whenRegistered() {
+        return registered;
+    }
+
+    /**
+     * Returns the immediate children of {@link #getRoot()}, as last seen by the {@link FileSystemMonitor}.
+     *
+     * @apiNote No disk access is performed.
+     * */
+    public List<File> getChildren() {
+        return new ArrayList<>(this.children);
+    }
+
+    /**
+     * Whether {@link #getRoot()} has any immediate children, as last seen by the {@link FileSystemMonitor}.
+     *
+     * @apiNote No disk access is performed.
+     * */
+    public boolean hasChildren() {
+        return !this.children.isEmpty();
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every (debounced) addition, update or removal of an immediate
+     * child is announced.
+     * */
+    public ChangeEventPublisher<File> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the {@link DirectorySizeIndex} of this directory's immediate children.
+     *
+     * @implNote Sizes are invalidated <b>before</b> publishing the corresponding event, so listeners querying a changed
+     *           child's size always get a fresh value.
+     * */
+    public DirectorySizeIndex getSizeIndex() {
+        return sizeIndex;
+    }
+
+    /**
+     * Resolves the immediate child of {@link #getRoot()} under which the given {@code path} lives, if any.
+     * */
+    protected Path immediateChildFor(Path path) {
+        if (!path.startsWith(this.root) || path.equals(this.root)) {
+            return null;
+        }
+        return this.root.resolve(this.root.relativize(path).getName(0));
+    }
+
+    /**
+     * Reconciles the in-memory model for the given immediate {@code child} with its current state on disk, and publishes
+     * the resulting event (if any).
+     * */
+    protected void reconcile(Path child, boolean exists) {
+        File file = child.toFile();
+        boolean known = this.children.contains(file);
+
+        this.sizeIndex.invalidate(file);
+
+        if (exists && !known) {
+            this.children.add(file);
+            this.events.publishAdded(file);
+        } else if (exists) {
+            this.events.publishUpdated(file);
+        } else if (known) {
+            this.children.remove(file);
+            this.events.publishRemoved(file);
+        }
+    }
+
+    /**
+     * Reconciles the whole in-memory model against the given {@code currentChildren}, publishing additions and removals.
+     * Children present both before and after get published as updated, since a rescan means their contents could have
+     * changed without notice (ie: the whole root being replaced by a restored backup).
+     * */
+    protected void reconcileAll(Set<File> currentChildren) {
+        for (File known : new ArrayList<>(this.children)) {
+            if (!currentChildren.contains(known)) {
+                this.reconcile(known.toPath(), false);
+            }
+        }
+        for (File current : currentChildren) {
+            this.reconcile(current.toPath(), true);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return root.equals(((WatchedDirectory) o).root);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(root);
+    }
+}
@@ -1,15 +1,17 @@
 package com.dazednconfused.catalauncher.launcher;
 
 import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.task.ManagedTask;
+import com.dazednconfused.catalauncher.task.TaskManager;
 
 import io.vavr.control.Try;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Objects;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +23,13 @@ public class CDDALauncherManager {
     private static final String OSX_LAUNCHER_WRAPPER_SCRIPT = "osx_launcher_wrapper.sh";
     private static final String OSX_LAUNCHER_WRAPPER_SCRIPT_FILEPATH = Paths.getLauncherFiles() + "/" + OSX_LAUNCHER_WRAPPER_SCRIPT;
 
+    /**
+     * How many of the game's last output lines get logged whenever it exits abnormally.
+     * */
+    private static final int CRASH_OUTPUT_LINES = 50;
+
+    private static volatile GameOutputCapture gameOutputCapture;
+
     /**
      * Executes {@code CDDA}'s application with the given arguments.
      * */
@@ -30,29 +39,65 @@ public class CDDALauncherManager {
 
     /**
      * Executes {@code CDDA}'s application with the given arguments.
+     *
+     * @implNote The game's output gets continuously captured into {@link Paths#getGameOutputLogPath()} through a
+     *           {@link GameOutputCapture}, so that it can never stall on full pipe buffers.
      * */
     private static Process executeCddaApplication(String[] cmdarray) {
         LOGGER.info("Executing command [{}]", (Object) cmdarray);
 
-        return Try.of(() -> Runtime.getRuntime().exec(cmdarray)).onFailure(t -> LOGGER.error("There was an error executing [{}]", cmdarray, t)).getOrNull();
+        return Try.of(() -> new ProcessBuilder(cmdarray).start())
+            .andThen(process -> gameOutputCapture = GameOutputCapture.start(process, Paths.getGameOutputLogPath()))
+            .onFailure(t -> LOGGER.error("There was an error executing [{}]", cmdarray, t))
+            .getOrNull();
+    }
+
+    /**
+     * Returns the {@link GameOutputCapture} of the last {@code CDDA} application executed, if any.
+     * */
+    public static Optional<GameOutputCapture> getGameOutputCapture() {
+        return Optional.ofNullable(gameOutputCapture);
     }
 
     /**
-     * Creates a new thread to monitor the {@code CDDA} application after it has been run, and waits for it to exit. When it does,
-     * it immediately executes the given {@link Runnable} object.
+     * Submits a new {@link TaskManager} task to monitor the {@code CDDA} application after it has been run, and waits for it
+     * to exit. When it does, it immediately executes the given {@link Runnable} object.
+     *
+     * @apiNote Cancelling the returned task only stops the monitoring. The game itself is left running.
+     *
+     * @implNote The whole session gets recorded (along with the game's resource usage throughout it) by the
+     *           {@link GameProcessSupervisor}. Should the game exit abnormally, its last lines of output get logged as well.
      * */
-    public static void monitorCddaProcess(Process process, Runnable onExit) {
-        new Thread(() -> {
-            try {
-                int exitCode = process.waitFor();
-                LOGGER.info("CDDA process exited with code {}", exitCode);
-                onExit.run();
-            } catch (InterruptedException e) {
-                LOGGER.error("Interrupted while waiting for CDDA process to exit", e);
-                // no further cleanup needed - just go ahead and proceed with the interruption
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+    public static ManagedTask<Integer> monitorCddaProcess(Process process, Runnable onExit) {
+        return GameProcessSupervisor.getInstance().supervise(process, () -> {
+            getGameOutputCapture().filter(capture -> capture.getProcess() == process).ifPresent(capture -> logCrashOutput(process, capture));
+            onExit.run();
+        });
+    }
+
+    /**
+     * Logs the last {@link #CRASH_OUTPUT_LINES} lines the given {@code process} wrote, if it exited abnormally.
+     * */
+    private static void logCrashOutput(Process process, GameOutputCapture capture) {
+        if (process.exitValue() == 0) {
+            return;
+        }
+
+        Try.run(() -> capture.awaitDrained(1, TimeUnit.SECONDS)); // the pumps may still be catching up with the last of it
+
+        List<String> lines = capture.getRecentLines();
+        LOGGER.error(
+            "CDDA exited abnormally with code [{}]. Its last output was:\n{}",
+            process.exitValue(), String.join("\n", lines.subList(Math.max(0, lines.size() - CRASH_OUTPUT_LINES), lines.size()))
+        );
+    }
+
+    /**
+     * Prepares everything needed to launch {@code CDDA}'s application beforehand, so that actually launching it doesn't have
+     * to wait on anything. Meant to be called in the background.
+     * */
+    public static void prepareLaunch() {
+        Try.of(CDDALauncherManager::loadLauncherWrapper).onFailure(t -> LOGGER.error("There was an error while preparing launch", t));
     }
 
     /**
@@ -60,21 +105,12 @@ public class CDDALauncherManager {
      * comes bundled with, but with the distinct difference that this one allows arguments to be passed to the main binary (which
      * is something that can normally be done, but not from macOS' ".app" application).
      *
-     * @apiNote {@link #OSX_LAUNCHER_WRAPPER_SCRIPT_FILEPATH} will be overwritten on this method's invocation. Therefore, custom
-     *          user modifications to the launcher's wrapper will not last.
+     * @apiNote {@link #OSX_LAUNCHER_WRAPPER_SCRIPT_FILEPATH} will be overwritten if it doesn't match the bundled one. Therefore,
+     *          custom user modifications to the launcher's wrapper will not last.
+     *
+     * @implNote Extraction is cached by {@link LaunchAssetCache}, so that it only ever happens once per launcher build.
      * */
     private static File loadLauncherWrapper() {
-        File file = new File(OSX_LAUNCHER_WRAPPER_SCRIPT_FILEPATH);
-
-        LOGGER.debug("Extracting OSX launcher wrapper into [{}]...", file);
-
-        try (InputStream launcherWrapperInputStream = CDDALauncherManager.class.getClassLoader().getResourceAsStream(OSX_LAUNCHER_WRAPPER_SCRIPT)) {
-            FileUtils.copyInputStreamToFile(Objects.requireNonNull(launcherWrapperInputStream), file);
-        } catch (IOException e) {
-            LOGGER.error("There was an error while extracting launcher wrapper from [{}]", file, e);
-            throw new RuntimeException(e);
-        }
-
-        return file;
+        return LaunchAssetCache.getInstance().extract(OSX_LAUNCHER_WRAPPER_SCRIPT, Path.of(OSX_LAUNCHER_WRAPPER_SCRIPT_FILEPATH));
     }
 }
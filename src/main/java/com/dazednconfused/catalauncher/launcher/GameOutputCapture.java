@@ -0,0 +1,288 @@
+package com.dazednconfused.catalauncher.launcher;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Continuously drains a game {@link Process}' {@code stdout} and {@code stderr}, so that it never stalls on full pipe
+ * buffers; writing everything into a rolling on-disk log, and keeping the most recent lines in memory.
+ * <br><br>
+ * Each stream gets its own pump thread, which only ever hands the lines it reads over to a single log writer thread; so that
+ * neither pump ever waits on the disk (nor on the other pump's writes). The writer only ever flushes the log once it has
+ * caught up with both pumps, so that a chatty game doesn't turn into a write per line.
+ *
+ * @implNote Failing to write the log never stops the pumps. The streams keep getting drained regardless.
+ * */
+public class GameOutputCapture {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameOutputCapture.class);
+
+    public static final int DEFAULT_RECENT_LINES_CAPACITY = 2_000;
+    public static final long DEFAULT_MAX_LOG_BYTES = 10 * 1024 * 1024;
+
+    /**
+     * How many rolled logs (ie: {@code game.log.1}, {@code game.log.2}...) are kept around, besides the current one.
+     * */
+    public static final int MAX_ROLLED_LOGS = 3;
+
+    /**
+     * How many lines may be waiting for the log writer before the pumps start waiting on it in turn.
+     * */
+    public static final int MAX_PENDING_LINES = 10_000;
+
+    private static final String STDERR_PREFIX = "[stderr] ";
+
+    private static final String END_OF_STREAM = new String("<end of stream>"); // compared by identity, so no line can match it
+
+    private final Process process;
+    private final Path logFile;
+    private final int recentLinesCapacity;
+    private final long maxLogBytes;
+
+    private final ArrayDeque<String> recentLines; // guarded by itself
+    private final BlockingQueue<String> pendingLines = new LinkedBlockingQueue<>(MAX_PENDING_LINES);
+    private final List<Thread> threads = new ArrayList<>();
+
+    private Writer logWriter; // only touched by the log writer thread once started; null if the log could not be written
+    private long logBytes; // only touched by the log writer thread once started
+
+    /**
+     * Constructor.
+     *
+     * @param recentLinesCapacity How many of the most recent lines to keep in memory.
+     * @param maxLogBytes         How big the log may grow before being rolled.
+     * */
+    protected GameOutputCapture(Process process, Path logFile, int recentLinesCapacity, long maxLogBytes) {
+        this.process = process;
+        this.logFile = logFile;
+        this.recentLinesCapacity = recentLinesCapacity;
+        this.maxLogBytes = maxLogBytes;
+        this.recentLines = new ArrayDeque<>(Math.min(recentLinesCapacity, 256));
+    }
+
+    /**
+     * Starts capturing the given {@code process}' output into the given {@code logFile}, rolling over whatever the previous
+     * session left in it.
+     * */
+    public static GameOutputCapture start(Process process, Path logFile) {
+        return new GameOutputCapture(process, logFile, DEFAULT_RECENT_LINES_CAPACITY, DEFAULT_MAX_LOG_BYTES).start();
+    }
+
+    /**
+     * Opens the log and starts both pumps, along with the log writer.
+     * */
+    protected GameOutputCapture start() {
+        LOGGER.debug("Capturing output of process [{}] into [{}]...", this.process.pid(), this.logFile);
+
+        this.rollAndOpenLog();
+
+        this.threads.add(this.startDaemon("game-log-writer", () -> this.writeLog(2)));
+        this.threads.add(this.startDaemon("game-stdout", () -> this.pump(this.process.getInputStream(), "")));
+        this.threads.add(this.startDaemon("game-stderr", () -> this.pump(this.process.getErrorStream(), STDERR_PREFIX)));
+        return this;
+    }
+
+    public Process getProcess() {
+        return this.process;
+    }
+
+    public Path getLogFile() {
+        return this.logFile;
+    }
+
+    /**
+     * Returns a copy of the most recent lines captured, oldest first. Lines read from {@code stderr} are prefixed with
+     * {@link #STDERR_PREFIX}.
+     * */
+    public List<String> getRecentLines() {
+        synchronized (this.recentLines) {
+            return new ArrayList<>(this.recentLines);
+        }
+    }
+
+    /**
+     * Waits up to {@code timeout} for both pumps to reach the end of their streams, and for the log writer to write out
+     * everything they read (ie: for every line the process ever wrote to have been captured).
+     *
+     * @return {@code true} if everything finished in time.
+     * */
+    public boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Thread thread : this.threads) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis > 0) {
+                thread.join(remainingMillis);
+            }
+        }
+        return this.threads.stream().noneMatch(Thread::isAlive);
+    }
+
+    /**
+     * Starts a daemon thread with the given {@code name}, running the given {@code body}.
+     * */
+    private Thread startDaemon(String name, Runnable body) {
+        Thread thread = new Thread(body, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Drains the given {@code stream} line by line until it reaches its end, keeping every line in memory and handing it
+     * over to the log writer.
+     * */
+    private void pump(InputStream stream, String prefix) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                this.capture(prefix + line);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Stopped reading process output: [{}]", e.getMessage());
+        } finally {
+            this.enqueue(END_OF_STREAM);
+        }
+    }
+
+    /**
+     * Keeps the given {@code line} in memory and queues it up for the log writer.
+     * */
+    private void capture(String line) {
+        synchronized (this.recentLines) {
+            if (this.recentLines.size() >= this.recentLinesCapacity) {
+                this.recentLines.pollFirst();
+            }
+            this.recentLines.addLast(line);
+        }
+
+        this.enqueue(line);
+    }
+
+    /**
+     * Queues up the given {@code line} for the log writer; waiting for room only if it fell {@link #MAX_PENDING_LINES} behind.
+     * */
+    private void enqueue(String line) {
+        try {
+            this.pendingLines.put(line);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Appends every queued line to the log, until the given amount of {@code streams} reach their end. Then closes it.
+     * */
+    private void writeLog(int streams) {
+        int openStreams = streams;
+        try {
+            while (openStreams > 0) {
+                String line = this.pendingLines.take();
+                if (line == END_OF_STREAM) {
+                    openStreams--;
+                } else {
+                    this.write(line, this.pendingLines.isEmpty());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.closeLog();
+        }
+    }
+
+    /**
+     * Appends the given {@code line} to the log, rolling it if it grew too big.
+     *
+     * @param flush Whether to flush the log right after; ie: whether the writer caught up with both pumps.
+     * */
+    private void write(String line, boolean flush) {
+        if (this.logWriter == null) {
+            return;
+        }
+
+        try {
+            this.logWriter.write(line);
+            this.logWriter.write(System.lineSeparator());
+            this.logBytes += line.length() + System.lineSeparator().length(); // close enough for rolling purposes
+
+            if (this.logBytes >= this.maxLogBytes) {
+                this.closeLog();
+                this.rollAndOpenLog();
+            } else if (flush) {
+                this.logWriter.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not write game output into [{}]. It will no longer be logged", this.logFile, e);
+            this.closeLog();
+        }
+    }
+
+    /**
+     * Shifts every existing log one position down (dropping the oldest), and opens a new, empty one.
+     * */
+    private void rollAndOpenLog() {
+        try {
+            Files.createDirectories(this.logFile.toAbsolutePath().getParent());
+
+            if (Files.exists(this.logFile) && Files.size(this.logFile) > 0) {
+                Files.deleteIfExists(rolledLog(MAX_ROLLED_LOGS));
+                for (int i = MAX_ROLLED_LOGS - 1; i >= 1; i--) {
+                    if (Files.exists(rolledLog(i))) {
+                        Files.move(rolledLog(i), rolledLog(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+                Files.move(this.logFile, rolledLog(1), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            OutputStream out = Files.newOutputStream(this.logFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.logWriter = new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()));
+            this.logBytes = 0;
+        } catch (IOException e) {
+            LOGGER.error("Could not open [{}]. Game output will not be logged", this.logFile, e);
+            this.logWriter = null;
+        }
+    }
+
+    /**
+     * Flushes and closes the log, if open.
+     * */
+    private void closeLog() {
+        if (this.logWriter == null) {
+            return;
+        }
+
+        try {
+            this.logWriter.close();
+        } catch (IOException e) {
+            LOGGER.error("Could not close [{}]", this.logFile, e);
+        }
+        this.logWriter = null;
+    }
+
+    /**
+     * Returns the path of the {@code index}-th rolled log.
+     * */
+    private Path rolledLog(int index) {
+        return this.logFile.resolveSibling(this.logFile.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,123 @@
+package com.dazednconfused.catalauncher.launcher;
+
+import com.dazednconfused.catalauncher.mod.ModManager;
+import com.dazednconfused.catalauncher.mod.dto.ModDTO;
+import com.dazednconfused.catalauncher.session.GameSessionManager;
+import com.dazednconfused.catalauncher.session.ProcessTreeSampler;
+import com.dazednconfused.catalauncher.session.dto.GameSessionDTO;
+import com.dazednconfused.catalauncher.task.ManagedTask;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
+
+import io.vavr.control.Try;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Supervises a running game process: records it as a new session in the {@link GameSessionManager}, samples its process
+ * tree's resource usage at a fixed interval while it runs, and records its exit code once it's done.
+ * */
+public class GameProcessSupervisor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameProcessSupervisor.class);
+
+    public static final long DEFAULT_SAMPLE_INTERVAL_MILLIS = 5_000;
+
+    private static GameProcessSupervisor instance;
+
+    private final GameSessionManager sessionManager;
+    private final Supplier<List<String>> installedModsSupplier;
+    private final long sampleIntervalMillis;
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized GameProcessSupervisor getInstance() {
+        if (instance == null) {
+            instance = new GameProcessSupervisor(
+                GameSessionManager.getInstance(),
+                () -> ModManager.getInstance().listAllRegisteredMods().stream().map(ModDTO::getName).collect(Collectors.toList()),
+                DEFAULT_SAMPLE_INTERVAL_MILLIS
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param installedModsSupplier Supplies the names of the mods currently installed, to be recorded along with each session.
+     * */
+    protected GameProcessSupervisor(GameSessionManager sessionManager, Supplier<List<String>> installedModsSupplier, long sampleIntervalMillis) {
+        this.sessionManager = sessionManager;
+        this.installedModsSupplier = installedModsSupplier;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+    }
+
+    /**
+     * Submits a new {@link TaskManager} task to supervise the given game {@code process} until it exits. When it does, it
+     * immediately executes the given {@link Runnable} object.
+     *
+     * @apiNote Cancelling the returned task only stops the supervision. The game itself is left running.
+     *
+     * @implNote Failing to record the session never prevents {@code onExit} from running.
+     * */
+    public ManagedTask<Integer> supervise(Process process, Runnable onExit) {
+        return TaskManager.getInstance().submit("Supervise CDDA process", TaskCategory.WAITING, task -> {
+            Optional<GameSessionDTO> session = this.startSessionFor(process);
+
+            try {
+                while (!process.waitFor(this.sampleIntervalMillis, TimeUnit.MILLISECONDS)) {
+                    session.ifPresent(s -> this.sample(s, process));
+                }
+            } catch (InterruptedException e) {
+                LOGGER.info("Stopped supervising CDDA process");
+                Try.run(this.sessionManager::persistPendingSamples).onFailure(t -> LOGGER.error("Could not persist pending samples", t));
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+
+            int exitCode = process.exitValue();
+            LOGGER.info("CDDA process exited with code {}", exitCode);
+
+            session.ifPresent(s -> Try.of(() -> this.sessionManager.endSession(s, exitCode))
+                .onSuccess(ended -> LOGGER.info("Session [{}] lasted [{}]", ended.getId(), ended.getDuration()))
+                .onFailure(t -> LOGGER.error("Could not record the end of session [{}]", s.getId(), t))
+            );
+
+            onExit.run();
+            return exitCode;
+        });
+    }
+
+    /**
+     * Registers a new session for the given {@code process}.
+     * */
+    private Optional<GameSessionDTO> startSessionFor(Process process) {
+        List<String> installedMods = Try.of(this.installedModsSupplier::get)
+            .onFailure(t -> LOGGER.error("Could not list installed mods", t))
+            .getOrElse(Collections.emptyList());
+
+        return Try.of(() -> this.sessionManager.startSession(process.pid(), installedMods))
+            .onFailure(t -> LOGGER.error("Could not start a session for process [{}]", process.pid(), t))
+            .toJavaOptional();
+    }
+
+    /**
+     * Samples the given {@code process}' tree and records it as part of the given {@code session}.
+     * */
+    private void sample(GameSessionDTO session, Process process) {
+        ProcessTreeSampler.sample(process.toHandle()).ifPresent(sample -> {
+            sample.setSessionId(session.getId());
+            Try.run(() -> this.sessionManager.recordSample(sample)).onFailure(t -> LOGGER.error("Could not record sample [{}]", sample, t));
+        });
+    }
+}
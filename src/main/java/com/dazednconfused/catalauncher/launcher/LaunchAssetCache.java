@@ -0,0 +1,141 @@
+package com.dazednconfused.catalauncher.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extracts the classpath resources needed to launch the game (ie: the launcher wrapper script) into the filesystem, but
+ * only when the extracted copy is missing or differs from the one bundled with this launcher build.
+ * <br><br>
+ * Each extracted copy gets verified by hash the first time it's requested. From then on, its size and last modification
+ * time are enough to tell it hasn't been touched; so that launching the game doesn't involve any hashing nor writing at all.
+ *
+ * @apiNote Any modification to an extracted copy still gets reverted on the next request for it.
+ * */
+public class LaunchAssetCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaunchAssetCache.class);
+
+    private static LaunchAssetCache instance;
+
+    private final ClassLoader classLoader;
+    private final Map<String, byte[]> bundledContents = new HashMap<>();
+    private final Map<String, byte[]> bundledHashes = new HashMap<>();
+    private final Map<Path, VerifiedAsset> verifiedAssets = new HashMap<>();
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized LaunchAssetCache getInstance() {
+        if (instance == null) {
+            instance = new LaunchAssetCache(LaunchAssetCache.class.getClassLoader());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     * */
+    protected LaunchAssetCache(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Makes sure {@code target} holds an exact copy of the classpath resource with the given {@code resourceName}, extracting
+     * it only if needed.
+     *
+     * @throws UncheckedIOException If the resource could not be read or extracted.
+     * */
+    public synchronized File extract(String resourceName, Path target) {
+        VerifiedAsset verified = this.verifiedAssets.get(target);
+        if (verified != null && verified.resourceName.equals(resourceName) && verified.isStillValid(target)) {
+            LOGGER.trace("[{}] already extracted into [{}]", resourceName, target);
+            return target.toFile();
+        }
+
+        byte[] contents = this.bundledContents.computeIfAbsent(resourceName, this::readResource);
+        byte[] hash = this.bundledHashes.computeIfAbsent(resourceName, name -> sha256(contents));
+
+        try {
+            if (Files.isRegularFile(target) && MessageDigest.isEqual(hash, sha256(Files.readAllBytes(target)))) {
+                LOGGER.debug("[{}] matches the bundled [{}]. No need to extract it again", target, resourceName);
+            } else {
+                LOGGER.debug("Extracting [{}] into [{}]...", resourceName, target);
+                Files.createDirectories(target.toAbsolutePath().getParent());
+                Files.write(target, contents);
+            }
+
+            this.verifiedAssets.put(target, new VerifiedAsset(resourceName, Files.size(target), Files.getLastModifiedTime(target).toMillis()));
+        } catch (IOException e) {
+            LOGGER.error("There was an error while extracting [{}] into [{}]", resourceName, target, e);
+            this.verifiedAssets.remove(target);
+            throw new UncheckedIOException(e);
+        }
+
+        return target.toFile();
+    }
+
+    /**
+     * Reads the whole classpath resource with the given {@code resourceName}.
+     * */
+    private byte[] readResource(String resourceName) {
+        try (InputStream inputStream = this.classLoader.getResourceAsStream(resourceName)) {
+            return Objects.requireNonNull(inputStream, "Resource [" + resourceName + "] not found").readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 hash of the given {@code contents}.
+     * */
+    private static byte[] sha256(byte[] contents) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(contents);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+
+    /**
+     * The state an extracted asset was in right after being verified.
+     * */
+    private static class VerifiedAsset {
+
+        private final String resourceName;
+        private final long size;
+        private final long lastModifiedMillis;
+
+        /**
+         * Constructor.
+         * */
+        private VerifiedAsset(String resourceName, long size, long lastModifiedMillis) {
+            this.resourceName = resourceName;
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+        }
+
+        /**
+         * Whether the given {@code target} still looks exactly like it did when verified.
+         * */
+        private boolean isStillValid(Path target) {
+            try {
+                return Files.size(target) == this.size && Files.getLastModifiedTime(target).toMillis() == this.lastModifiedMillis;
+            } catch (IOException e) {
+                return false; // ie: it's been deleted
+            }
+        }
+    }
+}
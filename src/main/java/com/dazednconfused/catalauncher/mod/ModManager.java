@@ -1,15 +1,23 @@
 package com.dazednconfused.catalauncher.mod;
 
+import com.dazednconfused.catalauncher.database.base.AsyncDAO;
+import com.dazednconfused.catalauncher.database.base.DatabaseExecutor;
 import com.dazednconfused.catalauncher.database.mod.dao.ModH2DAOImpl;
 import com.dazednconfused.catalauncher.database.mod.dao.ModfileH2DAOImpl;
+import com.dazednconfused.catalauncher.database.mod.entity.ModEntity;
 import com.dazednconfused.catalauncher.database.mod.repository.ModH2RepositoryImpl;
 import com.dazednconfused.catalauncher.database.mod.repository.ModRepository;
 import com.dazednconfused.catalauncher.helper.Paths;
 import com.dazednconfused.catalauncher.helper.Zipper;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+import com.dazednconfused.catalauncher.helper.metrics.Timer;
 import com.dazednconfused.catalauncher.helper.result.Result;
 import com.dazednconfused.catalauncher.mod.dto.ModDTO;
 import com.dazednconfused.catalauncher.mod.dto.ModfileDTO;
 import com.dazednconfused.catalauncher.mod.mapper.ModMapper;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
 
 import io.vavr.control.Try;
 
@@ -18,10 +26,14 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -35,9 +47,17 @@ public class ModManager {
     public static final Consumer<ModDTO> DO_NOTHING_ACTION = unused -> { }; // does nothing - represents an empty action
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ModManager.class);
+
+    private static final Timer INSTALL_TIMER = MetricsRegistry.getInstance().timer("mod.install");
+    private static final Timer INSTALL_VALIDATE_TIMER = MetricsRegistry.getInstance().timer("mod.install.validate");
+    private static final Timer INSTALL_COPY_TIMER = MetricsRegistry.getInstance().timer("mod.install.copy");
+    private static final Timer INSTALL_PARSE_TIMER = MetricsRegistry.getInstance().timer("mod.install.parse");
+    private static final Timer INSTALL_REGISTER_TIMER = MetricsRegistry.getInstance().timer("mod.install.register");
     private static ModManager instance;
 
     protected final ModRepository modRepository;
+    protected final AsyncDAO<ModEntity> asyncModRepository;
+    protected final ChangeEventPublisher<ModDTO> modEvents = new ChangeEventPublisher<>();
 
     /**
      * Singleton.
@@ -57,6 +77,14 @@ public class ModManager {
             new ModH2DAOImpl(),
             new ModfileH2DAOImpl()
         );
+        this.asyncModRepository = new AsyncDAO<>(this.modRepository);
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every mod installed or uninstalled by this manager is announced.
+     * */
+    public ChangeEventPublisher<ModDTO> getModEvents() {
+        return this.modEvents;
     }
 
     /**
@@ -71,27 +99,43 @@ public class ModManager {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Asynchronous version of {@link #listAllRegisteredMods()}, executed on the {@link DatabaseExecutor}.
+     * */
+    public CompletableFuture<List<ModDTO>> listAllRegisteredModsAsync() {
+        LOGGER.debug("Listing all mods asynchronously...");
+        return this.asyncModRepository.findAll().thenApply(entities -> entities.stream()
+            .map(ModMapper.INSTANCE::toDTO)
+            .collect(Collectors.toList())
+        );
+    }
+
     /**
      * Installs the given {@code toBeInstalled} mod inside {@link Paths#getCustomModsDir()}.
      * */
     public Result<Throwable, ModDTO> installMod(File toBeInstalled, Consumer<ModDTO> onDoneCallback) {
         LOGGER.info("Installing mod [{}]...", toBeInstalled);
 
+        long startedAt = System.nanoTime();
+
         return Try.of(() -> {
             // validate -
-            File validatedMod = this.validateMod(toBeInstalled).getOrElseThrowUnchecked();
+            File validatedMod = INSTALL_VALIDATE_TIMER.time(() -> this.validateMod(toBeInstalled)).getOrElseThrowUnchecked();
 
             // copy to mods folder -
-            File copiedMod = this.copyModToModsFolder(validatedMod).getOrElseThrowUnchecked();
+            File copiedMod = INSTALL_COPY_TIMER.time(() -> this.copyModToModsFolder(validatedMod)).getOrElseThrowUnchecked();
 
             // parse into DTO -
-            ModDTO validatedModDto = this.parse(copiedMod);
+            ModDTO validatedModDto = INSTALL_PARSE_TIMER.time(() -> this.parse(copiedMod));
 
             // register DTO -
-            return this.registerMod(validatedModDto).getOrElseThrowUnchecked();
-        }).map(dto -> {
+            return INSTALL_REGISTER_TIMER.time(() -> this.registerMod(validatedModDto)).getOrElseThrowUnchecked();
+        }).andFinally(
+            () -> INSTALL_TIMER.recordSince(startedAt)
+        ).map(dto -> {
             // perform callback on successful installation -
             onDoneCallback.accept(dto);
+            this.modEvents.publishAdded(dto);
             return dto;
         }).onFailure(
             t -> LOGGER.error("There was an error installing mod [{}]", toBeInstalled.getPath(), t)
@@ -121,6 +165,7 @@ public class ModManager {
         }).map(dto -> {
             // perform callback on successful uninstallation -
             onDoneCallback.accept(dto);
+            this.modEvents.publishRemoved(dto);
             return dto;
         }).onFailure(
             t -> LOGGER.error("There was an error uninstalling mod [{}]", toBeUninstalled.getName(), t)
@@ -130,6 +175,37 @@ public class ModManager {
         }).recover(Result::failure).get();
     }
 
+    /**
+     * Asynchronous version of {@link #uninstallMod(ModDTO, Consumer)}.
+     *
+     * @implNote Only database access runs on the {@link DatabaseExecutor}. Moving the mod's files into the trash folder runs
+     *           as a {@link TaskCategory#DISK} task instead, so that it never holds up queries queued behind it.
+     * */
+    public CompletableFuture<Result<Throwable, ModDTO>> uninstallModAsync(ModDTO toBeUninstalled, Consumer<ModDTO> onDoneCallback) {
+        LOGGER.info("Uninstalling mod [{}] asynchronously...", toBeUninstalled);
+
+        return this.asyncModRepository.findById(toBeUninstalled.getId()).thenApply(
+            entity -> entity.map(ModMapper.INSTANCE::toDTO).orElseThrow() // fetch fresh/complete DTO
+        ).thenCompose(targetMod -> TaskManager.getInstance().submit("Trash mod", TaskCategory.DISK, task ->
+            this.trashModFromModsFolder(targetMod).getOrElseThrowUnchecked()
+        ).getResult()).thenCompose(trashed -> CompletableFuture.supplyAsync(
+            () -> this.unregisterMod(toBeUninstalled).getOrElseThrowUnchecked(), DatabaseExecutor.getInstance()
+        )).handle((unregistered, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                LOGGER.error("There was an error uninstalling mod [{}]", toBeUninstalled.getName(), cause);
+                return Result.failure(cause);
+            }
+
+            // perform callback on successful uninstallation -
+            onDoneCallback.accept(toBeUninstalled);
+            this.modEvents.publishRemoved(toBeUninstalled);
+
+            LOGGER.info("Mod [{}] has been successfully uninstalled!", toBeUninstalled.getName());
+            return Result.success(toBeUninstalled);
+        });
+    }
+
     /**
      * Returns the {@link Path} under which the given {@code toBeQueried} mod is installed.
      * */
@@ -149,9 +225,20 @@ public class ModManager {
             throw new IllegalArgumentException("Invalid File supplied for query");
         }
 
-        return this.listAllRegisteredMods().stream()
-            .filter(dto -> StringUtils.equalsIgnoreCase(dto.getName(), toBeQueried.getName()))
-            .findFirst();
+        return this.modRepository.findByName(toBeQueried.getName()).map(ModMapper.INSTANCE::toDTO);
+    }
+
+    /**
+     * Asynchronous version of {@link #getModFor(File)}, executed on the {@link DatabaseExecutor}.
+     * */
+    public CompletableFuture<Optional<ModDTO>> getModForAsync(File toBeQueried) {
+        if (toBeQueried == null || !toBeQueried.getPath().contains(Paths.getCustomModsDir().toString())) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid File supplied for query"));
+        }
+
+        return CompletableFuture.supplyAsync(
+            () -> this.modRepository.findByName(toBeQueried.getName()).map(ModMapper.INSTANCE::toDTO), DatabaseExecutor.getInstance()
+        );
     }
 
     /**
@@ -200,7 +287,8 @@ public class ModManager {
      *
      * @implNote Moves only files registered under the {@link ModDTO#getModfiles()}. This is because a {@link ModDTO} may
      *           potentially have other stuff installed (like a tileset) in the same folder structure. This would be unmanaged,
-     *           foreign file(s). We do <b>not</b> want these to be trashed.
+     *           foreign file(s). We do <b>not</b> want these to be trashed. When there are no such files, the whole folder gets
+     *           trashed with a single rename instead.
      * */
     protected Result<Throwable, Void> trashModFromModsFolder(ModDTO toBeUninstalled) {
         return Try.run(() -> {
@@ -219,6 +307,12 @@ public class ModManager {
 
             File toBeTrashed = Paths.getCustomModsDir().resolve(toBeUninstalled.getName()).toFile();
 
+            // a mod folder with no foreign files in it can be trashed whole, with a single rename -
+            if (holdsOnlyModfilesOf(toBeTrashed, toBeUninstalled) && this.moveWhole(toBeTrashed, trashedModDir)) {
+                LOGGER.debug("Trashed mod [{}] whole into [{}]", toBeTrashed, trashedModDir);
+                return;
+            }
+
             LOGGER.debug("Trashing mod [{}] into [{}]...", toBeTrashed, trashedModDir);
 
             for (ModfileDTO modfile : toBeUninstalled.getModfiles()) {
@@ -252,6 +346,35 @@ public class ModManager {
         ).map(Result::success).recover(Result::failure).get();
     }
 
+    /**
+     * Whether every file inside the given {@code modFolder} is one of the given {@code mod}'s {@link ModDTO#getModfiles()}.
+     * */
+    private static boolean holdsOnlyModfilesOf(File modFolder, ModDTO mod) {
+        Set<Path> modfiles = mod.getModfiles().stream()
+            .map(modfile -> Path.of(modfile.getPath()).toAbsolutePath().normalize())
+            .collect(Collectors.toSet());
+
+        List<File> contents = new ArrayList<>();
+        com.dazednconfused.catalauncher.utils.FileUtils.collectAllFilesFromInto(modFolder, contents);
+
+        return contents.stream().allMatch(file -> modfiles.contains(file.toPath().toAbsolutePath().normalize()));
+    }
+
+    /**
+     * Atomically renames the given {@code source} folder into {@code destination}.
+     *
+     * @return {@code false} if it couldn't be renamed (ie: they live in different filesystems), in which case nothing was moved.
+     * */
+    private boolean moveWhole(File source, File destination) {
+        return Try.of(() -> {
+            Files.createDirectories(destination.toPath().getParent());
+            Files.move(source.toPath(), destination.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        }).onFailure(
+            t -> LOGGER.debug("Could not rename [{}] into [{}]: [{}]", source, destination, t.getMessage())
+        ).getOrElse(false);
+    }
+
     /**
      * Retrieves the {@link Paths#getCustomModsDir()} as a {@link File}.
      * */
@@ -0,0 +1,205 @@
+package com.dazednconfused.catalauncher.session;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.session.dao.GameSessionDAO;
+import com.dazednconfused.catalauncher.database.session.dao.GameSessionH2DAOImpl;
+import com.dazednconfused.catalauncher.database.session.dao.GameSessionSampleDAO;
+import com.dazednconfused.catalauncher.database.session.dao.GameSessionSampleH2DAOImpl;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
+import com.dazednconfused.catalauncher.session.dto.GameSessionDTO;
+import com.dazednconfused.catalauncher.session.dto.GameSessionSampleDTO;
+import com.dazednconfused.catalauncher.session.mapper.GameSessionMapper;
+import com.dazednconfused.catalauncher.session.mapper.GameSessionSampleMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a record of every game session (ie: each time the game was run from the launcher), along with the resource usage
+ * sampled throughout each of them.
+ * */
+public class GameSessionManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameSessionManager.class);
+
+    /**
+     * How many samples are kept in memory before being persisted all at once.
+     * */
+    private static final int PERSIST_BATCH_SIZE = 12;
+
+    private static GameSessionManager instance;
+
+    protected final GameSessionDAO sessionDAO;
+    protected final GameSessionSampleDAO sampleDAO;
+    protected final ChangeEventPublisher<GameSessionDTO> sessionEvents = new ChangeEventPublisher<>();
+    protected final ChangeEventPublisher<GameSessionSampleDTO> sampleEvents = new ChangeEventPublisher<>();
+
+    private final List<GameSessionSampleDTO> pendingSamples = new ArrayList<>(); // guarded by itself
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized GameSessionManager getInstance() {
+        if (instance == null) {
+            instance = new GameSessionManager(new GameSessionH2DAOImpl(true), new GameSessionSampleH2DAOImpl());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     * */
+    protected GameSessionManager(GameSessionDAO sessionDAO, GameSessionSampleDAO sampleDAO) {
+        this.sessionDAO = sessionDAO;
+        this.sampleDAO = sampleDAO;
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every session started or ended is announced.
+     * */
+    public ChangeEventPublisher<GameSessionDTO> getSessionEvents() {
+        return this.sessionEvents;
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every sample is announced, as soon as it's recorded.
+     * */
+    public ChangeEventPublisher<GameSessionSampleDTO> getSampleEvents() {
+        return this.sampleEvents;
+    }
+
+    /**
+     * Registers a new session for the game process with the given {@code pid}, started just now.
+     *
+     * @param installedMods The names of the mods installed at the time the session started.
+     * */
+    public GameSessionDTO startSession(long pid, List<String> installedMods) {
+        LOGGER.debug("Starting session for process [{}] with mods [{}]...", pid, installedMods);
+
+        GameSessionDTO session = GameSessionMapper.INSTANCE.toDTO(this.sessionDAO.insert(GameSessionMapper.INSTANCE.toEntity(
+            GameSessionDTO.builder().pid(pid).startedDate(LocalDateTime.now()).installedMods(installedMods).build()
+        )));
+
+        this.sessionEvents.publishAdded(session);
+        return session;
+    }
+
+    /**
+     * Records the given {@code sample}, to be persisted along with the next batch.
+     * */
+    public void recordSample(GameSessionSampleDTO sample) {
+        LOGGER.trace("Recording sample [{}]...", sample);
+
+        boolean batchFull;
+        synchronized (this.pendingSamples) {
+            this.pendingSamples.add(sample);
+            batchFull = this.pendingSamples.size() >= PERSIST_BATCH_SIZE;
+        }
+
+        this.sampleEvents.publishAdded(sample);
+
+        if (batchFull) {
+            this.persistPendingSamples();
+        }
+    }
+
+    /**
+     * Immediately persists every sample recorded so far.
+     *
+     * @apiNote Should persisting fail, the samples are put back in front of any recorded meanwhile, to be retried along with
+     *          the next batch; and the {@link DAOException} is rethrown.
+     * */
+    public void persistPendingSamples() {
+        List<GameSessionSampleDTO> batch;
+        synchronized (this.pendingSamples) {
+            batch = new ArrayList<>(this.pendingSamples);
+            this.pendingSamples.clear();
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debug("Persisting [{}] sample(s)...", batch.size());
+        try {
+            this.sampleDAO.insertAll(batch.stream().map(GameSessionSampleMapper.INSTANCE::toEntity).collect(Collectors.toList()));
+        } catch (DAOException e) {
+            synchronized (this.pendingSamples) {
+                this.pendingSamples.addAll(0, batch);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Marks the given {@code session} as ended just now, with the given {@code exitCode}; persisting any pending samples.
+     * */
+    public GameSessionDTO endSession(GameSessionDTO session, int exitCode) {
+        LOGGER.debug("Ending session [{}] with exit code [{}]...", session.getId(), exitCode);
+
+        // a session must get its end recorded even if its last samples can't be -
+        try {
+            this.persistPendingSamples();
+        } catch (DAOException e) {
+            LOGGER.warn("Could not persist pending samples of session [{}]. They'll be retried along with the next batch", session.getId(), e);
+        }
+
+        GameSessionDTO toBeUpdated = GameSessionDTO.builder()
+            .id(session.getId())
+            .pid(session.getPid())
+            .startedDate(session.getStartedDate())
+            .endedDate(LocalDateTime.now())
+            .exitCode(exitCode)
+            .installedMods(session.getInstalledMods())
+            .build();
+
+        GameSessionDTO ended = GameSessionMapper.INSTANCE.toDTO(this.sessionDAO.update(GameSessionMapper.INSTANCE.toEntity(toBeUpdated)));
+
+        this.sessionEvents.publishUpdated(ended);
+        return ended;
+    }
+
+    /**
+     * Returns all sessions recorded, newest first.
+     * */
+    public List<GameSessionDTO> listAllSessions() {
+        LOGGER.debug("Listing all sessions...");
+        return this.sessionDAO.findAll().stream()
+            .map(GameSessionMapper.INSTANCE::toDTO)
+            .sorted(Comparator.comparing(GameSessionDTO::getStartedDate).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the session with the given {@code sessionId}, if any.
+     * */
+    public Optional<GameSessionDTO> findById(long sessionId) {
+        LOGGER.debug("Finding session [{}]...", sessionId);
+        return this.sessionDAO.findById(sessionId).map(GameSessionMapper.INSTANCE::toDTO);
+    }
+
+    /**
+     * Returns all samples recorded for the session with the given {@code sessionId}, oldest first; including those not yet
+     * persisted.
+     * */
+    public List<GameSessionSampleDTO> listSamplesFor(long sessionId) {
+        LOGGER.debug("Listing all samples for session [{}]...", sessionId);
+
+        List<GameSessionSampleDTO> samples = this.sampleDAO.findAllBySessionId(sessionId).stream()
+            .map(GameSessionSampleMapper.INSTANCE::toDTO)
+            .collect(Collectors.toList());
+
+        synchronized (this.pendingSamples) {
+            this.pendingSamples.stream().filter(sample -> sample.getSessionId() == sessionId).forEach(samples::add);
+        }
+
+        return samples;
+    }
+}
@@ -0,0 +1,121 @@
+package com.dazednconfused.catalauncher.session;
+
+import com.dazednconfused.catalauncher.session.dto.GameSessionSampleDTO;
+
+import io.vavr.control.Try;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Samples the resource usage of a whole process tree (ie: the game's launcher wrapper script, the game itself, and anything
+ * they spawned) through {@link ProcessHandle}.
+ * */
+public class ProcessTreeSampler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessTreeSampler.class);
+
+    private static final Path PROC_DIRECTORY = Path.of("/proc");
+
+    /**
+     * Samples the CPU time, resident memory and size of the process tree rooted at {@code root}.
+     *
+     * @return {@link Optional#empty()} if {@code root} is no longer alive.
+     *
+     * @implNote CPU time is only accounted for processes still alive at sampling time.
+     * */
+    public static Optional<GameSessionSampleDTO> sample(ProcessHandle root) {
+        if (!root.isAlive()) {
+            return Optional.empty();
+        }
+
+        List<ProcessHandle> tree = Stream.concat(Stream.of(root), root.descendants())
+            .filter(ProcessHandle::isAlive)
+            .collect(Collectors.toList());
+
+        long cpuMillis = tree.stream()
+            .map(process -> process.info().totalCpuDuration())
+            .flatMap(Optional::stream)
+            .mapToLong(Duration::toMillis)
+            .sum();
+
+        long rssBytes = residentSetSizeOf(tree.stream().map(ProcessHandle::pid).collect(Collectors.toList()));
+
+        return Optional.of(GameSessionSampleDTO.builder()
+            .sampledDate(LocalDateTime.now())
+            .cpuMillis(cpuMillis)
+            .rssBytes(rssBytes)
+            .processCount(tree.size())
+            .build()
+        );
+    }
+
+    /**
+     * Returns the combined resident set size of the processes with the given {@code pids}, in bytes; or {@code 0} if it
+     * couldn't be determined.
+     *
+     * @implNote {@link ProcessHandle.Info} doesn't expose memory usage. It's read from {@code /proc} where available (Linux),
+     *           and from a single {@code ps} invocation for the whole tree everywhere else (macOS).
+     * */
+    protected static long residentSetSizeOf(List<Long> pids) {
+        if (pids.isEmpty()) {
+            return 0;
+        }
+
+        if (Files.isDirectory(PROC_DIRECTORY)) {
+            return pids.stream().mapToLong(ProcessTreeSampler::procResidentSetSizeOf).sum();
+        }
+
+        return psResidentSetSizeOf(pids);
+    }
+
+    /**
+     * Reads the given {@code pid}'s resident set size from {@code /proc/<pid>/status}'s {@code VmRSS} entry.
+     * */
+    private static long procResidentSetSizeOf(long pid) {
+        return Try.of(() -> {
+            try (Stream<String> lines = Files.lines(PROC_DIRECTORY.resolve(pid + "/status"))) {
+                return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                    .orElse(0L);
+            }
+        }).getOrElse(0L); // the process may have just exited
+    }
+
+    /**
+     * Reads the given {@code pids}' combined resident set size out of {@code ps}.
+     * */
+    private static long psResidentSetSizeOf(List<Long> pids) {
+        String pidList = pids.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        return Try.of(() -> {
+            Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", pidList).redirectErrorStream(true).start();
+
+            long totalKb = 0;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(ps.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank() && line.trim().chars().allMatch(Character::isDigit)) {
+                        totalKb += Long.parseLong(line.trim());
+                    }
+                }
+            }
+            ps.waitFor();
+
+            return totalKb * 1024;
+        }).onFailure(t -> LOGGER.debug("Could not determine resident set size of [{}]", pidList, t)).getOrElse(0L);
+    }
+}
@@ -0,0 +1,29 @@
+package com.dazednconfused.catalauncher.session.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GameSessionDTO {
+
+    private Long id;
+    private Long pid;
+    private LocalDateTime startedDate;
+    private LocalDateTime endedDate;
+    private Integer exitCode;
+    private List<String> installedMods;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+
+    /**
+     * Returns how long this session lasted; or has lasted so far, if it's still ongoing.
+     * */
+    public Duration getDuration() {
+        return Duration.between(startedDate, endedDate == null ? LocalDateTime.now() : endedDate);
+    }
+}
@@ -0,0 +1,34 @@
+package com.dazednconfused.catalauncher.session.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GameSessionSampleDTO {
+
+    private Long id;
+    private Long sessionId;
+    private LocalDateTime sampledDate;
+
+    /**
+     * Total CPU time consumed so far by the game's whole process tree, in milliseconds.
+     * */
+    private Long cpuMillis;
+
+    /**
+     * Resident memory currently used by the game's whole process tree, in bytes.
+     * */
+    private Long rssBytes;
+
+    /**
+     * Amount of live processes in the game's process tree, including its root.
+     * */
+    private Integer processCount;
+
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+
+}
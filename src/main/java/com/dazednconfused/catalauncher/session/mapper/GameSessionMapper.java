@@ -0,0 +1,44 @@
+package com.dazednconfused.catalauncher.session.mapper;
+
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionEntity;
+import com.dazednconfused.catalauncher.session.dto.GameSessionDTO;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface GameSessionMapper {
+
+    GameSessionMapper INSTANCE = Mappers.getMapper(GameSessionMapper.class);
+
+    /**
+     * Separates each installed mod's name, as persisted in {@link GameSessionEntity#getInstalledMods()}.
+     * */
+    String INSTALLED_MODS_SEPARATOR = "\n";
+
+    GameSessionDTO toDTO(GameSessionEntity entity);
+
+    GameSessionEntity toEntity(GameSessionDTO dto);
+
+    default LocalDateTime map(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    default Timestamp map(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    default List<String> map(String installedMods) {
+        return installedMods == null || installedMods.isEmpty() ? new ArrayList<>() : new ArrayList<>(Arrays.asList(installedMods.split(INSTALLED_MODS_SEPARATOR)));
+    }
+
+    default String map(List<String> installedMods) {
+        return installedMods == null ? "" : String.join(INSTALLED_MODS_SEPARATOR, installedMods);
+    }
+}
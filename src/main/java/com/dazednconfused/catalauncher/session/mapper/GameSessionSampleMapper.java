@@ -0,0 +1,28 @@
+package com.dazednconfused.catalauncher.session.mapper;
+
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionSampleEntity;
+import com.dazednconfused.catalauncher.session.dto.GameSessionSampleDTO;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface GameSessionSampleMapper {
+
+    GameSessionSampleMapper INSTANCE = Mappers.getMapper(GameSessionSampleMapper.class);
+
+    GameSessionSampleDTO toDTO(GameSessionSampleEntity entity);
+
+    GameSessionSampleEntity toEntity(GameSessionSampleDTO dto);
+
+    default LocalDateTime map(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    default Timestamp map(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -1,60 +1,431 @@
 package com.dazednconfused.catalauncher.soundpack;
 
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackH2DAOImpl;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackfileH2DAOImpl;
+import com.dazednconfused.catalauncher.database.soundpack.repository.SoundpackH2RepositoryImpl;
+import com.dazednconfused.catalauncher.database.soundpack.repository.SoundpackRepository;
+import com.dazednconfused.catalauncher.helper.ExecutorFactory;
 import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
+import com.dazednconfused.catalauncher.helper.result.Result;
+import com.dazednconfused.catalauncher.helper.trash.TrashReaper;
+import com.dazednconfused.catalauncher.soundpack.dto.SoundpackDTO;
+import com.dazednconfused.catalauncher.soundpack.dto.SoundpackfileDTO;
+import com.dazednconfused.catalauncher.soundpack.mapper.SoundpackMapper;
 
+import io.vavr.CheckedFunction1;
 import io.vavr.control.Try;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.ProxyInputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Installs and deletes soundpacks, keeping a registry of every file of every soundpack installed through it.
+ * <br><br>
+ * Installed soundpacks are made of hard links into a {@link SoundpackStore}, so that files shared between soundpacks (ie:
+ * between variants of the same one) take up disk space only once.
+ * */
 public class SoundpackManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SoundpackManager.class);
 
+    private static final String IGNORED_FILE_NAME = ".DS_Store";
+    private static final String IGNORED_ARCHIVE_DIRECTORY = "__MACOSX/";
+    private static final String ARCHIVE_EXTENSION = ".zip";
+
+    /**
+     * Hashes and extracts soundpack files. Bounded, so that installing a soundpack with thousands of files neither takes
+     * over every core nor competes with anything else running on the shared {@link java.util.concurrent.ForkJoinPool}.
+     * */
+    private static final ExecutorService EXTRACTORS = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())),
+        ExecutorFactory.daemonThreadFactory("soundpack-extractor-")
+    );
+
+    private static SoundpackManager instance;
+
+    protected final SoundpackRepository soundpackRepository;
+    protected final SoundpackStore soundpackStore;
+    protected final TrashReaper trashReaper;
+    protected final ChangeEventPublisher<File> soundpackEvents = new ChangeEventPublisher<>();
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized SoundpackManager getInstance() {
+        if (instance == null) {
+            instance = new SoundpackManager(
+                new SoundpackH2RepositoryImpl(new SoundpackH2DAOImpl(), new SoundpackfileH2DAOImpl()),
+                new SoundpackStore(Paths.getSoundpackStoreDirectory()),
+                TrashReaper.getInstance()
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     * */
+    protected SoundpackManager(SoundpackRepository soundpackRepository, SoundpackStore soundpackStore, TrashReaper trashReaper) {
+        this.soundpackRepository = soundpackRepository;
+        this.soundpackStore = soundpackStore;
+        this.trashReaper = trashReaper;
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every soundpack installed or deleted by this manager is announced.
+     * */
+    public ChangeEventPublisher<File> getSoundpackEvents() {
+        return this.soundpackEvents;
+    }
+
     /**
      * Returns all soundpacks currently found in {@link Paths#getCustomSoundpacksDir()}.
+     *
+     * @apiNote This includes soundpacks not installed through this manager (and, thus, not registered).
      * */
-    public static List<File> listAllSoundpacks() {
+    public List<File> listAllSoundpacks() {
         LOGGER.debug("Listing all soundpacks...");
-        return Arrays.stream(Objects.requireNonNull(getSoundpacksFolder().listFiles()))
-                .filter(file -> !file.getName().equals(".DS_Store"))
+        return Arrays.stream(Objects.requireNonNull(this.getSoundpacksFolder().listFiles()))
+                .filter(file -> !file.getName().equals(IGNORED_FILE_NAME))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Deletes given {@code toBeDeleted} soundpack.
+     * Returns all soundpacks currently registered.
+     *
+     * @implNote A soundpack is <i>registered</i> only when it is retrievable from the soundpacks' database.
+     * */
+    public List<SoundpackDTO> listAllRegisteredSoundpacks() {
+        LOGGER.debug("Listing all registered soundpacks...");
+        return this.soundpackRepository.findAll().stream()
+            .map(SoundpackMapper.INSTANCE::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes the given {@code toBeDeleted} soundpack, along with every stored file no other soundpack refers to.
+     *
+     * @implNote The soundpack's directory is only discarded through the {@link TrashReaper}; so it's gone by the time this
+     *           method returns, but its files get actually deleted in the background.
      * */
-    public static void deleteSoundpack(File toBeDeleted) {
+    public synchronized Result<Throwable, File> deleteSoundpack(File toBeDeleted) {
         LOGGER.info("Deleting soundpack [{}]...", toBeDeleted);
-        Try.run(() -> FileUtils.deleteDirectory(toBeDeleted)).onFailure(t -> LOGGER.error("There was an error deleting soundpack [{}]", toBeDeleted, t));
+
+        return Try.of(() -> {
+            this.trashReaper.discard(toBeDeleted.toPath()).getOrElseThrowUnchecked();
+
+            Optional<SoundpackDTO> registered = this.findRegisteredSoundpack(toBeDeleted.getName());
+            if (registered.isPresent()) {
+                this.unregisterSoundpack(registered.get()).getOrElseThrowUnchecked();
+                this.collectGarbage();
+            }
+
+            return toBeDeleted;
+        }).onFailure(
+            t -> LOGGER.error("There was an error deleting soundpack [{}]", toBeDeleted, t)
+        ).andThen(
+            this.soundpackEvents::publishRemoved
+        ).map(Result::<Throwable, File>success).recover(Result::failure).get();
+    }
+
+    /**
+     * Installs the given {@code toBeInstalled} soundpack inside {@link Paths#getCustomSoundpacksDir()}, replacing any installed
+     * soundpack with the same name.
+     * */
+    public Result<Throwable, SoundpackDTO> installSoundpack(File toBeInstalled, Consumer<Path> onDoneCallback) {
+        return this.installSoundpack(toBeInstalled, null, onDoneCallback);
     }
 
     /**
-     * Installs given {@code toBeInstalled} soundpack inside {@link Paths#getCustomSoundpacksDir()}.
+     * Installs the given {@code toBeInstalled} soundpack (either a directory or a {@code .zip} archive) inside
+     * {@link Paths#getCustomSoundpacksDir()}, replacing any installed soundpack with the same name.
+     * <br><br>
+     * Archives are extracted straight into the {@link SoundpackStore}, with no intermediate copy. If every entry in one lives
+     * under the same top-level directory, that directory is taken as the soundpack itself (and its name as the soundpack's).
+     *
+     * @param onPercentDoneCallback Called with the percentage of the soundpack's bytes read so far. May be called from several
+     *                              threads at once.
      * */
-    public static void installSoundpack(File toBeInstalled, Consumer<Path> onDoneCallback) {
+    public synchronized Result<Throwable, SoundpackDTO> installSoundpack(
+        File toBeInstalled, @Nullable Consumer<Integer> onPercentDoneCallback, Consumer<Path> onDoneCallback
+    ) {
         LOGGER.info("Installing soundpack [{}]...", toBeInstalled);
-        File installInto = new File(getSoundpacksFolder().getPath() + "/" + toBeInstalled.getName());
+        AtomicReference<File> installInto = new AtomicReference<>();
+
+        return Try.of(() -> {
+            // store every file's contents (only the ones not already stored get copied) -
+            SoundpackDTO toBeRegistered = isArchive(toBeInstalled) ?
+                this.storeArchive(toBeInstalled, onPercentDoneCallback) :
+                this.storeDirectory(toBeInstalled, onPercentDoneCallback);
+            installInto.set(this.resolveInstallationDirectory(toBeRegistered.getName()));
+
+            // replace whatever was installed under the same name with links into the store -
+            LOGGER.debug("Linking [{}] file(s) into [{}]...", toBeRegistered.getSoundpackfiles().size(), installInto.get());
+            this.trashReaper.discard(installInto.get().toPath()).getOrElseThrowUnchecked();
+            for (SoundpackfileDTO soundpackfile : toBeRegistered.getSoundpackfiles()) {
+                this.soundpackStore.link(soundpackfile.getHash(), installInto.get().toPath().resolve(soundpackfile.getPath()));
+            }
+
+            // register DTO -
+            SoundpackDTO registered = this.registerSoundpack(toBeRegistered).getOrElseThrowUnchecked();
+
+            // a replaced soundpack may have left some stored files unreferenced -
+            this.collectGarbage();
+
+            return registered;
+        }).onFailure(
+            t -> LOGGER.error("There was an error installing soundpack [{}]", toBeInstalled, t)
+        ).andThen(dto -> {
+            onDoneCallback.accept(installInto.get().toPath());
+            this.soundpackEvents.publishAdded(installInto.get());
+            LOGGER.info("Soundpack [{}] has been successfully installed!", dto.getName());
+        }).map(Result::<Throwable, SoundpackDTO>success).recover(Result::failure).get();
+    }
+
+    /**
+     * Hashes every file in the given {@code soundpack} directory and puts it into the {@link #soundpackStore}.
+     *
+     * @implNote Files are hashed in parallel on the {@link #EXTRACTORS}, as hashing is what dominates installation once most
+     *           files are already stored.
+     * */
+    protected SoundpackDTO storeDirectory(File soundpack, @Nullable Consumer<Integer> onPercentDoneCallback) {
+        List<File> files = new ArrayList<>();
+        com.dazednconfused.catalauncher.utils.FileUtils.collectAllFilesFromInto(soundpack, files);
+        files.removeIf(file -> file.getName().equals(IGNORED_FILE_NAME));
+
+        ByteProgress progress = new ByteProgress(files.stream().mapToLong(File::length).sum(), onPercentDoneCallback);
+
+        LOGGER.debug("Storing [{}] file(s) from [{}]...", files.size(), soundpack);
+        List<SoundpackfileDTO> soundpackfiles = mapOnExtractors(files, file -> {
+            String hash = SoundpackStore.hashOf(file);
+            this.soundpackStore.put(file, hash);
+            progress.advance(file.length());
+
+            return SoundpackfileDTO.builder()
+                .path(soundpack.toPath().relativize(file.toPath()).toString())
+                .hash(hash)
+                .size(file.length())
+                .build();
+        }).get();
+
+        return SoundpackDTO.builder().name(soundpack.getName()).soundpackfiles(soundpackfiles).build();
+    }
+
+    /**
+     * Extracts every entry of the given {@code archive} straight into the {@link #soundpackStore}.
+     *
+     * @implNote Entries are extracted in parallel on the {@link #EXTRACTORS}; each one inflated and hashed in a single pass.
+     * */
+    protected SoundpackDTO storeArchive(File archive, @Nullable Consumer<Integer> onPercentDoneCallback) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive)) {
+            List<ZipEntry> entries = zipFile.stream()
+                .filter(entry -> !entry.isDirectory())
+                .filter(entry -> !entry.getName().startsWith(IGNORED_ARCHIVE_DIRECTORY))
+                .filter(entry -> !entry.getName().endsWith(IGNORED_FILE_NAME))
+                .collect(Collectors.toList());
+
+            String topLevelDirectory = findTopLevelDirectory(entries);
+            String name = topLevelDirectory != null ? topLevelDirectory : FilenameUtils.getBaseName(archive.getName());
+
+            ByteProgress progress = new ByteProgress(entries.stream().mapToLong(entry -> Math.max(0, entry.getSize())).sum(), onPercentDoneCallback);
+
+            LOGGER.debug("Extracting [{}] entries from [{}] as soundpack [{}]...", entries.size(), archive, name);
+            List<SoundpackfileDTO> soundpackfiles = mapOnExtractors(entries, entry -> {
+                Path path = relativePathOf(entry, topLevelDirectory);
+
+                String hash;
+                try (InputStream contents = new ProxyInputStream(zipFile.getInputStream(entry)) {
+                    @Override
+                    protected void afterRead(int n) {
+                        if (n > 0) {
+                            progress.advance(n);
+                        }
+                    }
+                }) {
+                    hash = this.soundpackStore.put(contents);
+                }
+
+                return SoundpackfileDTO.builder()
+                    .path(path.toString())
+                    .hash(hash)
+                    .size(Files.size(this.soundpackStore.getBlobPath(hash)))
+                    .build();
+            }).get();
+
+            return SoundpackDTO.builder().name(name).soundpackfiles(soundpackfiles).build();
+        }
+    }
+
+    /**
+     * Registers the given {@code toBeRegistered} soundpack into the database, replacing any registered soundpack with the same
+     * name.
+     * */
+    protected Result<Throwable, SoundpackDTO> registerSoundpack(SoundpackDTO toBeRegistered) {
+        LOGGER.debug("Registering soundpack [{}]...", toBeRegistered.getName());
+        return Try.of(() -> {
+            Optional<SoundpackDTO> existing = this.findRegisteredSoundpack(toBeRegistered.getName());
+            if (existing.isPresent()) {
+                toBeRegistered.setId(existing.get().getId());
+                return this.soundpackRepository.update(SoundpackMapper.INSTANCE.toEntity(toBeRegistered));
+            }
+            return this.soundpackRepository.insert(SoundpackMapper.INSTANCE.toEntity(toBeRegistered));
+        }).onFailure(
+            t -> LOGGER.error("There was an error registering soundpack [{}]", toBeRegistered.getName(), t)
+        ).map(SoundpackMapper.INSTANCE::toDTO).map(Result::<Throwable, SoundpackDTO>success).recover(Result::failure).get();
+    }
+
+    /**
+     * Unregisters the given {@code toBeUnregistered} soundpack from the database.
+     * */
+    protected Result<Throwable, Void> unregisterSoundpack(SoundpackDTO toBeUnregistered) {
+        LOGGER.debug("Unregistering soundpack [{}]...", toBeUnregistered.getName());
+        return Try.run(() ->
+            this.soundpackRepository.delete(SoundpackMapper.INSTANCE.toEntity(toBeUnregistered))
+        ).onFailure(
+            t -> LOGGER.error("There was an error unregistering soundpack [{}]", toBeUnregistered.getName(), t)
+        ).map(Result::success).recover(Result::failure).get();
+    }
+
+    /**
+     * Finds the registered soundpack with the given {@code name}, if any.
+     * */
+    private Optional<SoundpackDTO> findRegisteredSoundpack(String name) {
+        return this.soundpackRepository.findByName(name).map(SoundpackMapper.INSTANCE::toDTO);
+    }
+
+    /**
+     * Deletes every stored file no registered soundpack refers to anymore.
+     *
+     * @implNote Failing to do so is logged, but otherwise harmless: the files will just be collected next time.
+     * */
+    private void collectGarbage() {
+        Try.of(() -> this.soundpackStore.collectGarbage(this.soundpackRepository.findAllReferencedHashes()))
+            .onSuccess(deleted -> LOGGER.debug("Deleted [{}] unreferenced soundpack file(s) from the store", deleted))
+            .onFailure(t -> LOGGER.error("There was an error deleting unreferenced soundpack files from the store", t));
+    }
+
+    /**
+     * Returns the directory a soundpack with the given {@code name} is to be installed into.
+     *
+     * @throws IOException If such directory wouldn't be a direct child of {@link #getSoundpacksFolder()} (ie: for a soundpack
+     *                     named {@code ..}); as it is about to be discarded through the {@link #trashReaper}.
+     * */
+    private File resolveInstallationDirectory(String name) throws IOException {
+        File installInto = new File(this.getSoundpacksFolder(), name);
+
+        Path soundpacksFolder = this.getSoundpacksFolder().toPath().toAbsolutePath().normalize();
+        if (!isLegalSoundpackName(name) || !soundpacksFolder.equals(installInto.toPath().toAbsolutePath().normalize().getParent())) {
+            throw new IOException("Illegal soundpack name [" + name + "]");
+        }
+
+        return installInto;
+    }
+
+    /**
+     * Whether the given {@code name} may be used as a soundpack's directory name.
+     * */
+    private static boolean isLegalSoundpackName(String name) {
+        return StringUtils.isNotBlank(name) && !name.equals(".") && !name.equals("..") && !StringUtils.containsAny(name, '/', '\\');
+    }
+
+    /**
+     * Whether the given {@code file} is a soundpack archive, rather than a soundpack directory.
+     * */
+    private static boolean isArchive(File file) {
+        return file.isFile() && file.getName().toLowerCase().endsWith(ARCHIVE_EXTENSION);
+    }
 
-        Try.run(() -> {
-            LOGGER.debug("Copying [{}] into [{}]...", toBeInstalled, installInto);
-            FileUtils.copyDirectory(toBeInstalled, installInto);
-        }).onFailure(t -> LOGGER.error("There was an error installing soundpack [{}]", toBeInstalled, t)).andThen(() -> onDoneCallback.accept(installInto.toPath()));
+    /**
+     * Returns the top-level directory every one of the given {@code entries} lives under; or {@code null} if there's no such
+     * single directory.
+     *
+     * @throws IOException If such directory's name is not a legal soundpack name (ie: {@code ..}).
+     * */
+    @Nullable
+    private static String findTopLevelDirectory(List<ZipEntry> entries) throws IOException {
+        String topLevelDirectory = null;
+        for (ZipEntry entry : entries) {
+            int separator = entry.getName().indexOf('/');
+            if (separator <= 0) {
+                return null; // a file right at the root of the archive
+            }
+
+            String entryTopLevelDirectory = entry.getName().substring(0, separator);
+            if (topLevelDirectory != null && !topLevelDirectory.equals(entryTopLevelDirectory)) {
+                return null;
+            }
+            topLevelDirectory = entryTopLevelDirectory;
+        }
+
+        if (topLevelDirectory != null && !isLegalSoundpackName(topLevelDirectory)) {
+            throw new IOException("Illegal archive top-level directory [" + topLevelDirectory + "]");
+        }
+        return topLevelDirectory;
+    }
+
+    /**
+     * Applies the given {@code task} to every one of the given {@code items} on the {@link #EXTRACTORS}, keeping their order.
+     *
+     * @return The first failure among them, if any; but only once every task is done, so that nothing they read from gets
+     *         closed from under them.
+     * */
+    private static <T, R> Try<List<R>> mapOnExtractors(List<T> items, CheckedFunction1<T, R> task) {
+        List<CompletableFuture<R>> futures = items.stream()
+            .map(item -> CompletableFuture.supplyAsync(() -> Try.of(() -> task.apply(item)).get(), EXTRACTORS))
+            .collect(Collectors.toList());
+
+        return Try.of(() -> CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join()).recoverWith(
+            CompletionException.class, e -> Try.failure(e.getCause())
+        ).map(done -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the path the given {@code entry} is to be installed under, relative to the soundpack's directory.
+     *
+     * @throws IOException If the entry would end up outside the soundpack's directory (ie: {@code ../../evil.sh}).
+     * */
+    private static Path relativePathOf(ZipEntry entry, @Nullable String topLevelDirectory) throws IOException {
+        String name = topLevelDirectory == null ? entry.getName() : entry.getName().substring(topLevelDirectory.length() + 1);
+        Path path = Path.of(name).normalize();
+
+        if (path.isAbsolute() || path.startsWith("..") || name.isEmpty()) {
+            throw new IOException("Illegal archive entry [" + entry.getName() + "]");
+        }
+
+        return path;
     }
 
     /**
      * Retrieves the {@link Paths#getCustomSoundpacksDir()} as a {@link File}.
      * */
-    private static File getSoundpacksFolder() {
+    protected File getSoundpacksFolder() {
         File soundpacksPath = Paths.getCustomSoundpacksDir().toFile();
         if (!soundpacksPath.exists()) {
             LOGGER.debug("Soundpacks folder [{}] not found. Creating...", soundpacksPath);
@@ -63,4 +434,40 @@ public class SoundpackManager {
 
         return soundpacksPath;
     }
+
+    /**
+     * Keeps track of how many bytes of a soundpack have been read so far, and reports it as a percentage whenever it changes.
+     * */
+    private static class ByteProgress {
+
+        private final long totalBytes;
+        private final Consumer<Integer> onPercentDoneCallback;
+        private final AtomicLong readBytes = new AtomicLong();
+        private final AtomicInteger lastPercent = new AtomicInteger(-1);
+
+        /**
+         * Constructor.
+         * */
+        private ByteProgress(long totalBytes, @Nullable Consumer<Integer> onPercentDoneCallback) {
+            this.totalBytes = totalBytes;
+            this.onPercentDoneCallback = onPercentDoneCallback;
+        }
+
+        /**
+         * Records the given amount of {@code bytes} as read.
+         * */
+        private void advance(long bytes) {
+            if (this.onPercentDoneCallback == null) {
+                return;
+            }
+
+            long read = this.readBytes.addAndGet(bytes);
+            int percent = this.totalBytes <= 0 ? 100 : (int) Math.min(100, read * 100 / this.totalBytes);
+
+            int last = this.lastPercent.get();
+            if (percent > last && this.lastPercent.compareAndSet(last, percent)) {
+                this.onPercentDoneCallback.accept(percent);
+            }
+        }
+    }
 }
@@ -0,0 +1,226 @@
+package com.dazednconfused.catalauncher.soundpack;
+
+import com.dazednconfused.catalauncher.utils.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content-addressed store of soundpack files. Every distinct file content is kept exactly once (under its own hash), and
+ * installed soundpacks are made of hard links into it; so that installing a variant of an already installed soundpack only
+ * costs the disk space of the files it doesn't share with it.
+ * <br><br>
+ * Blobs are laid out as {@code <root>/<first two characters of hash>/<hash>}.
+ *
+ * @apiNote Since installed files are hard links, modifying one in place modifies it for every soundpack sharing it. The game
+ *          only ever reads soundpacks, so this is fine as long as nobody edits them by hand.
+ *
+ * @implNote Whenever a hard link can't be created (ie: the store and the soundpacks directory live on different filesystems),
+ *           the blob gets copied instead. Everything still works; just without the savings.
+ * */
+public class SoundpackStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SoundpackStore.class);
+
+    public static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final String TEMPORARY_BLOB_SUFFIX = ".tmp";
+    private static final String INCOMING_BLOB_PREFIX = "incoming";
+
+    private final Path root;
+
+    /**
+     * Constructor.
+     * */
+    public SoundpackStore(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Computes the hash under which the given {@code file}'s contents are stored.
+     * */
+    public static String hashOf(File file) {
+        return FileUtils.getFileChecksum(file, HASH_ALGORITHM);
+    }
+
+    /**
+     * Returns the {@link Path} of the blob stored under the given {@code hash}. It may not exist.
+     * */
+    public Path getBlobPath(String hash) {
+        return this.root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /**
+     * Stores the given {@code source} file's contents under the given {@code hash}, unless already stored.
+     *
+     * @return {@code true} if the contents were not already stored (ie: they were actually copied).
+     * */
+    public boolean put(File source, String hash) throws IOException {
+        Path blob = this.getBlobPath(hash);
+        if (Files.isRegularFile(blob)) {
+            LOGGER.trace("[{}] already stored as [{}]", source, hash);
+            return false;
+        }
+
+        LOGGER.trace("Storing [{}] as [{}]...", source, hash);
+        Files.createDirectories(blob.getParent());
+
+        // copy into a temporary blob first, so that a half-written one is never taken for a complete one -
+        Path temporaryBlob = Files.createTempFile(blob.getParent(), hash, TEMPORARY_BLOB_SUFFIX);
+        try {
+            Files.copy(source.toPath(), temporaryBlob, StandardCopyOption.REPLACE_EXISTING);
+            this.moveIntoPlace(temporaryBlob, blob);
+        } finally {
+            Files.deleteIfExists(temporaryBlob);
+        }
+
+        return true;
+    }
+
+    /**
+     * Stores whatever is left to read from the given {@code contents}, hashing it on the way in; so that it only ever gets
+     * read once (ie: straight out of an archive).
+     *
+     * @apiNote The given {@code contents} are not closed.
+     *
+     * @implNote Contents already stored still get written into a temporary blob, which then gets discarded. There's no way
+     *           to tell they're already stored before having read them whole.
+     *
+     * @return The hash under which the contents are stored.
+     * */
+    public String put(InputStream contents) throws IOException {
+        Files.createDirectories(this.root);
+        Path temporaryBlob = Files.createTempFile(this.root, INCOMING_BLOB_PREFIX, TEMPORARY_BLOB_SUFFIX);
+
+        try {
+            MessageDigest digest = newDigest();
+            Files.copy(new DigestInputStream(contents, digest), temporaryBlob, StandardCopyOption.REPLACE_EXISTING);
+
+            String hash = toHex(digest.digest());
+            Path blob = this.getBlobPath(hash);
+            if (Files.isRegularFile(blob)) {
+                LOGGER.trace("Incoming contents already stored as [{}]", hash);
+                return hash;
+            }
+
+            Files.createDirectories(blob.getParent());
+            this.moveIntoPlace(temporaryBlob, blob);
+            return hash;
+        } finally {
+            Files.deleteIfExists(temporaryBlob);
+        }
+    }
+
+    /**
+     * Makes {@code target} point to the blob stored under the given {@code hash}, replacing whatever was there.
+     *
+     * @return {@code true} if {@code target} is a hard link to the blob; {@code false} if it had to be copied instead.
+     * */
+    public boolean link(String hash, Path target) throws IOException {
+        Path blob = this.getBlobPath(hash);
+        if (!Files.isRegularFile(blob)) {
+            throw new IOException("No blob stored under [" + hash + "]");
+        }
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Files.deleteIfExists(target);
+
+        try {
+            Files.createLink(target, blob);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Could not hard link [{}] into [{}]. Copying it instead: [{}]", blob, target, e.getMessage());
+            Files.copy(blob, target);
+            return false;
+        }
+    }
+
+    /**
+     * Deletes every blob not stored under any of the given {@code referencedHashes}, along with any temporary blob left over
+     * by an interrupted {@code put}.
+     *
+     * @return How many blobs were deleted.
+     * */
+    public int collectGarbage(Set<String> referencedHashes) throws IOException {
+        if (!Files.isDirectory(this.root)) {
+            return 0;
+        }
+
+        List<Path> unreferenced;
+        try (Stream<Path> blobs = Files.walk(this.root, 2)) {
+            unreferenced = blobs.filter(Files::isRegularFile)
+                .filter(blob -> !referencedHashes.contains(blob.getFileName().toString()))
+                .collect(Collectors.toList());
+        }
+
+        LOGGER.debug("Deleting [{}] unreferenced blob(s) from [{}]...", unreferenced.size(), this.root);
+        for (Path blob : unreferenced) {
+            Files.deleteIfExists(blob);
+        }
+
+        // drop the prefix directories left empty -
+        List<Path> prefixes = new ArrayList<>();
+        try (Stream<Path> children = Files.list(this.root)) {
+            children.filter(Files::isDirectory).forEach(prefixes::add);
+        }
+        for (Path prefix : prefixes) {
+            try (Stream<Path> contents = Files.list(prefix)) {
+                if (contents.findAny().isEmpty()) {
+                    Files.deleteIfExists(prefix);
+                }
+            }
+        }
+
+        return unreferenced.size();
+    }
+
+    /**
+     * Moves the given complete {@code temporaryBlob} into its final {@code blob} location, atomically if at all possible.
+     * */
+    private void moveIntoPlace(Path temporaryBlob, Path blob) throws IOException {
+        try {
+            Files.move(temporaryBlob, blob, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryBlob, blob, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns a new {@link MessageDigest} for {@link #HASH_ALGORITHM}.
+     * */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " algorithm not found", e);
+        }
+    }
+
+    /**
+     * Formats the given {@code bytes} as a lowercase hexadecimal {@link String}; same as
+     * {@link FileUtils#getFileChecksum(File, String)} does.
+     * */
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.dazednconfused.catalauncher.soundpack.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SoundpackDTO {
+
+    private Long id;
+    private String name;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+
+    private List<SoundpackfileDTO> soundpackfiles;
+
+}
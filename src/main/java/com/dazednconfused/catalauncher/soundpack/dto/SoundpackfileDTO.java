@@ -0,0 +1,20 @@
+package com.dazednconfused.catalauncher.soundpack.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SoundpackfileDTO {
+
+    private Long id;
+    private Long soundpackId;
+    private String path;
+    private String hash;
+    private Long size;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+
+}
@@ -0,0 +1,28 @@
+package com.dazednconfused.catalauncher.soundpack.mapper;
+
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackEntity;
+import com.dazednconfused.catalauncher.soundpack.dto.SoundpackDTO;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface SoundpackMapper {
+
+    SoundpackMapper INSTANCE = Mappers.getMapper(SoundpackMapper.class);
+
+    SoundpackDTO toDTO(SoundpackEntity entity);
+
+    SoundpackEntity toEntity(SoundpackDTO dto);
+
+    default LocalDateTime map(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    default Timestamp map(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.dazednconfused.catalauncher.soundpack.mapper;
+
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackfileEntity;
+import com.dazednconfused.catalauncher.soundpack.dto.SoundpackfileDTO;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface SoundpackfileMapper {
+
+    SoundpackfileMapper INSTANCE = Mappers.getMapper(SoundpackfileMapper.class);
+
+    SoundpackfileDTO toDTO(SoundpackfileEntity entity);
+
+    SoundpackfileEntity toEntity(SoundpackfileDTO dto);
+
+    default LocalDateTime map(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    default Timestamp map(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,236 @@
+package com.dazednconfused.catalauncher.startup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the launcher's initialization steps, each one as soon as every step it depends on is done; so that independent steps
+ * (ie: opening databases and setting up the Look & Feel) run concurrently instead of one after the other.
+ * <br><br>
+ * When to start and how long each step took gets recorded, to be logged as a startup timeline once every step is done.
+ *
+ * @apiNote A failed step fails every step depending on it (which won't run), but never the independent ones.
+ * */
+public class StartupOrchestrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+    private static final String THREAD_NAME_PREFIX = "startup-";
+
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private final List<Phase> timeline = Collections.synchronizedList(new ArrayList<>());
+    private final ExecutorService executor;
+
+    private long startedAt;
+
+    /**
+     * Constructor.
+     * */
+    public StartupOrchestrator() {
+        AtomicInteger threadCount = new AtomicInteger(1);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a new step with the given {@code name}, to be run once every one of the given {@code dependencies} is done.
+     *
+     * @throws IllegalArgumentException If a step with the same name has already been registered, or if any dependency hasn't.
+     *                                  Requiring dependencies to be registered first rules out any dependency cycle.
+     * */
+    public synchronized StartupOrchestrator step(String name, Runnable body, String... dependencies) {
+        if (this.steps.containsKey(name)) {
+            throw new IllegalArgumentException("Startup step [" + name + "] already registered");
+        }
+        for (String dependency : dependencies) {
+            if (!this.steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Startup step [" + name + "] depends on unknown step [" + dependency + "]");
+            }
+        }
+
+        this.steps.put(name, new Step(name, body, Arrays.asList(dependencies)));
+        return this;
+    }
+
+    /**
+     * Starts every registered step, each one as soon as its dependencies allow.
+     *
+     * @return A {@link CompletableFuture} completed once every step is done (or failed), with the timeline already logged.
+     * */
+    public synchronized CompletableFuture<Void> start() {
+        this.startedAt = System.nanoTime();
+        LOGGER.debug("Starting [{}] startup steps...", this.steps.size());
+
+        for (Step step : this.steps.values()) {
+            CompletableFuture<?>[] dependencies = step.dependencies.stream().map(d -> this.steps.get(d).future).toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(dependencies).thenRunAsync(() -> this.run(step), this.executor).whenComplete((result, error) -> {
+                if (error != null) {
+                    step.future.completeExceptionally(error);
+                } else {
+                    step.future.complete(null);
+                }
+            });
+        }
+
+        CompletableFuture<?>[] all = this.steps.values().stream().map(step -> step.future).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(all).handle((result, error) -> {
+            this.logTimeline();
+            this.executor.shutdown();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the {@link CompletableFuture} completed once the step with the given {@code name} is done.
+     * */
+    public synchronized CompletableFuture<Void> await(String name) {
+        Step step = this.steps.get(name);
+        if (step == null) {
+            throw new IllegalArgumentException("Unknown startup step [" + name + "]");
+        }
+        return step.future;
+    }
+
+    /**
+     * Returns every step run so far, in the order they started.
+     * */
+    public List<Phase> getTimeline() {
+        synchronized (this.timeline) {
+            return this.timeline.stream().sorted(Comparator.comparingLong(Phase::getStartOffsetMillis)).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Runs the given {@code step}, recording it into the timeline.
+     * */
+    private void run(Step step) {
+        long stepStartedAt = System.nanoTime();
+        Throwable failure = null;
+
+        try {
+            LOGGER.trace("Running startup step [{}]...", step.name);
+            step.body.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            LOGGER.error("Startup step [{}] failed", step.name, e);
+            throw e;
+        } finally {
+            long stepEndedAt = System.nanoTime();
+            this.timeline.add(new Phase(
+                step.name,
+                Thread.currentThread().getName(),
+                TimeUnit.NANOSECONDS.toMillis(stepStartedAt - this.startedAt),
+                TimeUnit.NANOSECONDS.toMillis(stepEndedAt - stepStartedAt),
+                failure == null
+            ));
+        }
+    }
+
+    /**
+     * Logs every step run, in the order they started, along with the total startup time.
+     * */
+    private void logTimeline() {
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startedAt);
+        LOGGER.info(
+            "Startup took [{}] ms:\n\t{}",
+            totalMillis,
+            this.getTimeline().stream().map(Phase::toString).collect(Collectors.joining("\n\t"))
+        );
+    }
+
+    /**
+     * A registered step.
+     * */
+    private static class Step {
+
+        private final String name;
+        private final Runnable body;
+        private final List<String> dependencies;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * Constructor.
+         * */
+        private Step(String name, Runnable body, List<String> dependencies) {
+            this.name = name;
+            this.body = body;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * A step, as it was run.
+     * */
+    public static class Phase {
+
+        private final String name;
+        private final String threadName;
+        private final long startOffsetMillis;
+        private final long durationMillis;
+        private final boolean succeeded;
+
+        /**
+         * Constructor.
+         * */
+        private Phase(String name, String threadName, long startOffsetMillis, long durationMillis, boolean succeeded) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startOffsetMillis = startOffsetMillis;
+            this.durationMillis = durationMillis;
+            this.succeeded = succeeded;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * When the step started, in milliseconds since the whole startup did.
+         * */
+        public long getStartOffsetMillis() {
+            return startOffsetMillis;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public boolean isSucceeded() {
+            return succeeded;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "+%5d ms  %5d ms  %-24s [%s]%s",
+                this.startOffsetMillis,
+                this.durationMillis,
+                this.name,
+                this.threadName,
+                this.succeeded ? "" : " FAILED"
+            );
+        }
+    }
+}
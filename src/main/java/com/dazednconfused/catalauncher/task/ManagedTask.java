@@ -0,0 +1,178 @@
+package com.dazednconfused.catalauncher.task;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A named unit of background work run by the {@link TaskManager}, along with its state, progress and eventual result.
+ * */
+public class ManagedTask<T> implements TaskContext {
+
+    /**
+     * The lifecycle of a {@link ManagedTask}.
+     * */
+    public enum State {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        /**
+         * Whether a task in this state is done for good.
+         * */
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final long id;
+    private final String name;
+    private final TaskCategory category;
+    private final Consumer<ManagedTask<?>> onChange;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    private volatile State state = State.QUEUED;
+    private volatile int progress = -1;
+    private volatile boolean cancelled;
+    private Thread runner; // guarded by this
+
+    /**
+     * Constructor.
+     *
+     * @param onChange Called on every change of state or progress.
+     * */
+    protected ManagedTask(long id, String name, TaskCategory category, Consumer<ManagedTask<?>> onChange) {
+        this.id = id;
+        this.name = name;
+        this.category = category;
+        this.onChange = onChange;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TaskCategory getCategory() {
+        return category;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    @Override
+    public int getProgress() {
+        return progress;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * The eventual result of this task. Completes exceptionally if the task failed, or with a
+     * {@link java.util.concurrent.CancellationException} if it was cancelled.
+     * */
+    public CompletableFuture<T> getResult() {
+        return result;
+    }
+
+    @Override
+    public void setProgress(int percent) {
+        int clamped = Math.max(0, Math.min(100, percent));
+        if (clamped != this.progress) {
+            this.progress = clamped;
+            this.onChange.accept(this);
+        }
+    }
+
+    /**
+     * Requests this task's cancellation. A queued task will never run; a running one gets its thread interrupted.
+     *
+     * @return {@code false} if the task had already finished.
+     * */
+    public boolean cancel() {
+        synchronized (this) {
+            if (this.state.isFinished()) {
+                return false;
+            }
+
+            this.cancelled = true;
+            if (this.runner != null) {
+                this.runner.interrupt();
+            }
+        }
+
+        this.onChange.accept(this);
+        return true;
+    }
+
+    /**
+     * Binds this task to the thread running it, so that it can be interrupted on cancellation.
+     * */
+    protected synchronized void bindRunner(Thread thread) {
+        this.runner = thread;
+        if (this.cancelled) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Unbinds this task from its thread, so that later cancellations never interrupt whatever the thread runs next.
+     * */
+    protected synchronized void unbindRunner() {
+        this.runner = null;
+    }
+
+    /**
+     * Moves this task into {@link State#RUNNING}.
+     * */
+    protected void markRunning() {
+        this.state = State.RUNNING;
+        this.onChange.accept(this);
+    }
+
+    /**
+     * Moves this task into {@link State#SUCCEEDED} with the given {@code value}.
+     * */
+    protected void markSucceeded(T value) {
+        synchronized (this) {
+            this.state = State.SUCCEEDED;
+        }
+        this.onChange.accept(this);
+        this.result.complete(value);
+    }
+
+    /**
+     * Moves this task into {@link State#FAILED} with the given {@code error}.
+     * */
+    protected void markFailed(Throwable error) {
+        synchronized (this) {
+            this.state = State.FAILED;
+        }
+        this.onChange.accept(this);
+        this.result.completeExceptionally(error);
+    }
+
+    /**
+     * Moves this task into {@link State#CANCELLED}.
+     * */
+    protected void markCancelled() {
+        synchronized (this) {
+            this.state = State.CANCELLED;
+        }
+        this.onChange.accept(this);
+        this.result.cancel(false);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ManagedTask{id=%d, name='%s', category=%s, state=%s, progress=%d}", id, name, category, state, progress);
+    }
+}
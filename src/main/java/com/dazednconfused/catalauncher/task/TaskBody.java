@@ -0,0 +1,13 @@
+package com.dazednconfused.catalauncher.task;
+
+/**
+ * The actual work a {@link ManagedTask} performs.
+ * */
+@FunctionalInterface
+public interface TaskBody<T> {
+
+    /**
+     * Performs the work, reporting progress (and checking for cancellation) through the given {@code context}.
+     * */
+    T run(TaskContext context) throws Exception;
+}
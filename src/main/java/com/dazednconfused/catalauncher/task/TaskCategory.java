@@ -0,0 +1,39 @@
+package com.dazednconfused.catalauncher.task;
+
+/**
+ * The different kinds of {@link ManagedTask}s the {@link TaskManager} runs, each with its own concurrency limit.
+ * */
+public enum TaskCategory {
+
+    /**
+     * Disk-heavy operations (ie: backups, restores, installations). Run one at a time, so that concurrent operations queue
+     * up instead of competing for the same disk.
+     * */
+    DISK(1),
+
+    /**
+     * General-purpose background work (ie: refreshing GUI elements, checking for updates).
+     * */
+    BACKGROUND(Math.max(2, Runtime.getRuntime().availableProcessors())),
+
+    /**
+     * Tasks that spend their whole life waiting on something else (ie: monitoring the game's process). Not limited.
+     * */
+    WAITING(Integer.MAX_VALUE);
+
+    private final int maxConcurrency;
+
+    /**
+     * Constructor.
+     * */
+    TaskCategory(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * How many tasks of this category may run at the same time.
+     * */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
@@ -0,0 +1,25 @@
+package com.dazednconfused.catalauncher.task;
+
+/**
+ * The view a running {@link TaskBody} has of its own {@link ManagedTask}.
+ * */
+public interface TaskContext {
+
+    /**
+     * Reports the task's progress, as a percentage between {@code 0} and {@code 100}.
+     * */
+    void setProgress(int percent);
+
+    /**
+     * The task's last reported progress, or {@code -1} if it never reported any.
+     * */
+    int getProgress();
+
+    /**
+     * Whether cancellation has been requested for the task.
+     *
+     * @apiNote Cancellation also interrupts the task's thread, so blocking operations already abort on their own. Long,
+     *          non-blocking loops should check this flag periodically.
+     * */
+    boolean isCancelled();
+}
@@ -0,0 +1,205 @@
+package com.dazednconfused.catalauncher.task;
+
+import com.dazednconfused.catalauncher.helper.ExecutorFactory;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Central scheduler for every long-running operation in the launcher.
+ * <br><br>
+ * Tasks are named, queued and limited per {@link TaskCategory} (ie: only one disk-heavy operation at a time), report their
+ * progress into a single unified model, and can be cancelled. Every change to any task is announced through
+ * {@link #getTaskEvents()}.
+ * */
+public class TaskManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskManager.class);
+
+    private static final String THREAD_NAME_PREFIX = "task-worker-";
+
+    /**
+     * How many finished tasks are kept around (ie: for the tasks panel) before being forgotten.
+     * */
+    private static final int MAX_FINISHED_TASKS = 20;
+
+    private static TaskManager instance;
+
+    private final ExecutorService executor;
+    private final Map<TaskCategory, Semaphore> permits = new EnumMap<>(TaskCategory.class);
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Map<Long, ManagedTask<?>> tasks = new LinkedHashMap<>(); // guarded by itself
+    private final ChangeEventPublisher<ManagedTask<?>> taskEvents = new ChangeEventPublisher<>();
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized TaskManager getInstance() {
+        if (instance == null) {
+            instance = new TaskManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     * */
+    protected TaskManager() {
+        this.executor = createExecutor();
+        for (TaskCategory category : TaskCategory.values()) {
+            this.permits.put(category, new Semaphore(category.getMaxConcurrency(), true));
+        }
+    }
+
+    /**
+     * Queues the given {@code body} as a new {@link ManagedTask}, to be run as soon as its {@code category} allows.
+     * */
+    public <T> ManagedTask<T> submit(String name, TaskCategory category, TaskBody<T> body) {
+        ManagedTask<T> task = new ManagedTask<>(this.nextId.getAndIncrement(), name, category, this::onTaskChanged);
+
+        LOGGER.debug("Queueing task [{}]...", task);
+
+        synchronized (this.tasks) {
+            this.tasks.put(task.getId(), task);
+        }
+        this.taskEvents.publishAdded(task);
+
+        this.executor.execute(() -> this.run(task, body));
+        return task;
+    }
+
+    /**
+     * Returns all active tasks, plus the most recently finished ones; in submission order.
+     * */
+    public List<ManagedTask<?>> getTasks() {
+        synchronized (this.tasks) {
+            return new ArrayList<>(this.tasks.values());
+        }
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every task's submission, change of state or progress, and
+     * eventual removal from {@link #getTasks()} is announced.
+     * */
+    public ChangeEventPublisher<ManagedTask<?>> getTaskEvents() {
+        return taskEvents;
+    }
+
+    /**
+     * Returns the average progress of all running tasks that report progress; or {@code -1} if there are none.
+     * */
+    public int getOverallProgress() {
+        return (int) Math.round(this.getTasks().stream()
+            .filter(task -> task.getState() == ManagedTask.State.RUNNING && task.getProgress() >= 0)
+            .mapToInt(ManagedTask::getProgress)
+            .average()
+            .orElse(-1));
+    }
+
+    /**
+     * Runs the given {@code task} on the current thread, once a permit for its category is available.
+     * */
+    private <T> void run(ManagedTask<T> task, TaskBody<T> body) {
+        Semaphore semaphore = this.permits.get(task.getCategory());
+        boolean acquired = false;
+
+        task.bindRunner(Thread.currentThread());
+        try {
+            semaphore.acquire();
+            acquired = true;
+
+            if (task.isCancelled()) {
+                throw new CancellationException();
+            }
+
+            LOGGER.debug("Running task [{}]...", task);
+            task.markRunning();
+
+            T value = body.run(task);
+
+            if (task.isCancelled()) {
+                throw new CancellationException();
+            }
+
+            task.markSucceeded(value);
+            LOGGER.debug("Task [{}] succeeded", task);
+        } catch (Throwable t) {
+            if (task.isCancelled()) {
+                LOGGER.info("Task [{}] cancelled", task.getName());
+                task.markCancelled();
+            } else {
+                LOGGER.error("Task [{}] failed", task.getName(), t);
+                task.markFailed(t);
+            }
+        } finally {
+            task.unbindRunner();
+            Thread.interrupted(); // clear any interruption left behind by a cancellation, so it doesn't leak into the next task
+
+            if (acquired) {
+                semaphore.release();
+            }
+        }
+
+        this.pruneFinishedTasks();
+    }
+
+    /**
+     * Forgets the oldest finished tasks, so that at most {@link #MAX_FINISHED_TASKS} of them are kept.
+     * */
+    private void pruneFinishedTasks() {
+        List<ManagedTask<?>> pruned = new ArrayList<>();
+
+        synchronized (this.tasks) {
+            long finished = this.tasks.values().stream().filter(task -> task.getState().isFinished()).count();
+
+            Iterator<ManagedTask<?>> iterator = this.tasks.values().iterator();
+            while (finished > MAX_FINISHED_TASKS && iterator.hasNext()) {
+                ManagedTask<?> task = iterator.next();
+                if (task.getState().isFinished()) {
+                    iterator.remove();
+                    pruned.add(task);
+                    finished--;
+                }
+            }
+        }
+
+        pruned.forEach(this.taskEvents::publishRemoved);
+    }
+
+    /**
+     * Announces any change to the given {@code task}.
+     * */
+    private void onTaskChanged(ManagedTask<?> task) {
+        this.taskEvents.publishUpdated(task);
+    }
+
+    /**
+     * Creates a virtual-thread-per-task {@link ExecutorService} if the running JDK supports it; or a pool of daemon platform
+     * threads otherwise.
+     *
+     * @implNote Concurrency is limited per {@link TaskCategory} (not by the pool), so queued tasks wait on their category's
+     *           permits instead of occupying a slot other categories may need.
+     * */
+    private static ExecutorService createExecutor() {
+        return ExecutorFactory.newVirtualThreadPerTaskExecutor().map(virtualThreadExecutor -> {
+            LOGGER.debug("Running background tasks on virtual threads");
+            return virtualThreadExecutor;
+        }).orElseGet(() -> {
+            LOGGER.debug("Virtual threads unavailable. Running background tasks on platform threads");
+            return Executors.newCachedThreadPool(ExecutorFactory.daemonThreadFactory(THREAD_NAME_PREFIX));
+        });
+    }
+}
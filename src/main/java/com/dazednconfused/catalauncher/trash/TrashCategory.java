@@ -0,0 +1,17 @@
+package com.dazednconfused.catalauncher.trash;
+
+/**
+ * The kinds of things that end up in the trash folder, each in a directory of its own.
+ * */
+public enum TrashCategory {
+
+    /**
+     * Whole saves folders, replaced by a restored backup.
+     * */
+    SAVES,
+
+    /**
+     * Uninstalled mods.
+     * */
+    MODS
+}
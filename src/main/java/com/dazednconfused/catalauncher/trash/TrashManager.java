@@ -0,0 +1,332 @@
+package com.dazednconfused.catalauncher.trash;
+
+import com.dazednconfused.catalauncher.configuration.ConfigurationManager;
+import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventPublisher;
+import com.dazednconfused.catalauncher.helper.result.Result;
+import com.dazednconfused.catalauncher.helper.trash.TrashReaper;
+import com.dazednconfused.catalauncher.helper.watch.FileSystemMonitor;
+import com.dazednconfused.catalauncher.helper.watch.WatchDepth;
+import com.dazednconfused.catalauncher.helper.watch.WatchedDirectory;
+import com.dazednconfused.catalauncher.mod.ModManager;
+import com.dazednconfused.catalauncher.task.TaskCategory;
+import com.dazednconfused.catalauncher.task.TaskManager;
+import com.dazednconfused.catalauncher.trash.dto.TrashEntryDTO;
+
+import io.vavr.control.Try;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the trash folder bounded. Every entry in it (ie: a saves folder replaced by a restored backup, or an uninstalled
+ * mod) is indexed as it comes and goes, with its size accounted for through the {@link FileSystemMonitor}; and whenever the
+ * trash folder grows past its size quota - or holds entries past their maximum age - the oldest entries get purged in the
+ * background.
+ * <br><br>
+ * Entries can also be restored, for as long as they haven't been purged.
+ *
+ * @implNote Purging goes through the {@link TrashReaper}, so that entries disappear right away no matter their size.
+ * */
+public class TrashManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrashManager.class);
+
+    private static final DateTimeFormatter TRASHED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final String IGNORED_FILE_NAME = ".DS_Store";
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    private static TrashManager instance;
+
+    private final Map<TrashCategory, WatchedDirectory> trashDirectories = new EnumMap<>(TrashCategory.class);
+    private final Path savesDirectory;
+    private final TrashReaper trashReaper;
+    private final long maxSizeBytes;
+    private final long maxAgeMillis;
+
+    private final Map<File, TrashEntryDTO> entries = new ConcurrentHashMap<>();
+    private final ChangeEventPublisher<TrashEntryDTO> events = new ChangeEventPublisher<>();
+    private final AtomicBoolean enforcementScheduled = new AtomicBoolean();
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized TrashManager getInstance() {
+        if (instance == null) {
+            instance = new TrashManager(
+                FileSystemMonitor.getInstance().watch(Paths.getCustomTrashedSavePath(), WatchDepth.ROOT),
+                FileSystemMonitor.getInstance().watch(Paths.getCustomTrashedModsPath(), WatchDepth.ROOT),
+                Paths.getCustomSavePath(),
+                TrashReaper.getInstance(),
+                ConfigurationManager.getInstance().getTrashMaxSizeMb() * BYTES_PER_MB,
+                TimeUnit.DAYS.toMillis(ConfigurationManager.getInstance().getTrashMaxAgeDays())
+            );
+            instance.scheduleEnforcement(); // whatever piled up while the launcher was closed
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param savesDirectory Where trashed saves folders get restored into.
+     * @param maxSizeBytes   How big the trash folder may grow before its oldest entries start getting purged. {@code 0} means
+     *                       no limit.
+     * @param maxAgeMillis   How old an entry may get before being purged. {@code 0} means no limit.
+     * */
+    protected TrashManager(WatchedDirectory trashedSaves, WatchedDirectory trashedMods, Path savesDirectory, TrashReaper trashReaper, long maxSizeBytes, long maxAgeMillis) {
+        this.trashDirectories.put(TrashCategory.SAVES, trashedSaves);
+        this.trashDirectories.put(TrashCategory.MODS, trashedMods);
+        this.savesDirectory = savesDirectory;
+        this.trashReaper = trashReaper;
+        this.maxSizeBytes = maxSizeBytes;
+        this.maxAgeMillis = maxAgeMillis;
+
+        // subscribe before the initial indexing, so that no change can slip in between -
+        this.trashDirectories.forEach((category, directory) -> {
+            directory.getEvents().subscribe(new ChangeEventListener<>() {
+                @Override
+                public void onAdded(File added) {
+                    reindex(category, added);
+                    scheduleEnforcement();
+                }
+
+                @Override
+                public void onChanged(File changed) {
+                    reindex(category, changed);
+                }
+            });
+            directory.getChildren().forEach(child -> this.reindex(category, child));
+        });
+    }
+
+    /**
+     * Returns the {@link ChangeEventPublisher} through which every entry added to or removed from the trash folder is
+     * announced; only after the index itself has been updated.
+     * */
+    public ChangeEventPublisher<TrashEntryDTO> getEvents() {
+        return this.events;
+    }
+
+    /**
+     * Returns how big the trash folder may grow before its oldest entries start getting purged, in bytes. {@code 0} means no
+     * limit.
+     * */
+    public long getMaxSizeBytes() {
+        return this.maxSizeBytes;
+    }
+
+    /**
+     * Returns how old an entry may get before being purged, in milliseconds. {@code 0} means no limit.
+     * */
+    public long getMaxAgeMillis() {
+        return this.maxAgeMillis;
+    }
+
+    /**
+     * Returns every entry currently in the trash folder, most recently trashed first.
+     *
+     * @apiNote No disk access is performed.
+     * */
+    public List<TrashEntryDTO> listEntries() {
+        return this.entries.values().stream()
+            .sorted(Comparator.comparingLong(TrashEntryDTO::getTrashedAtMillis).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the on-disk size of the given {@code entry}, in bytes.
+     *
+     * @apiNote Computed lazily (and only again once the entry changes) through its trash directory's
+     *          {@link com.dazednconfused.catalauncher.helper.watch.DirectorySizeIndex}. Do not call from the Event Dispatch
+     *          Thread (EDT).
+     * */
+    public long sizeOf(TrashEntryDTO entry) {
+        return this.trashDirectories.get(entry.getCategory()).getSizeIndex().sizeOf(entry.getDirectory());
+    }
+
+    /**
+     * Returns the on-disk size of the whole trash folder, in bytes.
+     *
+     * @apiNote Only entries never measured before (or changed since) are walked. Do not call from the Event Dispatch Thread (EDT).
+     * */
+    public long getTotalSize() {
+        return this.entries.values().stream().mapToLong(this::sizeOf).sum();
+    }
+
+    /**
+     * Schedules a background enforcement of the trash folder's limits, unless one is already pending.
+     * */
+    public void scheduleEnforcement() {
+        if (!this.enforcementScheduled.compareAndSet(false, true)) {
+            return; // the pending one will see whatever triggered this call as well
+        }
+
+        TaskManager.getInstance().submit("Purge trash folder", TaskCategory.BACKGROUND, task -> {
+            this.enforcementScheduled.set(false);
+            return this.enforceLimits();
+        });
+    }
+
+    /**
+     * Purges every entry older than the maximum age, then keeps purging the oldest ones for as long as the trash folder is
+     * bigger than its size quota.
+     *
+     * @return The purged entries.
+     * */
+    public synchronized List<TrashEntryDTO> enforceLimits() {
+        List<TrashEntryDTO> oldestFirst = this.listEntries();
+        Collections.reverse(oldestFirst);
+
+        long now = System.currentTimeMillis();
+        long totalSize = this.getTotalSize();
+        long sizeBefore = totalSize;
+
+        List<TrashEntryDTO> purged = new ArrayList<>();
+        for (TrashEntryDTO entry : oldestFirst) {
+            boolean expired = this.maxAgeMillis > 0 && now - entry.getTrashedAtMillis() > this.maxAgeMillis;
+            boolean overQuota = this.maxSizeBytes > 0 && totalSize > this.maxSizeBytes;
+            if (!expired && !overQuota) {
+                break; // every remaining entry is newer, and they all fit
+            }
+
+            long size = this.sizeOf(entry);
+            if (this.purge(entry).toEither().isRight()) {
+                totalSize -= size;
+                purged.add(entry);
+            }
+        }
+
+        if (!purged.isEmpty()) {
+            LOGGER.info("Purged [{}] trash folder entries. Trash folder size went from [{}] to [{}] bytes", purged.size(), sizeBefore, totalSize);
+        }
+        return purged;
+    }
+
+    /**
+     * Permanently deletes the given {@code entry} from the trash folder.
+     *
+     * @return {@link Result#success(Object)} with the purged entry, or {@link Result#failure(Throwable)} if there was an error
+     *         during the operation.
+     * */
+    public Result<Throwable, TrashEntryDTO> purge(TrashEntryDTO entry) {
+        LOGGER.debug("Purging trash folder entry [{}]...", entry);
+
+        return this.trashReaper.discard(entry.getDirectory().toPath()).toEither().fold(
+            failure -> Result.failure(failure.getError()),
+            success -> {
+                this.forget(entry.getDirectory());
+                return Result.success(entry);
+            }
+        );
+    }
+
+    /**
+     * Moves the given {@code entry} back to where it was trashed from.
+     * <ul>
+     *     <li>A trashed saves folder replaces the current one, which gets trashed in turn (same as restoring a backup).</li>
+     *     <li>Trashed mods get installed again.</li>
+     * </ul>
+     *
+     * @return {@link Result#success(Object)} with the restored entry, or {@link Result#failure(Throwable)} if there was an
+     *         error during the operation.
+     * */
+    public synchronized Result<Throwable, TrashEntryDTO> restore(TrashEntryDTO entry) {
+        LOGGER.info("Restoring trash folder entry [{}]...", entry);
+
+        return Try.of(() -> {
+            if (entry.getCategory() == TrashCategory.SAVES) {
+                this.restoreSaves(entry);
+            } else {
+                this.restoreMods(entry);
+            }
+            this.forget(entry.getDirectory());
+            return entry;
+        }).onFailure(
+            t -> LOGGER.error("There was an error restoring trash folder entry [{}]", entry, t)
+        ).map(Result::<Throwable, TrashEntryDTO>success).recover(Result::failure).get();
+    }
+
+    /**
+     * Swaps the current saves folder with the given trashed {@code entry}.
+     * */
+    private void restoreSaves(TrashEntryDTO entry) throws IOException {
+        if (Files.exists(this.savesDirectory)) {
+            Path trashedSaves = this.trashDirectories.get(TrashCategory.SAVES).getRoot().resolve(LocalDateTime.now().format(TRASHED_AT_FORMAT));
+            LOGGER.debug("Trashing current saves into [{}]...", trashedSaves);
+            Files.createDirectories(trashedSaves.getParent());
+            Files.move(this.savesDirectory, trashedSaves);
+        }
+
+        Files.createDirectories(this.savesDirectory.toAbsolutePath().getParent());
+        Files.move(entry.getDirectory().toPath(), this.savesDirectory);
+    }
+
+    /**
+     * Installs every mod in the given trashed {@code entry} again, and then discards it.
+     * */
+    private void restoreMods(TrashEntryDTO entry) {
+        File[] mods = Optional.ofNullable(entry.getDirectory().listFiles(File::isDirectory)).orElse(new File[0]);
+        for (File mod : mods) {
+            ModManager.getInstance().installMod(mod, installed -> { }).getOrElseThrowUnchecked();
+        }
+
+        this.trashReaper.discard(entry.getDirectory().toPath()).getOrElseThrowUnchecked();
+    }
+
+    /**
+     * Re-reads the given immediate {@code child} of a trash directory from disk, and updates the index accordingly.
+     * */
+    protected void reindex(TrashCategory category, File child) {
+        if (!child.exists() || child.getName().equals(IGNORED_FILE_NAME)) {
+            this.forget(child);
+            return;
+        }
+
+        TrashEntryDTO indexed = TrashEntryDTO.builder().category(category).directory(child).trashedAtMillis(trashedAtOf(child)).build();
+        if (this.entries.put(child, indexed) == null) {
+            LOGGER.trace("Indexed trash folder entry [{}]", indexed);
+            this.events.publishAdded(indexed);
+        }
+    }
+
+    /**
+     * Drops the given {@code child} from the index, if indexed.
+     * */
+    private void forget(File child) {
+        TrashEntryDTO removed = this.entries.remove(child);
+        if (removed != null) {
+            LOGGER.trace("Trash folder entry [{}] no longer there. Removed from index", removed);
+            this.events.publishRemoved(removed);
+        }
+    }
+
+    /**
+     * Figures out when the given {@code child} was trashed: from its name, which is the timestamp it was trashed at; or from
+     * its last modification time, if it doesn't look like one.
+     * */
+    private static long trashedAtOf(File child) {
+        return Try.of(() -> LocalDateTime.parse(child.getName(), TRASHED_AT_FORMAT).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+            .getOrElse(child::lastModified);
+    }
+}
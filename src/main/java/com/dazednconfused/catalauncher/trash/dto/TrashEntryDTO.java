@@ -0,0 +1,22 @@
+package com.dazednconfused.catalauncher.trash.dto;
+
+import com.dazednconfused.catalauncher.trash.TrashCategory;
+
+import java.io.File;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TrashEntryDTO {
+
+    private TrashCategory category;
+    private File directory;
+
+    /**
+     * When the entry was moved into the trash folder, in milliseconds since the epoch.
+     * */
+    private long trashedAtMillis;
+
+}
@@ -0,0 +1,53 @@
+package com.dazednconfused.catalauncher.update;
+
+/**
+ * The last latest-release tag fetched by a {@link ReleaseTagFetcher}, along with what's needed to revalidate it.
+ * */
+public class CachedRelease {
+
+    private String tag;
+    private String etag;
+    private long checkedAtMillis;
+
+    public CachedRelease() {
+    }
+
+    /**
+     * Constructor.
+     * */
+    public CachedRelease(String tag, String etag, long checkedAtMillis) {
+        this.tag = tag;
+        this.etag = etag;
+        this.checkedAtMillis = checkedAtMillis;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * The {@code ETag} the remote repository answered with, if any; to be sent back as {@code If-None-Match}.
+     * */
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    /**
+     * When the remote repository last confirmed {@link #getTag()}, in milliseconds since the epoch.
+     * */
+    public long getCheckedAtMillis() {
+        return checkedAtMillis;
+    }
+
+    public void setCheckedAtMillis(long checkedAtMillis) {
+        this.checkedAtMillis = checkedAtMillis;
+    }
+}
@@ -0,0 +1,206 @@
+package com.dazednconfused.catalauncher.update;
+
+import static com.dazednconfused.catalauncher.helper.Constants.GITHUB_REPOSITORY_NAME;
+import static com.dazednconfused.catalauncher.helper.Constants.GITHUB_REPOSITORY_OWNER;
+
+import com.dazednconfused.catalauncher.helper.Paths;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetches the tag of the latest release (including pre-releases) published in a remote GitHub repository, without ever
+ * downloading the same release data twice:
+ * <ul>
+ *     <li>The last fetched tag is cached on disk, and trusted as-is for {@link #DEFAULT_TTL}.</li>
+ *     <li>Past that, it gets revalidated with a conditional request ({@code If-None-Match}), which the remote repository
+ *     answers with an empty {@code 304 Not Modified} for as long as nothing's been released.</li>
+ *     <li>Only the first release is requested, and only its {@code tag_name} is read, straight off the response stream.</li>
+ * </ul>
+ * Should the remote repository be unreachable (or too slow to answer), the cached tag is used no matter how old it is.
+ * */
+public class ReleaseTagFetcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReleaseTagFetcher.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = OBJECT_MAPPER.getFactory();
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final String TAG_FIELD_NAME = "tag_name";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static ReleaseTagFetcher instance;
+
+    private final URI releasesUri;
+    private final Path cacheFile;
+    private final Duration ttl;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    private CachedRelease cached; // guarded by this
+
+    /**
+     * Singleton.
+     * */
+    public static synchronized ReleaseTagFetcher getInstance() {
+        if (instance == null) {
+            instance = new ReleaseTagFetcher(
+                URI.create("https://api.github.com/repos/" + GITHUB_REPOSITORY_OWNER + "/" + GITHUB_REPOSITORY_NAME + "/releases?per_page=1"),
+                Paths.getLatestReleaseCachePath(),
+                DEFAULT_TTL,
+                DEFAULT_TIMEOUT
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param releasesUri Where to list releases from, most recent first.
+     * @param cacheFile   Where to cache the last fetched tag.
+     * @param ttl         For how long a fetched tag is trusted without asking the remote repository again.
+     * @param timeout     For how long to wait for the remote repository, both to connect and to answer.
+     * */
+    protected ReleaseTagFetcher(URI releasesUri, Path cacheFile, Duration ttl, Duration timeout) {
+        this.releasesUri = releasesUri;
+        this.cacheFile = cacheFile;
+        this.ttl = ttl;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    /**
+     * Returns the tag of the latest release, asking the remote repository only if the cached one is older than the TTL.
+     *
+     * @return The latest release's tag, or {@link Optional#empty()} if it could neither be fetched nor found in the cache.
+     * */
+    public synchronized Optional<String> fetchLatestTag() {
+        CachedRelease current = this.loadCache().orElse(null);
+        long now = System.currentTimeMillis();
+
+        if (current != null && now - current.getCheckedAtMillis() < this.ttl.toMillis()) {
+            LOGGER.debug("Latest release tag [{}] checked less than [{}] ago. Not asking again", current.getTag(), this.ttl);
+            return Optional.of(current.getTag());
+        }
+
+        return Try.of(() -> this.fetch(current, now))
+            .onSuccess(this::storeCache)
+            .map(CachedRelease::getTag)
+            .onFailure(t -> LOGGER.warn("Could not fetch latest release tag from [{}]. Falling back to cached one (if any)", this.releasesUri, t))
+            .toJavaOptional()
+            .or(() -> Optional.ofNullable(current).map(CachedRelease::getTag));
+    }
+
+    /**
+     * Asks the remote repository for the latest release, conditionally on it having changed since {@code current}.
+     * */
+    private CachedRelease fetch(CachedRelease current, long now) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(this.releasesUri)
+            .timeout(this.timeout)
+            .header("Accept", "application/vnd.github.v3+json")
+            .GET();
+
+        if (current != null && current.getEtag() != null) {
+            request.header("If-None-Match", current.getEtag());
+        }
+
+        LOGGER.debug("Querying [{}]...", this.releasesUri);
+        HttpResponse<InputStream> response = this.httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() == 304 && current != null) {
+                LOGGER.debug("Latest release tag [{}] not modified", current.getTag());
+                return new CachedRelease(current.getTag(), current.getEtag(), now);
+            }
+
+            if (response.statusCode() != 200) {
+                throw new IOException("Unexpected HTTP status [" + response.statusCode() + "] from [" + this.releasesUri + "]");
+            }
+
+            String tag = readFirstTag(body).orElseThrow(() -> new IOException("No release found in [" + this.releasesUri + "]"));
+            return new CachedRelease(tag, response.headers().firstValue("ETag").orElse(null), now);
+        }
+    }
+
+    /**
+     * Reads the {@code tag_name} of the first release in the given {@code releases} JSON array, without reading any further.
+     * */
+    protected static Optional<String> readFirstTag(InputStream releases) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(releases)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY || parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+
+                if (TAG_FIELD_NAME.equals(field)) {
+                    return Optional.ofNullable(parser.getValueAsString());
+                }
+                parser.skipChildren(); // nested objects and arrays (ie: author, assets) are of no interest
+            }
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the cached release, reading it from disk the first time.
+     * */
+    private Optional<CachedRelease> loadCache() {
+        if (this.cached == null && Files.isRegularFile(this.cacheFile)) {
+            this.cached = Try.of(() -> OBJECT_MAPPER.readValue(this.cacheFile.toFile(), CachedRelease.class))
+                .onFailure(t -> LOGGER.warn("Could not read latest release cache [{}]. Ignoring it", this.cacheFile, t))
+                .filter(release -> release.getTag() != null)
+                .getOrNull();
+        }
+        return Optional.ofNullable(this.cached);
+    }
+
+    /**
+     * Caches the given {@code release}, both in memory and on disk.
+     *
+     * @implNote Written to a temporary sibling first and then moved over the previous one, so that it's never left truncated.
+     * */
+    private void storeCache(CachedRelease release) {
+        this.cached = release;
+
+        Try.run(() -> {
+            Files.createDirectories(this.cacheFile.toAbsolutePath().getParent());
+            Path temporaryFile = this.cacheFile.resolveSibling(this.cacheFile.getFileName() + TEMP_FILE_SUFFIX);
+            OBJECT_MAPPER.writeValue(temporaryFile.toFile(), release);
+            try {
+                Files.move(temporaryFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }).onFailure(t -> LOGGER.warn("Could not write latest release cache [{}]", this.cacheFile, t));
+    }
+}
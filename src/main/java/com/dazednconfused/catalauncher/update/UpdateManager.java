@@ -9,11 +9,7 @@ import com.dazednconfused.catalauncher.helper.GitInfoManager;
 import io.vavr.control.Try;
 
 import java.awt.Desktop;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -63,40 +59,17 @@ public class UpdateManager {
 
     /**
      * Queries for the latest binary release's tag available to the public in the official remote repository.
+     *
+     * @implNote Goes through the {@link ReleaseTagFetcher}, so repeated queries are answered from its cache.
      * */
     public static Optional<Version> getLatestReleaseTag() {
         LOGGER.info("Querying latest release's tag from internet repository...");
 
-        return Try.of(() -> getLatestReleaseTagFromGithub(GITHUB_REPOSITORY_OWNER, GITHUB_REPOSITORY_NAME))
-            .map(Version::new)
-            .onFailure(t -> LOGGER.error("There was an error retrieving the latest release from remote repository [{}/{}]", GITHUB_REPOSITORY_OWNER, GITHUB_REPOSITORY_NAME, t))
-            .toJavaOptional();
-    }
-
-    /**
-     * Queries the remote GitHub repository in search for the latest release for the given {@code owner}/{@code repo} combination.
-     * */
-    private static String getLatestReleaseTagFromGithub(String owner, String repo) throws IOException {
-        String apiUrl = "https://api.github.com/repos/" + owner + "/" + repo + "/releases";
-
-        URL url = new URL(apiUrl);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        connection.setRequestProperty("Accept", "application/vnd.github.v3+json");
-
-        StringBuilder response = new StringBuilder();
-        try (BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-            String line;
-            while ((line = in.readLine()) != null) {
-                response.append(line);
-            }
-        }
-
-        connection.disconnect();
-
-        // Parse JSON response to get the latest release name (including pre-releases)
-        String jsonResponse = response.toString();
-        return jsonResponse.split("\"tag_name\":\"")[1].split("\",")[0];
+        return ReleaseTagFetcher.getInstance().fetchLatestTag()
+            .flatMap(tag -> Try.of(() -> new Version(tag))
+                .onFailure(t -> LOGGER.error("Latest release tag [{}] from remote repository [{}/{}] is not a valid version", tag, GITHUB_REPOSITORY_OWNER, GITHUB_REPOSITORY_NAME, t))
+                .toJavaOptional()
+            );
     }
 
     /**
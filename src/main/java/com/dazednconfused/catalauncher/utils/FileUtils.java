@@ -13,19 +13,27 @@ public class FileUtils {
      * Computes the MD5 checksum of the given {@link File}.
      * */
     public static String getFileChecksum(File file) {
+        return getFileChecksum(file, "MD5");
+    }
+
+    /**
+     * Computes the checksum of the given {@link File}, using the given {@link MessageDigest} {@code algorithm} (ie:
+     * {@code SHA-256}).
+     * */
+    public static String getFileChecksum(File file, String algorithm) {
         if (file == null) {
             throw new IllegalArgumentException("File cannot be null");
         }
 
         MessageDigest digest;
         try {
-            digest = MessageDigest.getInstance("MD5");
+            digest = MessageDigest.getInstance(algorithm);
         } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("MD5 algorithm not found", e);
+            throw new RuntimeException(algorithm + " algorithm not found", e);
         }
 
         try (FileInputStream fis = new FileInputStream(file)) {
-            byte[] byteArray = new byte[1024];
+            byte[] byteArray = new byte[64 * 1024];
             int bytesCount;
 
             // read file data and update in message digest
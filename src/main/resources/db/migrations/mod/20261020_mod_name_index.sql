@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS mod_name_idx ON mod (name);
@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS game_session (
+    id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pid LONG NOT NULL,
+    started_date DATETIME NOT NULL,
+    ended_date DATETIME,
+    exit_code INT,
+    installed_mods TEXT NOT NULL,
+    created_date DATETIME NOT NULL,
+    updated_date DATETIME NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS game_session_sample (
+    id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    session_id LONG NOT NULL,
+    sampled_date DATETIME NOT NULL,
+    cpu_millis LONG NOT NULL,
+    rss_bytes LONG NOT NULL,
+    process_count INT NOT NULL,
+    created_date DATETIME NOT NULL,
+    updated_date DATETIME NOT NULL,
+    FOREIGN KEY (session_id) REFERENCES game_session (id)
+);
+
+CREATE INDEX IF NOT EXISTS game_session_sample_session_id_idx ON game_session_sample (session_id);
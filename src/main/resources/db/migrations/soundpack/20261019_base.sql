@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS soundpack (
+    id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    created_date DATETIME NOT NULL,
+    updated_date DATETIME NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS soundpackfile (
+    id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    soundpack_id LONG NOT NULL,
+    path TEXT NOT NULL,
+    hash VARCHAR(64) NOT NULL,
+    size LONG NOT NULL,
+    created_date DATETIME NOT NULL,
+    updated_date DATETIME NOT NULL,
+    FOREIGN KEY (soundpack_id) REFERENCES soundpack (id)
+);
+
+CREATE INDEX IF NOT EXISTS soundpackfile_hash_idx ON soundpackfile (hash);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS soundpackfile_soundpack_id_idx ON soundpackfile (soundpack_id);
+
+CREATE INDEX IF NOT EXISTS soundpack_name_idx ON soundpack (name);
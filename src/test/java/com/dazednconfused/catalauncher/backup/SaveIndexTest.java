@@ -0,0 +1,98 @@
+package com.dazednconfused.catalauncher.backup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.backup.dto.WorldDTO;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.helper.watch.FileSystemMonitor;
+import com.dazednconfused.catalauncher.helper.watch.WatchDepth;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SaveIndexTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void of_indexes_valid_worlds_by_last_save_success() throws Exception {
+
+        // prepare mock data ---
+        File MOCKED_OLDER_WORLD = createWorld("Older", 1_000_000L);
+        File MOCKED_NEWER_WORLD = createWorld("Newer", 2_000_000L);
+        Files.createDirectories(tempDir.resolve("Invalid")); // no .sav in it
+        Files.createFile(tempDir.resolve(".DS_Store"));
+
+        // execute test ---
+        SaveIndex result = SaveIndex.of(tempDir);
+
+        // verify assertions ---
+        assertThat(result.getLatest()).map(WorldDTO::getDirectory).contains(MOCKED_NEWER_WORLD);
+        assertThat(result.getRecentWorlds(10)).extracting(WorldDTO::getDirectory).containsExactly(MOCKED_NEWER_WORLD, MOCKED_OLDER_WORLD);
+        assertThat(result.getRecentWorlds(1)).extracting(WorldDTO::getName).containsExactly("Newer");
+        assertThat(result.sizeOf(result.getLatest().orElseThrow())).isPositive();
+        assertThat(SaveIndex.of(tempDir)).isSameAs(result);
+    }
+
+    @Test
+    void index_follows_worlds_being_saved_and_removed_success() throws Exception {
+
+        // prepare mock data ---
+        File MOCKED_OLDER_WORLD = createWorld("Older", 1_000_000L);
+        File MOCKED_NEWER_WORLD = createWorld("Newer", 2_000_000L);
+
+        SaveIndex index = SaveIndex.of(tempDir);
+        FileSystemMonitor.getInstance().watch(tempDir, WatchDepth.CHILDREN).whenRegistered().get(TIMEOUT_SECONDS, TimeUnit.SECONDS); // worlds get watched in the background
+
+        CountDownLatch MOCKED_UPDATED = new CountDownLatch(1);
+        CountDownLatch MOCKED_REMOVED = new CountDownLatch(1);
+        index.getEvents().subscribe(new ChangeEventListener<>() {
+            @Override
+            public void onUpdated(WorldDTO updated) {
+                if (updated.getLastSavedMillis() == 3_000_000L) {
+                    MOCKED_UPDATED.countDown();
+                }
+            }
+
+            @Override
+            public void onRemoved(WorldDTO removed) {
+                MOCKED_REMOVED.countDown();
+            }
+        });
+
+        // execute test ---
+        Files.setLastModifiedTime(MOCKED_OLDER_WORLD.toPath().resolve("player.sav"), FileTime.fromMillis(3_000_000L)); // the game saved it
+        Files.writeString(MOCKED_OLDER_WORLD.toPath().resolve("trigger"), "a change the monitor picks up");
+        boolean updated = MOCKED_UPDATED.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        File latestAfterUpdate = index.getLatest().map(WorldDTO::getDirectory).orElse(null);
+
+        FileUtils.deleteDirectory(MOCKED_OLDER_WORLD);
+        boolean removed = MOCKED_REMOVED.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(updated).isTrue();
+        assertThat(latestAfterUpdate).isEqualTo(MOCKED_OLDER_WORLD);
+
+        assertThat(removed).isTrue();
+        assertThat(index.getLatest()).map(WorldDTO::getDirectory).contains(MOCKED_NEWER_WORLD);
+        assertThat(index.getRecentWorlds(10)).extracting(WorldDTO::getDirectory).containsExactly(MOCKED_NEWER_WORLD);
+    }
+
+    private File createWorld(String name, long lastSavedMillis) throws Exception {
+        Path world = Files.createDirectories(tempDir.resolve(name));
+        Path saveFile = Files.writeString(world.resolve("player.sav"), "mocked save");
+        Files.setLastModifiedTime(saveFile, FileTime.fromMillis(lastSavedMillis));
+        return world.toFile();
+    }
+}
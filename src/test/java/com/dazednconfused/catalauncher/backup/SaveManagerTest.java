@@ -1,6 +1,7 @@
 package com.dazednconfused.catalauncher.backup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.Mockito.mockStatic;
 
 import com.dazednconfused.catalauncher.assertions.CustomFileAssertions;
@@ -330,8 +331,8 @@ class SaveManagerTest {
             );
 
             // execute test ---
-            Optional<Thread> result = SaveManager.backupCurrentSaves(MOCKED_CALLBACK);
-            result.ifPresent(Thread::run);
+            Optional<Runnable> result = SaveManager.backupCurrentSaves(MOCKED_CALLBACK);
+            result.ifPresent(Runnable::run);
 
             // verify assertions ---
             assertThat(result).isNotEmpty();
@@ -395,8 +396,8 @@ class SaveManagerTest {
             );
 
             // execute test ---
-            Optional<Thread> result = SaveManager.backupCurrentSaves(MOCKED_CALLBACK);
-            result.ifPresent(Thread::run);
+            Optional<Runnable> result = SaveManager.backupCurrentSaves(MOCKED_CALLBACK);
+            result.ifPresent(Runnable::run);
 
             // verify assertions ---
             assertThat(result).isNotEmpty();
@@ -553,7 +554,7 @@ class SaveManagerTest {
             assertThat(MOCKED_CUSTOM_BACKUP_PATH).exists();
 
             // execute test ---
-            Optional<Thread> result = SaveManager.backupCurrentSaves(MOCKED_CALLBACK);
+            Optional<Runnable> result = SaveManager.backupCurrentSaves(MOCKED_CALLBACK);
 
             // verify assertions ---
             assertThat(result).isEmpty();
@@ -786,8 +787,8 @@ class SaveManagerTest {
             ));
 
             // execute test ---
-            Optional<Thread> result = SaveManager.restoreBackup(MOCKED_BACKUP_4, MOCKED_CALLBACK);
-            result.ifPresent(Thread::run);
+            Optional<Runnable> result = SaveManager.restoreBackup(MOCKED_BACKUP_4, MOCKED_CALLBACK);
+            result.ifPresent(Runnable::run);
 
             // verify assertions ---
             assertThat(result).isNotEmpty();
@@ -1221,8 +1222,8 @@ class SaveManagerTest {
             ));
 
             // execute test ---
-            Optional<Thread> result = SaveManager.restoreBackup(MOCKED_BACKUP_4, MOCKED_CALLBACK);
-            result.ifPresent(Thread::run);
+            Optional<Runnable> result = SaveManager.restoreBackup(MOCKED_BACKUP_4, MOCKED_CALLBACK);
+            result.ifPresent(Runnable::run);
 
             // verify assertions ---
             assertThat(result).isNotEmpty();
@@ -1593,4 +1594,61 @@ class SaveManagerTest {
         }
     }
 
+    @Test
+    void restore_backup_success_when_interrupted_leaves_current_saves_untouched(@TempDir Path mockedSavePath, @TempDir Path mockedBackupPath, @TempDir Path mockedTrashedSavePath) {
+        try (MockedStatic<Paths> mockedPaths = mockStatic(Paths.class)) {
+
+            // prepare mock data ---
+            mockedPaths.when(Paths::getCustomSavePath).thenReturn(mockedSavePath.resolve("saves/"));
+            mockedPaths.when(Paths::getSaveBackupPath).thenReturn(mockedBackupPath);
+            mockedPaths.when(Paths::getCustomTrashedSavePath).thenReturn(mockedTrashedSavePath);
+
+            File MOCKED_CUSTOM_SAVE_DIRECTORY = Paths.getCustomSavePath().toFile();
+            File MOCKED_TRASHED_SAVE_DIRECTORY = Paths.getCustomTrashedSavePath().toFile();
+
+            assertThat(MOCKED_CUSTOM_SAVE_DIRECTORY.mkdirs()).isTrue(); // we are using a custom relative path, which we must create first...
+
+            File MOCKED_BACKUP_4 = Paths.getSaveBackupPath().resolve("20240808_205736.zip").toFile();
+            FileUtils.copyFile(
+                TestUtils.getFromResource("save/backup/sample/20240808_205736.zip"),
+                MOCKED_BACKUP_4
+            );
+
+            File MOCKED_EXISTENT_SAVE = Paths.getCustomSavePath().resolve("Braintree").toFile();
+            FileUtils.copyDirectory(
+                TestUtils.getFromResource("save/sample/Braintree"),
+                MOCKED_EXISTENT_SAVE
+            );
+
+            Consumer<Integer> MOCKED_CALLBACK = value -> { };
+
+            // execute test ---
+            Optional<Runnable> result = SaveManager.restoreBackup(MOCKED_BACKUP_4, MOCKED_CALLBACK);
+
+            Thread.currentThread().interrupt(); // as if the owning task got cancelled
+            Throwable thrown = catchThrowable(() -> result.ifPresent(Runnable::run));
+            Thread.interrupted();
+
+            // verify assertions ---
+            assertThat(result).isNotEmpty();
+            assertThat(thrown).hasRootCauseInstanceOf(InterruptedException.class);
+
+            CustomFileAssertions.assertThat(
+                MOCKED_CUSTOM_SAVE_DIRECTORY
+            ).containsExactlyFilesWithRelativePaths(Arrays.asList(
+                "Braintree/cache/worldoptions.json.1676227889000.fb",
+                "Braintree/cache/mods.json.1676227889000.fb",
+                "Braintree/mods.json",
+                "Braintree/worldoptions.json",
+                "Braintree/world_timestamp.json"
+            ));
+
+            assertThat(MOCKED_TRASHED_SAVE_DIRECTORY).isEmptyDirectory();
+            assertThat(mockedSavePath.toFile().listFiles()).containsExactly(MOCKED_CUSTOM_SAVE_DIRECTORY); // no staging folder left behind
+
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
 }
\ No newline at end of file
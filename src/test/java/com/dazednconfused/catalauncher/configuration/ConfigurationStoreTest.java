@@ -0,0 +1,121 @@
+package com.dazednconfused.catalauncher.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigurationStoreTest {
+
+    @TempDir
+    private static Path tempDir;
+
+    @Test
+    void load_empty_success() {
+
+        // prepare mock data ---
+        ConfigurationStore store = new ConfigurationStore(tempDir.resolve("missing.json"), 10);
+
+        // execute test ---
+        Optional<Configuration> result = store.load();
+
+        // verify assertions ---
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void write_and_load_success() {
+
+        // prepare mock data ---
+        Path MOCKED_FILE = tempDir.resolve("nested/folder/configuration.json");
+        ConfigurationStore store = new ConfigurationStore(MOCKED_FILE, 10);
+
+        Configuration configuration = new Configuration();
+        configuration.setCddaPath("/mocked/path");
+        configuration.setDebug(true);
+
+        // execute test ---
+        store.write(configuration);
+
+        // verify assertions ---
+        assertThat(MOCKED_FILE).exists();
+        assertThat(MOCKED_FILE.getParent().toFile().list()).containsExactly("configuration.json"); // no temp files left behind
+
+        assertThat(store.load()).get().usingRecursiveComparison().isEqualTo(configuration);
+    }
+
+    @Test
+    void load_null_log_levels_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_FILE = tempDir.resolve("null-log-levels/configuration.json");
+        Files.createDirectories(MOCKED_FILE.getParent());
+        Files.writeString(MOCKED_FILE, "{ \"debug\" : true, \"logLevels\" : null }");
+
+        ConfigurationStore store = new ConfigurationStore(MOCKED_FILE, 10);
+
+        // execute test ---
+        Optional<Configuration> result = store.load();
+
+        // verify assertions ---
+        assertThat(result).get().extracting(Configuration::getLogLevels).isEqualTo(Map.of());
+        assertThat(new Configuration(result.get()).getLogLevels()).isEmpty();
+    }
+
+    @Test
+    void schedule_save_coalesces_writes_success() {
+
+        // prepare mock data ---
+        Path MOCKED_FILE = tempDir.resolve("coalesced.json");
+        ConfigurationStore store = new ConfigurationStore(MOCKED_FILE, 60_000); // long enough to never fire on its own
+
+        // execute test ---
+        Configuration latest = null;
+        for (int i = 0; i < 100; i++) {
+            latest = new Configuration();
+            latest.setCddaPath("/mocked/path/" + i);
+            store.scheduleSave(latest);
+        }
+
+        // verify assertions ---
+        assertThat(MOCKED_FILE).doesNotExist(); // nothing written on the calling thread
+        assertThat(store.getWriteCount()).isZero();
+
+        store.flush();
+
+        assertThat(store.getWriteCount()).isEqualTo(1);
+        assertThat(store.load()).get().usingRecursiveComparison().isEqualTo(latest);
+
+        store.flush(); // nothing else pending
+
+        assertThat(store.getWriteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void schedule_save_writes_in_background_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_FILE = tempDir.resolve("background.json");
+        ConfigurationStore store = new ConfigurationStore(MOCKED_FILE, 10);
+
+        Configuration configuration = new Configuration();
+        configuration.setBackupOnExit(true);
+
+        // execute test ---
+        store.scheduleSave(configuration);
+
+        // verify assertions ---
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (store.getWriteCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(store.getWriteCount()).isEqualTo(1);
+        assertThat(Files.readString(MOCKED_FILE)).contains("\"backupOnExit\" : true");
+    }
+}
@@ -0,0 +1,109 @@
+package com.dazednconfused.catalauncher.database.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dazednconfused.catalauncher.database.mod.dao.ModDAO;
+import com.dazednconfused.catalauncher.database.mod.entity.ModEntity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncDAOTest {
+
+    @Test
+    void find_all_runs_on_database_executor_success() {
+
+        // prepare mock data ---
+        ModEntity MOCKED_ENTITY = ModEntity.builder().id(1L).name("mockedName").build();
+        AtomicReference<String> MOCKED_THREAD_NAME = new AtomicReference<>();
+
+        ModDAO MOCKED_DAO = mock(ModDAO.class);
+        when(MOCKED_DAO.findAll()).thenAnswer(invocation -> {
+            MOCKED_THREAD_NAME.set(Thread.currentThread().getName());
+            return List.of(MOCKED_ENTITY);
+        });
+
+        AsyncDAO<ModEntity> asyncDAO = new AsyncDAO<>(MOCKED_DAO);
+
+        // execute test ---
+        List<ModEntity> result = asyncDAO.findAll().join();
+
+        // verify assertions ---
+        assertThat(result).containsExactly(MOCKED_ENTITY);
+        assertThat(MOCKED_THREAD_NAME.get()).isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void find_by_id_delegates_success() {
+
+        // prepare mock data ---
+        ModEntity MOCKED_ENTITY = ModEntity.builder().id(1L).name("mockedName").build();
+
+        ModDAO MOCKED_DAO = mock(ModDAO.class);
+        when(MOCKED_DAO.findById(1L)).thenReturn(Optional.of(MOCKED_ENTITY));
+
+        AsyncDAO<ModEntity> asyncDAO = new AsyncDAO<>(MOCKED_DAO, Runnable::run);
+
+        // execute test ---
+        Optional<ModEntity> result = asyncDAO.findById(1L).join();
+
+        // verify assertions ---
+        assertThat(result).contains(MOCKED_ENTITY);
+        verify(MOCKED_DAO).findById(1L);
+    }
+
+    @Test
+    void concurrent_reads_overlap_success() throws Exception {
+
+        // prepare mock data ---
+        CountDownLatch MOCKED_LATCH = new CountDownLatch(2);
+
+        ModDAO MOCKED_DAO = mock(ModDAO.class);
+        when(MOCKED_DAO.countAll()).thenAnswer(invocation -> {
+            // each read only finishes once both of them are running at the same time -
+            MOCKED_LATCH.countDown();
+            return MOCKED_LATCH.await(5, TimeUnit.SECONDS) ? 1L : 0L;
+        });
+
+        AsyncDAO<ModEntity> asyncDAO = new AsyncDAO<>(MOCKED_DAO);
+
+        // execute test ---
+        CompletableFuture<Long> result1 = asyncDAO.countAll();
+        CompletableFuture<Long> result2 = asyncDAO.countAll();
+
+        // verify assertions ---
+        assertThat(result1.get(10, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(result2.get(10, TimeUnit.SECONDS)).isEqualTo(1L);
+    }
+
+    @Test
+    void dao_exception_completes_exceptionally_failure() {
+
+        // prepare mock data ---
+        DAOException MOCKED_EXCEPTION = new DAOException("mockedError");
+
+        ModDAO MOCKED_DAO = mock(ModDAO.class);
+        when(MOCKED_DAO.deleteAll(1L, 2L)).thenThrow(MOCKED_EXCEPTION);
+
+        AsyncDAO<ModEntity> asyncDAO = new AsyncDAO<>(MOCKED_DAO);
+
+        // execute test ---
+        CompletableFuture<Integer> result = asyncDAO.deleteAll(1L, 2L);
+
+        // verify assertions ---
+        assertThat(result).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(Exception.class)
+            .withCause(MOCKED_EXCEPTION);
+
+        assertThat(result.isCompletedExceptionally()).isTrue();
+    }
+}
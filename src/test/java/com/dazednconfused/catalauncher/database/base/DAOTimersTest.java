@@ -0,0 +1,31 @@
+package com.dazednconfused.catalauncher.database.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.helper.metrics.MetricsRegistry;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class DAOTimersTest {
+
+    @Test
+    void time_records_only_outermost_operation_success() {
+
+        // prepare mock data ---
+        String MOCKED_TABLE_NAME = "table_" + UUID.randomUUID();
+        DAOTimers instance = new DAOTimers();
+
+        // execute test ---
+        String result = instance.time(MOCKED_TABLE_NAME, "insert", () ->
+            instance.time(MOCKED_TABLE_NAME, "findById", () -> "result")
+        );
+        instance.time(MOCKED_TABLE_NAME, "findById", () -> "result");
+
+        // verify assertions ---
+        assertThat(result).isEqualTo("result");
+        assertThat(MetricsRegistry.getInstance().timer("dao." + MOCKED_TABLE_NAME + ".insert").getCount()).isEqualTo(1);
+        assertThat(MetricsRegistry.getInstance().timer("dao." + MOCKED_TABLE_NAME + ".findById").getCount()).isEqualTo(1);
+    }
+}
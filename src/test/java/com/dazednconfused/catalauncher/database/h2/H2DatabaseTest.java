@@ -548,6 +548,116 @@ class H2DatabaseTest {
         db.wipe(); // this was individually tested in another unit test
     }
 
+    @Test
+    void build_jdbc_url_embedded_success() {
+
+        // execute test ---
+        String result = H2Database.buildJdbcUrl("mockedDatabase", H2DatabaseMode.EMBEDDED, 1024, 250);
+
+        // verify assertions ---
+        assertThat(result)
+            .startsWith("jdbc:h2:" + Paths.getDatabaseDirectory() + "/mockedDatabase;")
+            .contains(";DB_CLOSE_DELAY=-1")
+            .contains(";CACHE_SIZE=1024")
+            .contains(";WRITE_DELAY=250")
+            .doesNotContain("AUTO_SERVER");
+    }
+
+    @Test
+    void build_jdbc_url_auto_server_success() {
+
+        // execute test ---
+        String result = H2Database.buildJdbcUrl("mockedDatabase", H2DatabaseMode.AUTO_SERVER, 1024, 250);
+
+        // verify assertions ---
+        assertThat(result)
+            .startsWith("jdbc:h2:" + Paths.getDatabaseDirectory() + "/mockedDatabase;")
+            .contains(";AUTO_SERVER=TRUE")
+            .contains(";CACHE_SIZE=1024")
+            .contains(";WRITE_DELAY=250")
+            .doesNotContain("DB_CLOSE_DELAY");
+    }
+
+    @Test
+    void build_jdbc_url_in_memory_success() {
+
+        // execute test ---
+        String result = H2Database.buildJdbcUrl("mockedDatabase", H2DatabaseMode.IN_MEMORY, 1024, 250);
+
+        // verify assertions ---
+        assertThat(result)
+            .startsWith("jdbc:h2:mem:mockedDatabase;")
+            .contains(";DB_CLOSE_DELAY=-1")
+            .doesNotContain(Paths.getDatabaseDirectory().toString())
+            .doesNotContain("AUTO_SERVER");
+    }
+
+    @Test
+    void reset_restarts_identities_success() {
+
+        // prepare mock data ---
+        TestDatabase db = new TestDatabase();
+        final String MOCKED_TABLE = "identityTestTable";
+
+        try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS " + MOCKED_TABLE + " (id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, test TEXT)");
+            stmt.execute("CREATE SEQUENCE IF NOT EXISTS identityTestSequence START WITH 1");
+            stmt.execute("INSERT INTO " + MOCKED_TABLE + " (test) VALUES ('first'), ('second'), ('third')");
+            stmt.execute("SELECT NEXT VALUE FOR identityTestSequence");
+            stmt.execute("SELECT NEXT VALUE FOR identityTestSequence");
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        // execute test ---
+        Result<Throwable, ?> result = db.reset();
+
+        // verify assertions ---
+        assertThat(result.toEither().isRight()).isTrue();
+
+        try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO " + MOCKED_TABLE + " (test) VALUES ('afterReset')");
+
+            try (ResultSet rs = stmt.executeQuery("SELECT id FROM " + MOCKED_TABLE)) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getInt(1)).isEqualTo(1);
+                assertThat(rs.next()).isFalse();
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT NEXT VALUE FOR identityTestSequence")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getLong(1)).isEqualTo(1L);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        // cleanup ---
+        db.wipe(); // this was individually tested in another unit test
+    }
+
+    @Test
+    void destroy_closes_open_database_success() {
+
+        // prepare mock data ---
+        TestDatabase db = new TestDatabase();
+
+        try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS testTable");
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        // execute test ---
+        Result<Throwable, ?> destroyResult = H2Database.destroy(db.getDatabaseName());
+
+        // verify assertions ---
+        assertThat(destroyResult.toEither().isRight()).isTrue();
+
+        // a freshly opened database must not carry over any state from the destroyed one -
+        assertThat(db.doesTableExist("testTable")).isFalse();
+    }
+
     /**
      * Mock database used to test basic functionality of the {@link H2Database} interface.
      * */
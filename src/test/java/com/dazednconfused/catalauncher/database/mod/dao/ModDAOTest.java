@@ -1,9 +1,11 @@
 package com.dazednconfused.catalauncher.database.mod.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.dazednconfused.catalauncher.database.base.DAOException;
 import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
 import com.dazednconfused.catalauncher.database.mod.entity.ModEntity;
 
@@ -294,4 +296,91 @@ public class ModDAOTest {
         // verify assertions ---
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void insert_all_success() {
+
+        // prepare mock data ---
+        ModEntity entity1 = ModEntity.builder().name("testName1").modinfo("testModinfo1").build();
+        ModEntity entity2 = ModEntity.builder().name("testName2").modinfo("testModinfo2").build();
+        ModEntity entity3 = ModEntity.builder().name("testName3").modinfo("testModinfo3").build();
+
+        // execute test ---
+        List<ModEntity> result = dao.insertAll(List.of(entity1, entity2, entity3));
+
+        // verify assertions ---
+        assertThat(result).hasSize(3);
+        assertThat(result).extracting(ModEntity::getName).containsExactly("testName1", "testName2", "testName3");
+        assertThat(result).allSatisfy(entity -> {
+            assertThat(entity.getId()).isNotZero();
+            assertThat(entity.getCreatedDate()).isNotNull();
+            assertThat(entity.getUpdatedDate()).isNotNull();
+        });
+
+        assertThat(dao.countAll()).isEqualTo(3);
+    }
+
+    @Test
+    void update_all_success() {
+
+        // prepare mock data ---
+        List<ModEntity> entities = dao.insertAll(List.of(
+            ModEntity.builder().name("testName1").modinfo("testModinfo1").build(),
+            ModEntity.builder().name("testName2").modinfo("testModinfo2").build()
+        ));
+
+        List<ModEntity> updatedEntities = List.of(
+            ModEntity.builder().id(entities.get(0).getId()).name("updatedName1").modinfo("updatedModinfo1").build(),
+            ModEntity.builder().id(entities.get(1).getId()).name("updatedName2").modinfo("updatedModinfo2").build()
+        );
+
+        // execute test ---
+        List<ModEntity> result = dao.updateAll(updatedEntities);
+
+        // verify assertions ---
+        assertThat(result).extracting(ModEntity::getName).containsExactly("updatedName1", "updatedName2");
+        assertThat(result).extracting(ModEntity::getModinfo).containsExactly("updatedModinfo1", "updatedModinfo2");
+        assertThat(result.get(0).getCreatedDate()).isEqualTo(entities.get(0).getCreatedDate());
+        assertThat(result.get(0).getUpdatedDate()).isAfter(entities.get(0).getUpdatedDate());
+    }
+
+    @Test
+    void update_all_rolls_back_when_any_entity_is_missing_failure() {
+
+        // prepare mock data ---
+        ModEntity entity = dao.insert(ModEntity.builder().name("testName1").modinfo("testModinfo1").build());
+
+        List<ModEntity> updatedEntities = List.of(
+            ModEntity.builder().id(entity.getId()).name("updatedName1").modinfo("updatedModinfo1").build(),
+            ModEntity.builder().id(23232L).name("updatedName2").modinfo("updatedModinfo2").build() // random ID that won't be found
+        );
+
+        // execute test ---
+        Throwable result = catchThrowable(() -> dao.updateAll(updatedEntities));
+
+        // verify assertions ---
+        assertThat(result).isInstanceOf(DAOException.class);
+        assertThat(dao.findById(entity.getId())).get().extracting(ModEntity::getName).isEqualTo("testName1");
+    }
+
+    @Test
+    void delete_all_success() {
+
+        // prepare mock data ---
+        List<ModEntity> entities = dao.insertAll(List.of(
+            ModEntity.builder().name("testName1").modinfo("testModinfo1").build(),
+            ModEntity.builder().name("testName2").modinfo("testModinfo2").build(),
+            ModEntity.builder().name("testName3").modinfo("testModinfo3").build()
+        ));
+
+        // execute test ---
+        int result = dao.deleteAll(
+            entities.get(0).getId(), entities.get(2).getId(),
+            23232L // random ID that won't be found
+        );
+
+        // verify assertions ---
+        assertThat(result).isEqualTo(2);
+        assertThat(dao.findAll()).containsExactly(entities.get(1));
+    }
+}
@@ -1,7 +1,9 @@
 package com.dazednconfused.catalauncher.database.mod.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
+import com.dazednconfused.catalauncher.database.base.DAOException;
 import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
 import com.dazednconfused.catalauncher.database.mod.dao.ModDAO;
 import com.dazednconfused.catalauncher.database.mod.dao.ModH2DAOImpl;
@@ -159,6 +161,34 @@ public class ModRepositoryTest {
         assertThat(result).usingRecursiveComparison().isEqualTo(inserted);
     }
 
+    @Test
+    void find_by_name_success() {
+
+        // prepare mock data ---
+        repository.insert(ModEntity.builder()
+            .name("testName1")
+            .modinfo("testModinfo1")
+            .modfiles(Collections.singletonList(ModfileEntity.builder().path("testPath1").hash("testHash1").build()))
+            .build());
+
+        ModEntity entity = repository.insert(ModEntity.builder()
+            .name("testName2")
+            .modinfo("testModinfo2")
+            .modfiles(Arrays.asList(
+                ModfileEntity.builder().path("testPath2").hash("testHash2").build(),
+                ModfileEntity.builder().path("testPath3").hash("testHash3").build()
+            ))
+            .build());
+
+        // execute test ---
+        Optional<ModEntity> result = repository.findByName("testName2");
+        Optional<ModEntity> missing = repository.findByName("nonExistentName");
+
+        // verify assertions ---
+        assertThat(result).get().usingRecursiveComparison().isEqualTo(entity);
+        assertThat(missing).isEmpty();
+    }
+
     @Test
     void find_by_ids_success() {
 
@@ -549,4 +579,81 @@ public class ModRepositoryTest {
         // verify assertions ---
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void insert_all_success() {
+
+        // prepare mock data ---
+        ModEntity entity1 = ModEntity.builder().name("testName1").modinfo("testModinfo1").build();
+        entity1.setModfiles(Arrays.asList(
+            ModfileEntity.builder().path("testPath1").hash("testHash1").build(),
+            ModfileEntity.builder().path("testPath2").hash("testHash2").build()
+        ));
+
+        ModEntity entity2 = ModEntity.builder().name("testName2").modinfo("testModinfo2").build();
+        entity2.setModfiles(Arrays.asList(
+            ModfileEntity.builder().path("testPath3").hash("testHash3").build()
+        ));
+
+        // execute test ---
+        List<ModEntity> result = repository.insertAll(Arrays.asList(entity1, entity2));
+
+        // verify assertions ---
+        assertThat(result).hasSize(2);
+
+        assertThat(result.get(0).getModfiles()).extracting(ModfileEntity::getPath).containsExactlyInAnyOrder("testPath1", "testPath2");
+        assertThat(result.get(0).getModfiles()).allSatisfy(mf -> assertThat(mf.getModId()).isEqualTo(result.get(0).getId()));
+
+        assertThat(result.get(1).getModfiles()).extracting(ModfileEntity::getPath).containsExactly("testPath3");
+        assertThat(result.get(1).getModfiles()).allSatisfy(mf -> assertThat(mf.getModId()).isEqualTo(result.get(1).getId()));
+
+        assertThat(repository.findAll()).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(result);
+    }
+
+    @Test
+    void delete_all_success() {
+
+        // prepare mock data ---
+        ModEntity entity1 = ModEntity.builder().name("testName1").modinfo("testModinfo1").build();
+        entity1.setModfiles(Arrays.asList(ModfileEntity.builder().path("testPath1").hash("testHash1").build()));
+
+        ModEntity entity2 = ModEntity.builder().name("testName2").modinfo("testModinfo2").build();
+        entity2.setModfiles(Arrays.asList(ModfileEntity.builder().path("testPath2").hash("testHash2").build()));
+
+        List<ModEntity> inserted = repository.insertAll(Arrays.asList(entity1, entity2));
+
+        // execute test ---
+        int result = repository.deleteAll(inserted.get(0).getId(), inserted.get(1).getId());
+
+        // verify assertions ---
+        assertThat(result).isEqualTo(2);
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    void update_all_failure_rolls_back_every_change() {
+
+        // prepare mock data ---
+        ModEntity entity1 = ModEntity.builder().name("testName1").modinfo("testModinfo1").build();
+        entity1.setModfiles(Arrays.asList(ModfileEntity.builder().path("testPath1").hash("testHash1").build()));
+
+        ModEntity entity2 = ModEntity.builder().name("testName2").modinfo("testModinfo2").build();
+        entity2.setModfiles(Arrays.asList(ModfileEntity.builder().path("testPath2").hash("testHash2").build()));
+
+        List<ModEntity> inserted = repository.insertAll(Arrays.asList(entity1, entity2));
+
+        ModEntity updatedEntity1 = ModEntity.builder().id(inserted.get(0).getId()).name("updatedName1").modinfo("updatedModinfo1").build();
+        updatedEntity1.setModfiles(Arrays.asList(ModfileEntity.builder().path("updatedPath1").hash("updatedHash1").build()));
+
+        ModEntity updatedEntity2 = ModEntity.builder().id(inserted.get(1).getId()).name("updatedName2").modinfo("updatedModinfo2").build();
+        updatedEntity2.setModfiles(Arrays.asList(ModfileEntity.builder().path(null).hash("updatedHash2").build())); // violates NOT NULL
+
+        // execute test ---
+        Throwable result = catchThrowable(() -> repository.updateAll(Arrays.asList(updatedEntity1, updatedEntity2)));
+
+        // verify assertions ---
+        assertThat(result).isInstanceOf(DAOException.class);
+
+        assertThat(repository.findAll()).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(inserted);
+    }
+}
@@ -0,0 +1,137 @@
+package com.dazednconfused.catalauncher.database.session.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionEntity;
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionSampleEntity;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class GameSessionDAOTest {
+
+    private static final UUID uuid = UUID.randomUUID();
+
+    private static GameSessionDAO dao;
+    private static GameSessionSampleDAO sampleDAO;
+
+    @BeforeAll
+    public static void setup() {
+        dao = new GameSessionH2DAOImpl(true) {
+            @Override
+            public String getDatabaseName() {
+                return super.getDatabaseName() + "_" + uuid;
+            }
+        };
+        sampleDAO = new GameSessionSampleH2DAOImpl() {
+            @Override
+            public String getDatabaseName() {
+                return super.getDatabaseName() + "_" + uuid;
+            }
+        };
+    }
+
+    @AfterEach
+    public void teardown() {
+        ((DisposableDatabase) dao).reset();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        ((DisposableDatabase) dao).destroy();
+    }
+
+    @Test
+    void insert_ongoing_session_success() {
+
+        // prepare mock data ---
+        Timestamp MOCKED_STARTED_DATE = Timestamp.valueOf("2026-10-19 10:00:00");
+
+        GameSessionEntity MOCKED_ENTITY = GameSessionEntity.builder()
+            .pid(1234L)
+            .startedDate(MOCKED_STARTED_DATE)
+            .installedMods("mod1\nmod2")
+            .build();
+
+        // execute test ---
+        GameSessionEntity result = dao.insert(MOCKED_ENTITY);
+
+        // verify assertions ---
+        assertThat(result.getId()).isNotNull();
+        assertThat(result.getPid()).isEqualTo(1234L);
+        assertThat(result.getStartedDate()).isEqualTo(MOCKED_STARTED_DATE);
+        assertThat(result.getEndedDate()).isNull();
+        assertThat(result.getExitCode()).isNull();
+        assertThat(result.getInstalledMods()).isEqualTo("mod1\nmod2");
+        assertThat(result.getCreatedDate()).isNotNull();
+    }
+
+    @Test
+    void update_ended_session_success() {
+
+        // prepare mock data ---
+        Timestamp MOCKED_ENDED_DATE = Timestamp.valueOf("2026-10-19 11:30:00");
+
+        GameSessionEntity MOCKED_ENTITY = dao.insert(GameSessionEntity.builder()
+            .pid(1234L)
+            .startedDate(Timestamp.valueOf("2026-10-19 10:00:00"))
+            .installedMods("")
+            .build()
+        );
+
+        MOCKED_ENTITY.setEndedDate(MOCKED_ENDED_DATE);
+        MOCKED_ENTITY.setExitCode(0);
+
+        // execute test ---
+        dao.update(MOCKED_ENTITY);
+        Optional<GameSessionEntity> result = dao.findById(MOCKED_ENTITY.getId());
+
+        // verify assertions ---
+        assertThat(result).isPresent();
+        assertThat(result.get().getEndedDate()).isEqualTo(MOCKED_ENDED_DATE);
+        assertThat(result.get().getExitCode()).isZero();
+    }
+
+    @Test
+    void find_all_samples_by_session_id_success() {
+
+        // prepare mock data ---
+        long MOCKED_SESSION_ID = dao.insert(GameSessionEntity.builder().pid(1L).startedDate(Timestamp.valueOf("2026-10-19 10:00:00")).installedMods("").build()).getId();
+        long MOCKED_OTHER_SESSION_ID = dao.insert(GameSessionEntity.builder().pid(2L).startedDate(Timestamp.valueOf("2026-10-19 12:00:00")).installedMods("").build()).getId();
+
+        sampleDAO.insertAll(List.of(
+            buildSample(MOCKED_SESSION_ID, "2026-10-19 10:00:10", 200L),
+            buildSample(MOCKED_OTHER_SESSION_ID, "2026-10-19 12:00:05", 999L),
+            buildSample(MOCKED_SESSION_ID, "2026-10-19 10:00:05", 100L)
+        ));
+
+        // execute test ---
+        List<GameSessionSampleEntity> result = sampleDAO.findAllBySessionId(MOCKED_SESSION_ID);
+
+        // verify assertions ---
+        assertThat(result).extracting(GameSessionSampleEntity::getCpuMillis).containsExactly(100L, 200L); // oldest first
+        assertThat(result).allSatisfy(sample -> {
+            assertThat(sample.getSessionId()).isEqualTo(MOCKED_SESSION_ID);
+            assertThat(sample.getRssBytes()).isEqualTo(4096L);
+            assertThat(sample.getProcessCount()).isEqualTo(2);
+        });
+    }
+
+    private static GameSessionSampleEntity buildSample(long sessionId, String sampledDate, long cpuMillis) {
+        return GameSessionSampleEntity.builder()
+            .sessionId(sessionId)
+            .sampledDate(Timestamp.valueOf(sampledDate))
+            .cpuMillis(cpuMillis)
+            .rssBytes(4096L)
+            .processCount(2)
+            .build();
+    }
+}
@@ -0,0 +1,209 @@
+package com.dazednconfused.catalauncher.database.soundpack.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackDAO;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackH2DAOImpl;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackfileDAO;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackfileH2DAOImpl;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackEntity;
+import com.dazednconfused.catalauncher.database.soundpack.entity.SoundpackfileEntity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class SoundpackRepositoryTest {
+
+    private static final UUID uuid = UUID.randomUUID();
+
+    private static SoundpackRepository repository;
+
+    @BeforeAll
+    public static void setup() {
+        SoundpackDAO soundpackDAO = new SoundpackH2DAOImpl() {
+            @Override
+            public String getDatabaseName() {
+                return super.getDatabaseName() + "_" + uuid;
+            }
+        };
+
+        SoundpackfileDAO soundpackfileDAO = new SoundpackfileH2DAOImpl() {
+            @Override
+            public String getDatabaseName() {
+                return super.getDatabaseName() + "_" + uuid;
+            }
+        };
+
+        repository = new SoundpackH2RepositoryImpl(soundpackDAO, soundpackfileDAO) {
+            @Override
+            public String getDatabaseName() {
+                return super.getDatabaseName() + "_" + uuid;
+            }
+        };
+    }
+
+    @AfterEach
+    public void teardown() {
+        ((DisposableDatabase) repository).reset();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        ((DisposableDatabase) repository).destroy();
+    }
+
+    @Test
+    void insert_success() {
+
+        // prepare mock data ---
+        SoundpackEntity entity = SoundpackEntity.builder()
+            .name("testName1")
+            .soundpackfiles(Arrays.asList(
+                SoundpackfileEntity.builder().path("testPath1").hash("testHash1").size(1L).build(),
+                SoundpackfileEntity.builder().path("testPath2").hash("testHash2").size(2L).build()
+            ))
+            .build();
+
+        // execute test ---
+        SoundpackEntity result = repository.insert(entity);
+
+        // verify assertions ---
+        assertThat(result).isNotNull();
+
+        assertThat(result.getId()).isNotZero();
+        assertThat(result.getName()).isEqualTo("testName1");
+        assertThat(result.getCreatedDate()).isNotNull();
+        assertThat(result.getUpdatedDate()).isNotNull();
+
+        assertThat(result.getSoundpackfiles()).hasSize(2);
+
+        SoundpackfileEntity resultChildEntity2 = result.getSoundpackfiles().stream().filter(f -> f.getPath().endsWith("2")).findFirst().orElseThrow();
+        assertThat(resultChildEntity2.getSoundpackId()).isEqualTo(result.getId());
+        assertThat(resultChildEntity2.getHash()).isEqualTo("testHash2");
+        assertThat(resultChildEntity2.getSize()).isEqualTo(2L);
+    }
+
+    @Test
+    void update_replaces_child_entities_success() {
+
+        // prepare mock data ---
+        SoundpackEntity entity = repository.insert(SoundpackEntity.builder()
+            .name("testName1")
+            .soundpackfiles(Arrays.asList(
+                SoundpackfileEntity.builder().path("testPath1").hash("testHash1").size(1L).build(),
+                SoundpackfileEntity.builder().path("testPath2").hash("testHash2").size(2L).build()
+            ))
+            .build());
+
+        entity.setSoundpackfiles(Collections.singletonList(
+            SoundpackfileEntity.builder().path("testPath3").hash("testHash3").size(3L).build()
+        ));
+
+        // execute test ---
+        repository.update(entity);
+
+        // verify assertions ---
+        Optional<SoundpackEntity> result = repository.findById(entity.getId());
+        assertThat(result).isPresent();
+        assertThat(result.get().getSoundpackfiles()).hasSize(1);
+        assertThat(result.get().getSoundpackfiles().get(0).getPath()).isEqualTo("testPath3");
+    }
+
+    @Test
+    void update_failure_rolls_back_every_change() {
+
+        // prepare mock data ---
+        SoundpackEntity entity = repository.insert(SoundpackEntity.builder()
+            .name("testName1")
+            .soundpackfiles(Arrays.asList(
+                SoundpackfileEntity.builder().path("testPath1").hash("testHash1").size(1L).build()
+            ))
+            .build());
+
+        SoundpackEntity updatedEntity = SoundpackEntity.builder()
+            .id(entity.getId())
+            .name("updatedName1")
+            .soundpackfiles(Collections.singletonList(
+                SoundpackfileEntity.builder().path(null).hash("updatedHash1").size(1L).build() // violates NOT NULL
+            ))
+            .build();
+
+        // execute test ---
+        Throwable result = catchThrowable(() -> repository.update(updatedEntity));
+
+        // verify assertions ---
+        assertThat(result).isInstanceOf(DAOException.class);
+
+        assertThat(repository.findById(entity.getId())).get().usingRecursiveComparison().isEqualTo(entity);
+    }
+
+    @Test
+    void find_by_name_success() {
+
+        // prepare mock data ---
+        repository.insert(SoundpackEntity.builder()
+            .name("testName1")
+            .soundpackfiles(Collections.singletonList(SoundpackfileEntity.builder().path("testPath1").hash("testHash1").size(1L).build()))
+            .build());
+
+        SoundpackEntity entity = repository.insert(SoundpackEntity.builder()
+            .name("testName2")
+            .soundpackfiles(Collections.singletonList(SoundpackfileEntity.builder().path("testPath2").hash("testHash2").size(2L).build()))
+            .build());
+
+        // execute test ---
+        Optional<SoundpackEntity> result = repository.findByName("testName2");
+        Optional<SoundpackEntity> missing = repository.findByName("nonExistentName");
+
+        // verify assertions ---
+        assertThat(result).get().usingRecursiveComparison().isEqualTo(entity);
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void find_all_referenced_hashes_success() {
+
+        // prepare mock data ---
+        repository.insert(SoundpackEntity.builder()
+            .name("testName1")
+            .soundpackfiles(Arrays.asList(
+                SoundpackfileEntity.builder().path("testPath1").hash("testHash1").size(1L).build(),
+                SoundpackfileEntity.builder().path("testPath2").hash("testHash2").size(2L).build()
+            ))
+            .build());
+
+        SoundpackEntity toBeDeleted = repository.insert(SoundpackEntity.builder()
+            .name("testName2")
+            .soundpackfiles(Arrays.asList(
+                SoundpackfileEntity.builder().path("testPath1").hash("testHash1").size(1L).build(),
+                SoundpackfileEntity.builder().path("testPath3").hash("testHash3").size(3L).build()
+            ))
+            .build());
+
+        // pre-test assertions ---
+        assertThat(repository.findAllReferencedHashes()).containsExactlyInAnyOrder("testHash1", "testHash2", "testHash3");
+
+        // execute test ---
+        repository.delete(toBeDeleted);
+        Set<String> result = repository.findAllReferencedHashes();
+
+        // verify assertions ---
+        assertThat(result).containsExactlyInAnyOrder("testHash1", "testHash2");
+
+        List<SoundpackEntity> remaining = repository.findAll();
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getName()).isEqualTo("testName1");
+    }
+}
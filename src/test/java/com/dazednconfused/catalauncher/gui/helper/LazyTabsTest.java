@@ -0,0 +1,103 @@
+package com.dazednconfused.catalauncher.gui.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+class LazyTabsTest {
+
+    @Test
+    void register_sets_tabs_up_on_first_selection_only_success() throws Exception {
+
+        // prepare mock data ---
+        List<String> MOCKED_SETUPS = new CopyOnWriteArrayList<>();
+        List<String> MOCKED_DATA_LOADS = new CopyOnWriteArrayList<>();
+        AtomicReference<LazyTabs> instance = new AtomicReference<>();
+        AtomicReference<JTabbedPane> tabbedPane = new AtomicReference<>();
+        JLabel MOCKED_SECOND_CONTENT = new JLabel("second");
+
+        SwingUtilities.invokeAndWait(() -> {
+            tabbedPane.set(buildTabbedPane(MOCKED_SECOND_CONTENT));
+            instance.set(new LazyTabs(tabbedPane.get(), Runnable::run));
+            instance.get().register(MOCKED_SECOND_CONTENT, () -> {
+                MOCKED_SETUPS.add("second");
+                return () -> MOCKED_DATA_LOADS.add("second");
+            });
+        });
+
+        // pre-test assertions ---
+        assertThat(MOCKED_SETUPS).isEmpty();
+
+        // execute test ---
+        SwingUtilities.invokeAndWait(() -> {
+            tabbedPane.get().setSelectedIndex(1);
+            tabbedPane.get().setSelectedIndex(0);
+            tabbedPane.get().setSelectedIndex(1); // selecting it again must not set it up again
+        });
+
+        // verify assertions ---
+        assertThat(MOCKED_SETUPS).containsExactly("second");
+        assertThat(MOCKED_DATA_LOADS).containsExactly("second");
+        assertThat(instance.get().isInitialized(MOCKED_SECOND_CONTENT)).isTrue();
+    }
+
+    @Test
+    void prefetch_sets_every_pending_tab_up_success() throws Exception {
+
+        // prepare mock data ---
+        List<String> MOCKED_SETUPS = new CopyOnWriteArrayList<>();
+        AtomicReference<LazyTabs> instance = new AtomicReference<>();
+        JLabel MOCKED_SECOND_CONTENT = new JLabel("second");
+
+        SwingUtilities.invokeAndWait(() -> {
+            instance.set(new LazyTabs(buildTabbedPane(MOCKED_SECOND_CONTENT), Runnable::run));
+            instance.get().register(MOCKED_SECOND_CONTENT, () -> {
+                MOCKED_SETUPS.add("second");
+                return () -> { };
+            });
+        });
+
+        // execute test ---
+        SwingUtilities.invokeAndWait(() -> instance.get().prefetch());
+        SwingUtilities.invokeAndWait(() -> { }); // let the prefetch run
+
+        // verify assertions ---
+        assertThat(MOCKED_SETUPS).containsExactly("second");
+        assertThat(instance.get().isInitialized(MOCKED_SECOND_CONTENT)).isTrue();
+    }
+
+    @Test
+    void register_rejects_content_outside_any_tab_success() throws Exception {
+
+        // prepare mock data ---
+        AtomicReference<LazyTabs> instance = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> instance.set(new LazyTabs(buildTabbedPane(new JLabel("second")), Runnable::run)));
+
+        // execute test & verify assertions ---
+        assertThatThrownBy(() -> instance.get().register(new JLabel("orphan"), () -> () -> { })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Builds a two-tab {@link JTabbedPane}, whose second tab holds the given {@code secondContent}.
+     * */
+    private static JTabbedPane buildTabbedPane(JLabel secondContent) {
+        JTabbedPane tabbedPane = new JTabbedPane();
+        tabbedPane.addTab("First", new JPanel());
+
+        JPanel second = new JPanel();
+        second.add(secondContent);
+        tabbedPane.addTab("Second", second);
+
+        return tabbedPane;
+    }
+}
@@ -0,0 +1,80 @@
+package com.dazednconfused.catalauncher.gui.helper;
+
+import static com.dazednconfused.catalauncher.helper.Paths.RESOURCE_ICONS_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SvgIconCacheTest {
+
+    private static final String ICON = RESOURCE_ICONS_PATH + "/" + "errorDialog.svg";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void get_image_renders_once_per_size_success() {
+
+        // prepare mock data ---
+        SvgIconCache instance = new SvgIconCache(SvgIconCacheTest.class.getClassLoader(), null);
+
+        // execute test ---
+        BufferedImage result = instance.getImage(ICON, 50);
+        BufferedImage cachedResult = instance.getImage(ICON, 50);
+        BufferedImage biggerResult = instance.getImage(ICON, 100);
+
+        // verify assertions ---
+        assertThat(result.getWidth()).isEqualTo(50);
+        assertThat(result.getHeight()).isEqualTo(50);
+        assertThat(cachedResult).isSameAs(result);
+        assertThat(biggerResult.getWidth()).isEqualTo(100);
+        assertThat(instance.getIcon(ICON, 50).getIconWidth()).isEqualTo(50);
+    }
+
+    @Test
+    void get_image_reads_disk_cache_left_by_previous_session_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_CACHE_DIRECTORY = tempDir.resolve("1.0.0");
+        Path MOCKED_OTHER_VERSION = Files.createDirectories(tempDir.resolve("0.9.0"));
+        new SvgIconCache(SvgIconCacheTest.class.getClassLoader(), MOCKED_CACHE_DIRECTORY).getImage(ICON, 50);
+
+        ClassLoader MOCKED_EMPTY_CLASSLOADER = new ClassLoader(null) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                return null; // nothing to render from
+            }
+        };
+
+        // execute test ---
+        BufferedImage result = new SvgIconCache(MOCKED_EMPTY_CLASSLOADER, MOCKED_CACHE_DIRECTORY).getImage(ICON, 50);
+
+        // verify assertions ---
+        assertThat(result.getWidth()).isEqualTo(50);
+        assertThat(MOCKED_OTHER_VERSION).doesNotExist();
+        assertThatThrownBy(() -> new SvgIconCache(MOCKED_EMPTY_CLASSLOADER, MOCKED_CACHE_DIRECTORY).getImage(ICON, 60))
+            .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void build_key_of_tells_builds_of_the_same_version_apart_success() {
+
+        // execute test ---
+        String result = SvgIconCache.buildKeyOf("1.0.0-SNAPSHOT", "0123abcd");
+        String otherCommitResult = SvgIconCache.buildKeyOf("1.0.0-SNAPSHOT", "4567ef01");
+
+        // verify assertions ---
+        assertThat(result).isEqualTo("1.0.0-SNAPSHOT-0123abcd");
+        assertThat(otherCommitResult).isNotEqualTo(result);
+        assertThat(SvgIconCache.buildKeyOf("1.0.0", "")).isEqualTo("1.0.0");
+        assertThat(SvgIconCache.buildKeyOf("", "0123abcd")).isNull();
+    }
+}
@@ -0,0 +1,148 @@
+package com.dazednconfused.catalauncher.gui.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.helper.log.LogLine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+class LogLineListModelTest {
+
+    @Test
+    void append_evicts_oldest_lines_past_capacity_success() throws Exception {
+
+        // prepare mock data ---
+        LogLineListModel model = new LogLineListModel(3);
+        model.append(List.of(line("1", Level.INFO), line("2", Level.INFO)));
+        waitForEventDispatchThread();
+
+        List<ListDataEvent> MOCKED_EVENTS = recordEventsOf(model);
+
+        // execute test ---
+        model.append(List.of(line("3", Level.INFO), line("4", Level.INFO), line("5", Level.INFO)));
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(model.getSize()).isEqualTo(3);
+        assertThat(model.getElementAt(0).getText()).isEqualTo("3");
+        assertThat(model.getElementAt(2).getText()).isEqualTo("5");
+
+        assertThat(MOCKED_EVENTS).hasSize(2);
+        assertThat(MOCKED_EVENTS.get(0).getType()).isEqualTo(ListDataEvent.INTERVAL_REMOVED);
+        assertThat(MOCKED_EVENTS.get(0).getIndex0()).isZero();
+        assertThat(MOCKED_EVENTS.get(0).getIndex1()).isEqualTo(1);
+        assertThat(MOCKED_EVENTS.get(1).getType()).isEqualTo(ListDataEvent.INTERVAL_ADDED);
+        assertThat(MOCKED_EVENTS.get(1).getIndex0()).isZero();
+        assertThat(MOCKED_EVENTS.get(1).getIndex1()).isEqualTo(2);
+    }
+
+    @Test
+    void set_filter_shows_only_matching_lines_success() throws Exception {
+
+        // prepare mock data ---
+        LogLineListModel model = new LogLineListModel(10);
+        model.append(List.of(
+            line("starting launcher", Level.INFO),
+            line("reading mods", Level.TRACE),
+            line("mod install failed", Level.ERROR),
+            line("soundpack install failed", Level.WARN)
+        ));
+
+        // execute test ---
+        model.setFilter(Level.WARN, "MOD");
+        waitForEventDispatchThread();
+
+        List<String> filteredResult = textsOf(model);
+
+        model.append(List.of(line("mod uninstall failed", Level.ERROR), line("mod uninstalled", Level.INFO)));
+        waitForEventDispatchThread();
+
+        List<String> appendedResult = textsOf(model);
+
+        model.setFilter(Level.TRACE, "");
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(filteredResult).containsExactly("mod install failed");
+        assertThat(appendedResult).containsExactly("mod install failed", "mod uninstall failed");
+        assertThat(model.getSize()).isEqualTo(6);
+    }
+
+    @Test
+    void append_evicts_filtered_lines_along_with_their_source_success() throws Exception {
+
+        // prepare mock data ---
+        LogLineListModel model = new LogLineListModel(2);
+        model.setFilter(Level.ERROR, "");
+        model.append(List.of(line("error", Level.ERROR), line("info", Level.INFO)));
+
+        // execute test ---
+        model.append(List.of(line("another info", Level.INFO)));
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(model.getSize()).isZero();
+    }
+
+    @Test
+    void parse_inherits_previous_level_when_missing_success() {
+
+        // execute test ---
+        LogLine result = LogLine.parse("2024-01-01 00:00:00,000 +0000 [main] [WARN ] (Foo.java:1) - careful", Level.INFO);
+        LogLine stacktraceResult = LogLine.parse("\tat com.dazednconfused.Foo.bar(Foo.java:1)", result.getLevel());
+        LogLine fatalResult = LogLine.parse("[FATAL] (Foo.java:1) - boom", Level.INFO);
+
+        // verify assertions ---
+        assertThat(result.getLevel()).isEqualTo(Level.WARN);
+        assertThat(stacktraceResult.getLevel()).isEqualTo(Level.WARN);
+        assertThat(fatalResult.getLevel()).isEqualTo(Level.ERROR);
+    }
+
+    private static LogLine line(String text, Level level) {
+        return new LogLine(text, level);
+    }
+
+    private static List<String> textsOf(LogLineListModel model) {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < model.getSize(); i++) {
+            texts.add(model.getElementAt(i).getText());
+        }
+        return texts;
+    }
+
+    private static List<ListDataEvent> recordEventsOf(LogLineListModel model) {
+        List<ListDataEvent> events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add(e);
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add(e);
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add(e);
+            }
+        });
+        return events;
+    }
+
+    /**
+     * Blocks until every mutation scheduled so far on the Event Dispatch Thread has been applied.
+     * */
+    private static void waitForEventDispatchThread() throws Exception {
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+}
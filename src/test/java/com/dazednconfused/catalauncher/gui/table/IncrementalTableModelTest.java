@@ -0,0 +1,158 @@
+package com.dazednconfused.catalauncher.gui.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+
+import org.junit.jupiter.api.Test;
+
+class IncrementalTableModelTest {
+
+    private static final String[] COLUMNS = new String[]{"Name", "Order"};
+    private static final Comparator<Object[]> BY_ORDER = Comparator.comparing((Object[] row) -> (Integer) row[1]);
+
+    @Test
+    void upsert_inserts_rows_in_order_success() throws Exception {
+
+        // prepare mock data ---
+        IncrementalTableModel<String> model = new IncrementalTableModel<>(COLUMNS, BY_ORDER);
+
+        // execute test ---
+        model.upsert("c", new Object[]{"c", 3});
+        model.upsert("a", new Object[]{"a", 1});
+        model.upsert("b", new Object[]{"b", 2});
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(model.getRowCount()).isEqualTo(3);
+        assertThat(model.getValueAt(0, 0)).isEqualTo("a");
+        assertThat(model.getValueAt(1, 0)).isEqualTo("b");
+        assertThat(model.getValueAt(2, 0)).isEqualTo("c");
+        assertThat(model.getKeyAt(2)).isEqualTo("c");
+        assertThat(model.getColumnName(1)).isEqualTo("Order");
+        assertThat(model.isCellEditable(0, 0)).isFalse();
+    }
+
+    @Test
+    void upsert_updates_existing_row_in_place_success() throws Exception {
+
+        // prepare mock data ---
+        IncrementalTableModel<String> model = new IncrementalTableModel<>(COLUMNS, BY_ORDER);
+        model.upsert("a", new Object[]{"a", 1});
+        model.upsert("b", new Object[]{"b", 2});
+        waitForEventDispatchThread();
+
+        List<TableModelEvent> MOCKED_EVENTS = recordEventsOf(model);
+
+        // execute test ---
+        model.upsert("b", new Object[]{"renamed", 2});
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(model.getRowCount()).isEqualTo(2);
+        assertThat(model.getValueAt(1, 0)).isEqualTo("renamed");
+
+        assertThat(MOCKED_EVENTS).hasSize(1);
+        assertThat(MOCKED_EVENTS.get(0).getType()).isEqualTo(TableModelEvent.UPDATE);
+        assertThat(MOCKED_EVENTS.get(0).getFirstRow()).isEqualTo(1);
+    }
+
+    @Test
+    void upsert_moves_reordered_row_success() throws Exception {
+
+        // prepare mock data ---
+        IncrementalTableModel<String> model = new IncrementalTableModel<>(COLUMNS, BY_ORDER);
+        model.upsert("a", new Object[]{"a", 1});
+        model.upsert("b", new Object[]{"b", 2});
+        model.upsert("c", new Object[]{"c", 3});
+        waitForEventDispatchThread();
+
+        // execute test ---
+        model.upsert("a", new Object[]{"a", 4});
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(model.getKeyAt(0)).isEqualTo("b");
+        assertThat(model.getKeyAt(1)).isEqualTo("c");
+        assertThat(model.getKeyAt(2)).isEqualTo("a");
+    }
+
+    @Test
+    void apply_snapshot_only_fires_changed_rows_success() throws Exception {
+
+        // prepare mock data ---
+        IncrementalTableModel<String> model = new IncrementalTableModel<>(COLUMNS, BY_ORDER);
+        model.upsert("a", new Object[]{"a", 1});
+        model.upsert("b", new Object[]{"b", 2});
+        model.upsert("c", new Object[]{"c", 3});
+        waitForEventDispatchThread();
+
+        List<TableModelEvent> MOCKED_EVENTS = recordEventsOf(model);
+
+        Map<String, Object[]> MOCKED_SNAPSHOT = new LinkedHashMap<>();
+        MOCKED_SNAPSHOT.put("a", new Object[]{"a", 1}); // unchanged
+        MOCKED_SNAPSHOT.put("c", new Object[]{"c", 3}); // unchanged
+        MOCKED_SNAPSHOT.put("d", new Object[]{"d", 4}); // added
+        // "b" removed
+
+        // execute test ---
+        model.applySnapshot(MOCKED_SNAPSHOT);
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(model.getRowCount()).isEqualTo(3);
+        assertThat(model.getKeyAt(0)).isEqualTo("a");
+        assertThat(model.getKeyAt(1)).isEqualTo("c");
+        assertThat(model.getKeyAt(2)).isEqualTo("d");
+
+        assertThat(MOCKED_EVENTS).hasSize(2);
+        assertThat(MOCKED_EVENTS.get(0).getType()).isEqualTo(TableModelEvent.DELETE);
+        assertThat(MOCKED_EVENTS.get(0).getFirstRow()).isEqualTo(1);
+        assertThat(MOCKED_EVENTS.get(1).getType()).isEqualTo(TableModelEvent.INSERT);
+        assertThat(MOCKED_EVENTS.get(1).getFirstRow()).isEqualTo(2);
+    }
+
+    @Test
+    void remove_unknown_key_fires_nothing_success() throws Exception {
+
+        // prepare mock data ---
+        IncrementalTableModel<String> model = new IncrementalTableModel<>(COLUMNS, BY_ORDER);
+        model.upsert("a", new Object[]{"a", 1});
+        waitForEventDispatchThread();
+
+        List<TableModelEvent> MOCKED_EVENTS = recordEventsOf(model);
+
+        // execute test ---
+        model.remove("z");
+        model.remove("a");
+        waitForEventDispatchThread();
+
+        // verify assertions ---
+        assertThat(model.getRowCount()).isZero();
+        assertThat(MOCKED_EVENTS).hasSize(1);
+        assertThat(MOCKED_EVENTS.get(0).getType()).isEqualTo(TableModelEvent.DELETE);
+    }
+
+    /**
+     * Records every {@link TableModelEvent} fired by the given {@code model} from now on.
+     * */
+    private static List<TableModelEvent> recordEventsOf(IncrementalTableModel<?> model) {
+        List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+        return events;
+    }
+
+    /**
+     * Blocks until every mutation scheduled so far on the Event Dispatch Thread has been applied.
+     * */
+    private static void waitForEventDispatchThread() throws Exception {
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+}
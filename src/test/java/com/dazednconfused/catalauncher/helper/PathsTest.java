@@ -190,6 +190,22 @@ class PathsTest {
         }
     }
 
+    @Test
+    void get_custom_reaping_path_success() {
+        try (MockedStatic<Application> mockedSystem = mockStatic(Application.class)) {
+
+            // prepare mock data ---
+            mockedSystem.when(Application::getRootFolder).thenReturn(MOCKED_APPLICATION_ROOT);
+
+            // execute test ---
+            Path result = Paths.getCustomReapingPath();
+
+            // verify assertions ---
+            assertThat(result).isEqualTo(Paths.getCustomTrashedPath().resolve(".reaping"));
+            assertThat(result.toString()).isEqualTo(MOCKED_APPLICATION_ROOT + "/trashed/.reaping");
+        }
+    }
+
     @Test
     void get_database_directory_success() {
         try (MockedStatic<Application> mockedSystem = mockStatic(Application.class)) {
@@ -205,4 +221,68 @@ class PathsTest {
             assertThat(result.toString()).isEqualTo(MOCKED_APPLICATION_ROOT + "/.macatalauncher/db");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void get_soundpack_store_directory_success() {
+        try (MockedStatic<Application> mockedSystem = mockStatic(Application.class)) {
+
+            // prepare mock data ---
+            mockedSystem.when(Application::getRootFolder).thenReturn(MOCKED_APPLICATION_ROOT);
+
+            // execute test ---
+            Path result = Paths.getSoundpackStoreDirectory();
+
+            // verify assertions ---
+            assertThat(result).isEqualTo(Paths.getLauncherFiles().resolve("store/sound"));
+            assertThat(result.toString()).isEqualTo(MOCKED_APPLICATION_ROOT + "/.macatalauncher/store/sound");
+        }
+    }
+
+    @Test
+    void get_latest_release_cache_path_success() {
+        try (MockedStatic<Application> mockedSystem = mockStatic(Application.class)) {
+
+            // prepare mock data ---
+            mockedSystem.when(Application::getRootFolder).thenReturn(MOCKED_APPLICATION_ROOT);
+
+            // execute test ---
+            Path result = Paths.getLatestReleaseCachePath();
+
+            // verify assertions ---
+            assertThat(result).isEqualTo(Paths.getLauncherFiles().resolve("cache/latest-release.json"));
+            assertThat(result.toString()).isEqualTo(MOCKED_APPLICATION_ROOT + "/.macatalauncher/cache/latest-release.json");
+        }
+    }
+
+    @Test
+    void get_icon_cache_directory_success() {
+        try (MockedStatic<Application> mockedSystem = mockStatic(Application.class)) {
+
+            // prepare mock data ---
+            mockedSystem.when(Application::getRootFolder).thenReturn(MOCKED_APPLICATION_ROOT);
+
+            // execute test ---
+            Path result = Paths.getIconCacheDirectory();
+
+            // verify assertions ---
+            assertThat(result).isEqualTo(Paths.getLauncherFiles().resolve("cache/icons"));
+            assertThat(result.toString()).isEqualTo(MOCKED_APPLICATION_ROOT + "/.macatalauncher/cache/icons");
+        }
+    }
+
+    @Test
+    void get_diagnostics_directory_success() {
+        try (MockedStatic<Application> mockedSystem = mockStatic(Application.class)) {
+
+            // prepare mock data ---
+            mockedSystem.when(Application::getRootFolder).thenReturn(MOCKED_APPLICATION_ROOT);
+
+            // execute test ---
+            Path result = Paths.getDiagnosticsDirectory();
+
+            // verify assertions ---
+            assertThat(result).isEqualTo(Paths.getLauncherFiles().resolve("diagnostics"));
+            assertThat(result.toString()).isEqualTo(MOCKED_APPLICATION_ROOT + "/.macatalauncher/diagnostics");
+        }
+    }
+}
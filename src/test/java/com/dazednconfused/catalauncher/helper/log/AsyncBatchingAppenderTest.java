@@ -0,0 +1,140 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Flushable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.jupiter.api.Test;
+
+class AsyncBatchingAppenderTest {
+
+    private static final Logger MOCKED_LOGGER = Logger.getLogger(AsyncBatchingAppenderTest.class);
+
+    @Test
+    void do_append_hands_events_over_in_order_and_flushes_per_batch_success() {
+
+        // prepare mock data ---
+        CapturingAppender MOCKED_TARGET = new CapturingAppender(null);
+        AsyncBatchingAppender appender = new AsyncBatchingAppender(1024, LogOverflowPolicy.BLOCK);
+        appender.addAppender(MOCKED_TARGET);
+
+        // execute test ---
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(event(Level.DEBUG, "message " + i));
+        }
+        appender.close();
+
+        // verify assertions ---
+        assertThat(MOCKED_TARGET.messages()).hasSize(100).startsWith("message 0", "message 1").endsWith("message 99");
+        assertThat(MOCKED_TARGET.flushes.get()).isBetween(1, 100);
+        assertThat(MOCKED_TARGET.events.get(0).getThreadName()).isEqualTo(Thread.currentThread().getName()); // captured on the logging thread
+        assertThat(MOCKED_TARGET.wasClosed).isTrue();
+    }
+
+    @Test
+    void do_append_drops_events_below_warn_when_full_success() throws Exception {
+
+        // prepare mock data ---
+        CountDownLatch MOCKED_RELEASE = new CountDownLatch(1);
+        CapturingAppender MOCKED_TARGET = new CapturingAppender(MOCKED_RELEASE);
+        AsyncBatchingAppender appender = new AsyncBatchingAppender(2, LogOverflowPolicy.DROP);
+        appender.addAppender(MOCKED_TARGET);
+
+        appender.doAppend(event(Level.INFO, "blocks the writer"));
+        assertThat(MOCKED_TARGET.started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // execute test ---
+        for (int i = 0; i < 10; i++) {
+            appender.doAppend(event(Level.DEBUG, "dropped " + i));
+        }
+
+        MOCKED_RELEASE.countDown();
+        appender.doAppend(event(Level.ERROR, "never dropped"));
+        appender.close();
+
+        // verify assertions ---
+        List<String> result = MOCKED_TARGET.messages();
+        assertThat(result).contains("blocks the writer", "never dropped");
+        assertThat(result).anyMatch(message -> message.startsWith("Logging fell behind. Dropped [8] events"));
+        assertThat(result.stream().filter(message -> message.startsWith("dropped ")).count()).isEqualTo(2);
+        assertThat(appender.getDroppedEvents()).isZero(); // already reported
+    }
+
+    @Test
+    void do_append_ignores_events_after_close_success() {
+
+        // prepare mock data ---
+        CapturingAppender MOCKED_TARGET = new CapturingAppender(null);
+        AsyncBatchingAppender appender = new AsyncBatchingAppender(16, LogOverflowPolicy.BLOCK);
+        appender.addAppender(MOCKED_TARGET);
+        appender.close();
+
+        // execute test ---
+        appender.doAppend(event(Level.ERROR, "too late"));
+
+        // verify assertions ---
+        assertThat(MOCKED_TARGET.messages()).isEmpty();
+    }
+
+    private static LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), MOCKED_LOGGER, level, message, null);
+    }
+
+    /**
+     * An appender recording every event and flush; optionally blocking on its first event until released.
+     * */
+    private static class CapturingAppender extends AppenderSkeleton implements Flushable {
+
+        private final List<LoggingEvent> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger flushes = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean wasClosed;
+
+        private CapturingAppender(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void append(LoggingEvent event) {
+            this.events.add(event);
+            this.started.countDown();
+            if (this.release != null) {
+                try {
+                    this.release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            this.flushes.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            this.wasClosed = true;
+        }
+
+        @Override
+        public boolean requiresLayout() {
+            return false;
+        }
+
+        private List<String> messages() {
+            return this.events.stream().map(LoggingEvent::getRenderedMessage).collect(Collectors.toList());
+        }
+    }
+}
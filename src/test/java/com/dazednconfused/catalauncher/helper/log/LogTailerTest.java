@@ -0,0 +1,133 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogTailerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void read_new_lines_reads_appended_lines_in_bulk_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_LOG = tempDir.resolve("main.log");
+        Files.writeString(MOCKED_LOG, "first\nsecond\n");
+
+        LogTailer tailer = new LogTailer(MOCKED_LOG, Long.MAX_VALUE, lines -> { });
+
+        // execute test ---
+        List<String> initialResult = tailer.readNewLines();
+
+        append(MOCKED_LOG, "third\nfourth\r\nfif");
+        List<String> appendedResult = tailer.readNewLines();
+
+        append(MOCKED_LOG, "th\n");
+        List<String> completedResult = tailer.readNewLines();
+
+        List<String> idleResult = tailer.readNewLines();
+
+        tailer.close();
+
+        // verify assertions ---
+        assertThat(initialResult).containsExactly("first", "second");
+        assertThat(appendedResult).containsExactly("third", "fourth");
+        assertThat(completedResult).containsExactly("fifth");
+        assertThat(idleResult).isEmpty();
+    }
+
+    @Test
+    void read_new_lines_only_reads_tail_of_existing_file_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_LOG = tempDir.resolve("main.log");
+        Files.writeString(MOCKED_LOG, "a long first line\nsecond\nthird\n");
+
+        LogTailer tailer = new LogTailer(MOCKED_LOG, "ne\nsecond\nthird\n".length(), lines -> { });
+
+        // execute test ---
+        List<String> result = tailer.readNewLines();
+
+        tailer.close();
+
+        // verify assertions ---
+        assertThat(result).containsExactly("second", "third");
+    }
+
+    @Test
+    void read_new_lines_follows_rotated_file_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_LOG = tempDir.resolve("main.log");
+        Files.writeString(MOCKED_LOG, "before rotation\n");
+
+        LogTailer tailer = new LogTailer(MOCKED_LOG, Long.MAX_VALUE, lines -> { });
+        List<String> MOCKED_INITIAL_LINES = tailer.readNewLines();
+
+        // execute test ---
+        append(MOCKED_LOG, "last line of old file\n");
+        Files.move(MOCKED_LOG, tempDir.resolve("main.log.1"));
+        Files.writeString(MOCKED_LOG, "new\n");
+
+        List<String> result = tailer.readNewLines();
+
+        tailer.close();
+
+        // verify assertions ---
+        assertThat(MOCKED_INITIAL_LINES).containsExactly("before rotation");
+        assertThat(result).containsExactly("last line of old file", "new");
+    }
+
+    @Test
+    void read_new_lines_follows_truncated_file_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_LOG = tempDir.resolve("main.log");
+        Files.writeString(MOCKED_LOG, "a rather long line before truncation\n");
+
+        LogTailer tailer = new LogTailer(MOCKED_LOG, Long.MAX_VALUE, lines -> { });
+        tailer.readNewLines();
+
+        // execute test ---
+        Files.writeString(MOCKED_LOG, "short\n", StandardOpenOption.TRUNCATE_EXISTING);
+        List<String> result = tailer.readNewLines();
+
+        tailer.close();
+
+        // verify assertions ---
+        assertThat(result).containsExactly("short");
+    }
+
+    @Test
+    void read_new_lines_waits_for_missing_file_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_LOG = tempDir.resolve("main.log");
+        LogTailer tailer = new LogTailer(MOCKED_LOG, Long.MAX_VALUE, lines -> { });
+
+        // execute test ---
+        List<String> missingResult = tailer.readNewLines();
+
+        Files.writeString(MOCKED_LOG, "created\n");
+        List<String> createdResult = tailer.readNewLines();
+
+        tailer.close();
+
+        // verify assertions ---
+        assertThat(missingResult).isEmpty();
+        assertThat(createdResult).containsExactly("created");
+    }
+
+    private static void append(Path file, String content) throws Exception {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
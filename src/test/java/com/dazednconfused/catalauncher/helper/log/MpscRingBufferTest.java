@@ -0,0 +1,110 @@
+package com.dazednconfused.catalauncher.helper.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+    @Test
+    void offer_and_poll_keep_order_until_full_success() {
+
+        // prepare mock data ---
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        // execute test ---
+        List<Boolean> offerResults = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            offerResults.add(buffer.offer(i));
+        }
+
+        List<Integer> result = new ArrayList<>();
+        int drained = buffer.drainTo(result, Integer.MAX_VALUE);
+
+        // verify assertions ---
+        assertThat(buffer.capacity()).isEqualTo(4); // rounded up to a power of two
+        assertThat(offerResults).containsExactly(true, true, true, true, false);
+        assertThat(drained).isEqualTo(4);
+        assertThat(result).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void offer_reuses_slots_across_laps_success() {
+
+        // prepare mock data ---
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+
+        // execute test ---
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+            result.add(buffer.poll());
+        }
+
+        // verify assertions ---
+        assertThat(result).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void concurrent_producers_deliver_every_element_once_success() throws Exception {
+
+        // prepare mock data ---
+        int MOCKED_PRODUCERS = 4;
+        int MOCKED_ELEMENTS_PER_PRODUCER = 5_000;
+
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        ExecutorService producers = Executors.newFixedThreadPool(MOCKED_PRODUCERS);
+        CountDownLatch MOCKED_START = new CountDownLatch(1);
+
+        // execute test ---
+        for (int p = 0; p < MOCKED_PRODUCERS; p++) {
+            int offset = p * MOCKED_ELEMENTS_PER_PRODUCER;
+            producers.execute(() -> {
+                try {
+                    MOCKED_START.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < MOCKED_ELEMENTS_PER_PRODUCER; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        MOCKED_START.countDown();
+
+        Set<Integer> result = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        int duplicates = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (result.size() < MOCKED_PRODUCERS * MOCKED_ELEMENTS_PER_PRODUCER && System.nanoTime() < deadline) {
+            buffer.drainTo(batch, 128);
+            for (Integer element : batch) {
+                if (!result.add(element)) {
+                    duplicates++;
+                }
+            }
+            batch.clear();
+        }
+
+        producers.shutdown();
+
+        // verify assertions ---
+        assertThat(producers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(duplicates).isZero();
+        assertThat(result).hasSize(MOCKED_PRODUCERS * MOCKED_ELEMENTS_PER_PRODUCER);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+package com.dazednconfused.catalauncher.helper.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dazednconfused.catalauncher.helper.metrics.dto.HistogramSnapshotDTO;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+    @Test
+    void index_of_is_consistent_with_highest_equivalent_value_success() {
+
+        // prepare mock data ---
+        long[] MOCKED_VALUES = {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+
+        // execute test & verify assertions ---
+        for (long value : MOCKED_VALUES) {
+            long highest = Histogram.highestEquivalentValueOf(Histogram.indexOf(value));
+
+            assertThat(highest).as("highest equivalent value of [%d]", value).isGreaterThanOrEqualTo(value);
+            assertThat((double) highest - value).as("relative error of [%d]", value).isLessThanOrEqualTo(value / 32.0);
+        }
+    }
+
+    @Test
+    void get_value_at_percentile_success() {
+
+        // prepare mock data ---
+        Histogram instance = new Histogram();
+        LongStream.rangeClosed(1, 10_000).forEach(instance::record);
+
+        // execute test ---
+        long p50 = instance.getValueAtPercentile(50.0);
+        long p99 = instance.getValueAtPercentile(99.0);
+        long p100 = instance.getValueAtPercentile(100.0);
+
+        // verify assertions ---
+        assertThat(instance.getCount()).isEqualTo(10_000);
+        assertThat(instance.getTotal()).isEqualTo(10_000L * 10_001 / 2);
+        assertThat((double) p50).isCloseTo(5_000, within(5_000 / 32.0));
+        assertThat((double) p99).isCloseTo(9_900, within(9_900 / 32.0));
+        assertThat(p100).isEqualTo(10_000);
+    }
+
+    @Test
+    void snapshot_success() {
+
+        // prepare mock data ---
+        Histogram instance = new Histogram();
+        instance.record(2_000_000);
+        instance.record(4_000_000);
+        instance.record(-1); // recorded as 0
+
+        // execute test ---
+        HistogramSnapshotDTO result = instance.snapshot(1_000_000);
+
+        // verify assertions ---
+        assertThat(result.getCount()).isEqualTo(3);
+        assertThat(result.getTotal()).isEqualTo(6.0);
+        assertThat(result.getMean()).isEqualTo(2.0);
+        assertThat(result.getMin()).isEqualTo(0.0);
+        assertThat(result.getMax()).isEqualTo(4.0);
+    }
+
+    @Test
+    void snapshot_of_empty_histogram_success() {
+
+        // execute test ---
+        HistogramSnapshotDTO result = new Histogram().snapshot(1);
+
+        // verify assertions ---
+        assertThat(result.getCount()).isZero();
+        assertThat(result.getMin()).isZero();
+        assertThat(result.getMax()).isZero();
+        assertThat(result.getP99()).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.dazednconfused.catalauncher.helper.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.dazednconfused.catalauncher.helper.metrics.dto.MetricsSnapshotDTO;
+import com.dazednconfused.catalauncher.helper.result.Result;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MetricsRegistryTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void metrics_are_created_once_per_name_success() {
+
+        // prepare mock data ---
+        MetricsRegistry instance = new MetricsRegistry() { };
+
+        // execute test ---
+        instance.counter("some.counter").increment();
+        instance.counter("some.counter").add(2);
+        instance.timer("some.timer").time(() -> { });
+        instance.timer("some.timer").time(() -> "result");
+
+        // verify assertions ---
+        assertThat(instance.counter("some.counter")).isSameAs(instance.counter("some.counter"));
+        assertThat(instance.counter("some.counter").getCount()).isEqualTo(3);
+        assertThat(instance.timer("some.timer").getCount()).isEqualTo(2);
+        assertThat(instance.counter("another.counter")).isNotSameAs(instance.counter("some.counter"));
+    }
+
+    @Test
+    void snapshot_success() {
+
+        // prepare mock data ---
+        MetricsRegistry instance = new MetricsRegistry() { };
+        instance.counter("b.counter").add(5);
+        instance.counter("a.counter").add(7);
+        instance.histogram("some.histogram").record(42);
+        instance.timer("some.timer").recordSince(System.nanoTime());
+        instance.gauge("some.gauge", () -> 11);
+        instance.gauge("failing.gauge", () -> {
+            throw new IllegalStateException("mocked failure");
+        });
+
+        // execute test ---
+        MetricsSnapshotDTO result = instance.snapshot();
+
+        // verify assertions ---
+        assertThat(result.getCounters()).containsExactly(
+            entry("a.counter", 7L),
+            entry("b.counter", 5L)
+        );
+        assertThat(result.getGauges()).containsOnlyKeys("some.gauge").containsEntry("some.gauge", 11L);
+        assertThat(result.getHistograms().get("some.histogram").getMax()).isEqualTo(42.0);
+        assertThat(result.getTimers().get("some.timer").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dump_success() throws Exception {
+
+        // prepare mock data ---
+        MetricsRegistry instance = new MetricsRegistry() { };
+        instance.counter("some.counter").add(3);
+        instance.timer("some.timer").recordSince(System.nanoTime());
+
+        // execute test ---
+        Result<Throwable, Path> result = instance.dump(this.tempDir.resolve("diagnostics"));
+
+        // verify assertions ---
+        assertThat(result.toEither().isRight()).isTrue();
+
+        Path file = result.toEither().get().getResult().orElseThrow();
+        assertThat(file).exists().hasParent(this.tempDir.resolve("diagnostics"));
+
+        JsonNode dumped = new ObjectMapper().readTree(file.toFile());
+        assertThat(dumped.has("systemInformation")).isTrue();
+        assertThat(dumped.at("/metrics/counters/some.counter").asLong()).isEqualTo(3);
+        assertThat(dumped.at("/metrics/timers/some.timer/count").asLong()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.dazednconfused.catalauncher.helper.trash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.helper.result.Result;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TrashReaperTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void discard_success() throws IOException, InterruptedException {
+
+        // prepare mock data ---
+        Path MOCKED_DIRECTORY = this.tempDir.resolve("soundpack");
+        for (int i = 0; i < 100; i++) {
+            Files.createDirectories(MOCKED_DIRECTORY.resolve("sfx/" + (i % 7)));
+            Files.writeString(MOCKED_DIRECTORY.resolve("sfx/" + (i % 7) + "/" + i + ".ogg"), "contents" + i);
+        }
+
+        Path MOCKED_REAPING_DIRECTORY = this.tempDir.resolve("trashed/.reaping");
+        TrashReaper reaper = new TrashReaper(MOCKED_REAPING_DIRECTORY, 16, 1);
+
+        // execute test ---
+        Result<Throwable, Path> result = reaper.discard(MOCKED_DIRECTORY);
+
+        // verify assertions ---
+        assertThat(result.toEither().isRight()).isTrue();
+        assertThat(MOCKED_DIRECTORY).doesNotExist(); // gone right away
+
+        Path reapable = result.getOrElseThrowUnchecked();
+        assertThat(reapable.getParent()).isEqualTo(MOCKED_REAPING_DIRECTORY);
+        assertThat(reapable.getFileName().toString()).endsWith("-soundpack");
+
+        assertThat(reaper.awaitReaped(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(reapable).doesNotExist();
+        assertThat(MOCKED_REAPING_DIRECTORY).isEmptyDirectory();
+    }
+
+    @Test
+    void discard_missing_path_success() {
+
+        // prepare mock data ---
+        TrashReaper reaper = new TrashReaper(this.tempDir.resolve("trashed/.reaping"), 16, 0);
+
+        // execute test ---
+        Result<Throwable, Path> result = reaper.discard(this.tempDir.resolve("missing"));
+
+        // verify assertions ---
+        assertThat(result.toEither().isRight()).isTrue();
+        assertThat(this.tempDir.resolve("trashed/.reaping")).doesNotExist();
+    }
+
+    @Test
+    void reaps_leftovers_of_previous_sessions_success() throws IOException, InterruptedException {
+
+        // prepare mock data ---
+        Path MOCKED_REAPING_DIRECTORY = this.tempDir.resolve("trashed/.reaping");
+        Files.createDirectories(MOCKED_REAPING_DIRECTORY.resolve("leftover/nested"));
+        Files.writeString(MOCKED_REAPING_DIRECTORY.resolve("leftover/nested/file.txt"), "contents");
+        Files.writeString(MOCKED_REAPING_DIRECTORY.resolve("leftover-file.txt"), "contents");
+
+        // execute test ---
+        TrashReaper reaper = new TrashReaper(MOCKED_REAPING_DIRECTORY, 16, 0);
+
+        // verify assertions ---
+        assertThat(reaper.awaitReaped(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(MOCKED_REAPING_DIRECTORY).isEmptyDirectory();
+    }
+}
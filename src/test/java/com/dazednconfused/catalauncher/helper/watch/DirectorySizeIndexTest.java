@@ -0,0 +1,64 @@
+package com.dazednconfused.catalauncher.helper.watch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectorySizeIndexTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void size_of_is_computed_once_until_invalidated_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_CHILD = Files.createDirectory(tempDir.resolve("mod"));
+        Files.write(MOCKED_CHILD.resolve("a.json"), new byte[100]);
+        Files.write(Files.createDirectory(MOCKED_CHILD.resolve("nested")).resolve("b.json"), new byte[50]);
+
+        DirectorySizeIndex index = new DirectorySizeIndex();
+
+        // execute test ---
+        long firstResult = index.sizeOf(MOCKED_CHILD.toFile());
+
+        Files.write(MOCKED_CHILD.resolve("c.json"), new byte[25]);
+        long cachedResult = index.sizeOf(MOCKED_CHILD.toFile());
+
+        index.invalidate(MOCKED_CHILD.toFile());
+        long invalidatedResult = index.sizeOf(MOCKED_CHILD.toFile());
+
+        // verify assertions ---
+        assertThat(firstResult).isEqualTo(150L);
+        assertThat(cachedResult).isEqualTo(150L);
+        assertThat(invalidatedResult).isEqualTo(175L);
+    }
+
+    @Test
+    void sizes_of_computes_all_children_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_DIRECTORY = Files.createDirectory(tempDir.resolve("soundpack"));
+        Files.write(MOCKED_DIRECTORY.resolve("sound.ogg"), new byte[10]);
+        Path MOCKED_FILE = Files.write(tempDir.resolve("backup.zip"), new byte[20]);
+        File MOCKED_MISSING = tempDir.resolve("missing").toFile();
+
+        DirectorySizeIndex index = new DirectorySizeIndex();
+
+        // execute test ---
+        Map<File, Long> result = index.sizesOf(List.of(MOCKED_DIRECTORY.toFile(), MOCKED_FILE.toFile(), MOCKED_MISSING));
+
+        // verify assertions ---
+        assertThat(result)
+            .containsEntry(MOCKED_DIRECTORY.toFile(), 10L)
+            .containsEntry(MOCKED_FILE.toFile(), 20L)
+            .containsEntry(MOCKED_MISSING, 0L);
+    }
+}
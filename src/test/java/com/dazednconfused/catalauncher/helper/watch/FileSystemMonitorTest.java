@@ -0,0 +1,193 @@
+package com.dazednconfused.catalauncher.helper.watch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSystemMonitorTest {
+
+    private static final long DEBOUNCE_MILLIS = 200;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    private Path tempDir;
+
+    private FileSystemMonitor monitor;
+
+    @BeforeEach
+    void setup() {
+        monitor = new FileSystemMonitor(DEBOUNCE_MILLIS);
+    }
+
+    @AfterEach
+    void teardown() {
+        monitor.close();
+    }
+
+    @Test
+    void watch_populates_existing_children_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_ROOT = Files.createDirectory(tempDir.resolve("backups"));
+        Path MOCKED_CHILD = Files.createFile(MOCKED_ROOT.resolve("backup.zip"));
+        Files.createFile(MOCKED_ROOT.resolve(".DS_Store"));
+
+        // execute test ---
+        WatchedDirectory result = monitor.watch(MOCKED_ROOT, WatchDepth.ROOT);
+
+        // verify assertions ---
+        assertThat(result.getChildren()).containsExactly(MOCKED_CHILD.toFile());
+        assertThat(result.hasChildren()).isTrue();
+        assertThat(monitor.watch(MOCKED_ROOT, WatchDepth.ROOT)).isSameAs(result);
+    }
+
+    @Test
+    void added_and_removed_children_are_published_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_ROOT = Files.createDirectory(tempDir.resolve("backups"));
+        Path MOCKED_CHILD = MOCKED_ROOT.resolve("backup.zip");
+
+        RecordingListener MOCKED_LISTENER = new RecordingListener(1, 1);
+
+        WatchedDirectory watched = monitor.watch(MOCKED_ROOT, WatchDepth.ROOT);
+        watched.getEvents().subscribe(MOCKED_LISTENER);
+
+        // execute test ---
+        Files.writeString(MOCKED_CHILD, "mockedContent");
+        assertThat(MOCKED_LISTENER.added.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        Files.delete(MOCKED_CHILD);
+        assertThat(MOCKED_LISTENER.removed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // verify assertions ---
+        assertThat(MOCKED_LISTENER.addedFiles).containsExactly(MOCKED_CHILD.toFile());
+        assertThat(MOCKED_LISTENER.removedFiles).containsExactly(MOCKED_CHILD.toFile());
+        assertThat(watched.getChildren()).isEmpty();
+    }
+
+    @Test
+    void nested_changes_are_debounced_into_immediate_child_update_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_ROOT = Files.createDirectory(tempDir.resolve("saves"));
+        Path MOCKED_WORLD = Files.createDirectory(MOCKED_ROOT.resolve("world"));
+        Path MOCKED_NESTED = Files.createDirectory(MOCKED_WORLD.resolve("maps"));
+
+        RecordingListener MOCKED_LISTENER = new RecordingListener(0, 0);
+
+        WatchedDirectory watched = monitor.watch(MOCKED_ROOT, WatchDepth.TREE);
+        watched.getEvents().subscribe(MOCKED_LISTENER);
+        watched.whenRegistered().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // execute test ---
+        for (int i = 0; i < 10; i++) {
+            Files.writeString(MOCKED_NESTED.resolve("map" + i + ".map"), "mockedContent" + i);
+        }
+        assertThat(MOCKED_LISTENER.updated.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(DEBOUNCE_MILLIS * 3); // give any (unexpected) extra events the chance to arrive
+
+        // verify assertions ---
+        assertThat(MOCKED_LISTENER.updatedFiles).isNotEmpty().allMatch(file -> file.equals(MOCKED_WORLD.toFile()));
+        assertThat(MOCKED_LISTENER.updatedFiles.size()).isLessThan(10);
+        assertThat(MOCKED_LISTENER.addedFiles).isEmpty();
+    }
+
+    @Test
+    void children_depth_only_watches_right_inside_immediate_children_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_ROOT = Files.createDirectory(tempDir.resolve("saves"));
+        Path MOCKED_WORLD = Files.createDirectory(MOCKED_ROOT.resolve("world"));
+        Path MOCKED_NESTED = Files.writeString(Files.createDirectory(MOCKED_WORLD.resolve("maps")).resolve("map0.map"), "mockedContent");
+
+        RecordingListener MOCKED_LISTENER = new RecordingListener(0, 0);
+
+        WatchedDirectory watched = monitor.watch(MOCKED_ROOT, WatchDepth.CHILDREN);
+        watched.getEvents().subscribe(MOCKED_LISTENER);
+        watched.whenRegistered().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // execute test ---
+        Files.writeString(MOCKED_NESTED, "mockedContentChanged"); // rewritten in place, so that maps/ itself doesn't change
+        Thread.sleep(DEBOUNCE_MILLIS * 3); // give any (unexpected) nested events the chance to arrive
+        List<File> updatedByNestedChange = List.copyOf(MOCKED_LISTENER.updatedFiles);
+
+        Files.writeString(MOCKED_WORLD.resolve("world.sav"), "mockedContent");
+        assertThat(MOCKED_LISTENER.updated.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // verify assertions ---
+        assertThat(updatedByNestedChange).isEmpty();
+        assertThat(MOCKED_LISTENER.updatedFiles).isNotEmpty().allMatch(file -> file.equals(MOCKED_WORLD.toFile()));
+    }
+
+    @Test
+    void root_created_after_watching_is_picked_up_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_ROOT = tempDir.resolve("sound");
+
+        RecordingListener MOCKED_LISTENER = new RecordingListener(1, 0);
+
+        WatchedDirectory watched = monitor.watch(MOCKED_ROOT, WatchDepth.TREE);
+        watched.getEvents().subscribe(MOCKED_LISTENER);
+
+        // execute test ---
+        Files.createDirectory(MOCKED_ROOT);
+        Files.createDirectory(MOCKED_ROOT.resolve("soundpack"));
+
+        // verify assertions ---
+        assertThat(MOCKED_LISTENER.added.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(MOCKED_LISTENER.addedFiles).containsExactly(MOCKED_ROOT.resolve("soundpack").toFile());
+        assertThat(watched.getChildren()).containsExactly(MOCKED_ROOT.resolve("soundpack").toFile());
+    }
+
+    /**
+     * Records every event received, counting down a latch per event type.
+     * */
+    private static class RecordingListener implements ChangeEventListener<File> {
+
+        private final CountDownLatch added;
+        private final CountDownLatch updated = new CountDownLatch(1);
+        private final CountDownLatch removed;
+
+        private final List<File> addedFiles = new CopyOnWriteArrayList<>();
+        private final List<File> updatedFiles = new CopyOnWriteArrayList<>();
+        private final List<File> removedFiles = new CopyOnWriteArrayList<>();
+
+        RecordingListener(int expectedAdditions, int expectedRemovals) {
+            this.added = new CountDownLatch(expectedAdditions);
+            this.removed = new CountDownLatch(expectedRemovals);
+        }
+
+        @Override
+        public void onAdded(File file) {
+            addedFiles.add(file);
+            added.countDown();
+        }
+
+        @Override
+        public void onUpdated(File file) {
+            updatedFiles.add(file);
+            updated.countDown();
+        }
+
+        @Override
+        public void onRemoved(File file) {
+            removedFiles.add(file);
+            removed.countDown();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.dazednconfused.catalauncher.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameOutputCaptureTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void start_captures_stdout_and_stderr_into_log_and_recent_lines_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_LOG = tempDir.resolve("game.log");
+        Process MOCKED_PROCESS = new ProcessBuilder("sh", "-c", "echo out1; echo err1 >&2; sleep 0.1; echo out2; echo out3").start();
+
+        // execute test ---
+        GameOutputCapture capture = new GameOutputCapture(MOCKED_PROCESS, MOCKED_LOG, 2, Long.MAX_VALUE).start();
+        boolean drained = capture.awaitDrained(10, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(drained).isTrue();
+        assertThat(MOCKED_PROCESS.waitFor(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(capture.getRecentLines()).containsExactly("out2", "out3"); // bounded to the last 2
+        assertThat(Files.readAllLines(MOCKED_LOG)).containsExactlyInAnyOrder("out1", "[stderr] err1", "out2", "out3");
+    }
+
+    @Test
+    void start_rolls_previous_and_oversized_logs_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_LOG = tempDir.resolve("game.log");
+        Files.writeString(MOCKED_LOG, "previous session\n");
+
+        Process MOCKED_PROCESS = new ProcessBuilder("sh", "-c", "echo 1234567890; echo abcdefghij; echo last").start();
+
+        // execute test ---
+        GameOutputCapture capture = new GameOutputCapture(MOCKED_PROCESS, MOCKED_LOG, 10, 10).start();
+        boolean drained = capture.awaitDrained(10, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(drained).isTrue();
+        assertThat(Files.readAllLines(MOCKED_LOG)).containsExactly("last");
+        assertThat(Files.readAllLines(tempDir.resolve("game.log.1"))).containsExactly("abcdefghij");
+        assertThat(Files.readAllLines(tempDir.resolve("game.log.2"))).containsExactly("1234567890");
+        assertThat(Files.readAllLines(tempDir.resolve("game.log.3"))).containsExactly("previous session");
+        assertThat(tempDir.resolve("game.log.4")).doesNotExist();
+    }
+}
@@ -0,0 +1,78 @@
+package com.dazednconfused.catalauncher.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dazednconfused.catalauncher.session.GameSessionManager;
+import com.dazednconfused.catalauncher.session.dto.GameSessionDTO;
+import com.dazednconfused.catalauncher.session.dto.GameSessionSampleDTO;
+import com.dazednconfused.catalauncher.task.ManagedTask;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class GameProcessSupervisorTest {
+
+    @Test
+    void supervise_records_session_and_samples_until_exit_success() throws Exception {
+
+        // prepare mock data ---
+        GameSessionDTO MOCKED_SESSION = GameSessionDTO.builder().id(7L).startedDate(LocalDateTime.now()).build();
+
+        GameSessionManager MOCKED_SESSION_MANAGER = mock(GameSessionManager.class);
+        when(MOCKED_SESSION_MANAGER.startSession(anyLong(), anyList())).thenReturn(MOCKED_SESSION);
+        when(MOCKED_SESSION_MANAGER.endSession(any(), eq(3))).thenReturn(MOCKED_SESSION);
+
+        GameProcessSupervisor supervisor = new GameProcessSupervisor(MOCKED_SESSION_MANAGER, () -> List.of("mockedMod"), 50);
+
+        Process MOCKED_PROCESS = new ProcessBuilder("sh", "-c", "sleep 0.5; exit 3").start();
+        AtomicBoolean exited = new AtomicBoolean();
+
+        // execute test ---
+        ManagedTask<Integer> task = supervisor.supervise(MOCKED_PROCESS, () -> exited.set(true));
+        Integer result = task.getResult().get(10, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(result).isEqualTo(3);
+        assertThat(exited).isTrue();
+
+        verify(MOCKED_SESSION_MANAGER).startSession(MOCKED_PROCESS.pid(), List.of("mockedMod"));
+        verify(MOCKED_SESSION_MANAGER).endSession(MOCKED_SESSION, 3);
+
+        ArgumentCaptor<GameSessionSampleDTO> samples = ArgumentCaptor.forClass(GameSessionSampleDTO.class);
+        verify(MOCKED_SESSION_MANAGER, atLeastOnce()).recordSample(samples.capture());
+        assertThat(samples.getAllValues()).allSatisfy(sample -> assertThat(sample.getSessionId()).isEqualTo(7L));
+    }
+
+    @Test
+    void supervise_runs_on_exit_even_if_session_cannot_be_recorded_success() throws Exception {
+
+        // prepare mock data ---
+        GameSessionManager MOCKED_SESSION_MANAGER = mock(GameSessionManager.class);
+        when(MOCKED_SESSION_MANAGER.startSession(anyLong(), anyList())).thenThrow(new IllegalStateException("mocked failure"));
+
+        GameProcessSupervisor supervisor = new GameProcessSupervisor(MOCKED_SESSION_MANAGER, () -> List.of(), 50);
+
+        Process MOCKED_PROCESS = new ProcessBuilder("sh", "-c", "exit 0").start();
+        AtomicBoolean exited = new AtomicBoolean();
+
+        // execute test ---
+        Integer result = supervisor.supervise(MOCKED_PROCESS, () -> exited.set(true)).getResult().get(10, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(result).isZero();
+        assertThat(exited).isTrue();
+    }
+}
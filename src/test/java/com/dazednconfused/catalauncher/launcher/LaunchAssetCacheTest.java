@@ -0,0 +1,91 @@
+package com.dazednconfused.catalauncher.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LaunchAssetCacheTest {
+
+    private static final String MOCKED_RESOURCE = "osx_launcher_wrapper.sh";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void extract_writes_missing_asset_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_TARGET = tempDir.resolve("nested/" + MOCKED_RESOURCE);
+        LaunchAssetCache cache = new LaunchAssetCache(getClass().getClassLoader());
+
+        // execute test ---
+        cache.extract(MOCKED_RESOURCE, MOCKED_TARGET);
+
+        // verify assertions ---
+        assertThat(Files.readAllBytes(MOCKED_TARGET)).isEqualTo(bundled());
+    }
+
+    @Test
+    void extract_leaves_matching_asset_untouched_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_TARGET = tempDir.resolve(MOCKED_RESOURCE);
+        Files.write(MOCKED_TARGET, bundled());
+
+        FileTime MOCKED_LAST_MODIFIED = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(MOCKED_TARGET, MOCKED_LAST_MODIFIED);
+
+        LaunchAssetCache cache = new LaunchAssetCache(getClass().getClassLoader());
+
+        // execute test ---
+        cache.extract(MOCKED_RESOURCE, MOCKED_TARGET); // verified by hash
+        cache.extract(MOCKED_RESOURCE, MOCKED_TARGET); // verified by size and last modification time alone
+
+        // verify assertions ---
+        assertThat(Files.getLastModifiedTime(MOCKED_TARGET)).isEqualTo(MOCKED_LAST_MODIFIED);
+        assertThat(Files.readAllBytes(MOCKED_TARGET)).isEqualTo(bundled());
+    }
+
+    @Test
+    void extract_reverts_modified_asset_success() throws Exception {
+
+        // prepare mock data ---
+        Path MOCKED_TARGET = tempDir.resolve(MOCKED_RESOURCE);
+        LaunchAssetCache cache = new LaunchAssetCache(getClass().getClassLoader());
+        cache.extract(MOCKED_RESOURCE, MOCKED_TARGET);
+
+        Files.writeString(MOCKED_TARGET, "echo tampered");
+
+        // execute test ---
+        cache.extract(MOCKED_RESOURCE, MOCKED_TARGET);
+
+        // verify assertions ---
+        assertThat(Files.readAllBytes(MOCKED_TARGET)).isEqualTo(bundled());
+    }
+
+    @Test
+    void extract_fails_on_unknown_resource_success() {
+
+        // prepare mock data ---
+        LaunchAssetCache cache = new LaunchAssetCache(getClass().getClassLoader());
+
+        // execute test ---
+        // verify assertions ---
+        assertThatThrownBy(() -> cache.extract("not_a_resource.sh", tempDir.resolve("not_a_resource.sh")))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("not_a_resource.sh");
+    }
+
+    private byte[] bundled() throws Exception {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(MOCKED_RESOURCE)) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
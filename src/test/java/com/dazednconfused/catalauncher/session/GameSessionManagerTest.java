@@ -0,0 +1,199 @@
+package com.dazednconfused.catalauncher.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.database.base.DAOException;
+import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
+import com.dazednconfused.catalauncher.database.session.dao.GameSessionH2DAOImpl;
+import com.dazednconfused.catalauncher.database.session.dao.GameSessionSampleH2DAOImpl;
+import com.dazednconfused.catalauncher.database.session.entity.GameSessionSampleEntity;
+import com.dazednconfused.catalauncher.helper.event.ChangeEventListener;
+import com.dazednconfused.catalauncher.session.dto.GameSessionDTO;
+import com.dazednconfused.catalauncher.session.dto.GameSessionSampleDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class GameSessionManagerTest {
+
+    private static final UUID uuid = UUID.randomUUID();
+
+    private static GameSessionManager instance;
+
+    @BeforeAll
+    public static void setup() {
+        instance = new GameSessionManager(
+            new GameSessionH2DAOImpl(true) {
+                @Override
+                public String getDatabaseName() {
+                    return super.getDatabaseName() + "_" + uuid;
+                }
+            },
+            new GameSessionSampleH2DAOImpl() {
+                @Override
+                public String getDatabaseName() {
+                    return super.getDatabaseName() + "_" + uuid;
+                }
+            }
+        );
+    }
+
+    @AfterEach
+    public void teardown() {
+        instance.persistPendingSamples(); // so that no pending sample leaks into the next test
+        ((DisposableDatabase) instance.sessionDAO).reset();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        ((DisposableDatabase) instance.sessionDAO).destroy();
+    }
+
+    @Test
+    void start_and_end_session_success() {
+
+        // prepare mock data ---
+        List<String> MOCKED_MODS = List.of("mod1", "mod2");
+
+        List<GameSessionDTO> publishedSessions = new ArrayList<>();
+        ChangeEventListener<GameSessionDTO> MOCKED_LISTENER = new ChangeEventListener<>() {
+            @Override
+            public void onChanged(GameSessionDTO changed) {
+                publishedSessions.add(changed);
+            }
+        };
+        instance.getSessionEvents().subscribe(MOCKED_LISTENER);
+
+        // execute test ---
+        GameSessionDTO started = instance.startSession(1234L, MOCKED_MODS);
+        GameSessionDTO result = instance.endSession(started, 3);
+
+        instance.getSessionEvents().unsubscribe(MOCKED_LISTENER);
+
+        // verify assertions ---
+        assertThat(started.getId()).isNotNull();
+        assertThat(started.getEndedDate()).isNull();
+        assertThat(started.getExitCode()).isNull();
+
+        assertThat(result.getId()).isEqualTo(started.getId());
+        assertThat(result.getPid()).isEqualTo(1234L);
+        assertThat(result.getEndedDate()).isNotNull();
+        assertThat(result.getExitCode()).isEqualTo(3);
+        assertThat(result.getInstalledMods()).containsExactly("mod1", "mod2");
+
+        assertThat(publishedSessions).containsExactly(started, result);
+        assertThat(instance.listAllSessions()).containsExactly(result);
+    }
+
+    @Test
+    void list_samples_for_includes_pending_samples_success() {
+
+        // prepare mock data ---
+        GameSessionDTO MOCKED_SESSION = instance.startSession(1L, List.of());
+        GameSessionDTO MOCKED_OTHER_SESSION = instance.startSession(2L, List.of());
+
+        LocalDateTime MOCKED_NOW = LocalDateTime.now().withNano(0);
+
+        // execute test ---
+        for (int i = 0; i < 15; i++) { // more than a single batch, so that some get persisted and some don't
+            instance.recordSample(buildSample(MOCKED_SESSION.getId(), MOCKED_NOW.plusSeconds(i), i));
+        }
+        instance.recordSample(buildSample(MOCKED_OTHER_SESSION.getId(), MOCKED_NOW, 999));
+
+        List<GameSessionSampleDTO> result = instance.listSamplesFor(MOCKED_SESSION.getId());
+
+        // verify assertions ---
+        assertThat(result).hasSize(15);
+        assertThat(result).extracting(GameSessionSampleDTO::getCpuMillis).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L);
+        assertThat(result.subList(0, 12)).allSatisfy(sample -> assertThat(sample.getId()).isNotNull()); // persisted
+        assertThat(result.subList(12, 15)).allSatisfy(sample -> assertThat(sample.getId()).isNull()); // still pending
+    }
+
+    @Test
+    void end_session_success_when_pending_samples_cannot_be_persisted() {
+
+        // prepare mock data ---
+        AtomicBoolean MOCKED_SAMPLES_FAILING = new AtomicBoolean(true);
+        GameSessionManager failingInstance = new GameSessionManager(
+            instance.sessionDAO,
+            new GameSessionSampleH2DAOImpl() {
+                @Override
+                public String getDatabaseName() {
+                    return super.getDatabaseName() + "_" + uuid;
+                }
+
+                @Override
+                public List<GameSessionSampleEntity> insertAll(Collection<GameSessionSampleEntity> entities) {
+                    if (MOCKED_SAMPLES_FAILING.get()) {
+                        throw new DAOException("mocked failure");
+                    }
+                    return super.insertAll(entities);
+                }
+            }
+        );
+
+        GameSessionDTO MOCKED_SESSION = failingInstance.startSession(1L, List.of());
+        LocalDateTime MOCKED_NOW = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 3; i++) {
+            failingInstance.recordSample(buildSample(MOCKED_SESSION.getId(), MOCKED_NOW.plusSeconds(i), i));
+        }
+
+        // execute test ---
+        GameSessionDTO result = failingInstance.endSession(MOCKED_SESSION, 0);
+
+        List<GameSessionSampleDTO> pendingAfterFailure = failingInstance.listSamplesFor(MOCKED_SESSION.getId());
+
+        MOCKED_SAMPLES_FAILING.set(false);
+        failingInstance.persistPendingSamples();
+
+        // verify assertions ---
+        assertThat(result.getEndedDate()).isNotNull();
+        assertThat(result.getExitCode()).isEqualTo(0);
+        assertThat(failingInstance.findById(MOCKED_SESSION.getId())).get().extracting(GameSessionDTO::getExitCode).isEqualTo(0);
+
+        assertThat(pendingAfterFailure).extracting(GameSessionSampleDTO::getCpuMillis).containsExactly(0L, 1L, 2L);
+        assertThat(pendingAfterFailure).allSatisfy(sample -> assertThat(sample.getId()).isNull()); // kept, not lost
+
+        List<GameSessionSampleDTO> persisted = failingInstance.listSamplesFor(MOCKED_SESSION.getId());
+        assertThat(persisted).extracting(GameSessionSampleDTO::getCpuMillis).containsExactly(0L, 1L, 2L);
+        assertThat(persisted).allSatisfy(sample -> assertThat(sample.getId()).isNotNull());
+    }
+
+    private static GameSessionSampleDTO buildSample(long sessionId, LocalDateTime sampledDate, long cpuMillis) {
+        return GameSessionSampleDTO.builder()
+            .sessionId(sessionId)
+            .sampledDate(sampledDate)
+            .cpuMillis(cpuMillis)
+            .rssBytes(4096L)
+            .processCount(1)
+            .build();
+    }
+
+    @Test
+    void find_by_id_success() {
+
+        // prepare mock data ---
+        GameSessionDTO MOCKED_SESSION = instance.startSession(1234L, List.of("mod1"));
+        instance.startSession(5678L, List.of());
+
+        // execute test ---
+        Optional<GameSessionDTO> result = instance.findById(MOCKED_SESSION.getId());
+        Optional<GameSessionDTO> missingResult = instance.findById(-1L);
+
+        // verify assertions ---
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo(MOCKED_SESSION.getId());
+        assertThat(result.get().getInstalledMods()).containsExactly("mod1");
+        assertThat(missingResult).isEmpty();
+    }
+}
@@ -0,0 +1,26 @@
+package com.dazednconfused.catalauncher.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.session.dto.GameSessionSampleDTO;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class ProcessTreeSamplerTest {
+
+    @Test
+    void sample_current_process_success() {
+
+        // execute test ---
+        Optional<GameSessionSampleDTO> result = ProcessTreeSampler.sample(ProcessHandle.current());
+
+        // verify assertions ---
+        assertThat(result).isPresent();
+        assertThat(result.get().getSampledDate()).isNotNull();
+        assertThat(result.get().getCpuMillis()).isPositive();
+        assertThat(result.get().getRssBytes()).isPositive();
+        assertThat(result.get().getProcessCount()).isGreaterThanOrEqualTo(1);
+    }
+}
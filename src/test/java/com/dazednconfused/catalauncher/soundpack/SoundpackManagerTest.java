@@ -0,0 +1,264 @@
+package com.dazednconfused.catalauncher.soundpack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import com.dazednconfused.catalauncher.database.base.DisposableDatabase;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackH2DAOImpl;
+import com.dazednconfused.catalauncher.database.soundpack.dao.SoundpackfileH2DAOImpl;
+import com.dazednconfused.catalauncher.database.soundpack.repository.SoundpackH2RepositoryImpl;
+import com.dazednconfused.catalauncher.helper.Paths;
+import com.dazednconfused.catalauncher.helper.result.Result;
+import com.dazednconfused.catalauncher.helper.trash.TrashReaper;
+import com.dazednconfused.catalauncher.soundpack.dto.SoundpackDTO;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+class SoundpackManagerTest {
+
+    private static final UUID uuid = UUID.randomUUID();
+
+    private static SoundpackH2RepositoryImpl repository;
+
+    @TempDir
+    private Path tempDir;
+
+    private SoundpackManager instance;
+
+    @BeforeEach
+    public void setup() {
+        if (repository == null) {
+            repository = new SoundpackH2RepositoryImpl(
+                new SoundpackH2DAOImpl() {
+                    @Override
+                    public String getDatabaseName() {
+                        return super.getDatabaseName() + "_" + uuid;
+                    }
+                },
+                new SoundpackfileH2DAOImpl() {
+                    @Override
+                    public String getDatabaseName() {
+                        return super.getDatabaseName() + "_" + uuid;
+                    }
+                }
+            ) {
+                @Override
+                public String getDatabaseName() {
+                    return super.getDatabaseName() + "_" + uuid;
+                }
+            };
+        }
+
+        this.instance = new SoundpackManager(
+            repository,
+            new SoundpackStore(this.tempDir.resolve("store")),
+            new TrashReaper(this.tempDir.resolve("reaping"), TrashReaper.DEFAULT_BATCH_SIZE, 0) { }
+        );
+    }
+
+    @AfterEach
+    public void teardown() {
+        ((DisposableDatabase) repository).reset();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        ((DisposableDatabase) repository).destroy();
+    }
+
+    @Test
+    void install_soundpack_deduplicates_shared_files_success() throws IOException {
+        try (MockedStatic<Paths> mockedPaths = mockStatic(Paths.class)) {
+
+            // prepare mock data ---
+            Path MOCKED_SOUNDPACKS_DIR = this.tempDir.resolve("sound");
+            mockedPaths.when(Paths::getCustomSoundpacksDir).thenReturn(MOCKED_SOUNDPACKS_DIR);
+
+            File MOCKED_VARIANT_1 = this.createSoundpack("variant1", "shared music", "variant1 effects");
+            File MOCKED_VARIANT_2 = this.createSoundpack("variant2", "shared music", "variant2 effects");
+
+            AtomicReference<Path> callbackResult = new AtomicReference<>();
+
+            // execute test ---
+            Result<Throwable, SoundpackDTO> result1 = this.instance.installSoundpack(MOCKED_VARIANT_1, callbackResult::set);
+            Result<Throwable, SoundpackDTO> result2 = this.instance.installSoundpack(MOCKED_VARIANT_2, p -> { });
+
+            // verify assertions ---
+            assertThat(result1.toEither().isRight()).isTrue();
+            assertThat(result2.toEither().isRight()).isTrue();
+            assertThat(callbackResult.get()).isEqualTo(MOCKED_SOUNDPACKS_DIR.resolve("variant1"));
+
+            Path installedMusic1 = MOCKED_SOUNDPACKS_DIR.resolve("variant1/music/theme.ogg");
+            Path installedMusic2 = MOCKED_SOUNDPACKS_DIR.resolve("variant2/music/theme.ogg");
+            assertThat(installedMusic1).hasContent("shared music");
+            assertThat(installedMusic2).hasContent("shared music");
+            assertThat(Files.isSameFile(installedMusic1, installedMusic2)).isTrue(); // stored only once
+
+            assertThat(MOCKED_SOUNDPACKS_DIR.resolve("variant2/sfx/hit.ogg")).hasContent("variant2 effects");
+
+            List<SoundpackDTO> registered = this.instance.listAllRegisteredSoundpacks();
+            assertThat(registered).extracting(SoundpackDTO::getName).containsExactlyInAnyOrder("variant1", "variant2");
+            assertThat(registered).allSatisfy(dto -> assertThat(dto.getSoundpackfiles()).hasSize(2));
+            assertThat(repository.findAllReferencedHashes()).hasSize(3);
+        }
+    }
+
+    @Test
+    void delete_soundpack_collects_unreferenced_files_success() throws IOException {
+        try (MockedStatic<Paths> mockedPaths = mockStatic(Paths.class)) {
+
+            // prepare mock data ---
+            Path MOCKED_SOUNDPACKS_DIR = this.tempDir.resolve("sound");
+            mockedPaths.when(Paths::getCustomSoundpacksDir).thenReturn(MOCKED_SOUNDPACKS_DIR);
+
+            this.instance.installSoundpack(this.createSoundpack("variant1", "shared music", "variant1 effects"), p -> { });
+            this.instance.installSoundpack(this.createSoundpack("variant2", "shared music", "variant2 effects"), p -> { });
+
+            String SHARED_HASH = SoundpackStore.hashOf(MOCKED_SOUNDPACKS_DIR.resolve("variant1/music/theme.ogg").toFile());
+            String UNIQUE_HASH = SoundpackStore.hashOf(MOCKED_SOUNDPACKS_DIR.resolve("variant1/sfx/hit.ogg").toFile());
+
+            // execute test ---
+            Result<Throwable, File> result = this.instance.deleteSoundpack(MOCKED_SOUNDPACKS_DIR.resolve("variant1").toFile());
+
+            // verify assertions ---
+            assertThat(result.toEither().isRight()).isTrue();
+            assertThat(MOCKED_SOUNDPACKS_DIR.resolve("variant1")).doesNotExist();
+            assertThat(MOCKED_SOUNDPACKS_DIR.resolve("variant2/music/theme.ogg")).hasContent("shared music");
+
+            assertThat(this.instance.listAllRegisteredSoundpacks()).extracting(SoundpackDTO::getName).containsExactly("variant2");
+            assertThat(this.instance.soundpackStore.getBlobPath(SHARED_HASH)).exists();
+            assertThat(this.instance.soundpackStore.getBlobPath(UNIQUE_HASH)).doesNotExist();
+        }
+    }
+
+    @Test
+    void install_soundpack_from_archive_success() throws IOException {
+        try (MockedStatic<Paths> mockedPaths = mockStatic(Paths.class)) {
+
+            // prepare mock data ---
+            Path MOCKED_SOUNDPACKS_DIR = this.tempDir.resolve("sound");
+            mockedPaths.when(Paths::getCustomSoundpacksDir).thenReturn(MOCKED_SOUNDPACKS_DIR);
+
+            this.instance.installSoundpack(this.createSoundpack("variant1", "shared music", "variant1 effects"), p -> { });
+
+            File MOCKED_ARCHIVE = this.tempDir.resolve("download.zip").toFile();
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(MOCKED_ARCHIVE.toPath()))) {
+                this.writeEntry(zip, "variant2/music/theme.ogg", "shared music");
+                this.writeEntry(zip, "variant2/sfx/hit.ogg", "variant2 effects");
+                this.writeEntry(zip, "__MACOSX/variant2/._theme.ogg", "resource fork");
+            }
+
+            List<Integer> reportedPercents = new ArrayList<>();
+
+            // execute test ---
+            Result<Throwable, SoundpackDTO> result = this.instance.installSoundpack(MOCKED_ARCHIVE, percent -> {
+                synchronized (reportedPercents) {
+                    reportedPercents.add(percent);
+                }
+            }, p -> { });
+
+            // verify assertions ---
+            assertThat(result.toEither().isRight()).isTrue();
+            assertThat(result.getOrElseThrowUnchecked().getName()).isEqualTo("variant2"); // named after its top-level directory
+            assertThat(result.getOrElseThrowUnchecked().getSoundpackfiles()).hasSize(2);
+
+            Path installedMusic = MOCKED_SOUNDPACKS_DIR.resolve("variant2/music/theme.ogg");
+            assertThat(installedMusic).hasContent("shared music");
+            assertThat(MOCKED_SOUNDPACKS_DIR.resolve("variant2/sfx/hit.ogg")).hasContent("variant2 effects");
+            assertThat(MOCKED_SOUNDPACKS_DIR.resolve("variant2/__MACOSX")).doesNotExist();
+            assertThat(Files.isSameFile(installedMusic, MOCKED_SOUNDPACKS_DIR.resolve("variant1/music/theme.ogg"))).isTrue();
+
+            assertThat(reportedPercents).isSorted().contains(100);
+        }
+    }
+
+    @Test
+    void install_soundpack_from_archive_failure_when_entry_escapes_soundpack() throws IOException {
+        try (MockedStatic<Paths> mockedPaths = mockStatic(Paths.class)) {
+
+            // prepare mock data ---
+            Path MOCKED_SOUNDPACKS_DIR = this.tempDir.resolve("sound");
+            mockedPaths.when(Paths::getCustomSoundpacksDir).thenReturn(MOCKED_SOUNDPACKS_DIR);
+
+            File MOCKED_ARCHIVE = this.tempDir.resolve("evil.zip").toFile();
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(MOCKED_ARCHIVE.toPath()))) {
+                this.writeEntry(zip, "music/theme.ogg", "music");
+                this.writeEntry(zip, "../../escaped.sh", "evil");
+            }
+
+            // execute test ---
+            Result<Throwable, SoundpackDTO> result = this.instance.installSoundpack(MOCKED_ARCHIVE, null, p -> { });
+
+            // verify assertions ---
+            assertThat(result.toEither().isLeft()).isTrue();
+            assertThat(this.tempDir.resolve("escaped.sh")).doesNotExist();
+            assertThat(this.instance.listAllRegisteredSoundpacks()).isEmpty();
+        }
+    }
+
+    @Test
+    void install_soundpack_from_archive_failure_when_top_level_directory_escapes_soundpacks_folder() throws IOException {
+        try (MockedStatic<Paths> mockedPaths = mockStatic(Paths.class)) {
+
+            // prepare mock data ---
+            Path MOCKED_SOUNDPACKS_DIR = this.tempDir.resolve("data").resolve("sound");
+            mockedPaths.when(Paths::getCustomSoundpacksDir).thenReturn(MOCKED_SOUNDPACKS_DIR);
+
+            Path MOCKED_SIBLING = this.tempDir.resolve("data").resolve("save");
+            Files.createDirectories(MOCKED_SOUNDPACKS_DIR);
+            Files.createDirectories(MOCKED_SIBLING);
+
+            File MOCKED_ARCHIVE = this.tempDir.resolve("evil.zip").toFile();
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(MOCKED_ARCHIVE.toPath()))) {
+                this.writeEntry(zip, "../music/theme.ogg", "music");
+                this.writeEntry(zip, "../sfx/hit.ogg", "effects");
+            }
+
+            // execute test ---
+            Result<Throwable, SoundpackDTO> result = this.instance.installSoundpack(MOCKED_ARCHIVE, null, p -> { });
+
+            // verify assertions ---
+            assertThat(result.toEither().isLeft()).isTrue();
+            assertThat(MOCKED_SOUNDPACKS_DIR).exists();
+            assertThat(MOCKED_SIBLING).exists();
+            assertThat(this.instance.listAllRegisteredSoundpacks()).isEmpty();
+        }
+    }
+
+    /**
+     * Writes a new entry with the given {@code name} and {@code contents} into the given {@code zip}.
+     * */
+    private void writeEntry(ZipOutputStream zip, String name, String contents) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(contents.getBytes());
+        zip.closeEntry();
+    }
+
+    /**
+     * Creates a soundpack with the given {@code name} to be installed, made of a music file and a sound effect file.
+     * */
+    private File createSoundpack(String name, String musicContents, String effectsContents) throws IOException {
+        Path soundpack = this.tempDir.resolve("source").resolve(name);
+        Files.createDirectories(soundpack.resolve("music"));
+        Files.createDirectories(soundpack.resolve("sfx"));
+        Files.writeString(soundpack.resolve("music/theme.ogg"), musicContents);
+        Files.writeString(soundpack.resolve("sfx/hit.ogg"), effectsContents);
+        return soundpack.toFile();
+    }
+}
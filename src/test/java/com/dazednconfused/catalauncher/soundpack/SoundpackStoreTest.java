@@ -0,0 +1,113 @@
+package com.dazednconfused.catalauncher.soundpack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SoundpackStoreTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void put_stores_each_content_only_once_success() throws IOException {
+
+        // prepare mock data ---
+        SoundpackStore store = new SoundpackStore(this.tempDir.resolve("store"));
+
+        File MOCKED_FILE_1 = Files.writeString(this.tempDir.resolve("a.ogg"), "same contents").toFile();
+        File MOCKED_FILE_2 = Files.writeString(this.tempDir.resolve("b.ogg"), "same contents").toFile();
+        String MOCKED_HASH = SoundpackStore.hashOf(MOCKED_FILE_1);
+
+        // pre-test assertions ---
+        assertThat(SoundpackStore.hashOf(MOCKED_FILE_2)).isEqualTo(MOCKED_HASH);
+
+        // execute test ---
+        boolean firstResult = store.put(MOCKED_FILE_1, MOCKED_HASH);
+        boolean secondResult = store.put(MOCKED_FILE_2, MOCKED_HASH);
+
+        // verify assertions ---
+        assertThat(firstResult).isTrue();
+        assertThat(secondResult).isFalse();
+
+        assertThat(store.getBlobPath(MOCKED_HASH)).hasContent("same contents");
+        assertThat(store.getBlobPath(MOCKED_HASH).getParent().getFileName().toString()).isEqualTo(MOCKED_HASH.substring(0, 2));
+        assertThat(store.getBlobPath(MOCKED_HASH).getParent()).isDirectoryNotContaining(path -> path.toString().endsWith(".tmp"));
+    }
+
+    @Test
+    void put_stream_hashes_contents_on_the_way_in_success() throws IOException {
+
+        // prepare mock data ---
+        SoundpackStore store = new SoundpackStore(this.tempDir.resolve("store"));
+
+        File MOCKED_FILE = Files.writeString(this.tempDir.resolve("a.ogg"), "streamed contents").toFile();
+
+        // execute test ---
+        String firstResult = store.put(new ByteArrayInputStream("streamed contents".getBytes()));
+        String secondResult = store.put(new ByteArrayInputStream("streamed contents".getBytes()));
+
+        // verify assertions ---
+        assertThat(firstResult).isEqualTo(SoundpackStore.hashOf(MOCKED_FILE));
+        assertThat(secondResult).isEqualTo(firstResult);
+        assertThat(store.getBlobPath(firstResult)).hasContent("streamed contents");
+        assertThat(this.tempDir.resolve("store")).isDirectoryNotContaining(path -> path.toString().endsWith(".tmp"));
+    }
+
+    @Test
+    void link_shares_stored_content_between_targets_success() throws IOException {
+
+        // prepare mock data ---
+        SoundpackStore store = new SoundpackStore(this.tempDir.resolve("store"));
+
+        File MOCKED_FILE = Files.writeString(this.tempDir.resolve("a.ogg"), "shared contents").toFile();
+        String MOCKED_HASH = SoundpackStore.hashOf(MOCKED_FILE);
+        store.put(MOCKED_FILE, MOCKED_HASH);
+
+        Path MOCKED_TARGET_1 = this.tempDir.resolve("sound/variant1/music/a.ogg");
+        Path MOCKED_TARGET_2 = this.tempDir.resolve("sound/variant2/music/a.ogg");
+
+        // execute test ---
+        boolean firstResult = store.link(MOCKED_HASH, MOCKED_TARGET_1);
+        boolean secondResult = store.link(MOCKED_HASH, MOCKED_TARGET_2);
+
+        // verify assertions ---
+        assertThat(firstResult).isTrue();
+        assertThat(secondResult).isTrue();
+
+        assertThat(MOCKED_TARGET_1).hasContent("shared contents");
+        assertThat(MOCKED_TARGET_2).hasContent("shared contents");
+        assertThat(Files.isSameFile(MOCKED_TARGET_1, store.getBlobPath(MOCKED_HASH))).isTrue();
+        assertThat(Files.isSameFile(MOCKED_TARGET_2, store.getBlobPath(MOCKED_HASH))).isTrue();
+    }
+
+    @Test
+    void collect_garbage_deletes_only_unreferenced_blobs_success() throws IOException {
+
+        // prepare mock data ---
+        SoundpackStore store = new SoundpackStore(this.tempDir.resolve("store"));
+
+        File MOCKED_FILE_1 = Files.writeString(this.tempDir.resolve("a.ogg"), "referenced").toFile();
+        File MOCKED_FILE_2 = Files.writeString(this.tempDir.resolve("b.ogg"), "unreferenced").toFile();
+        String MOCKED_HASH_1 = SoundpackStore.hashOf(MOCKED_FILE_1);
+        String MOCKED_HASH_2 = SoundpackStore.hashOf(MOCKED_FILE_2);
+        store.put(MOCKED_FILE_1, MOCKED_HASH_1);
+        store.put(MOCKED_FILE_2, MOCKED_HASH_2);
+
+        // execute test ---
+        int result = store.collectGarbage(Set.of(MOCKED_HASH_1));
+
+        // verify assertions ---
+        assertThat(result).isEqualTo(1);
+        assertThat(store.getBlobPath(MOCKED_HASH_1)).exists();
+        assertThat(store.getBlobPath(MOCKED_HASH_2)).doesNotExist();
+    }
+}
@@ -0,0 +1,100 @@
+package com.dazednconfused.catalauncher.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class StartupOrchestratorTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    void start_runs_steps_after_their_dependencies_success() throws Exception {
+
+        // prepare mock data ---
+        List<String> MOCKED_RUN_ORDER = new CopyOnWriteArrayList<>();
+
+        StartupOrchestrator instance = new StartupOrchestrator()
+            .step("first", () -> MOCKED_RUN_ORDER.add("first"))
+            .step("second", () -> MOCKED_RUN_ORDER.add("second"), "first")
+            .step("third", () -> MOCKED_RUN_ORDER.add("third"), "first", "second");
+
+        // execute test ---
+        instance.start().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(MOCKED_RUN_ORDER).containsExactly("first", "second", "third");
+        assertThat(instance.getTimeline()).extracting(StartupOrchestrator.Phase::getName).containsExactly("first", "second", "third");
+        assertThat(instance.getTimeline()).allMatch(StartupOrchestrator.Phase::isSucceeded);
+    }
+
+    @Test
+    void start_runs_independent_steps_concurrently_success() throws Exception {
+
+        // prepare mock data ---
+        CountDownLatch MOCKED_BOTH_RUNNING = new CountDownLatch(2);
+        Runnable MOCKED_STEP = () -> {
+            MOCKED_BOTH_RUNNING.countDown();
+            try {
+                MOCKED_BOTH_RUNNING.await(TIMEOUT_SECONDS, TimeUnit.SECONDS); // would time out if run one after the other
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        StartupOrchestrator instance = new StartupOrchestrator()
+            .step("one", MOCKED_STEP)
+            .step("another", MOCKED_STEP);
+
+        // execute test ---
+        long startedAt = System.nanoTime();
+        instance.start().get(TIMEOUT_SECONDS * 2, TimeUnit.SECONDS);
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt);
+
+        // verify assertions ---
+        assertThat(elapsedSeconds).isLessThan(TIMEOUT_SECONDS);
+        assertThat(instance.getTimeline()).extracting(StartupOrchestrator.Phase::getThreadName).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void start_skips_steps_depending_on_failed_ones_success() throws Exception {
+
+        // prepare mock data ---
+        AtomicBoolean MOCKED_DEPENDENT_RAN = new AtomicBoolean();
+        AtomicBoolean MOCKED_INDEPENDENT_RAN = new AtomicBoolean();
+
+        StartupOrchestrator instance = new StartupOrchestrator()
+            .step("failing", () -> {
+                throw new IllegalStateException("mocked failure");
+            })
+            .step("dependent", () -> MOCKED_DEPENDENT_RAN.set(true), "failing")
+            .step("independent", () -> MOCKED_INDEPENDENT_RAN.set(true));
+
+        // execute test ---
+        instance.start().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(MOCKED_DEPENDENT_RAN).isFalse();
+        assertThat(MOCKED_INDEPENDENT_RAN).isTrue();
+        assertThat(instance.await("dependent")).isCompletedExceptionally();
+        assertThat(instance.getTimeline()).filteredOn(phase -> phase.getName().equals("failing")).singleElement().matches(phase -> !phase.isSucceeded());
+    }
+
+    @Test
+    void step_rejects_unknown_dependencies_success() {
+
+        // prepare mock data ---
+        StartupOrchestrator instance = new StartupOrchestrator().step("first", () -> { });
+
+        // execute test & verify assertions ---
+        assertThatThrownBy(() -> instance.step("second", () -> { }, "missing")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> instance.step("first", () -> { })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,174 @@
+package com.dazednconfused.catalauncher.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TaskManagerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    void submit_runs_task_and_completes_result_success() throws Exception {
+
+        // prepare mock data ---
+        TaskManager taskManager = new TaskManager();
+
+        // execute test ---
+        ManagedTask<String> result = taskManager.submit("mockedTask", TaskCategory.BACKGROUND, context -> {
+            context.setProgress(50);
+            return "mockedResult";
+        });
+
+        // verify assertions ---
+        assertThat(result.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("mockedResult");
+        assertThat(result.getState()).isEqualTo(ManagedTask.State.SUCCEEDED);
+        assertThat(result.getProgress()).isEqualTo(50);
+        assertThat(result.getName()).isEqualTo("mockedTask");
+        assertThat(taskManager.getTasks()).contains(result);
+    }
+
+    @Test
+    void submit_failing_task_fails_result_success() {
+
+        // prepare mock data ---
+        TaskManager taskManager = new TaskManager();
+
+        // execute test ---
+        ManagedTask<Object> result = taskManager.submit("mockedTask", TaskCategory.BACKGROUND, context -> {
+            throw new IllegalStateException("mockedError");
+        });
+
+        // verify assertions ---
+        assertThatThrownBy(() -> result.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(result.getState()).isEqualTo(ManagedTask.State.FAILED);
+    }
+
+    @Test
+    void disk_tasks_run_one_at_a_time_success() throws Exception {
+
+        // prepare mock data ---
+        TaskManager taskManager = new TaskManager();
+
+        AtomicInteger MOCKED_RUNNING = new AtomicInteger();
+        AtomicInteger MOCKED_MAX_RUNNING = new AtomicInteger();
+
+        TaskBody<Void> MOCKED_BODY = context -> {
+            MOCKED_MAX_RUNNING.accumulateAndGet(MOCKED_RUNNING.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            MOCKED_RUNNING.decrementAndGet();
+            return null;
+        };
+
+        // execute test ---
+        ManagedTask<Void> first = taskManager.submit("mockedTask1", TaskCategory.DISK, MOCKED_BODY);
+        ManagedTask<Void> second = taskManager.submit("mockedTask2", TaskCategory.DISK, MOCKED_BODY);
+        ManagedTask<Void> third = taskManager.submit("mockedTask3", TaskCategory.DISK, MOCKED_BODY);
+
+        first.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        third.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(MOCKED_MAX_RUNNING.get()).isEqualTo(1);
+    }
+
+    @Test
+    void cancel_interrupts_running_task_success() throws Exception {
+
+        // prepare mock data ---
+        TaskManager taskManager = new TaskManager();
+        CountDownLatch MOCKED_STARTED = new CountDownLatch(1);
+
+        ManagedTask<Void> task = taskManager.submit("mockedTask", TaskCategory.WAITING, context -> {
+            MOCKED_STARTED.countDown();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS * 2));
+            return null;
+        });
+        assertThat(MOCKED_STARTED.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // execute test ---
+        boolean result = task.cancel();
+
+        // verify assertions ---
+        assertThat(result).isTrue();
+        assertThatThrownBy(() -> task.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+        assertThat(task.getState()).isEqualTo(ManagedTask.State.CANCELLED);
+        assertThat(task.cancel()).isFalse();
+    }
+
+    @Test
+    void cancel_queued_task_never_runs_it_success() throws Exception {
+
+        // prepare mock data ---
+        TaskManager taskManager = new TaskManager();
+        CountDownLatch MOCKED_RELEASE = new CountDownLatch(1);
+        AtomicInteger MOCKED_RUNS = new AtomicInteger();
+
+        ManagedTask<Void> blocking = taskManager.submit("mockedBlockingTask", TaskCategory.DISK, context -> {
+            MOCKED_RELEASE.await();
+            return null;
+        });
+        ManagedTask<Void> queued = taskManager.submit("mockedQueuedTask", TaskCategory.DISK, context -> {
+            MOCKED_RUNS.incrementAndGet();
+            return null;
+        });
+
+        // execute test ---
+        queued.cancel();
+        MOCKED_RELEASE.countDown();
+
+        // verify assertions ---
+        assertThatThrownBy(() -> queued.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+        blocking.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(MOCKED_RUNS.get()).isZero();
+    }
+
+    @Test
+    void overall_progress_averages_running_tasks_success() throws Exception {
+
+        // prepare mock data ---
+        TaskManager taskManager = new TaskManager();
+        CountDownLatch MOCKED_REPORTED = new CountDownLatch(2);
+        CountDownLatch MOCKED_RELEASE = new CountDownLatch(1);
+
+        TaskBody<Void> MOCKED_BODY_20 = context -> {
+            context.setProgress(20);
+            MOCKED_REPORTED.countDown();
+            MOCKED_RELEASE.await();
+            return null;
+        };
+        TaskBody<Void> MOCKED_BODY_60 = context -> {
+            context.setProgress(60);
+            MOCKED_REPORTED.countDown();
+            MOCKED_RELEASE.await();
+            return null;
+        };
+
+        assertThat(taskManager.getOverallProgress()).isEqualTo(-1);
+
+        ManagedTask<Void> first = taskManager.submit("mockedTask1", TaskCategory.BACKGROUND, MOCKED_BODY_20);
+        ManagedTask<Void> second = taskManager.submit("mockedTask2", TaskCategory.BACKGROUND, MOCKED_BODY_60);
+        assertThat(MOCKED_REPORTED.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // execute test ---
+        int result = taskManager.getOverallProgress();
+
+        MOCKED_RELEASE.countDown();
+        first.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.getResult().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // verify assertions ---
+        assertThat(result).isEqualTo(40);
+        assertThat(taskManager.getOverallProgress()).isEqualTo(-1);
+    }
+}
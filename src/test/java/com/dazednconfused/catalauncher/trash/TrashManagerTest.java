@@ -0,0 +1,126 @@
+package com.dazednconfused.catalauncher.trash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dazednconfused.catalauncher.helper.result.Result;
+import com.dazednconfused.catalauncher.helper.trash.TrashReaper;
+import com.dazednconfused.catalauncher.helper.watch.FileSystemMonitor;
+import com.dazednconfused.catalauncher.helper.watch.WatchDepth;
+import com.dazednconfused.catalauncher.trash.dto.TrashEntryDTO;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TrashManagerTest {
+
+    private static final DateTimeFormatter TRASHED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void trash_manager_indexes_entries_and_their_sizes_success() throws Exception {
+
+        // prepare mock data ---
+        LocalDateTime MOCKED_SAVES_TRASHED_AT = LocalDateTime.now().minusDays(2).truncatedTo(ChronoUnit.SECONDS);
+        File MOCKED_SAVES_ENTRY = createEntry("saves", MOCKED_SAVES_TRASHED_AT, "World/player.sav", 100);
+        File MOCKED_MODS_ENTRY = createEntry("mods", LocalDateTime.now().minusDays(1), "SomeMod/modinfo.json", 50);
+
+        // execute test ---
+        TrashManager result = newTrashManager(0, 0);
+
+        // verify assertions ---
+        assertThat(result.listEntries()).extracting(TrashEntryDTO::getDirectory).containsExactly(MOCKED_MODS_ENTRY, MOCKED_SAVES_ENTRY);
+        assertThat(result.listEntries()).extracting(TrashEntryDTO::getCategory).containsExactly(TrashCategory.MODS, TrashCategory.SAVES);
+        assertThat(result.listEntries().get(1).getTrashedAtMillis()).isEqualTo(MOCKED_SAVES_TRASHED_AT.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(result.sizeOf(result.listEntries().get(1))).isEqualTo(100);
+        assertThat(result.getTotalSize()).isEqualTo(150);
+    }
+
+    @Test
+    void enforce_limits_purges_expired_and_oldest_entries_success() throws Exception {
+
+        // prepare mock data ---
+        File MOCKED_EXPIRED_ENTRY = createEntry("saves", LocalDateTime.now().minusDays(40), "World/player.sav", 100);
+        File MOCKED_OLDER_ENTRY = createEntry("mods", LocalDateTime.now().minusDays(2), "SomeMod/modinfo.json", 100);
+        File MOCKED_NEWER_ENTRY = createEntry("saves", LocalDateTime.now().minusDays(1), "World/player.sav", 100);
+
+        TrashManager instance = newTrashManager(150, TimeUnit.DAYS.toMillis(30));
+
+        // execute test ---
+        List<TrashEntryDTO> result = instance.enforceLimits();
+
+        // verify assertions ---
+        assertThat(result).extracting(TrashEntryDTO::getDirectory).containsExactly(MOCKED_EXPIRED_ENTRY, MOCKED_OLDER_ENTRY);
+        assertThat(MOCKED_EXPIRED_ENTRY).doesNotExist();
+        assertThat(MOCKED_OLDER_ENTRY).doesNotExist();
+        assertThat(MOCKED_NEWER_ENTRY).exists();
+        assertThat(instance.listEntries()).extracting(TrashEntryDTO::getDirectory).containsExactly(MOCKED_NEWER_ENTRY);
+        assertThat(instance.getTotalSize()).isEqualTo(100);
+    }
+
+    @Test
+    void restore_swaps_trashed_saves_with_current_ones_success() throws Exception {
+
+        // prepare mock data ---
+        File MOCKED_ENTRY = createEntry("saves", LocalDateTime.now().minusDays(1), "Trashed/player.sav", 100);
+
+        Path MOCKED_SAVES_DIRECTORY = tempDir.resolve("saves");
+        Files.createDirectories(MOCKED_SAVES_DIRECTORY.resolve("Current"));
+        Files.writeString(MOCKED_SAVES_DIRECTORY.resolve("Current/player.sav"), "current");
+
+        TrashManager instance = newTrashManager(0, 0);
+        TrashEntryDTO MOCKED_TRASHED_SAVES = instance.listEntries().get(0);
+
+        // execute test ---
+        Result<Throwable, TrashEntryDTO> result = instance.restore(MOCKED_TRASHED_SAVES);
+
+        // verify assertions ---
+        assertThat(result.toEither().isRight()).isTrue();
+        assertThat(MOCKED_ENTRY).doesNotExist();
+        assertThat(MOCKED_SAVES_DIRECTORY.resolve("Trashed/player.sav")).exists();
+        assertThat(MOCKED_SAVES_DIRECTORY.resolve("Current")).doesNotExist();
+        assertThat(instance.listEntries()).extracting(TrashEntryDTO::getDirectory).doesNotContain(MOCKED_ENTRY);
+
+        try (var trashedSaves = Files.list(tempDir.resolve("trashed/saves"))) {
+            assertThat(trashedSaves).singleElement().satisfies(
+                trashed -> assertThat(trashed.resolve("Current/player.sav")).exists()
+            );
+        }
+    }
+
+    /**
+     * Builds a {@link TrashManager} over this test's temporary trash folder.
+     * */
+    private TrashManager newTrashManager(long maxSizeBytes, long maxAgeMillis) {
+        return new TrashManager(
+            FileSystemMonitor.getInstance().watch(tempDir.resolve("trashed/saves"), WatchDepth.ROOT),
+            FileSystemMonitor.getInstance().watch(tempDir.resolve("trashed/mods"), WatchDepth.ROOT),
+            tempDir.resolve("saves"),
+            new TrashReaper(tempDir.resolve("trashed/.reaping"), TrashReaper.DEFAULT_BATCH_SIZE, 0) { },
+            maxSizeBytes,
+            maxAgeMillis
+        );
+    }
+
+    /**
+     * Creates a trash folder entry of the given {@code category}, trashed at {@code trashedAt}, holding a single file of
+     * {@code size} bytes.
+     * */
+    private File createEntry(String category, LocalDateTime trashedAt, String file, int size) throws Exception {
+        Path entry = tempDir.resolve("trashed").resolve(category).resolve(trashedAt.format(TRASHED_AT_FORMAT));
+        Files.createDirectories(entry.resolve(file).getParent());
+        Files.write(entry.resolve(file), new byte[size]);
+        return entry.toFile();
+    }
+}
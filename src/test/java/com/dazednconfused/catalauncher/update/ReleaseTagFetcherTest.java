@@ -0,0 +1,162 @@
+package com.dazednconfused.catalauncher.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReleaseTagFetcherTest {
+
+    private static final String RELEASES_JSON = "[" +
+        "{\"url\":\"https://example.org/1\",\"author\":{\"login\":\"someone\",\"tag_name\":\"not-this-one\"},\"assets\":[{\"name\":\"a.dmg\"}],\"tag_name\":\"1.2.3\"}," +
+        "{\"tag_name\":\"1.2.2\"}" +
+        "]";
+    private static final String ETAG = "\"some-etag\"";
+
+    @TempDir
+    private Path tempDir;
+
+    private HttpServer server;
+    private final List<String> receivedIfNoneMatch = new CopyOnWriteArrayList<>();
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/releases", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void teardown() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetch_latest_tag_reads_first_release_and_caches_it_success() {
+
+        // prepare mock data ---
+        ReleaseTagFetcher instance = newFetcher(Duration.ofHours(1), Duration.ofSeconds(5));
+
+        // execute test ---
+        Optional<String> result = instance.fetchLatestTag();
+        Optional<String> cachedResult = instance.fetchLatestTag();
+
+        // verify assertions ---
+        assertThat(result).contains("1.2.3");
+        assertThat(cachedResult).contains("1.2.3");
+        assertThat(receivedIfNoneMatch).hasSize(1); // the second query never reached the server
+        assertThat(tempDir.resolve("cache.json")).exists();
+    }
+
+    @Test
+    void fetch_latest_tag_revalidates_with_etag_once_expired_success() {
+
+        // prepare mock data ---
+        newFetcher(Duration.ZERO, Duration.ofSeconds(5)).fetchLatestTag();
+        ReleaseTagFetcher instance = newFetcher(Duration.ZERO, Duration.ofSeconds(5)); // picks up the cache left on disk
+
+        // execute test ---
+        Optional<String> result = instance.fetchLatestTag();
+
+        // verify assertions ---
+        assertThat(result).contains("1.2.3");
+        assertThat(receivedIfNoneMatch).containsExactly("", ETAG);
+    }
+
+    @Test
+    void fetch_latest_tag_falls_back_to_cache_on_timeout_success() {
+
+        // prepare mock data ---
+        newFetcher(Duration.ZERO, Duration.ofSeconds(5)).fetchLatestTag();
+        ReleaseTagFetcher instance = newFetcher(Duration.ZERO, Duration.ofMillis(200));
+        responseDelayMillis = 2_000;
+
+        // execute test ---
+        long startedAt = System.nanoTime();
+        Optional<String> result = instance.fetchLatestTag();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // verify assertions ---
+        assertThat(result).contains("1.2.3");
+        assertThat(elapsedMillis).isLessThan(responseDelayMillis);
+    }
+
+    @Test
+    void fetch_latest_tag_without_cache_nor_server_success() {
+
+        // prepare mock data ---
+        server.stop(0);
+        ReleaseTagFetcher instance = newFetcher(Duration.ZERO, Duration.ofMillis(500));
+
+        // execute test ---
+        Optional<String> result = instance.fetchLatestTag();
+
+        // verify assertions ---
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void read_first_tag_ignores_nested_fields_success() throws IOException {
+
+        // execute test ---
+        Optional<String> result = ReleaseTagFetcher.readFirstTag(new ByteArrayInputStream(RELEASES_JSON.getBytes(StandardCharsets.UTF_8)));
+        Optional<String> emptyResult = ReleaseTagFetcher.readFirstTag(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)));
+
+        // verify assertions ---
+        assertThat(result).contains("1.2.3");
+        assertThat(emptyResult).isEmpty();
+    }
+
+    /**
+     * Builds a {@link ReleaseTagFetcher} against the stub server, caching into this test's temporary directory.
+     * */
+    private ReleaseTagFetcher newFetcher(Duration ttl, Duration timeout) {
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/releases?per_page=1");
+        return new ReleaseTagFetcher(uri, tempDir.resolve("cache.json"), ttl, timeout);
+    }
+
+    /**
+     * Stub GitHub releases endpoint, honoring {@code If-None-Match}.
+     * */
+    private void handle(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = Optional.ofNullable(exchange.getRequestHeaders().getFirst("If-None-Match")).orElse("");
+        receivedIfNoneMatch.add(ifNoneMatch);
+
+        try {
+            Thread.sleep(responseDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = RELEASES_JSON.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
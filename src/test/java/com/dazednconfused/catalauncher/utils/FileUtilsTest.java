@@ -35,6 +35,22 @@ class FileUtilsTest {
         assertThat(result).isEqualTo("515eca5e06529ae0643cad83ed6ce61b");
     }
 
+    @Test
+    void get_file_checksum_with_algorithm_success() {
+
+        // prepare mock data ---
+        File MOCKED_FILE = TestUtils.getFromResource("fileutils/md5/test.txt");
+
+        // pre-test assertions ---
+        assertThat(MOCKED_FILE).isNotEmpty();
+
+        // execute test ---
+        String result = FileUtils.getFileChecksum(MOCKED_FILE, "SHA-256");
+
+        // verify assertions ---
+        assertThat(result).isEqualTo("83f9ccb3ba381bee7d5131543e289558fae06f1a3ff891f83a932ed77191ac7e");
+    }
+
     @Test
     void get_file_checksum_failure_when_file_is_null() {
 